@@ -226,4 +226,13 @@ public interface AuthenticationEventExecutionPlan {
      * @return the authentication handler resolvers
      */
     Collection<AuthenticationPolicyResolver> getAuthenticationPolicyResolvers(AuthenticationTransaction transaction);
+
+    /**
+     * Gets the mode in which authentication handlers are executed.
+     *
+     * @return the authentication handler execution mode
+     */
+    default AuthenticationHandlerExecutionMode getAuthenticationHandlerExecutionMode() {
+        return AuthenticationHandlerExecutionMode.SEQUENTIAL;
+    }
 }
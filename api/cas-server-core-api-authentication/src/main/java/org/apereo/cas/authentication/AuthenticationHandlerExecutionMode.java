@@ -0,0 +1,22 @@
+package org.apereo.cas.authentication;
+
+/**
+ * This is {@link AuthenticationHandlerExecutionMode}, which controls
+ * how the authentication manager invokes the authentication handlers
+ * that support a given credential.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+public enum AuthenticationHandlerExecutionMode {
+    /**
+     * Invoke handlers one at a time, in order,
+     * until authentication policies are satisfied.
+     */
+    SEQUENTIAL,
+    /**
+     * Invoke handlers concurrently and evaluate results
+     * against authentication policies as they complete.
+     */
+    CONCURRENT
+}
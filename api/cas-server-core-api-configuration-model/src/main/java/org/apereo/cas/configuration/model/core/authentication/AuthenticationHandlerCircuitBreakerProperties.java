@@ -0,0 +1,57 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link AuthenticationHandlerCircuitBreakerProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("AuthenticationHandlerCircuitBreakerProperties")
+public class AuthenticationHandlerCircuitBreakerProperties implements Serializable {
+    private static final long serialVersionUID = -6143390318528227394L;
+
+    /**
+     * Whether authentication handlers should be guarded by circuit breakers.
+     * A handler whose circuit is open is skipped without being invoked,
+     * and is reported as a failure for the authentication attempt.
+     * Rejected credentials do not count as failures; only errors such as
+     * timeouts, connection failures or otherwise prevented authentication attempts do.
+     */
+    private boolean enabled;
+
+    /**
+     * Failure rate, as a percentage, at or above which the circuit opens.
+     */
+    private int failureRateThreshold = 50;
+
+    /**
+     * Number of most recent invocations that are recorded to calculate the failure rate.
+     */
+    private int slidingWindowSize = 20;
+
+    /**
+     * Minimum number of recorded invocations before the failure rate is calculated.
+     */
+    private int minimumNumberOfCalls = 10;
+
+    /**
+     * Amount of time the circuit remains open before a trial invocation
+     * is allowed through to determine whether the handler has recovered.
+     */
+    @DurationCapable
+    private String waitDurationInOpenState = "PT30S";
+}
@@ -0,0 +1,66 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link AuthenticationHandlerExecutionProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("AuthenticationHandlerExecutionProperties")
+public class AuthenticationHandlerExecutionProperties implements Serializable {
+    private static final long serialVersionUID = 2358512356311958746L;
+
+    /**
+     * Control how authentication handlers that support a given credential
+     * are invoked by the authentication engine.
+     * Accepted values are:
+     * <ul>
+     *     <li>{@code SEQUENTIAL}: Handlers are invoked one at a time, in order.</li>
+     *     <li>{@code CONCURRENT}: Handlers are invoked concurrently and results
+     *     are evaluated against authentication policies as they complete.</li>
+     * </ul>
+     */
+    private String mode = "SEQUENTIAL";
+
+    /**
+     * Maximum amount of time an authentication handler is allowed to run
+     * when handlers are invoked concurrently, after which the handler
+     * is considered failed for the current authentication attempt.
+     */
+    @DurationCapable
+    private String timeout = "PT10S";
+
+    /**
+     * The maximum number of threads that invoke authentication handlers
+     * when handlers are invoked concurrently.
+     */
+    private int poolSize = 50;
+
+    /**
+     * The maximum number of authentication handler invocations that wait for a thread
+     * to become available when handlers are invoked concurrently. Invocations beyond this
+     * limit are refused, and the handler is considered failed for the current authentication attempt.
+     */
+    private int queueSize = 500;
+
+    /**
+     * Circuit breaker settings that are applied to each authentication handler.
+     */
+    @NestedConfigurationProperty
+    private AuthenticationHandlerCircuitBreakerProperties circuitBreaker = new AuthenticationHandlerCircuitBreakerProperties();
+}
@@ -0,0 +1,53 @@
+package org.apereo.cas.configuration.model.core.events;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * Configuration properties class for recording events asynchronously.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@RequiresModule(name = "cas-server-core-events", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("AsynchronousEventsProperties")
+public class AsynchronousEventsProperties implements Serializable {
+
+    private static final long serialVersionUID = -3190542831260118622L;
+
+    /**
+     * Whether events should be queued and saved to the event repository
+     * in batches in the background, rather than as part of the request that produced them.
+     * Events that are still queued are lost if the server stops abruptly.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of events that can be queued for saving.
+     * Events that arrive when the queue is full are dropped.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of events saved to the event repository in a single batch.
+     * The queue is flushed as soon as this many events are waiting.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Interval at which queued events are saved to the event repository,
+     * regardless of how many are waiting.
+     */
+    @DurationCapable
+    private String flushInterval = "PT5S";
+}
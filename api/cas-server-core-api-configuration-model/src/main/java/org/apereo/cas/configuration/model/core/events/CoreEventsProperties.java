@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serializable;
 
@@ -42,4 +43,10 @@ public class CoreEventsProperties implements Serializable {
      * configuration files and reloading context conditionally if there are any changes.
      */
     private boolean trackConfigurationModifications;
+
+    /**
+     * Control how events are recorded asynchronously.
+     */
+    @NestedConfigurationProperty
+    private AsynchronousEventsProperties asynchronous = new AsynchronousEventsProperties();
 }
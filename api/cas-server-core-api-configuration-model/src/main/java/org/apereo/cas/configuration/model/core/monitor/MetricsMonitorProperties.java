@@ -0,0 +1,40 @@
+package org.apereo.cas.configuration.model.core.monitor;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link MetricsMonitorProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@RequiresModule(name = "cas-server-support-metrics")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("MetricsMonitorProperties")
+public class MetricsMonitorProperties implements Serializable {
+    private static final long serialVersionUID = 4127352941617381513L;
+
+    /**
+     * Whether ticket registry operations, service lookups, attribute repositories,
+     * cipher executors and protocol endpoints should be instrumented
+     * with timers. When disabled, no instrumentation is put in place at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whether timers should publish a percentile histogram
+     * that can be aggregated by the monitoring system.
+     * Histograms multiply the number of time series per timer,
+     * and should only be turned on when the backend can aggregate them.
+     */
+    private boolean publishPercentileHistogram;
+}
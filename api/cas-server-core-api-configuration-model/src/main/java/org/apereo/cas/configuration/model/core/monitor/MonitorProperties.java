@@ -88,4 +88,9 @@ public class MonitorProperties implements Serializable {
     @NestedConfigurationProperty
     private ActuatorEndpointsMonitorProperties endpoints = new ActuatorEndpointsMonitorProperties();
 
+    /**
+     * Options for instrumenting CAS operations with metrics.
+     */
+    @NestedConfigurationProperty
+    private MetricsMonitorProperties metrics = new MetricsMonitorProperties();
 }
@@ -36,4 +36,13 @@ public class TicketGrantingTicketCoreProperties implements Serializable {
      * has a subsequent impact on logout.
      */
     private boolean onlyTrackMostRecentSession = true;
+
+    /**
+     * Flag to control whether attribute names and values of the authentication
+     * and principal should be interned when a ticket-granting ticket is created,
+     * so that tickets kept in memory share a single copy of repeated values.
+     * This reduces the memory footprint of registries that keep ticket objects
+     * on the heap; registries that serialize tickets are not affected.
+     */
+    private boolean internAttributes = true;
 }
@@ -31,4 +31,15 @@ public class TicketRegistryCoreProperties implements Serializable {
      * separate from the registry technology itself.
      */
     private boolean enableLocking = true;
+
+    /**
+     * When set to true, the registry maintains a catalog of single sign-on sessions
+     * indexed by principal id, using the registry technology itself where supported,
+     * such that counting or fetching the sessions of a user does not require a scan
+     * of all tickets. Sessions that are created before the catalog is turned on
+     * are not tracked by the catalog. The default in-memory
+     * registry always maintains its session catalog, and encrypted registries
+     * do not consult the catalog.
+     */
+    private boolean enableSessionCatalog;
 }
@@ -33,4 +33,18 @@ public class WebflowAutoConfigurationProperties implements Serializable {
      * Whether webflow auto-configuration should be enabled.
      */
     private boolean enabled = true;
+
+    /**
+     * Whether flow definitions should be pinned once all webflow configurers
+     * have executed, so that requests look up fully-assembled flows directly
+     * instead of checking whether flows need to be assembled again.
+     */
+    private boolean freezeDefinitions = true;
+
+    /**
+     * Whether expressions in flow definitions should be compiled
+     * once evaluated often enough, falling back to interpreted evaluation
+     * for expressions that cannot be compiled.
+     */
+    private boolean compileExpressions = true;
 }
@@ -58,6 +58,16 @@ public class WebflowSessionManagementProperties implements Serializable {
      */
     private boolean storage;
 
+    /**
+     * Whether spring webflow sessions that are stored server-side should be kept
+     * in the ticket registry, as opposed to the http session. Flow execution snapshots
+     * are then shared by all CAS nodes that share the ticket registry, and expire based on
+     * the expiration policy assigned to transient session tickets. The browser is only
+     * handed a signed and encrypted identifier that points to the snapshot.
+     * Only relevant if session storage is done on the server.
+     */
+    private boolean ticketRegistry;
+
     /**
      * If sessions are to be replicated via Hazelcast, controls and defines how state should be replicated.
      * Only relevant if session storage is done on the server.
@@ -0,0 +1,48 @@
+package org.apereo.cas.configuration.model.support.consent;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link ConsentCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@RequiresModule(name = "cas-server-support-consent-webflow")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("ConsentCacheProperties")
+public class ConsentCacheProperties implements Serializable {
+    private static final long serialVersionUID = -7328491726539021843L;
+
+    /**
+     * Whether consent decisions should be cached per principal and service,
+     * so that repeated single sign-on sessions do not need to consult the consent repository.
+     * Decisions stored or removed by this CAS server are updated in the cache immediately,
+     * and principals without a decision are always looked up in the consent repository.
+     */
+    private boolean enabled;
+
+    /**
+     * Fixed duration for a cached consent decision to be automatically removed
+     * from the cache after its creation or update. When multiple CAS servers share
+     * the same consent repository, this controls how long a change made by another server
+     * may go unnoticed.
+     */
+    @DurationCapable
+    private String expireAfterWrite = "PT5M";
+
+    /**
+     * Maximum number of consent decisions the cache may contain.
+     */
+    private long maximumSize = 10_000L;
+}
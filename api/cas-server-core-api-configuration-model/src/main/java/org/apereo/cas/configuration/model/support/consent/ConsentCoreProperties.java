@@ -75,6 +75,12 @@ public class ConsentCoreProperties implements Serializable {
     @NestedConfigurationProperty
     private WebflowAutoConfigurationProperties webflow = new WebflowAutoConfigurationProperties().setOrder(100);
 
+    /**
+     * Settings that control caching of consent decisions.
+     */
+    @NestedConfigurationProperty
+    private ConsentCacheProperties cache = new ConsentCacheProperties();
+
     public ConsentCoreProperties() {
         crypto.getEncryption().setKeySize(CipherExecutor.DEFAULT_STRINGABLE_ENCRYPTION_KEY_SIZE);
         crypto.getSigning().setKeySize(CipherExecutor.DEFAULT_STRINGABLE_SIGNING_KEY_SIZE);
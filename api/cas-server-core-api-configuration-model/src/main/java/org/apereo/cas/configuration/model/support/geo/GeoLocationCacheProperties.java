@@ -0,0 +1,45 @@
+package org.apereo.cas.configuration.model.support.geo;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link GeoLocationCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@RequiresModule(name = "cas-server-support-geolocation")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("GeoLocationCacheProperties")
+public class GeoLocationCacheProperties implements Serializable {
+    private static final long serialVersionUID = 2361502856374629143L;
+
+    /**
+     * Whether geolocation results should be cached
+     * per address, so repeated lookups for the same address
+     * do not need to consult the geolocation provider again.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Fixed duration for a cached geolocation result to be automatically
+     * removed from the cache after its creation.
+     */
+    @DurationCapable
+    private String expireAfterWrite = "PT1H";
+
+    /**
+     * Maximum number of geolocation results the cache may contain.
+     */
+    private long maximumSize = 10_000L;
+}
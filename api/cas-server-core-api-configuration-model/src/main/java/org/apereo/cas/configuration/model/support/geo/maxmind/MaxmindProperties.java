@@ -34,4 +34,19 @@ public class MaxmindProperties extends BaseGeoLocationProperties {
      */
     @RequiredProperty
     private transient Resource countryDatabase;
+
+    /**
+     * Whether database files should be memory-mapped rather than
+     * loaded into the heap. Memory-mapped databases are paged in by
+     * the operating system and do not count against the heap.
+     * When database files are replaced, they should be swapped atomically (i.e. renamed)
+     * rather than overwritten in place.
+     */
+    private boolean memoryMapped = true;
+
+    /**
+     * Flag indicating whether a background watcher thread is enabled
+     * for the purposes of live reloading of database files when they change.
+     */
+    private boolean watcherEnabled = true;
 }
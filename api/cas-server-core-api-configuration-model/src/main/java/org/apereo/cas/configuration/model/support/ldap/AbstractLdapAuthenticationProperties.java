@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.support.ldap;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiredProperty;
 import org.apereo.cas.configuration.support.RequiresModule;
 
@@ -95,6 +96,34 @@ public abstract class AbstractLdapAuthenticationProperties extends AbstractLdapS
      */
     private String resolveFromAttribute;
 
+    /**
+     * Minimum size of the connection pool dedicated to bind operations
+     * that verify user credentials. Binds are always routed to a pool that is
+     * separate from the one used for searches, so slow binds cannot starve DN resolution.
+     * If undefined or zero, the minimum pool size is used.
+     */
+    private int bindMinPoolSize;
+
+    /**
+     * Maximum size of the connection pool dedicated to bind operations
+     * that verify user credentials.
+     * If undefined or zero, the maximum pool size is used.
+     */
+    private int bindMaxPoolSize;
+
+    /**
+     * Amount of time the resolved DN of a user should be cached,
+     * avoiding a search operation for repeated authentication attempts.
+     * A zero or negative value disables the cache.
+     */
+    @DurationCapable
+    private String dnResolutionCacheExpiration = "PT0S";
+
+    /**
+     * Maximum number of resolved user DNs to keep in the cache.
+     */
+    private long dnResolutionCacheSize = 10_000;
+
     /**
      * The enum Authentication types.
      */
@@ -155,6 +155,13 @@ public abstract class AbstractLdapProperties implements Serializable {
      */
     private boolean failFast = true;
 
+    /**
+     * Warm up the connection pool on startup by checking out and returning
+     * as many connections as the minimum pool size, so connections are established,
+     * bound and validated before the first request arrives.
+     */
+    private boolean warmUpPool;
+
     /**
      * Removes connections from the pool based on how long they have been idle in the available queue.
      * Prunes connections that have been idle for more than the indicated amount.
@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.support.ldap;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -78,4 +79,17 @@ public class LdapAuthorizationProperties implements Serializable {
      * LDAP search filter to locate accounts.
      */
     private String searchFilter;
+
+    /**
+     * Amount of time group memberships of a user should be cached,
+     * avoiding a group search operation for repeated lookups.
+     * A zero or negative value disables the cache.
+     */
+    @DurationCapable
+    private String groupCacheExpiration = "PT0S";
+
+    /**
+     * Maximum number of user entries whose group memberships are cached.
+     */
+    private long groupCacheSize = 10_000;
 }
@@ -41,6 +41,16 @@ public class OAuthAccessTokenProperties implements Serializable {
     @DurationCapable
     private String timeToKillInSeconds = "PT7200S";
 
+    /**
+     * How long access tokens that are found in the ticket registry are remembered
+     * to answer introspection and user profile requests without fetching them again.
+     * Revoked tokens are removed right away on the node that revokes them,
+     * and other nodes may continue to see them until this period has passed.
+     * Set to zero to turn off.
+     */
+    @DurationCapable
+    private String lookupCacheExpiration = "PT5S";
+
     /**
      * Create access token as JWTs.
      */
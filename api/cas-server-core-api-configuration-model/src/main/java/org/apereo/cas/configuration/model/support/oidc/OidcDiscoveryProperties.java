@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.support.oidc;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
@@ -56,6 +57,18 @@ public class OidcDiscoveryProperties implements Serializable {
      */
     private boolean requirePushedAuthorizationRequests;
 
+    /**
+     * Discovery and JWKS documents are rendered once and served from memory along with
+     * a strong {@code ETag}, so that clients may revalidate them with conditional requests.
+     * Documents are rendered again when the keystore or the CAS configuration changes.
+     * This setting controls the max age advertised to clients via {@code Cache-Control},
+     * as well as how long rendered documents are kept before they're rendered again
+     * to pick up changes that are not otherwise signaled. A zero or negative value
+     * renders documents on every request.
+     */
+    @DurationCapable
+    private String responseCacheMaxAge = "PT10M";
+
     /**
      * List of supported scopes.
      */
@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.support.pac4j;
 
 import org.apereo.cas.configuration.model.SpringResourceProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
@@ -43,6 +44,15 @@ public class Pac4jDelegatedAuthenticationCoreProperties implements Serializable
      */
     private boolean lazyInit = true;
 
+    /**
+     * Interval at which delegated identity providers are rebuilt in the background,
+     * to pick up changes from the source that defines them, such as a REST endpoint.
+     * Providers whose configuration has not changed keep their existing, initialized state.
+     * A zero or negative value disables periodic rebuilds.
+     */
+    @DurationCapable
+    private String refreshInterval = "PT5M";
+
     /**
      * Indicates whether profiles and other session data,
      * collected as part of pac4j flows and requests
@@ -54,6 +64,15 @@ public class Pac4jDelegatedAuthenticationCoreProperties implements Serializable
      */
     private boolean replicateSessions = true;
 
+    /**
+     * When sessions are replicated, session data may be kept in an encrypted cookie
+     * instead of the ticket registry, as long as the encrypted session is no larger than this size.
+     * Sessions that grow beyond this size are stored in the ticket registry. Keep in mind that
+     * browsers typically limit cookies to about 4KB. The value is a data size
+     * such as {@code 2KB}; a blank value always stores session data in the ticket registry.
+     */
+    private String sessionCookiePayloadMaxSize;
+
     /**
      * The name of the authentication handler in CAS used for delegation.
      */
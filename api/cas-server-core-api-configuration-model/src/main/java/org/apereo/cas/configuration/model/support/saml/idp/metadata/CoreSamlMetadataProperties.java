@@ -37,6 +37,52 @@ public class CoreSamlMetadataProperties implements Serializable {
     @DurationCapable
     private String cacheExpiration = "PT24H";
 
+    /**
+     * Metadata resolvers that are cached and are due to expire within this window
+     * are refreshed in the background on the next request, while the existing resolver
+     * continues to serve requests until the refresh completes. This should be shorter than
+     * the duration for which metadata is cached. A value of zero disables background refreshes.
+     */
+    @DurationCapable
+    private String cacheRefreshWindow = "PT5M";
+
+    /**
+     * The maximum number of threads that load metadata resolvers into the cache
+     * and refresh them in the background. Loads and refreshes beyond this
+     * limit wait for a thread to become available.
+     */
+    private int cachePoolSize = 10;
+
+    /**
+     * Metadata files fetched from URLs or read from the file system that are at least this large
+     * are treated as aggregates. Aggregates are read once as a stream and indexed by entity id,
+     * and each entity is only parsed when it is asked for. Aggregates that have not changed since
+     * they were last indexed are not parsed or validated again. The value is a data size
+     * such as {@code 10MB}; a blank value disables indexing of aggregates.
+     */
+    private String aggregateIndexThreshold = "10MB";
+
+    /**
+     * Determine how metadata sources that support a service are queried
+     * when metadata for the service is not found in the cache.
+     */
+    private MetadataResolutionModes resolutionMode = MetadataResolutionModes.SEQUENTIAL;
+
+    /**
+     * When metadata sources are queried concurrently, how long to wait
+     * for sources to produce metadata before the sources that have not
+     * responded are ignored for the request.
+     */
+    @DurationCapable
+    private String resolutionTimeout = "PT30S";
+
+    /**
+     * When metadata sources are queried concurrently, the maximum number
+     * of threads that query metadata sources at the same time. Requests beyond this
+     * limit wait for a thread to become available.
+     */
+    private int resolutionPoolSize = 10;
+
     /**
      * Whether valid metadata is required.
      */
@@ -74,5 +120,24 @@ public class CoreSamlMetadataProperties implements Serializable {
      * should support SLO service REDIRECT binding.
      */
     private boolean sloServiceRedirectBindingEnabled = true;
-    
+
+    /**
+     * Define how metadata sources are queried.
+     */
+    public enum MetadataResolutionModes {
+        /**
+         * Query sources one after another, and use the metadata produced by all of them.
+         */
+        SEQUENTIAL,
+        /**
+         * Query sources concurrently, and use the metadata produced by the first source
+         * that successfully loads and validates the metadata before the deadline.
+         */
+        FIRST_AVAILABLE,
+        /**
+         * Query sources concurrently, and use the metadata produced by all sources that respond
+         * before the deadline, ordered by the priority of each source.
+         */
+        PRIORITY_MERGE
+    }
 }
@@ -2,7 +2,10 @@ package org.apereo.cas.support.events;
 
 import org.apereo.cas.support.events.dao.CasEvent;
 
+import lombok.val;
+
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.stream.Stream;
 
 /**
@@ -34,6 +37,19 @@ public interface CasEventRepository {
      */
     void save(CasEvent event) throws Exception;
 
+    /**
+     * Save all events in one go. Repositories that support batched
+     * writes natively should override this operation.
+     *
+     * @param events the events
+     * @throws Exception the exception
+     */
+    default void saveAll(final Collection<? extends CasEvent> events) throws Exception {
+        for (val event : events) {
+            save(event);
+        }
+    }
+
     /**
      * Load collection.
      *
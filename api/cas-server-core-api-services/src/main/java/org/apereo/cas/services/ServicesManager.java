@@ -7,6 +7,7 @@ import org.springframework.core.Ordered;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -276,5 +277,16 @@ public interface ServicesManager extends Ordered {
      * @return list of services
      */
     Collection<RegisteredService> getServicesForDomain(String domain);
-    
+
+    /**
+     * Find candidate services for the query using the named {@link ServicesManagerRegisteredServiceIndex},
+     * sorted in evaluation order. Candidates are not guaranteed to match the query.
+     *
+     * @param indexName the index name
+     * @param query     the query
+     * @return the candidate services, or empty if the index is not available
+     */
+    default Optional<Collection<RegisteredService>> findServicesByIndex(final String indexName, final String query) {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,46 @@
+package org.apereo.cas.services;
+
+import java.util.Collection;
+
+/**
+ * This is {@link ServicesManagerRegisteredServiceIndex} that allows the services manager
+ * to maintain a secondary index of registered services, so that lookups by a given
+ * attribute of the service definition do not have to examine every registered service.
+ * The index only narrows down the candidates; callers are still expected to verify
+ * each candidate against the query.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+public interface ServicesManagerRegisteredServiceIndex {
+    /**
+     * Gets the name of this index.
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * Whether the given registered service should be indexed.
+     *
+     * @param registeredService the registered service
+     * @return true/false
+     */
+    boolean supports(RegisteredService registeredService);
+
+    /**
+     * Gets the keys under which the registered service is indexed.
+     *
+     * @param registeredService the registered service
+     * @return the index keys
+     */
+    Collection<String> getIndexKeys(RegisteredService registeredService);
+
+    /**
+     * Gets the keys that should be looked up to find candidate services for the query.
+     *
+     * @param query the query
+     * @return the lookup keys
+     */
+    Collection<String> getLookupKeys(String query);
+}
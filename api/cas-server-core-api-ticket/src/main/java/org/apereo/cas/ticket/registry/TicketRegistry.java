@@ -129,6 +129,24 @@ public interface TicketRegistry {
      */
     Ticket updateTicket(Ticket ticket) throws Exception;
 
+    /**
+     * Save the tickets collected by the unit of work as one batch.
+     * New tickets are added first, followed by updates to existing tickets.
+     * Registries backed by a remote store should override this operation
+     * to apply all changes in as few round-trips or transactions as possible.
+     *
+     * @param unitOfWork the unit of work
+     * @throws Exception the exception
+     */
+    default void saveTickets(final TicketRegistryUnitOfWork unitOfWork) throws Exception {
+        if (!unitOfWork.getAddedTickets().isEmpty()) {
+            addTicket(unitOfWork.getAddedTickets().stream());
+        }
+        for (final Ticket ticket : unitOfWork.getUpdatedTickets()) {
+            updateTicket(ticket);
+        }
+    }
+
     /**
      * Computes the number of SSO sessions stored in the ticket registry.
      *
@@ -0,0 +1,95 @@
+package org.apereo.cas.ticket.registry;
+
+import java.util.Set;
+
+/**
+ * This is {@link TicketRegistrySessionCatalog}, which maintains
+ * an index of ticket-granting ticket ids keyed by principal id,
+ * allowing the ticket registry to locate the single sign-on sessions
+ * of a given user without scanning the entire registry.
+ * <p>
+ * Entries in the catalog are hints; the registry remains the source of truth
+ * and is expected to verify and prune entries that no longer point to valid tickets.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+public interface TicketRegistrySessionCatalog {
+
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "ticketRegistrySessionCatalog";
+
+    /**
+     * No op session catalog.
+     *
+     * @return the ticket registry session catalog
+     */
+    static TicketRegistrySessionCatalog noOp() {
+        return new TicketRegistrySessionCatalog() {
+            @Override
+            public void add(final String principalId, final String ticketGrantingTicketId) {
+            }
+
+            @Override
+            public void remove(final String principalId, final String ticketGrantingTicketId) {
+            }
+
+            @Override
+            public Set<String> getSessionsFor(final String principalId) {
+                return Set.of();
+            }
+
+            @Override
+            public long removeAll() {
+                return 0;
+            }
+
+            @Override
+            public boolean isEnabled() {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Record the ticket-granting ticket id for the given principal.
+     *
+     * @param principalId            the principal id
+     * @param ticketGrantingTicketId the ticket granting ticket id
+     */
+    void add(String principalId, String ticketGrantingTicketId);
+
+    /**
+     * Remove the ticket-granting ticket id from the sessions of the given principal.
+     *
+     * @param principalId            the principal id
+     * @param ticketGrantingTicketId the ticket granting ticket id
+     */
+    void remove(String principalId, String ticketGrantingTicketId);
+
+    /**
+     * Gets ticket-granting ticket ids recorded for the principal.
+     *
+     * @param principalId the principal id
+     * @return the sessions for
+     */
+    Set<String> getSessionsFor(String principalId);
+
+    /**
+     * Remove all entries from the catalog.
+     *
+     * @return the number of removed principal entries
+     */
+    long removeAll();
+
+    /**
+     * Whether the catalog is able to track sessions.
+     *
+     * @return true/false
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
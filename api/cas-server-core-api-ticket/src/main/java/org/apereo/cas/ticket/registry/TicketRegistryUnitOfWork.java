@@ -0,0 +1,93 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This is {@link TicketRegistryUnitOfWork}, which collects the tickets that are
+ * added or updated as part of a single protocol operation so they can be handed
+ * over to the ticket registry as one batch via {@link TicketRegistry#saveTickets(TicketRegistryUnitOfWork)}.
+ * <p>
+ * Tickets are tracked by id and the last recorded state of a ticket wins; a ticket that is
+ * updated more than once is saved once, and a ticket that is updated after it is added
+ * in the same unit of work is simply saved as a new ticket. A unit of work is not thread-safe,
+ * and is expected to be confined to the request that builds it.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@ToString
+public class TicketRegistryUnitOfWork {
+    private final Map<String, Ticket> addedTickets = new LinkedHashMap<>();
+
+    private final Map<String, Ticket> updatedTickets = new LinkedHashMap<>();
+
+    /**
+     * Record a ticket to be added to the registry.
+     *
+     * @param ticket the ticket
+     * @return this unit of work
+     */
+    public TicketRegistryUnitOfWork addTicket(final Ticket ticket) {
+        updatedTickets.remove(ticket.getId());
+        addedTickets.put(ticket.getId(), ticket);
+        return this;
+    }
+
+    /**
+     * Record a ticket to be updated in the registry.
+     *
+     * @param ticket the ticket
+     * @return this unit of work
+     */
+    public TicketRegistryUnitOfWork updateTicket(final Ticket ticket) {
+        if (addedTickets.containsKey(ticket.getId())) {
+            addedTickets.put(ticket.getId(), ticket);
+        } else {
+            updatedTickets.put(ticket.getId(), ticket);
+        }
+        return this;
+    }
+
+    /**
+     * Gets tickets to add, in the order they were recorded.
+     *
+     * @return the tickets
+     */
+    public Collection<Ticket> getAddedTickets() {
+        return Collections.unmodifiableCollection(new ArrayList<>(addedTickets.values()));
+    }
+
+    /**
+     * Gets tickets to update, in the order they were recorded.
+     *
+     * @return the tickets
+     */
+    public Collection<Ticket> getUpdatedTickets() {
+        return Collections.unmodifiableCollection(new ArrayList<>(updatedTickets.values()));
+    }
+
+    /**
+     * Whether this unit of work has recorded any changes.
+     *
+     * @return true/false
+     */
+    public boolean isEmpty() {
+        return addedTickets.isEmpty() && updatedTickets.isEmpty();
+    }
+
+    /**
+     * Forget all recorded changes.
+     */
+    public void clear() {
+        addedTickets.clear();
+        updatedTickets.clear();
+    }
+}
@@ -3,6 +3,7 @@ package org.apereo.cas;
 import org.apereo.cas.ticket.TicketDefinitionTests;
 import org.apereo.cas.ticket.TicketGrantingTicketTests;
 import org.apereo.cas.ticket.TicketRegistryCleanerTests;
+import org.apereo.cas.ticket.TicketRegistryUnitOfWorkTests;
 
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
@@ -16,7 +17,8 @@ import org.junit.platform.suite.api.Suite;
 @SelectClasses({
     TicketDefinitionTests.class,
     TicketRegistryCleanerTests.class,
-    TicketGrantingTicketTests.class
+    TicketGrantingTicketTests.class,
+    TicketRegistryUnitOfWorkTests.class
 })
 @Suite
 public class AllTestsSuite {
@@ -0,0 +1,59 @@
+package org.apereo.cas.ticket;
+
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryUnitOfWork;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link TicketRegistryUnitOfWorkTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Tickets")
+public class TicketRegistryUnitOfWorkTests {
+    private static Ticket getTicket(final String id) {
+        val ticket = mock(Ticket.class);
+        when(ticket.getId()).thenReturn(id);
+        return ticket;
+    }
+
+    @Test
+    public void verifyChangesAreCollapsed() {
+        val tgt = getTicket("TGT-1");
+        val st = getTicket("ST-1");
+        val unitOfWork = new TicketRegistryUnitOfWork();
+        assertTrue(unitOfWork.isEmpty());
+        unitOfWork.updateTicket(tgt).addTicket(st).updateTicket(st).updateTicket(tgt);
+        assertFalse(unitOfWork.isEmpty());
+        assertEquals(List.of(st), List.copyOf(unitOfWork.getAddedTickets()));
+        assertEquals(List.of(tgt), List.copyOf(unitOfWork.getUpdatedTickets()));
+
+        unitOfWork.addTicket(tgt);
+        assertEquals(List.of(st, tgt), List.copyOf(unitOfWork.getAddedTickets()));
+        assertTrue(unitOfWork.getUpdatedTickets().isEmpty());
+
+        unitOfWork.clear();
+        assertTrue(unitOfWork.isEmpty());
+    }
+
+    @Test
+    public void verifySaveTickets() throws Exception {
+        val tgt = getTicket("TGT-1");
+        val st = getTicket("ST-1");
+        val registry = mock(TicketRegistry.class);
+        doCallRealMethod().when(registry).saveTickets(any());
+        registry.saveTickets(new TicketRegistryUnitOfWork().addTicket(st).updateTicket(tgt));
+        verify(registry).addTicket(any(Stream.class));
+        verify(registry).updateTicket(tgt);
+    }
+}
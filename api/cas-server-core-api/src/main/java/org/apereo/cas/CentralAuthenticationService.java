@@ -11,8 +11,11 @@ import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyTicket;
+import org.apereo.cas.ticket.registry.TicketRegistryUnitOfWork;
 import org.apereo.cas.validation.Assertion;
 
+import lombok.val;
+
 import java.util.Collection;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -83,6 +86,23 @@ public interface CentralAuthenticationService {
      */
     Ticket addTicket(Ticket ticket) throws Exception;
 
+    /**
+     * Save the tickets collected by the unit of work in the underlying storage mechanism
+     * as one batch, allowing the storage to apply all changes at once.
+     *
+     * @param unitOfWork the unit of work
+     * @throws Exception the exception
+     * @since 6.6.0
+     */
+    default void saveTickets(final TicketRegistryUnitOfWork unitOfWork) throws Exception {
+        for (val ticket : unitOfWork.getAddedTickets()) {
+            addTicket(ticket);
+        }
+        for (val ticket : unitOfWork.getUpdatedTickets()) {
+            updateTicket(ticket);
+        }
+    }
+
     /**
      * Obtains the given ticket by its id
      * and returns the CAS-representative object. Implementations
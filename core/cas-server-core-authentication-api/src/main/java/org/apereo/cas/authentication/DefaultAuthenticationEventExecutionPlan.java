@@ -6,8 +6,10 @@ import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
@@ -46,6 +48,10 @@ public class DefaultAuthenticationEventExecutionPlan implements AuthenticationEv
 
     private final Map<AuthenticationHandler, PrincipalResolver> authenticationHandlerPrincipalResolverMap = new LinkedHashMap<>();
 
+    @Getter
+    @Setter
+    private AuthenticationHandlerExecutionMode authenticationHandlerExecutionMode = AuthenticationHandlerExecutionMode.SEQUENTIAL;
+
     @Override
     public boolean registerAuthenticationHandler(final AuthenticationHandler handler) {
         return registerAuthenticationHandlerWithPrincipalResolver(handler, null);
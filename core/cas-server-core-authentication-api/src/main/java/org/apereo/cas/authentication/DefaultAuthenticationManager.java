@@ -3,6 +3,7 @@ package org.apereo.cas.authentication;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
 import org.apereo.cas.audit.AuditableActions;
+import org.apereo.cas.authentication.handler.AuthenticationHandlerCircuitBreakerRegistry;
 import org.apereo.cas.authentication.exceptions.UnresolvedPrincipalException;
 import org.apereo.cas.authentication.metadata.BasicCredentialMetaData;
 import org.apereo.cas.authentication.principal.NullPrincipal;
@@ -16,23 +17,37 @@ import org.apereo.cas.support.events.authentication.CasAuthenticationTransaction
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.audit.annotation.Audit;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -53,6 +68,36 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
 
     private final ConfigurableApplicationContext applicationContext;
 
+    /**
+     * Executor used to run authentication handlers concurrently.
+     */
+    @Setter
+    private ExecutorService authenticationHandlerExecutor;
+
+    /**
+     * Maximum time given to each handler when handlers run concurrently.
+     */
+    @Setter
+    private Duration authenticationHandlerTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Circuit breakers guarding authentication handlers, if any.
+     */
+    @Setter
+    private AuthenticationHandlerCircuitBreakerRegistry circuitBreakerRegistry;
+
+    /**
+     * Registry used to export authentication handler latencies, if any.
+     */
+    @Setter
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Whether handler latencies should be published as percentile histograms.
+     */
+    @Setter
+    private boolean publishPercentileHistogram;
+
     @Override
     @Audit(
         action = AuditableActions.AUTHENTICATION,
@@ -197,8 +242,24 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
                                                    final AuthenticationHandler handler) throws GeneralSecurityException, PreventedException {
 
         publishEvent(new CasAuthenticationTransactionStartedEvent(this, credential));
+        val result = executeAuthenticationHandler(handler, credential, new AtomicBoolean());
+        processAuthenticationHandlerExecutionResult(builder, credential, resolver, handler, result);
+    }
 
-        val result = handler.authenticate(credential);
+    /**
+     * Record the successful result of an authentication handler and resolve the principal.
+     *
+     * @param builder    the builder
+     * @param credential the credential
+     * @param resolver   the resolver
+     * @param handler    the handler
+     * @param result     the handler execution result
+     */
+    protected void processAuthenticationHandlerExecutionResult(final AuthenticationBuilder builder,
+                                                               final Credential credential,
+                                                               final PrincipalResolver resolver,
+                                                               final AuthenticationHandler handler,
+                                                               final AuthenticationHandlerExecutionResult result) {
         val authenticationHandlerName = handler.getName();
         builder.addSuccess(authenticationHandlerName, result);
         LOGGER.debug("Authentication handler [{}] successfully authenticated [{}]", authenticationHandlerName, credential);
@@ -227,6 +288,76 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
         publishEvent(new CasAuthenticationPrincipalResolvedEvent(this, principal));
     }
 
+    /**
+     * Invoke the authentication handler, guarded by its circuit breaker if any,
+     * and record the latency of the invocation.
+     *
+     * @param handler    the handler
+     * @param credential the credential
+     * @param recorded   tracks whether the outcome of this invocation is already recorded
+     * @return the authentication handler execution result
+     * @throws GeneralSecurityException the general security exception
+     * @throws PreventedException       the prevented exception
+     */
+    protected AuthenticationHandlerExecutionResult executeAuthenticationHandler(final AuthenticationHandler handler,
+                                                                                final Credential credential,
+                                                                                final AtomicBoolean recorded)
+        throws GeneralSecurityException, PreventedException {
+        if (circuitBreakerRegistry != null && !circuitBreakerRegistry.getCircuitBreaker(handler.getName()).tryAcquirePermission()) {
+            recordAuthenticationHandlerExecution(handler, "short-circuited", 0, recorded);
+            throw new PreventedException("Authentication handler " + handler.getName() + " is unavailable; its circuit breaker is open");
+        }
+        val startTime = System.nanoTime();
+        var outcome = "error";
+        try {
+            val result = handler.authenticate(credential);
+            outcome = "success";
+            return result;
+        } catch (final GeneralSecurityException e) {
+            outcome = "rejected";
+            throw e;
+        } finally {
+            recordAuthenticationHandlerExecution(handler, outcome, System.nanoTime() - startTime, recorded);
+        }
+    }
+
+    /**
+     * Record the outcome of an authentication handler invocation
+     * with the circuit breaker and the meter registry. Outcomes are only recorded once per invocation.
+     * Invocations that are skipped or interrupted before they complete do not count
+     * against the circuit breaker.
+     *
+     * @param handler  the handler
+     * @param outcome  the outcome
+     * @param duration the duration in nanoseconds
+     * @param recorded tracks whether the outcome of this invocation is already recorded
+     */
+    protected void recordAuthenticationHandlerExecution(final AuthenticationHandler handler, final String outcome,
+                                                        final long duration, final AtomicBoolean recorded) {
+        if (!recorded.compareAndSet(false, true)) {
+            return;
+        }
+        if (circuitBreakerRegistry != null && !"short-circuited".equals(outcome)) {
+            val circuitBreaker = circuitBreakerRegistry.getCircuitBreaker(handler.getName());
+            if ("success".equals(outcome) || "rejected".equals(outcome)) {
+                circuitBreaker.onSuccess();
+            } else if ("interrupted".equals(outcome) || "skipped".equals(outcome)) {
+                circuitBreaker.releasePermission();
+            } else {
+                circuitBreaker.onFailure();
+            }
+        }
+        if (meterRegistry != null) {
+            Timer.builder("cas.authentication.handler")
+                .description("Authentication handler execution time")
+                .tag("handler", handler.getName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(publishPercentileHistogram)
+                .register(meterRegistry)
+                .record(duration, TimeUnit.NANOSECONDS);
+        }
+    }
+
 
     /**
      * Gets principal resolver linked to the handler if any.
@@ -285,42 +416,15 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
         LOGGER.debug("Candidate resolved authentication handlers for this transaction are [{}]", handlerSet);
 
         try {
-            val it = credentials.iterator();
             AuthenticationCredentialsThreadLocalBinder.clearInProgressAuthentication();
-            while (it.hasNext()) {
-                val credential = it.next();
+            val concurrent = authenticationEventExecutionPlan.getAuthenticationHandlerExecutionMode() == AuthenticationHandlerExecutionMode.CONCURRENT
+                && authenticationHandlerExecutor != null;
+            for (val credential : credentials) {
                 LOGGER.debug("Attempting to authenticate credential [{}]", credential);
-
-                val itHandlers = handlerSet.iterator();
-                var proceedWithNextHandler = true;
-                while (proceedWithNextHandler && itHandlers.hasNext()) {
-                    val handler = itHandlers.next();
-                    if (handler.supports(credential)) {
-                        try {
-                            val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
-                            LOGGER.debug("Attempting authentication of [{}] using [{}]", credential.getId(), handler.getName());
-                            authenticateAndResolvePrincipal(builder, credential, resolver, handler);
-
-                            val authnResult = builder.build();
-                            AuthenticationCredentialsThreadLocalBinder.bindInProgress(authnResult);
-                            val executionResult = evaluateAuthenticationPolicies(authnResult, transaction, handlerSet);
-                            proceedWithNextHandler = !executionResult.isSuccess();
-                        } catch (final GeneralSecurityException e) {
-                            handleAuthenticationException(e, handler.getName(), builder);
-                            proceedWithNextHandler = shouldAuthenticationChainProceedOnFailure(transaction, e);
-                        } catch (final Exception e) {
-                            LOGGER.error("Authentication has failed. Credentials may be incorrect or CAS cannot "
-                                + "find authentication handler that supports [{}] of type [{}]. Examine the configuration to "
-                                + "ensure a method of authentication is defined and analyze CAS logs at DEBUG level to trace "
-                                + "the authentication event.", credential, credential.getClass().getSimpleName());
-
-                            handleAuthenticationException(e, handler.getName(), builder);
-                            proceedWithNextHandler = shouldAuthenticationChainProceedOnFailure(transaction, e);
-                        }
-                    } else {
-                        LOGGER.debug("Authentication handler [{}] does not support the credential type [{}].",
-                            handler.getName(), credential);
-                    }
+                if (concurrent) {
+                    authenticateConcurrently(transaction, builder, handlerSet, credential);
+                } else {
+                    authenticateSequentially(transaction, builder, handlerSet, credential);
                 }
             }
             evaluateFinalAuthentication(builder, transaction, handlerSet);
@@ -330,6 +434,189 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
         }
     }
 
+    /**
+     * Authenticate the credential by invoking supporting handlers one at a time,
+     * until authentication policies are satisfied or a failure halts the chain.
+     *
+     * @param transaction the transaction
+     * @param builder     the builder
+     * @param handlerSet  the handler set
+     * @param credential  the credential
+     */
+    protected void authenticateSequentially(final AuthenticationTransaction transaction,
+                                            final AuthenticationBuilder builder,
+                                            final Set<AuthenticationHandler> handlerSet,
+                                            final Credential credential) {
+        val itHandlers = handlerSet.iterator();
+        var proceedWithNextHandler = true;
+        while (proceedWithNextHandler && itHandlers.hasNext()) {
+            val handler = itHandlers.next();
+            if (handler.supports(credential)) {
+                try {
+                    val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
+                    LOGGER.debug("Attempting authentication of [{}] using [{}]", credential.getId(), handler.getName());
+                    authenticateAndResolvePrincipal(builder, credential, resolver, handler);
+                    proceedWithNextHandler = !isAuthenticationPolicySatisfied(transaction, builder, handlerSet);
+                } catch (final Exception e) {
+                    proceedWithNextHandler = handleAuthenticationHandlerFailure(transaction, builder, credential, handler, e);
+                }
+            } else {
+                LOGGER.debug("Authentication handler [{}] does not support the credential type [{}].",
+                    handler.getName(), credential);
+            }
+        }
+    }
+
+    /**
+     * Authenticate the credential by invoking supporting handlers concurrently.
+     * Results are processed as handlers complete, and remaining handlers are cancelled
+     * once authentication policies are satisfied or a failure halts the chain.
+     * Handlers that do not complete within the configured timeout are recorded as failures,
+     * as are handlers whose invocation is refused by the executor. If the authentication thread is interrupted,
+     * pending handlers are recorded as interrupted and do not count against their circuit breakers.
+     *
+     * @param transaction the transaction
+     * @param builder     the builder
+     * @param handlerSet  the handler set
+     * @param credential  the credential
+     */
+    protected void authenticateConcurrently(final AuthenticationTransaction transaction,
+                                            final AuthenticationBuilder builder,
+                                            final Set<AuthenticationHandler> handlerSet,
+                                            final Credential credential) {
+        val supportingHandlers = handlerSet
+            .stream()
+            .filter(handler -> handler.supports(credential))
+            .collect(Collectors.toList());
+        if (supportingHandlers.size() <= 1) {
+            authenticateSequentially(transaction, builder, handlerSet, credential);
+            return;
+        }
+
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val requestAttributes = RequestContextHolder.getRequestAttributes();
+        val inProgressAuthentication = AuthenticationCredentialsThreadLocalBinder.getInProgressAuthentication();
+
+        val completionService = new ExecutorCompletionService<AuthenticationHandlerExecutionResult>(authenticationHandlerExecutor);
+        val invocations = new LinkedHashMap<Future<AuthenticationHandlerExecutionResult>, AuthenticationHandler>();
+        val recordedInvocations = new LinkedHashMap<AuthenticationHandler, AtomicBoolean>();
+        supportingHandlers.forEach(handler -> {
+            LOGGER.debug("Submitting authentication of [{}] using [{}]", credential.getId(), handler.getName());
+            publishEvent(new CasAuthenticationTransactionStartedEvent(this, credential));
+            val recorded = new AtomicBoolean();
+            try {
+                val future = completionService.submit(() -> {
+                    ClientInfoHolder.setClientInfo(clientInfo);
+                    RequestContextHolder.setRequestAttributes(requestAttributes);
+                    AuthenticationCredentialsThreadLocalBinder.bindCurrent(credential);
+                    AuthenticationCredentialsThreadLocalBinder.bindInProgress(inProgressAuthentication);
+                    try {
+                        return executeAuthenticationHandler(handler, credential, recorded);
+                    } finally {
+                        AuthenticationCredentialsThreadLocalBinder.clear();
+                        RequestContextHolder.resetRequestAttributes();
+                        ClientInfoHolder.clear();
+                    }
+                });
+                recordedInvocations.put(handler, recorded);
+                invocations.put(future, handler);
+            } catch (final RejectedExecutionException e) {
+                LOGGER.warn("Authentication handler [{}] cannot be invoked; too many invocations are pending", handler.getName());
+                handleAuthenticationException(new PreventedException("Authentication handler " + handler.getName()
+                    + " cannot be invoked; too many invocations are pending"), handler.getName(), builder);
+            }
+        });
+
+        val startTime = System.nanoTime();
+        val deadline = startTime + authenticationHandlerTimeout.toNanos();
+        var proceedWithNextHandler = true;
+        var interrupted = false;
+        var pending = invocations.size();
+        try {
+            while (proceedWithNextHandler && pending > 0) {
+                val remaining = deadline - System.nanoTime();
+                val future = remaining > 0 ? completionService.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                if (future == null) {
+                    break;
+                }
+                pending--;
+                val handler = invocations.remove(future);
+                try {
+                    val result = future.get();
+                    val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
+                    processAuthenticationHandlerExecutionResult(builder, credential, resolver, handler, result);
+                    proceedWithNextHandler = !isAuthenticationPolicySatisfied(transaction, builder, handlerSet);
+                } catch (final ExecutionException e) {
+                    proceedWithNextHandler = handleAuthenticationHandlerFailure(transaction, builder, credential, handler, e.getCause());
+                } catch (final Exception e) {
+                    proceedWithNextHandler = handleAuthenticationHandlerFailure(transaction, builder, credential, handler, e);
+                }
+            }
+        } catch (final InterruptedException e) {
+            LOGGER.warn("Authentication of [{}] is interrupted", credential.getId());
+            interrupted = true;
+            Thread.currentThread().interrupt();
+        } finally {
+            val unfinished = proceedWithNextHandler ? "timeout" : "skipped";
+            val outcome = interrupted ? "interrupted" : unfinished;
+            val elapsed = System.nanoTime() - startTime;
+            invocations.forEach((future, handler) -> {
+                recordAuthenticationHandlerExecution(handler, outcome, elapsed, recordedInvocations.get(handler));
+                future.cancel(true);
+                if ("timeout".equals(outcome)) {
+                    LOGGER.warn("Authentication handler [{}] did not complete within [{}]", handler.getName(), authenticationHandlerTimeout);
+                    handleAuthenticationException(new PreventedException("Authentication handler " + handler.getName()
+                        + " did not complete within " + authenticationHandlerTimeout), handler.getName(), builder);
+                } else if ("interrupted".equals(outcome)) {
+                    handleAuthenticationException(new PreventedException("Authentication handler " + handler.getName()
+                        + " was interrupted"), handler.getName(), builder);
+                }
+            });
+        }
+    }
+
+    /**
+     * Evaluate authentication policies against the authentication built so far.
+     *
+     * @param transaction the transaction
+     * @param builder     the builder
+     * @param handlerSet  the handler set
+     * @return true if policies are satisfied and no other handler needs to run
+     */
+    protected boolean isAuthenticationPolicySatisfied(final AuthenticationTransaction transaction,
+                                                      final AuthenticationBuilder builder,
+                                                      final Set<AuthenticationHandler> handlerSet) {
+        val authnResult = builder.build();
+        AuthenticationCredentialsThreadLocalBinder.bindInProgress(authnResult);
+        val executionResult = evaluateAuthenticationPolicies(authnResult, transaction, handlerSet);
+        return executionResult.isSuccess();
+    }
+
+    /**
+     * Record the failure of an authentication handler.
+     *
+     * @param transaction the transaction
+     * @param builder     the builder
+     * @param credential  the credential
+     * @param handler     the handler
+     * @param error       the error
+     * @return true if the authentication chain should proceed with the next handler
+     */
+    protected boolean handleAuthenticationHandlerFailure(final AuthenticationTransaction transaction,
+                                                         final AuthenticationBuilder builder,
+                                                         final Credential credential,
+                                                         final AuthenticationHandler handler,
+                                                         final Throwable error) {
+        if (!(error instanceof GeneralSecurityException)) {
+            LOGGER.error("Authentication has failed. Credentials may be incorrect or CAS cannot "
+                + "find authentication handler that supports [{}] of type [{}]. Examine the configuration to "
+                + "ensure a method of authentication is defined and analyze CAS logs at DEBUG level to trace "
+                + "the authentication event.", credential, credential.getClass().getSimpleName());
+        }
+        handleAuthenticationException(error, handler.getName(), builder);
+        return shouldAuthenticationChainProceedOnFailure(transaction, error);
+    }
+
     /**
      * Evaluate produced authentication context.
      * We apply an implicit security policy of at least one successful authentication.
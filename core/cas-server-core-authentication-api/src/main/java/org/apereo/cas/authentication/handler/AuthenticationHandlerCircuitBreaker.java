@@ -0,0 +1,180 @@
+package org.apereo.cas.authentication.handler;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * This is {@link AuthenticationHandlerCircuitBreaker}, which tracks the outcome
+ * of the most recent invocations of an authentication handler in a count-based
+ * sliding window and stops invoking the handler once its failure rate crosses the threshold.
+ * After the configured wait duration, a single trial invocation is let through
+ * to decide whether the circuit should close again.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class AuthenticationHandlerCircuitBreaker {
+
+    @Getter
+    private final String name;
+
+    private final int failureRateThreshold;
+
+    private final int minimumNumberOfCalls;
+
+    private final Duration waitDurationInOpenState;
+
+    private final Clock clock;
+
+    private final boolean[] failures;
+
+    private int position;
+
+    private int recordedCalls;
+
+    private int recordedFailures;
+
+    private State state = State.CLOSED;
+
+    private Instant openedAt;
+
+    private boolean trialInProgress;
+
+    public AuthenticationHandlerCircuitBreaker(final String name, final int failureRateThreshold,
+                                               final int slidingWindowSize, final int minimumNumberOfCalls,
+                                               final Duration waitDurationInOpenState, final Clock clock) {
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.failures = new boolean[Math.max(1, slidingWindowSize)];
+        this.minimumNumberOfCalls = Math.max(1, Math.min(minimumNumberOfCalls, this.failures.length));
+        this.waitDurationInOpenState = waitDurationInOpenState;
+        this.clock = clock;
+    }
+
+    /**
+     * Determine whether the handler may be invoked.
+     *
+     * @return true if the invocation is permitted
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(waitDurationInOpenState))) {
+            LOGGER.debug("Circuit breaker for [{}] is now half-open and permits a trial invocation", name);
+            state = State.HALF_OPEN;
+            trialInProgress = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInProgress) {
+                return false;
+            }
+            trialInProgress = true;
+            return true;
+        }
+        return state == State.CLOSED;
+    }
+
+    /**
+     * Record a successful invocation.
+     * Rejected credentials are considered successful invocations.
+     */
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            LOGGER.info("Authentication handler [{}] has recovered; closing its circuit breaker", name);
+            reset();
+            return;
+        }
+        record(false);
+    }
+
+    /**
+     * Record a failed invocation.
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recordedCalls >= minimumNumberOfCalls
+            && recordedFailures * 100 >= failureRateThreshold * recordedCalls) {
+            open();
+        }
+    }
+
+    /**
+     * Release a permission without recording an outcome,
+     * for invocations that are abandoned before they complete.
+     * A trial invocation of a half-open circuit is let through again.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            trialInProgress = false;
+        }
+    }
+
+    /**
+     * Gets the current state of the circuit.
+     *
+     * @return the state
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(final boolean failure) {
+        if (recordedCalls == failures.length) {
+            if (failures[position]) {
+                recordedFailures--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        failures[position] = failure;
+        if (failure) {
+            recordedFailures++;
+        }
+        position = (position + 1) % failures.length;
+    }
+
+    private void open() {
+        LOGGER.warn("Authentication handler [{}] is failing; its circuit breaker is open for [{}]", name, waitDurationInOpenState);
+        state = State.OPEN;
+        openedAt = clock.instant();
+        trialInProgress = false;
+    }
+
+    private void reset() {
+        state = State.CLOSED;
+        openedAt = null;
+        trialInProgress = false;
+        position = 0;
+        recordedCalls = 0;
+        recordedFailures = 0;
+        for (var i = 0; i < failures.length; i++) {
+            failures[i] = false;
+        }
+    }
+
+    /**
+     * Circuit breaker states.
+     */
+    public enum State {
+        /**
+         * Invocations are permitted.
+         */
+        CLOSED,
+        /**
+         * Invocations are rejected.
+         */
+        OPEN,
+        /**
+         * A single trial invocation is permitted.
+         */
+        HALF_OPEN
+    }
+}
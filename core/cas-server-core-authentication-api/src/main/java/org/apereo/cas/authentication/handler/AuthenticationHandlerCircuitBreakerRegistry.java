@@ -0,0 +1,43 @@
+package org.apereo.cas.authentication.handler;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link AuthenticationHandlerCircuitBreakerRegistry}, which
+ * hands out one {@link AuthenticationHandlerCircuitBreaker} per authentication handler name,
+ * all sharing the same settings.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@RequiredArgsConstructor
+public class AuthenticationHandlerCircuitBreakerRegistry {
+    private final Map<String, AuthenticationHandlerCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    private final int failureRateThreshold;
+
+    private final int slidingWindowSize;
+
+    private final int minimumNumberOfCalls;
+
+    private final Duration waitDurationInOpenState;
+
+    private final Clock clock;
+
+    /**
+     * Gets circuit breaker for the handler.
+     *
+     * @param handlerName the handler name
+     * @return the circuit breaker
+     */
+    public AuthenticationHandlerCircuitBreaker getCircuitBreaker(final String handlerName) {
+        return circuitBreakers.computeIfAbsent(handlerName,
+            name -> new AuthenticationHandlerCircuitBreaker(name, failureRateThreshold, slidingWindowSize,
+                minimumNumberOfCalls, waitDurationInOpenState, clock));
+    }
+}
@@ -0,0 +1,65 @@
+package org.apereo.cas.authentication.handler;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AuthenticationHandlerCircuitBreakerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("AuthenticationHandler")
+public class AuthenticationHandlerCircuitBreakerTests {
+
+    @Test
+    public void verifyOpensAndRecovers() {
+        val start = Instant.now();
+        val breaker = new AuthenticationHandlerCircuitBreaker("handler", 50, 4, 4,
+            Duration.ofSeconds(30), Clock.fixed(start, ZoneOffset.UTC));
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onSuccess();
+        assertEquals(AuthenticationHandlerCircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.onFailure();
+        assertEquals(AuthenticationHandlerCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+
+        val later = new AuthenticationHandlerCircuitBreaker("handler", 50, 4, 1,
+            Duration.ZERO, Clock.fixed(start, ZoneOffset.UTC));
+        later.onFailure();
+        assertTrue(later.tryAcquirePermission());
+        assertEquals(AuthenticationHandlerCircuitBreaker.State.HALF_OPEN, later.getState());
+        assertFalse(later.tryAcquirePermission());
+        later.onSuccess();
+        assertEquals(AuthenticationHandlerCircuitBreaker.State.CLOSED, later.getState());
+        assertTrue(later.tryAcquirePermission());
+    }
+
+    @Test
+    public void verifyReleasedTrialIsPermittedAgain() {
+        val breaker = new AuthenticationHandlerCircuitBreaker("handler", 50, 4, 1,
+            Duration.ZERO, Clock.systemUTC());
+        breaker.onFailure();
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+        breaker.releasePermission();
+        assertEquals(AuthenticationHandlerCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    public void verifyRegistry() {
+        val registry = new AuthenticationHandlerCircuitBreakerRegistry(50, 10, 5, Duration.ofSeconds(5), Clock.systemUTC());
+        assertSame(registry.getCircuitBreaker("one"), registry.getCircuitBreaker("one"));
+        assertNotSame(registry.getCircuitBreaker("one"), registry.getCircuitBreaker("two"));
+    }
+}
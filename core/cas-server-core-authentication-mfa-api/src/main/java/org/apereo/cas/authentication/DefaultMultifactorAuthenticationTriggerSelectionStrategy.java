@@ -4,27 +4,82 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Default MFA Trigger selection strategy.
+ * <p>
+ * Triggers are evaluated in their order of precedence, and evaluation stops at the first
+ * trigger that activates, so triggers that come after it are never consulted. Trigger outcomes
+ * are remembered for the duration of the current request, so resolving the same authentication
+ * and service again does not repeat remote calls or geolocation lookups.
  *
  * @author Daniel Frett
  * @since 5.0.0
  */
-@RequiredArgsConstructor
 @Getter
 @Slf4j
 public class DefaultMultifactorAuthenticationTriggerSelectionStrategy implements MultifactorAuthenticationTriggerSelectionStrategy {
-    private final Collection<MultifactorAuthenticationTrigger> multifactorAuthenticationTriggers;
+    /**
+     * Meter name used to time trigger evaluations.
+     */
+    public static final String METER_NAME = "cas.mfa.trigger";
+
+    private static final String REQUEST_ATTRIBUTE_TRIGGER_OUTCOMES =
+        DefaultMultifactorAuthenticationTriggerSelectionStrategy.class.getName() + ".outcomes";
+
+    private final List<MultifactorAuthenticationTrigger> multifactorAuthenticationTriggers;
+
+    private final MeterRegistry meterRegistry;
+
+    public DefaultMultifactorAuthenticationTriggerSelectionStrategy(
+        final Collection<MultifactorAuthenticationTrigger> multifactorAuthenticationTriggers) {
+        this(multifactorAuthenticationTriggers, Metrics.globalRegistry);
+    }
+
+    public DefaultMultifactorAuthenticationTriggerSelectionStrategy(
+        final Collection<MultifactorAuthenticationTrigger> multifactorAuthenticationTriggers,
+        final MeterRegistry meterRegistry) {
+        this.multifactorAuthenticationTriggers = new ArrayList<>(multifactorAuthenticationTriggers);
+        this.meterRegistry = meterRegistry;
+    }
+
+    private static String getTriggerName(final MultifactorAuthenticationTrigger trigger) {
+        return StringUtils.defaultIfBlank(trigger.getName(), trigger.getClass().getSimpleName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<TriggerEvaluationKey, Optional<MultifactorAuthenticationProvider>> getTriggerOutcomes(
+        final HttpServletRequest request) {
+        if (request == null) {
+            return new ConcurrentHashMap<>();
+        }
+        var outcomes = (Map<TriggerEvaluationKey, Optional<MultifactorAuthenticationProvider>>)
+            request.getAttribute(REQUEST_ATTRIBUTE_TRIGGER_OUTCOMES);
+        if (outcomes == null) {
+            outcomes = new ConcurrentHashMap<>();
+            request.setAttribute(REQUEST_ATTRIBUTE_TRIGGER_OUTCOMES, outcomes);
+        }
+        return outcomes;
+    }
 
     @Override
     public Optional<MultifactorAuthenticationProvider> resolve(final HttpServletRequest request,
@@ -37,15 +92,62 @@ public class DefaultMultifactorAuthenticationTriggerSelectionStrategy implements
             return Optional.empty();
         }
 
+        val outcomes = getTriggerOutcomes(request);
         for (val trigger : multifactorAuthenticationTriggers) {
             if (BeanSupplier.isNotProxy(trigger) && !trigger.supports(request, registeredService, authentication, service)) {
                 continue;
             }
-            val activated = trigger.isActivated(authentication, registeredService, request, response, service);
+            val activated = evaluate(trigger, outcomes, request, response, registeredService, authentication, service);
             if (activated.isPresent()) {
                 return activated;
             }
         }
         return Optional.empty();
     }
+
+    private Optional<MultifactorAuthenticationProvider> evaluate(final MultifactorAuthenticationTrigger trigger,
+                                                                 final Map<TriggerEvaluationKey, Optional<MultifactorAuthenticationProvider>> outcomes,
+                                                                 final HttpServletRequest request,
+                                                                 final HttpServletResponse response,
+                                                                 final RegisteredService registeredService,
+                                                                 final Authentication authentication,
+                                                                 final Service service) {
+        val triggerName = getTriggerName(trigger);
+        val key = new TriggerEvaluationKey(triggerName, authentication,
+            registeredService == null ? null : registeredService.getId(),
+            service == null ? null : service.getId());
+        val memoized = outcomes.get(key);
+        if (memoized != null) {
+            LOGGER.trace("Using previous outcome of trigger [{}] for this request", triggerName);
+            return memoized;
+        }
+
+        val start = System.nanoTime();
+        var outcome = "failure";
+        try {
+            val activated = trigger.isActivated(authentication, registeredService, request, response, service);
+            outcome = activated.isPresent() ? "activated" : "none";
+            outcomes.put(key, activated);
+            return activated;
+        } finally {
+            val elapsed = System.nanoTime() - start;
+            Timer.builder(METER_NAME)
+                .tag("trigger", triggerName)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class TriggerEvaluationKey {
+        private final String trigger;
+
+        private final Authentication authentication;
+
+        private final Long registeredServiceId;
+
+        private final String serviceId;
+    }
 }
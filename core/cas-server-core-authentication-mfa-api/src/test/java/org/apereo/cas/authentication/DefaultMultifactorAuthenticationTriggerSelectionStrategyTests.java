@@ -3,6 +3,7 @@ package org.apereo.cas.authentication;
 import org.apereo.cas.authentication.mfa.MultifactorAuthenticationTestUtils;
 import org.apereo.cas.authentication.mfa.TestMultifactorAuthenticationProvider;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -70,4 +71,75 @@ public class DefaultMultifactorAuthenticationTriggerSelectionStrategyTests {
             MultifactorAuthenticationTestUtils.getService("https://www.example.org"));
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    public void verifyOutcomesMemoizedPerRequest() {
+        val trigger = getMultifactorAuthenticationTrigger();
+        val meterRegistry = new SimpleMeterRegistry();
+        val strategy = new DefaultMultifactorAuthenticationTriggerSelectionStrategy(List.of(trigger), meterRegistry);
+        val registeredService = MultifactorAuthenticationTestUtils.getRegisteredService();
+        val authentication = MultifactorAuthenticationTestUtils.getAuthentication("casuser");
+        val service = MultifactorAuthenticationTestUtils.getService("https://www.example.org");
+
+        val request = new MockHttpServletRequest();
+        assertTrue(strategy.resolve(request, new MockHttpServletResponse(), registeredService, authentication, service).isPresent());
+        assertTrue(strategy.resolve(request, new MockHttpServletResponse(), registeredService, authentication, service).isPresent());
+        verify(trigger, times(1)).isActivated(any(), any(), any(), any(), any());
+
+        assertTrue(strategy.resolve(new MockHttpServletRequest(), new MockHttpServletResponse(),
+            registeredService, authentication, service).isPresent());
+        verify(trigger, times(2)).isActivated(any(), any(), any(), any(), any());
+        assertEquals(2, meterRegistry.get(DefaultMultifactorAuthenticationTriggerSelectionStrategy.METER_NAME).timer().count());
+    }
+
+    @Test
+    public void verifyTriggersAfterActivationAreNotEvaluated() {
+        val first = getMultifactorAuthenticationTrigger();
+        when(first.getName()).thenReturn("first");
+        val second = getMultifactorAuthenticationTrigger();
+        when(second.getName()).thenReturn("second");
+
+        val strategy = new DefaultMultifactorAuthenticationTriggerSelectionStrategy(List.of(first, second), new SimpleMeterRegistry());
+        val result = strategy.resolve(new MockHttpServletRequest(), new MockHttpServletResponse(),
+            MultifactorAuthenticationTestUtils.getRegisteredService(),
+            MultifactorAuthenticationTestUtils.getAuthentication("casuser"),
+            MultifactorAuthenticationTestUtils.getService("https://www.example.org"));
+        assertTrue(result.isPresent());
+        verify(second, never()).isActivated(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void verifyTriggerPrecedenceIsKept() {
+        val first = getMultifactorAuthenticationTrigger();
+        when(first.getName()).thenReturn("first");
+        val firstProvider = new TestMultifactorAuthenticationProvider("first");
+        when(first.isActivated(any(), any(), any(), any(), any())).thenReturn(Optional.of(firstProvider));
+
+        val second = getMultifactorAuthenticationTrigger();
+        when(second.getName()).thenReturn("second");
+
+        val strategy = new DefaultMultifactorAuthenticationTriggerSelectionStrategy(List.of(first, second), new SimpleMeterRegistry());
+        for (var i = 0; i < 3; i++) {
+            val result = strategy.resolve(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                MultifactorAuthenticationTestUtils.getRegisteredService(),
+                MultifactorAuthenticationTestUtils.getAuthentication("casuser"),
+                MultifactorAuthenticationTestUtils.getService("https://www.example.org"));
+            assertEquals(firstProvider, result.orElseThrow());
+        }
+    }
+
+    @Test
+    public void verifyTriggerFailureIsKept() {
+        val first = getMultifactorAuthenticationTrigger();
+        when(first.getName()).thenReturn("first");
+        when(first.isActivated(any(), any(), any(), any(), any())).thenThrow(new IllegalArgumentException("failed"));
+        val second = getMultifactorAuthenticationTrigger();
+        when(second.getName()).thenReturn("second");
+
+        val strategy = new DefaultMultifactorAuthenticationTriggerSelectionStrategy(List.of(first, second), new SimpleMeterRegistry());
+        assertThrows(IllegalArgumentException.class, () -> strategy.resolve(new MockHttpServletRequest(), new MockHttpServletResponse(),
+            MultifactorAuthenticationTestUtils.getRegisteredService(),
+            MultifactorAuthenticationTestUtils.getAuthentication("casuser"),
+            MultifactorAuthenticationTestUtils.getService("https://www.example.org")));
+    }
 }
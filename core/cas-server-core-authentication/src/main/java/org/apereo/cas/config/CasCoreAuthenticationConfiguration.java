@@ -2,6 +2,7 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.authentication.AuthenticationEventExecutionPlan;
 import org.apereo.cas.authentication.AuthenticationEventExecutionPlanConfigurer;
+import org.apereo.cas.authentication.AuthenticationHandlerExecutionMode;
 import org.apereo.cas.authentication.AuthenticationManager;
 import org.apereo.cas.authentication.AuthenticationResultBuilderFactory;
 import org.apereo.cas.authentication.AuthenticationTransactionFactory;
@@ -12,15 +13,19 @@ import org.apereo.cas.authentication.DefaultAuthenticationManager;
 import org.apereo.cas.authentication.DefaultAuthenticationResultBuilderFactory;
 import org.apereo.cas.authentication.DefaultAuthenticationTransactionFactory;
 import org.apereo.cas.authentication.DefaultAuthenticationTransactionManager;
+import org.apereo.cas.authentication.handler.AuthenticationHandlerCircuitBreakerRegistry;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.util.model.TriStateBoolean;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 import org.apereo.cas.validation.AuthenticationAttributeReleasePolicy;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
@@ -34,8 +39,15 @@ import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This is {@link CasCoreAuthenticationConfiguration}.
@@ -97,16 +109,48 @@ public class CasCoreAuthenticationConfiguration {
             return new DefaultAuthenticationTransactionManager(applicationContext, casAuthenticationManager);
         }
 
+        @ConditionalOnMissingBean(name = "authenticationHandlerExecutorService")
+        @Bean(destroyMethod = "shutdownNow")
+        public ExecutorService authenticationHandlerExecutorService(final CasConfigurationProperties casProperties) {
+            val execution = casProperties.getAuthn().getCore().getEngine().getHandlerExecution();
+            val poolSize = Math.max(1, execution.getPoolSize());
+            val threadCount = new AtomicInteger();
+            val executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, execution.getQueueSize())), runnable -> {
+                    val thread = new Thread(runnable, "AuthenticationHandlerExecutorThread-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+
         @ConditionalOnMissingBean(name = "casAuthenticationManager")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public AuthenticationManager casAuthenticationManager(
             final CasConfigurationProperties casProperties,
             final ConfigurableApplicationContext applicationContext,
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Qualifier("authenticationHandlerExecutorService")
+            final ExecutorService authenticationHandlerExecutorService,
             @Qualifier(AuthenticationEventExecutionPlan.DEFAULT_BEAN_NAME)
             final AuthenticationEventExecutionPlan authenticationEventExecutionPlan) {
             val isFatal = casProperties.getPersonDirectory().getPrincipalResolutionFailureFatal() == TriStateBoolean.TRUE;
-            return new DefaultAuthenticationManager(authenticationEventExecutionPlan, isFatal, applicationContext);
+            val manager = new DefaultAuthenticationManager(authenticationEventExecutionPlan, isFatal, applicationContext);
+            val execution = casProperties.getAuthn().getCore().getEngine().getHandlerExecution();
+            manager.setAuthenticationHandlerExecutor(authenticationHandlerExecutorService);
+            manager.setAuthenticationHandlerTimeout(Beans.newDuration(execution.getTimeout()));
+            manager.setMeterRegistry(meterRegistry.getIfAvailable());
+            manager.setPublishPercentileHistogram(casProperties.getMonitor().getMetrics().isPublishPercentileHistogram());
+            val circuitBreaker = execution.getCircuitBreaker();
+            if (circuitBreaker.isEnabled()) {
+                manager.setCircuitBreakerRegistry(new AuthenticationHandlerCircuitBreakerRegistry(
+                    circuitBreaker.getFailureRateThreshold(), circuitBreaker.getSlidingWindowSize(),
+                    circuitBreaker.getMinimumNumberOfCalls(), Beans.newDuration(circuitBreaker.getWaitDurationInOpenState()),
+                    Clock.systemUTC()));
+            }
+            return manager;
         }
     }
 
@@ -117,8 +161,11 @@ public class CasCoreAuthenticationConfiguration {
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public AuthenticationEventExecutionPlan authenticationEventExecutionPlan(
+            final CasConfigurationProperties casProperties,
             final List<AuthenticationEventExecutionPlanConfigurer> configurers) {
             val plan = new DefaultAuthenticationEventExecutionPlan();
+            val execution = casProperties.getAuthn().getCore().getEngine().getHandlerExecution();
+            plan.setAuthenticationHandlerExecutionMode(AuthenticationHandlerExecutionMode.valueOf(execution.getMode().toUpperCase(Locale.ENGLISH)));
             val sortedConfigurers = new ArrayList<>(configurers);
             AnnotationAwareOrderComparator.sortIfNecessary(sortedConfigurers);
 
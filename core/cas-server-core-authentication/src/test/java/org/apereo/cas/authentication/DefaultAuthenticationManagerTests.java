@@ -1,6 +1,8 @@
 package org.apereo.cas.authentication;
 
 import org.apereo.cas.authentication.exceptions.UnresolvedPrincipalException;
+import org.apereo.cas.authentication.handler.AuthenticationHandlerCircuitBreaker;
+import org.apereo.cas.authentication.handler.AuthenticationHandlerCircuitBreakerRegistry;
 import org.apereo.cas.authentication.handler.DefaultAuthenticationHandlerResolver;
 import org.apereo.cas.authentication.handler.RegisteredServiceAuthenticationHandlerResolver;
 import org.apereo.cas.authentication.handler.support.SimpleTestUsernamePasswordAuthenticationHandler;
@@ -13,6 +15,7 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -24,12 +27,15 @@ import org.springframework.context.support.StaticApplicationContext;
 
 import javax.security.auth.login.FailedLoginException;
 import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -127,6 +133,19 @@ public class DefaultAuthenticationManagerTests {
         return mock;
     }
 
+    @SneakyThrows
+    private static AuthenticationHandler newSlowHandler(final String name) {
+        val mock = mock(AuthenticationHandler.class);
+        when(mock.getName()).thenReturn(name);
+        when(mock.supports(any(Credential.class))).thenReturn(true);
+        when(mock.getState()).thenCallRealMethod();
+        when(mock.authenticate(any(Credential.class))).thenAnswer(invocation -> {
+            Thread.sleep(30_000);
+            throw new FailedLoginException();
+        });
+        return mock;
+    }
+
     private static AuthenticationEventExecutionPlan getAuthenticationExecutionPlan(final Map<AuthenticationHandler, PrincipalResolver> map) {
         val plan = new DefaultAuthenticationEventExecutionPlan();
         plan.registerAuthenticationHandlerWithPrincipalResolver(map);
@@ -248,6 +267,128 @@ public class DefaultAuthenticationManagerTests {
         assertThrows(AuthenticationException.class, () -> manager.authenticate(new DefaultAuthenticationTransactionFactory().newTransaction()));
     }
 
+    @Test
+    public void verifyAuthenticateConcurrently() {
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(newMockHandler(false, true), null);
+        map.put(newMockHandler(true), null);
+
+        val authenticationExecutionPlan = (DefaultAuthenticationEventExecutionPlan) getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.setAuthenticationHandlerExecutionMode(AuthenticationHandlerExecutionMode.CONCURRENT);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan,
+            false, applicationContext);
+        val executor = Executors.newFixedThreadPool(2);
+        try {
+            manager.setAuthenticationHandlerExecutor(executor);
+            manager.setCircuitBreakerRegistry(new AuthenticationHandlerCircuitBreakerRegistry(50, 2, 1, Duration.ofMinutes(1), Clock.systemUTC()));
+            manager.setMeterRegistry(new SimpleMeterRegistry());
+            val testTransaction = new DefaultAuthenticationTransactionFactory()
+                .newTransaction(CoreAuthenticationTestUtils.getService(), mock(Credential.class, withSettings().serializable()));
+            val auth = manager.authenticate(testTransaction);
+            assertEquals(1, auth.getSuccesses().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void verifyAuthenticateConcurrentlyTimesOut() {
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(newSlowHandler(HANDLER_A), null);
+        map.put(newMockHandler(HANDLER_B, false), null);
+
+        val authenticationExecutionPlan = (DefaultAuthenticationEventExecutionPlan) getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.setAuthenticationHandlerExecutionMode(AuthenticationHandlerExecutionMode.CONCURRENT);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan, false, applicationContext);
+        val executor = Executors.newFixedThreadPool(2);
+        try {
+            val circuitBreakerRegistry = new AuthenticationHandlerCircuitBreakerRegistry(50, 1, 1, Duration.ofMinutes(1), Clock.systemUTC());
+            val meterRegistry = new SimpleMeterRegistry();
+            manager.setAuthenticationHandlerExecutor(executor);
+            manager.setAuthenticationHandlerTimeout(Duration.ofMillis(250));
+            manager.setCircuitBreakerRegistry(circuitBreakerRegistry);
+            manager.setMeterRegistry(meterRegistry);
+            manager.setPublishPercentileHistogram(true);
+            val testTransaction = new DefaultAuthenticationTransactionFactory()
+                .newTransaction(CoreAuthenticationTestUtils.getService(), mock(Credential.class, withSettings().serializable()));
+            val ex = assertThrows(AuthenticationException.class, () -> manager.authenticate(testTransaction));
+            assertTrue(ex.getHandlerErrors().get(HANDLER_A) instanceof PreventedException);
+            assertTrue(ex.getHandlerErrors().get(HANDLER_B) instanceof FailedLoginException);
+            assertEquals(AuthenticationHandlerCircuitBreaker.State.OPEN, circuitBreakerRegistry.getCircuitBreaker(HANDLER_A).getState());
+            val timer = meterRegistry.find("cas.authentication.handler").tag("handler", HANDLER_A).tag("outcome", "timeout").timer();
+            assertNotNull(timer);
+            assertTrue(timer.takeSnapshot().histogramCounts().length > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void verifyAuthenticateConcurrentlyWithOpenCircuitBreaker() throws Exception {
+        val handlerA = newMockHandler(HANDLER_A, true);
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(handlerA, null);
+        map.put(newMockHandler(HANDLER_B, false), null);
+
+        val authenticationExecutionPlan = (DefaultAuthenticationEventExecutionPlan) getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.setAuthenticationHandlerExecutionMode(AuthenticationHandlerExecutionMode.CONCURRENT);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan, false, applicationContext);
+        val executor = Executors.newFixedThreadPool(2);
+        try {
+            val circuitBreakerRegistry = new AuthenticationHandlerCircuitBreakerRegistry(50, 1, 1, Duration.ofMinutes(1), Clock.systemUTC());
+            circuitBreakerRegistry.getCircuitBreaker(HANDLER_A).onFailure();
+            val meterRegistry = new SimpleMeterRegistry();
+            manager.setAuthenticationHandlerExecutor(executor);
+            manager.setCircuitBreakerRegistry(circuitBreakerRegistry);
+            manager.setMeterRegistry(meterRegistry);
+            val testTransaction = new DefaultAuthenticationTransactionFactory()
+                .newTransaction(CoreAuthenticationTestUtils.getService(), mock(Credential.class, withSettings().serializable()));
+            val ex = assertThrows(AuthenticationException.class, () -> manager.authenticate(testTransaction));
+            assertTrue(ex.getHandlerErrors().get(HANDLER_A) instanceof PreventedException);
+            verify(handlerA, never()).authenticate(any(Credential.class));
+            val timer = meterRegistry.find("cas.authentication.handler").tag("handler", HANDLER_A).tag("outcome", "short-circuited").timer();
+            assertNotNull(timer);
+            assertEquals(0, timer.takeSnapshot().histogramCounts().length);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void verifyAuthenticateConcurrentlyInterrupted() {
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(newSlowHandler(HANDLER_A), null);
+        map.put(newSlowHandler(HANDLER_B), null);
+
+        val authenticationExecutionPlan = (DefaultAuthenticationEventExecutionPlan) getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.setAuthenticationHandlerExecutionMode(AuthenticationHandlerExecutionMode.CONCURRENT);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan, false, applicationContext);
+        val executor = Executors.newFixedThreadPool(2);
+        try {
+            val circuitBreakerRegistry = new AuthenticationHandlerCircuitBreakerRegistry(50, 1, 1, Duration.ofMinutes(1), Clock.systemUTC());
+            val meterRegistry = new SimpleMeterRegistry();
+            manager.setAuthenticationHandlerExecutor(executor);
+            manager.setCircuitBreakerRegistry(circuitBreakerRegistry);
+            manager.setMeterRegistry(meterRegistry);
+            val testTransaction = new DefaultAuthenticationTransactionFactory()
+                .newTransaction(CoreAuthenticationTestUtils.getService(), mock(Credential.class, withSettings().serializable()));
+            Thread.currentThread().interrupt();
+            assertThrows(AuthenticationException.class, () -> manager.authenticate(testTransaction));
+            assertTrue(Thread.interrupted());
+            assertEquals(AuthenticationHandlerCircuitBreaker.State.CLOSED, circuitBreakerRegistry.getCircuitBreaker(HANDLER_A).getState());
+            assertEquals(AuthenticationHandlerCircuitBreaker.State.CLOSED, circuitBreakerRegistry.getCircuitBreaker(HANDLER_B).getState());
+            assertNull(meterRegistry.find("cas.authentication.handler").tag("outcome", "timeout").timer());
+            assertNotNull(meterRegistry.find("cas.authentication.handler").tag("outcome", "interrupted").timer());
+        } finally {
+            Thread.interrupted();
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void verifyAuthenticateAnySuccess() {
         val map = new HashMap<AuthenticationHandler, PrincipalResolver>();
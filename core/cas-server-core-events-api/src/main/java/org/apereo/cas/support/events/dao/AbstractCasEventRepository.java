@@ -14,7 +14,10 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -54,11 +57,26 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
     public void save(final CasEvent event) throws Exception {
         if (getEventRepositoryFilter().shouldSaveEvent(event)) {
             saveInternal(event);
+            publishAuditEvent(event);
+        }
+    }
 
-            if (applicationEventPublisher != null) {
-                val auditEvent = new AuditEvent(event.getPrincipalId(), event.getType(), (Map) event.getProperties());
-                applicationEventPublisher.publishEvent(new AuditApplicationEvent(auditEvent));
-            }
+    @Override
+    public void saveAll(final Collection<? extends CasEvent> events) throws Exception {
+        val eventsToSave = events
+            .stream()
+            .filter(getEventRepositoryFilter()::shouldSaveEvent)
+            .collect(Collectors.<CasEvent>toList());
+        if (!eventsToSave.isEmpty()) {
+            saveAllInternal(eventsToSave);
+            eventsToSave.forEach(this::publishAuditEvent);
+        }
+    }
+
+    private void publishAuditEvent(final CasEvent event) {
+        if (applicationEventPublisher != null) {
+            val auditEvent = new AuditEvent(event.getPrincipalId(), event.getType(), (Map) event.getProperties());
+            applicationEventPublisher.publishEvent(new AuditApplicationEvent(auditEvent));
         }
     }
 
@@ -129,4 +147,17 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
      * @throws Exception the exception
      */
     public abstract CasEvent saveInternal(CasEvent event) throws Exception;
+
+    /**
+     * Save all events that pass the repository filter.
+     * The default implementation saves events one at a time.
+     *
+     * @param events the events
+     * @throws Exception the exception
+     */
+    protected void saveAllInternal(final List<CasEvent> events) throws Exception {
+        for (val event : events) {
+            saveInternal(event);
+        }
+    }
 }
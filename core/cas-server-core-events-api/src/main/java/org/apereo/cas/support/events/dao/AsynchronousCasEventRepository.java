@@ -0,0 +1,189 @@
+package org.apereo.cas.support.events.dao;
+
+import org.apereo.cas.configuration.model.core.events.AsynchronousEventsProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.CasEventRepositoryFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link AsynchronousCasEventRepository} that places events in a bounded queue
+ * and saves them to the underlying repository in batches on a background thread,
+ * either once a batch is full or when the flush interval elapses.
+ * Events that do not fit in the queue are dropped and counted.
+ * All read operations are passed through to the underlying repository.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@Getter
+public class AsynchronousCasEventRepository implements CasEventRepository, DisposableBean {
+    /**
+     * Gauge that reports the number of queued events.
+     */
+    public static final String METRIC_QUEUE_DEPTH = "cas.events.queue.depth";
+
+    /**
+     * Counter for events that were dropped because the queue was full.
+     */
+    public static final String METRIC_DROPPED_EVENTS = "cas.events.dropped";
+
+    /**
+     * Counter for events that could not be saved to the underlying repository.
+     */
+    public static final String METRIC_FAILED_EVENTS = "cas.events.failed";
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final CasEventRepository casEventRepository;
+
+    private final BlockingQueue<CasEvent> queue;
+
+    private final int batchSize;
+
+    private final ScheduledExecutorService executor;
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final Counter droppedEvents;
+
+    private final Counter failedEvents;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Gauge queueDepth;
+
+    public AsynchronousCasEventRepository(final CasEventRepository casEventRepository,
+                                          final AsynchronousEventsProperties properties,
+                                          final MeterRegistry meterRegistry) {
+        this.casEventRepository = casEventRepository;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.batchSize = Math.max(1, properties.getBatchSize());
+
+        val threadFactory = new CustomizableThreadFactory("cas-events-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        val interval = Beans.newDuration(properties.getFlushInterval()).toMillis();
+        this.executor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+
+        this.meterRegistry = meterRegistry;
+        this.queueDepth = Gauge.builder(METRIC_QUEUE_DEPTH, queue, Collection::size).register(meterRegistry);
+        this.droppedEvents = Counter.builder(METRIC_DROPPED_EVENTS).register(meterRegistry);
+        this.failedEvents = Counter.builder(METRIC_FAILED_EVENTS).register(meterRegistry);
+    }
+
+    @Override
+    public CasEventRepositoryFilter getEventRepositoryFilter() {
+        return casEventRepository.getEventRepositoryFilter();
+    }
+
+    @Override
+    public void save(final CasEvent event) {
+        if (!queue.offer(event)) {
+            droppedEvents.increment();
+            LOGGER.warn("Event queue is full with [{}] events; event [{}] for [{}] is dropped",
+                queue.size(), event.getType(), event.getPrincipalId());
+            return;
+        }
+        if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    @Override
+    public void saveAll(final Collection<? extends CasEvent> events) {
+        events.forEach(this::save);
+    }
+
+    /**
+     * Save all queued events to the underlying repository in batches.
+     */
+    public void flush() {
+        val batch = new ArrayList<CasEvent>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                LOGGER.trace("Saving batch of [{}] events", batch.size());
+                casEventRepository.saveAll(batch);
+            } catch (final Throwable e) {
+                failedEvents.increment(batch.size());
+                LOGGER.error("Unable to save batch of [{}] events: [{}]", batch.size(), e.getMessage());
+                LOGGER.debug(e.getMessage(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            LOGGER.warn("Timed out waiting for queued events to be saved");
+        }
+        flush();
+        meterRegistry.remove(queueDepth);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> load() {
+        return casEventRepository.load();
+    }
+
+    @Override
+    public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
+        return casEventRepository.load(dateTime);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
+        return casEventRepository.getEventsOfTypeForPrincipal(type, principal);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
+                                                                  final ZonedDateTime dateTime) {
+        return casEventRepository.getEventsOfTypeForPrincipal(type, principal, dateTime);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type) {
+        return casEventRepository.getEventsOfType(type);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
+        return casEventRepository.getEventsOfType(type, dateTime);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
+        return casEventRepository.getEventsForPrincipal(id);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
+        return casEventRepository.getEventsForPrincipal(id, dateTime);
+    }
+}
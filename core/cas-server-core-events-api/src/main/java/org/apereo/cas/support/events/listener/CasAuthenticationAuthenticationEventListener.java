@@ -5,6 +5,7 @@ import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.authentication.CasAuthenticationPolicyFailureEvent;
 import org.apereo.cas.support.events.authentication.CasAuthenticationTransactionFailureEvent;
 import org.apereo.cas.support.events.authentication.adaptive.CasRiskyAuthenticationDetectedEvent;
+import org.apereo.cas.support.events.dao.AsynchronousCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
 import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
 import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketDestroyedEvent;
@@ -17,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.time.Instant;
 
@@ -31,7 +33,7 @@ import java.time.Instant;
 @RequiredArgsConstructor
 @Getter
 @Slf4j
-public class CasAuthenticationAuthenticationEventListener implements CasAuthenticationEventListener {
+public class CasAuthenticationAuthenticationEventListener implements CasAuthenticationEventListener, DisposableBean {
 
     private final CasEventRepository casEventRepository;
 
@@ -98,4 +100,11 @@ public class CasAuthenticationAuthenticationEventListener implements CasAuthenti
         dto.setPrincipalId(event.getAuthentication().getPrincipal().getId());
         this.casEventRepository.save(dto);
     }
+
+    @Override
+    public void destroy() throws Exception {
+        if (casEventRepository instanceof AsynchronousCasEventRepository) {
+            ((AsynchronousCasEventRepository) casEventRepository).destroy();
+        }
+    }
 }
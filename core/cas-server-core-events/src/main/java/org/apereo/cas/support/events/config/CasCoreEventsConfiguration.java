@@ -3,6 +3,7 @@ package org.apereo.cas.support.events.config;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.AsynchronousCasEventRepository;
 import org.apereo.cas.support.events.dao.NoOpCasEventRepository;
 import org.apereo.cas.support.events.listener.CasAuthenticationAuthenticationEventListener;
 import org.apereo.cas.support.events.listener.CasAuthenticationEventListener;
@@ -12,6 +13,10 @@ import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 import org.apereo.cas.util.text.MessageSanitizer;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -45,10 +50,19 @@ public class CasCoreEventsConfiguration {
             final MessageSanitizer messageSanitizer,
             final ConfigurableApplicationContext applicationContext,
             @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) throws Exception {
+            final CasEventRepository casEventRepository,
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            final CasConfigurationProperties casProperties) throws Exception {
             return BeanSupplier.of(CasAuthenticationEventListener.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
-                .supply(() -> new CasAuthenticationAuthenticationEventListener(casEventRepository, messageSanitizer))
+                .supply(() -> {
+                    val asynchronous = casProperties.getEvents().getCore().getAsynchronous();
+                    val eventRepository = asynchronous.isEnabled()
+                        ? new AsynchronousCasEventRepository(casEventRepository, asynchronous,
+                            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry))
+                        : casEventRepository;
+                    return new CasAuthenticationAuthenticationEventListener(eventRepository, messageSanitizer);
+                })
                 .otherwiseProxy()
                 .get();
         }
@@ -1,5 +1,6 @@
 package org.apereo.cas;
 
+import org.apereo.cas.support.events.AsynchronousCasEventRepositoryTests;
 import org.apereo.cas.support.events.CasAuthenticationEventListenerTests;
 import org.apereo.cas.support.events.CasEventsReportEndpointTests;
 
@@ -13,6 +14,7 @@ import org.junit.platform.suite.api.Suite;
  * @since 6.2.0
  */
 @SelectClasses({
+    AsynchronousCasEventRepositoryTests.class,
     CasAuthenticationEventListenerTests.class,
     CasEventsReportEndpointTests.class
 })
@@ -0,0 +1,100 @@
+package org.apereo.cas.support.events;
+
+import org.apereo.cas.configuration.model.core.events.AsynchronousEventsProperties;
+import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
+import org.apereo.cas.support.events.dao.AsynchronousCasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AsynchronousCasEventRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Events")
+public class AsynchronousCasEventRepositoryTests {
+    @Test
+    public void verifyEventsSavedInBatches() throws Exception {
+        val delegate = new BatchRecordingCasEventRepository();
+        val properties = new AsynchronousEventsProperties()
+            .setBatchSize(2)
+            .setFlushInterval("PT1H");
+        val repository = new AsynchronousCasEventRepository(delegate, properties, new SimpleMeterRegistry());
+        repository.save(newCasEvent("casuser1"));
+        repository.save(newCasEvent("casuser2"));
+        await().untilAsserted(() -> assertEquals(2, delegate.load().count()));
+        assertEquals(List.of(2), delegate.getBatches());
+
+        repository.save(newCasEvent("casuser3"));
+        repository.destroy();
+        assertEquals(3, delegate.load().count());
+        assertEquals(List.of(2, 1), delegate.getBatches());
+    }
+
+    @Test
+    public void verifyEventsDroppedWhenQueueIsFull() throws Exception {
+        val delegate = new BatchRecordingCasEventRepository();
+        val properties = new AsynchronousEventsProperties()
+            .setQueueCapacity(1)
+            .setBatchSize(10)
+            .setFlushInterval("PT1H");
+        val meterRegistry = new SimpleMeterRegistry();
+        val repository = new AsynchronousCasEventRepository(delegate, properties, meterRegistry);
+        repository.save(newCasEvent("casuser1"));
+        repository.save(newCasEvent("casuser2"));
+        assertEquals(1, meterRegistry.get(AsynchronousCasEventRepository.METRIC_QUEUE_DEPTH).gauge().value());
+        assertEquals(1, meterRegistry.get(AsynchronousCasEventRepository.METRIC_DROPPED_EVENTS).counter().count());
+        repository.destroy();
+        assertEquals(1, delegate.load().count());
+    }
+
+    private static CasEvent newCasEvent(final String principal) {
+        val event = new CasEvent();
+        event.setType("type");
+        event.setPrincipalId(principal);
+        return event;
+    }
+
+    private static final class BatchRecordingCasEventRepository extends AbstractCasEventRepository {
+        private final List<CasEvent> events = new CopyOnWriteArrayList<>();
+
+        private final List<Integer> batches = new CopyOnWriteArrayList<>();
+
+        BatchRecordingCasEventRepository() {
+            super(CasEventRepositoryFilter.noOp());
+        }
+
+        @Override
+        public CasEvent saveInternal(final CasEvent event) {
+            events.add(event);
+            return event;
+        }
+
+        @Override
+        protected void saveAllInternal(final List<CasEvent> events) {
+            batches.add(events.size());
+            this.events.addAll(events);
+        }
+
+        @Override
+        public Stream<? extends CasEvent> load() {
+            return events.stream();
+        }
+
+        List<Integer> getBatches() {
+            return batches;
+        }
+    }
+}
@@ -56,6 +56,14 @@ public abstract class AbstractPoolHealthIndicator extends AbstractHealthIndicato
             .withDetail("name", getClass().getSimpleName())
             .withDetail("activeCount", getActiveCount())
             .withDetail("idleCount", getIdleCount());
+
+        val maxSize = getMaxSize();
+        if (maxSize > 0) {
+            val activeCount = Math.max(getActiveCount(), 0);
+            poolBuilder
+                .withDetail("maxSize", maxSize)
+                .withDetail("utilization", (double) activeCount / maxSize);
+        }
     }
 
     /**
@@ -95,6 +103,15 @@ public abstract class AbstractPoolHealthIndicator extends AbstractHealthIndicato
         return -1;
     }
 
+    /**
+     * Gets the maximum number of resources the pool may hold.
+     *
+     * @return Maximum pool size, or a non-positive value if unknown.
+     */
+    protected int getMaxSize() {
+        return -1;
+    }
+
     private static class Validator implements Callable<Health.Builder> {
         private final AbstractPoolHealthIndicator monitor;
 
@@ -19,7 +19,12 @@ import org.springframework.context.ApplicationEvent;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -43,6 +48,15 @@ public abstract class AbstractServicesManager implements ServicesManager {
      */
     protected final ServicesManagerConfigurationContext configurationContext;
 
+    /**
+     * Snapshot of indexed services, keyed by index name and then by index key.
+     * The snapshot is replaced as a whole whenever services are loaded, saved or deleted
+     * and remains undefined until services are loaded, in which case lookups fall back
+     * to examining all services.
+     */
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<Map<String, Map<String, List<RegisteredService>>>> indexedServices = new AtomicReference<>();
+
     private static Predicate<RegisteredService> getRegisteredServicesFilteringPredicate(
         final Predicate<RegisteredService>... p) {
         val predicates = Stream.of(p).collect(Collectors.toCollection(ArrayList::new));
@@ -59,6 +73,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         publishEvent(new CasRegisteredServicePreSaveEvent(this, registeredService));
         val r = configurationContext.getServiceRegistry().save(registeredService);
         cacheRegisteredService(r);
+        indexRegisteredService(r, true);
         saveInternal(registeredService);
 
         if (publishEvent) {
@@ -76,6 +91,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             if (registeredService != null) {
                 publishEvent(new CasRegisteredServicePreSaveEvent(this, registeredService));
                 cacheRegisteredService(registeredService);
+                indexRegisteredService(registeredService, true);
                 saveInternal(registeredService);
                 publishEvent(new CasRegisteredServiceSavedEvent(this, registeredService));
                 return registeredService;
@@ -91,6 +107,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         configurationContext.getServiceRegistry().save(resultingStream)
             .forEach(r -> {
                 cacheRegisteredService(r);
+                indexRegisteredService(r, true);
                 saveInternal(r);
                 publishEvent(new CasRegisteredServiceSavedEvent(this, r));
             });
@@ -100,6 +117,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
     public synchronized void deleteAll() {
         configurationContext.getServicesCache().asMap().forEach((k, v) -> delete(v));
         configurationContext.getServicesCache().invalidateAll();
+        indexedServices.set(null);
         publishEvent(new CasRegisteredServicesDeletedEvent(this));
     }
 
@@ -115,6 +133,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             publishEvent(new CasRegisteredServicePreDeleteEvent(this, service));
             configurationContext.getServiceRegistry().delete(service);
             configurationContext.getServicesCache().invalidate(service.getId());
+            indexRegisteredService(service, false);
             deleteInternal(service);
             publishEvent(new CasRegisteredServiceDeletedEvent(this, service));
         }
@@ -302,6 +321,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             }, Function.identity(), (r, s) -> s));
         configurationContext.getServicesCache().invalidateAll();
         configurationContext.getServicesCache().putAll(servicesMap);
+        indexRegisteredServices(servicesMap.values());
         loadInternal();
         publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices()));
         evaluateExpiredServiceDefinitions();
@@ -315,6 +335,48 @@ public abstract class AbstractServicesManager implements ServicesManager {
         return configurationContext.getServiceRegistry().size();
     }
 
+    @Override
+    public Optional<Collection<RegisteredService>> findServicesByIndex(final String indexName, final String query) {
+        val snapshot = indexedServices.get();
+        val indexedEntries = snapshot == null ? null : snapshot.get(indexName);
+        if (indexedEntries == null || StringUtils.isBlank(query)) {
+            return Optional.empty();
+        }
+        val candidates = configurationContext.getRegisteredServiceIndexes()
+            .stream()
+            .filter(index -> index.getName().equals(indexName))
+            .findFirst()
+            .map(index -> index.getLookupKeys(query)
+                .stream()
+                .map(indexedEntries::get)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .distinct()
+                .collect(Collectors.toList()))
+            .orElseGet(List::of);
+        if (candidates.isEmpty()) {
+            LOGGER.trace("No indexed services found for [{}] in [{}]; falling back to the registry", query, indexName);
+            return Optional.empty();
+        }
+        val servicesCache = configurationContext.getServicesCache();
+        val cachedCandidates = candidates
+            .stream()
+            .map(service -> servicesCache.getIfPresent(service.getId()))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        if (cachedCandidates.size() != candidates.size()) {
+            LOGGER.trace("Indexed services for [{}] in [{}] are no longer cached; falling back to the registry", query, indexName);
+            reindexCachedServices();
+            return Optional.empty();
+        }
+        return Optional.of(cachedCandidates
+            .stream()
+            .filter(this::validateAndFilterServiceByEnvironment)
+            .sorted()
+            .peek(RegisteredService::initialize)
+            .collect(Collectors.toList()));
+    }
+
     /**
      * Gets candidate services to match the service id.
      *
@@ -353,6 +415,59 @@ public abstract class AbstractServicesManager implements ServicesManager {
     protected void loadInternal(final RegisteredService service) {
     }
 
+    private void indexRegisteredServices(final Collection<RegisteredService> services) {
+        val snapshot = new HashMap<String, Map<String, List<RegisteredService>>>();
+        configurationContext.getRegisteredServiceIndexes().forEach(index -> {
+            val indexedEntries = new HashMap<String, List<RegisteredService>>();
+            services.stream()
+                .filter(index::supports)
+                .forEach(service -> index.getIndexKeys(service)
+                    .forEach(key -> indexedEntries.computeIfAbsent(key, k -> new ArrayList<>()).add(service)));
+            snapshot.put(index.getName(), indexedEntries);
+            LOGGER.trace("Indexed [{}] key(s) for [{}]", indexedEntries.size(), index.getName());
+        });
+        indexedServices.set(snapshot);
+    }
+
+    /**
+     * Rebuild the index from the services cache once indexed entries have expired,
+     * so the index never outlives the cache entries it points to. An empty cache leaves the index
+     * as is; lookups keep falling back to the registry until the cache is repopulated.
+     */
+    private void reindexCachedServices() {
+        val servicesCache = configurationContext.getServicesCache();
+        servicesCache.cleanUp();
+        val cachedServices = new ArrayList<>(servicesCache.asMap().values());
+        if (!cachedServices.isEmpty()) {
+            indexRegisteredServices(cachedServices);
+        }
+    }
+
+    private void indexRegisteredService(final RegisteredService service, final boolean add) {
+        indexedServices.updateAndGet(current -> {
+            if (current == null) {
+                return null;
+            }
+            val snapshot = new HashMap<String, Map<String, List<RegisteredService>>>(current.size());
+            configurationContext.getRegisteredServiceIndexes().forEach(index -> {
+                val indexedEntries = new HashMap<String, List<RegisteredService>>(current.getOrDefault(index.getName(), Map.of()));
+                indexedEntries.replaceAll((key, entries) -> entries.stream().anyMatch(entry -> entry.getId() == service.getId())
+                    ? entries.stream().filter(entry -> entry.getId() != service.getId()).collect(Collectors.toList())
+                    : entries);
+                indexedEntries.values().removeIf(List::isEmpty);
+                if (add && index.supports(service)) {
+                    index.getIndexKeys(service).forEach(key -> {
+                        val entries = new ArrayList<>(indexedEntries.getOrDefault(key, List.of()));
+                        entries.add(service);
+                        indexedEntries.put(key, entries);
+                    });
+                }
+                snapshot.put(index.getName(), indexedEntries);
+            });
+            return snapshot;
+        });
+    }
+
     private void cacheRegisteredService(final RegisteredService service) {
         if (configurationContext.getServicesCache().getIfPresent(service.getId()) == null) {
             configurationContext.getServicesCache().put(service.getId(), service);
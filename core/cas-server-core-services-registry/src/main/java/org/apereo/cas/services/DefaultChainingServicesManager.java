@@ -206,6 +206,20 @@ public class DefaultChainingServicesManager implements ChainingServicesManager {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<Collection<RegisteredService>> findServicesByIndex(final String indexName, final String query) {
+        val results = serviceManagers.stream()
+            .map(manager -> manager.findServicesByIndex(indexName, query))
+            .collect(Collectors.toList());
+        if (results.isEmpty() || results.stream().anyMatch(Optional::isEmpty)) {
+            return Optional.empty();
+        }
+        return Optional.of(results.stream()
+            .flatMap(result -> result.get().stream())
+            .sorted()
+            .collect(Collectors.toList()));
+    }
+
     private Optional<ServicesManager> findServicesManager(final RegisteredService service) {
         return serviceManagers.stream().filter(s -> s.supports(service)).findFirst();
     }
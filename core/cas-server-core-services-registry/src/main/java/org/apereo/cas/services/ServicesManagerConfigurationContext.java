@@ -31,4 +31,7 @@ public class ServicesManagerConfigurationContext {
 
     @Builder.Default
     private final List<ServicesManagerRegisteredServiceLocator> registeredServiceLocators = new ArrayList<>();
+
+    @Builder.Default
+    private final List<ServicesManagerRegisteredServiceIndex> registeredServiceIndexes = new ArrayList<>();
 }
@@ -35,6 +35,7 @@ import org.apereo.cas.services.ServiceRegistryListener;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
 import org.apereo.cas.services.ServicesManagerExecutionPlanConfigurer;
+import org.apereo.cas.services.ServicesManagerRegisteredServiceIndex;
 import org.apereo.cas.services.ServicesManagerRegisteredServiceLocator;
 import org.apereo.cas.services.ServicesManagerScheduledLoader;
 import org.apereo.cas.services.domain.DefaultDomainAwareServicesManager;
@@ -264,6 +265,7 @@ public class CasCoreServicesConfiguration {
             @Qualifier("servicesManagerCache")
             final Cache<Long, RegisteredService> servicesManagerCache,
             final List<ServicesManagerRegisteredServiceLocator> servicesManagerRegisteredServiceLocators,
+            final ObjectProvider<List<ServicesManagerRegisteredServiceIndex>> servicesManagerRegisteredServiceIndexes,
             final Environment environment,
             final ConfigurableApplicationContext applicationContext) {
             AnnotationAwareOrderComparator.sortIfNecessary(servicesManagerRegisteredServiceLocators);
@@ -274,6 +276,7 @@ public class CasCoreServicesConfiguration {
                 .environments(activeProfiles)
                 .servicesCache(servicesManagerCache)
                 .registeredServiceLocators(servicesManagerRegisteredServiceLocators)
+                .registeredServiceIndexes(servicesManagerRegisteredServiceIndexes.getIfAvailable(ArrayList::new))
                 .build();
         }
 
@@ -17,11 +17,14 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 import java.util.stream.IntStream;
 
+import static org.awaitility.Awaitility.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -60,6 +63,43 @@ public abstract class AbstractServicesManagerTests<T extends ServicesManager> {
         servicesManager.load();
     }
 
+    @Test
+    public void verifyFindByIndex() {
+        assertTrue(servicesManager.findServicesByIndex(UUID.randomUUID().toString(), TEST).isEmpty());
+        val service = new CasRegisteredService();
+        service.setId(1150);
+        service.setName("IndexedService");
+        service.setServiceId(TEST);
+        servicesManager.save(service);
+        val result = servicesManager.findServicesByIndex(ServiceNameIndex.NAME, "indexedservice");
+        assertTrue(result.isPresent());
+        assertEquals(List.of(service), new ArrayList<>(result.get()));
+
+        servicesManager.delete(service);
+        assertTrue(servicesManager.findServicesByIndex(ServiceNameIndex.NAME, "indexedservice").isEmpty());
+        servicesManager.deleteAll();
+        assertTrue(servicesManager.findServicesByIndex(ServiceNameIndex.NAME, "indexedservice").isEmpty());
+        servicesManager.load();
+        assertTrue(servicesManager.findServicesByIndex(ServiceNameIndex.NAME, "indexedservice").isPresent());
+    }
+
+    @Test
+    public void verifyFindByIndexExpiresWithServicesCache() {
+        val service = new CasRegisteredService();
+        service.setId(1175);
+        service.setName("ExpiringIndexedService");
+        service.setServiceId(TEST);
+        servicesManager.save(service);
+        assertTrue(servicesManager.findServicesByIndex(ServiceNameIndex.NAME, "expiringindexedservice").isPresent());
+
+        serviceRegistry.delete(service);
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+            assertTrue(servicesManager.findServicesByIndex(ServiceNameIndex.NAME, "expiringindexedservice").isEmpty()));
+        assertTrue(servicesManager.getAllServicesOfType(CasRegisteredService.class)
+            .stream()
+            .noneMatch(registeredService -> registeredService.getId() == service.getId()));
+    }
+
     @Test
     public void verifySaveAndGet() {
         val services = new CasRegisteredService();
@@ -197,6 +237,7 @@ public abstract class AbstractServicesManagerTests<T extends ServicesManager> {
             .applicationContext(applicationContext)
             .environments(new HashSet<>(0))
             .registeredServiceLocators(List.of(new DefaultServicesManagerRegisteredServiceLocator()))
+            .registeredServiceIndexes(List.of(new ServiceNameIndex()))
             .servicesCache(Caffeine.newBuilder().expireAfterWrite(Duration.ofSeconds(2)).build())
             .build();
     }
@@ -212,4 +253,28 @@ public abstract class AbstractServicesManagerTests<T extends ServicesManager> {
             .stream()
             .anyMatch(r -> serviceId != null ? r.getServiceId().equals(serviceId) : r.getId() == id);
     }
+
+    private static final class ServiceNameIndex implements ServicesManagerRegisteredServiceIndex {
+        static final String NAME = "serviceName";
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public boolean supports(final RegisteredService registeredService) {
+            return registeredService.getName() != null;
+        }
+
+        @Override
+        public Collection<String> getIndexKeys(final RegisteredService registeredService) {
+            return List.of(registeredService.getName().toLowerCase(Locale.ENGLISH));
+        }
+
+        @Override
+        public Collection<String> getLookupKeys(final String query) {
+            return List.of(query.toLowerCase(Locale.ENGLISH));
+        }
+    }
 }
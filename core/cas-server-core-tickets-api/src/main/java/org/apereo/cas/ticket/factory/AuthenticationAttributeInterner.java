@@ -0,0 +1,107 @@
+package org.apereo.cas.ticket.factory;
+
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.AuthenticationHandlerExecutionResult;
+import org.apereo.cas.authentication.DefaultAuthenticationBuilder;
+import org.apereo.cas.authentication.DefaultAuthenticationHandlerExecutionResult;
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.PrincipalFactory;
+import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
+import org.apereo.cas.authentication.principal.SimplePrincipal;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is {@link AuthenticationAttributeInterner} that deduplicates attribute names
+ * and string attribute values of an authentication and its principal(s), so that
+ * the many ticket-granting tickets held by an in-memory ticket registry share a single
+ * copy of repeated values such as attribute names, group memberships or authentication methods.
+ * Interned attributes are collected into new maps and value lists sized to their contents;
+ * the maps handed over by the caller are never modified. Principals other than
+ * {@link SimplePrincipal} cannot be rebuilt here and keep their attributes as they are.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@UtilityClass
+public class AuthenticationAttributeInterner {
+    private static final Interner<String> INTERNER = Interners.newWeakInterner();
+
+    private static final PrincipalFactory PRINCIPAL_FACTORY = PrincipalFactoryUtils.newPrincipalFactory();
+
+    /**
+     * Intern attributes of the authentication, its principal and the principals of successful handler results.
+     *
+     * @param authentication the authentication
+     * @return a new authentication carrying the interned attributes
+     */
+    public static Authentication intern(final Authentication authentication) {
+        if (authentication == null) {
+            return null;
+        }
+        val successes = new LinkedHashMap<String, AuthenticationHandlerExecutionResult>(authentication.getSuccesses().size());
+        authentication.getSuccesses().forEach((name, result) -> successes.put(name, intern(result)));
+        return DefaultAuthenticationBuilder.newInstance(authentication)
+            .setPrincipal(intern(authentication.getPrincipal()))
+            .setAttributes(intern(authentication.getAttributes()))
+            .setSuccesses(successes)
+            .build();
+    }
+
+    /**
+     * Intern attribute names and string values into a new map.
+     *
+     * @param attributes the attributes
+     * @return the interned attributes
+     */
+    public static Map<String, List<Object>> intern(final Map<String, List<Object>> attributes) {
+        if (attributes == null) {
+            return new LinkedHashMap<>(0);
+        }
+        val interned = new LinkedHashMap<String, List<Object>>(attributes.size());
+        attributes.forEach((name, values) -> interned.put(intern(name), intern(values)));
+        return interned;
+    }
+
+    /**
+     * Intern string.
+     *
+     * @param value the value
+     * @return the shared instance
+     */
+    public static String intern(final String value) {
+        return value == null ? null : INTERNER.intern(value);
+    }
+
+    private static Principal intern(final Principal principal) {
+        if (principal == null || principal.getClass() != SimplePrincipal.class) {
+            return principal;
+        }
+        return PRINCIPAL_FACTORY.createPrincipal(intern(principal.getId()), intern(principal.getAttributes()));
+    }
+
+    private static AuthenticationHandlerExecutionResult intern(final AuthenticationHandlerExecutionResult result) {
+        if (result == null || result.getClass() != DefaultAuthenticationHandlerExecutionResult.class) {
+            return result;
+        }
+        return new DefaultAuthenticationHandlerExecutionResult(result.getHandlerName(),
+            result.getCredentialMetaData(), intern(result.getPrincipal()), result.getWarnings());
+    }
+
+    private static List<Object> intern(final List<Object> values) {
+        if (values == null) {
+            return null;
+        }
+        val interned = new ArrayList<Object>(values.size());
+        values.forEach(value -> interned.add(value instanceof String ? intern((String) value) : value));
+        return interned;
+    }
+}
@@ -12,7 +12,9 @@ import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
@@ -48,6 +50,14 @@ public class DefaultTicketGrantingTicketFactory implements TicketGrantingTicketF
      */
     protected final ServicesManager servicesManager;
 
+    /**
+     * Whether attribute names and values of the authentication should be interned
+     * so that tickets share a single copy of repeated values.
+     */
+    @Getter
+    @Setter
+    private boolean internAttributes = true;
+
     @Override
     public <T extends TicketGrantingTicket> T create(final Authentication authentication,
                                                      final Service service,
@@ -76,7 +86,8 @@ public class DefaultTicketGrantingTicketFactory implements TicketGrantingTicketF
                                                                final Service service,
                                                                final Class<T> clazz) {
         val expirationPolicy = getTicketGrantingTicketExpirationPolicy(service);
-        val result = new TicketGrantingTicketImpl(tgtId, authentication, expirationPolicy);
+        val ticketAuthentication = internAttributes ? AuthenticationAttributeInterner.intern(authentication) : authentication;
+        val result = new TicketGrantingTicketImpl(tgtId, ticketAuthentication, expirationPolicy);
         if (!clazz.isAssignableFrom(result.getClass())) {
             throw new ClassCastException("Result [" + result
                 + " is of type " + result.getClass()
@@ -3,8 +3,6 @@ package org.apereo.cas.ticket.registry;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -20,10 +18,14 @@ import java.util.function.Predicate;
  * @since 5.2.0
  */
 @Slf4j
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegistry {
 
+    protected AbstractMapBasedTicketRegistry() {
+        setSessionCatalog(new DefaultTicketRegistrySessionCatalog());
+    }
+
     protected AbstractMapBasedTicketRegistry(final CipherExecutor cipherExecutor) {
+        this();
         setCipherExecutor(cipherExecutor);
     }
 
@@ -65,6 +67,7 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     public long deleteAll() {
         val size = getMapInstance().size();
         getMapInstance().clear();
+        sessionCatalog.removeAll();
         return size;
     }
 
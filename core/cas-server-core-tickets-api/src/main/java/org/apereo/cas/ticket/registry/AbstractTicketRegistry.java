@@ -7,6 +7,7 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.serialization.SerializationUtils;
 
@@ -22,10 +23,10 @@ import org.jooq.lambda.Unchecked;
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -47,10 +48,16 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
      */
     protected CipherExecutor cipherExecutor;
 
+    /**
+     * The catalog that indexes ticket-granting tickets by principal.
+     */
+    protected TicketRegistrySessionCatalog sessionCatalog = TicketRegistrySessionCatalog.noOp();
+
     @Override
     public void addTicket(final Ticket ticket) throws Exception {
         if (ticket != null && !ticket.isExpired()) {
             addTicketInternal(ticket);
+            addTicketToSessionCatalog(ticket);
         }
     }
 
@@ -92,14 +99,18 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public long countSessionsFor(final String principalId) {
-        val ticketPredicate = (Predicate<Ticket>) t -> {
-            if (t instanceof TicketGrantingTicket) {
-                val ticket = TicketGrantingTicket.class.cast(t);
-                return ticket.getAuthentication().getPrincipal().getId().equalsIgnoreCase(principalId);
-            }
-            return false;
-        };
-        return getTickets(ticketPredicate).count();
+        if (isSessionCatalogEnabled()) {
+            return getCatalogedSessionsFor(principalId).count();
+        }
+        return getTickets(ticket -> isActiveSessionFor(ticket, principalId)).count();
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        if (isSessionCatalogEnabled()) {
+            return getCatalogedSessionsFor(principalId);
+        }
+        return getTickets(ticket -> isActiveSessionFor(ticket, principalId));
     }
 
     @Override
@@ -144,6 +155,7 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         if (deleteSingleTicket(ticket.getId())) {
             count.incrementAndGet();
         }
+        removeTicketFromSessionCatalog(ticket);
         return count.intValue();
     }
 
@@ -320,6 +332,79 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         return this.cipherExecutor != null && this.cipherExecutor.isEnabled();
     }
 
+    /**
+     * Whether sessions should be looked up via the session catalog.
+     * Encrypted registries do not share plain ticket ids with the catalog.
+     *
+     * @return true/false
+     */
+    protected boolean isSessionCatalogEnabled() {
+        return this.sessionCatalog != null && this.sessionCatalog.isEnabled() && !isCipherExecutorEnabled();
+    }
+
+    /**
+     * Record the ticket in the session catalog, if it is a ticket-granting ticket.
+     *
+     * @param ticket the ticket
+     */
+    protected void addTicketToSessionCatalog(final Ticket ticket) {
+        if (ticket instanceof TicketGrantingTicket && isSessionCatalogEnabled()) {
+            try {
+                sessionCatalog.add(getSessionCatalogKey(getPrincipalIdFrom(ticket)), ticket.getId());
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, "Unable to record ticket " + ticket.getId() + " in the session catalog", e);
+            }
+        }
+    }
+
+    /**
+     * Remove the ticket from the session catalog, if it is a ticket-granting ticket.
+     *
+     * @param ticket the ticket
+     */
+    protected void removeTicketFromSessionCatalog(final Ticket ticket) {
+        if (ticket instanceof TicketGrantingTicket && isSessionCatalogEnabled()) {
+            try {
+                sessionCatalog.remove(getSessionCatalogKey(getPrincipalIdFrom(ticket)), ticket.getId());
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, "Unable to remove ticket " + ticket.getId() + " from the session catalog", e);
+            }
+        }
+    }
+
+    /**
+     * Whether the ticket is an unexpired ticket-granting ticket that belongs to the principal.
+     * Principal ids are matched regardless of case, as they are keyed in the session catalog.
+     *
+     * @param ticket      the ticket
+     * @param principalId the principal id
+     * @return true/false
+     */
+    private static boolean isActiveSessionFor(final Ticket ticket, final String principalId) {
+        return ticket instanceof TicketGrantingTicket && !ticket.isExpired()
+            && ((TicketGrantingTicket) ticket).getAuthentication().getPrincipal().getId().equalsIgnoreCase(principalId);
+    }
+
+    private static String getSessionCatalogKey(final String principalId) {
+        return principalId.toLowerCase(Locale.ENGLISH);
+    }
+
+    private Stream<TicketGrantingTicket> getCatalogedSessionsFor(final String principalId) {
+        val catalogKey = getSessionCatalogKey(principalId);
+        return sessionCatalog.getSessionsFor(catalogKey)
+            .stream()
+            .map(ticketId -> {
+                val ticket = getTicket(ticketId);
+                if (ticket == null) {
+                    LOGGER.trace("Ticket [{}] is no longer found in the registry and is removed from the session catalog", ticketId);
+                    sessionCatalog.remove(catalogKey, ticketId);
+                }
+                return ticket;
+            })
+            .filter(ticket -> isActiveSessionFor(ticket, principalId))
+            .map(TicketGrantingTicket.class::cast);
+    }
+
     private Ticket createEncodedTicket(final Ticket ticket) throws Exception {
         LOGGER.debug("Encoding ticket [{}]", ticket);
         val encodedTicketObject = SerializationUtils.serializeAndEncodeObject(this.cipherExecutor, ticket);
@@ -0,0 +1,46 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.val;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link DefaultTicketRegistrySessionCatalog} that keeps
+ * the session catalog in memory, and is suitable for registries
+ * whose state is confined to a single CAS server node.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+public class DefaultTicketRegistrySessionCatalog implements TicketRegistrySessionCatalog {
+
+    private final Map<String, Set<String>> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public void add(final String principalId, final String ticketGrantingTicketId) {
+        sessions.computeIfAbsent(principalId, k -> ConcurrentHashMap.newKeySet()).add(ticketGrantingTicketId);
+    }
+
+    @Override
+    public void remove(final String principalId, final String ticketGrantingTicketId) {
+        sessions.computeIfPresent(principalId, (k, ticketIds) -> {
+            ticketIds.remove(ticketGrantingTicketId);
+            return ticketIds.isEmpty() ? null : ticketIds;
+        });
+    }
+
+    @Override
+    public Set<String> getSessionsFor(final String principalId) {
+        val ticketIds = sessions.get(principalId);
+        return ticketIds == null ? Set.of() : Set.copyOf(ticketIds);
+    }
+
+    @Override
+    public long removeAll() {
+        val size = sessions.size();
+        sessions.clear();
+        return size;
+    }
+}
@@ -285,9 +285,12 @@ public class CasCoreTicketsConfiguration {
             @Qualifier("ticketGrantingTicketUniqueIdGenerator")
             final UniqueTicketIdGenerator ticketGrantingTicketUniqueIdGenerator,
             @Qualifier(ServicesManager.BEAN_NAME)
-            final ServicesManager servicesManager) {
-            return new DefaultTicketGrantingTicketFactory(ticketGrantingTicketUniqueIdGenerator,
+            final ServicesManager servicesManager,
+            final CasConfigurationProperties casProperties) {
+            val factory = new DefaultTicketGrantingTicketFactory(ticketGrantingTicketUniqueIdGenerator,
                 grantingTicketExpirationPolicy, protocolTicketCipherExecutor, servicesManager);
+            factory.setInternAttributes(casProperties.getTicket().getTgt().getCore().isInternAttributes());
+            return factory;
         }
 
     }
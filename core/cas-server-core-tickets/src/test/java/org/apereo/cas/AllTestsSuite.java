@@ -21,6 +21,7 @@ import org.apereo.cas.ticket.expiration.TimeoutExpirationPolicyTests;
 import org.apereo.cas.ticket.expiration.builder.ProxyGrantingTicketExpirationPolicyBuilderTests;
 import org.apereo.cas.ticket.expiration.builder.TicketGrantingTicketExpirationPolicyBuilderTests;
 import org.apereo.cas.ticket.expiration.builder.TransientSessionTicketExpirationPolicyBuilderTests;
+import org.apereo.cas.ticket.factory.AuthenticationAttributeInternerTests;
 import org.apereo.cas.ticket.factory.DefaultProxyGrantingTicketFactoryTests;
 import org.apereo.cas.ticket.factory.DefaultProxyTicketFactoryTests;
 import org.apereo.cas.ticket.factory.DefaultServiceTicketFactoryTests;
@@ -68,6 +69,7 @@ import org.junit.platform.suite.api.Suite;
     DistributedTicketRegistryTests.class,
     Cas10ProxyHandlerTests.class,
     DefaultTicketGrantingTicketFactoryTests.class,
+    AuthenticationAttributeInternerTests.class,
     DefaultEncodedTicketTests.class,
     TransientSessionTicketExpirationPolicyBuilderTests.class,
     ProxyGrantingTicketExpirationPolicyBuilderTests.class,
@@ -0,0 +1,132 @@
+package org.apereo.cas.ticket.factory;
+
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AuthenticationAttributeInternerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Tickets")
+public class AuthenticationAttributeInternerTests {
+    private static Map<String, List<Object>> getAttributes() {
+        val attributes = new HashMap<String, List<Object>>();
+        attributes.put(new String("memberOf".toCharArray()), new ArrayList<>(List.of(
+            new String("cn=staff,ou=groups,dc=example,dc=org".toCharArray()),
+            new String("cn=faculty,ou=groups,dc=example,dc=org".toCharArray()))));
+        attributes.put(new String("affiliation".toCharArray()), new ArrayList<>(List.of(new String("member".toCharArray()), 1)));
+        return attributes;
+    }
+
+    /**
+     * Estimate the shallow heap footprint of the distinct attribute name and value strings
+     * retained by the given authentications, assuming compressed oops and compact latin-1 strings:
+     * a 24-byte string instance plus a 16-byte array header and one byte per character, 8-byte aligned.
+     */
+    private static long estimateStringFootprint(final List<Authentication> authentications) {
+        val strings = Collections.newSetFromMap(new IdentityHashMap<String, Boolean>());
+        authentications.forEach(authentication -> List.of(authentication.getAttributes(), authentication.getPrincipal().getAttributes())
+            .forEach(attributes -> attributes.forEach((name, values) -> {
+                strings.add(name);
+                values.stream().filter(String.class::isInstance).map(String.class::cast).forEach(strings::add);
+            })));
+        return strings.stream().mapToLong(value -> 24 + align(16 + value.length())).sum();
+    }
+
+    private static long align(final long size) {
+        return (size + 7) / 8 * 8;
+    }
+
+    @Test
+    public void verifySharedInstances() {
+        val first = AuthenticationAttributeInterner.intern(CoreAuthenticationTestUtils.getAuthentication(
+            CoreAuthenticationTestUtils.getPrincipal("casuser", getAttributes()), getAttributes()));
+        val second = AuthenticationAttributeInterner.intern(CoreAuthenticationTestUtils.getAuthentication(
+            CoreAuthenticationTestUtils.getPrincipal("casuser", getAttributes()), getAttributes()));
+
+        val firstValues = first.getPrincipal().getAttributes().get("memberOf");
+        val secondValues = second.getPrincipal().getAttributes().get("memberOf");
+        assertEquals(firstValues, secondValues);
+        assertSame(firstValues.get(0), secondValues.get(0));
+        assertSame(first.getAttributes().get("affiliation").get(0), second.getAttributes().get("affiliation").get(0));
+        assertEquals(1, first.getAttributes().get("affiliation").get(1));
+
+        val firstName = first.getPrincipal().getAttributes().keySet().stream().filter("memberOf"::equals).findFirst().orElseThrow();
+        val secondName = second.getPrincipal().getAttributes().keySet().stream().filter("memberOf"::equals).findFirst().orElseThrow();
+        assertSame(firstName, secondName);
+    }
+
+    @Test
+    public void verifyCallerAttributesAreNotModified() {
+        val attributes = Map.<String, List<Object>>of("name", List.of("value"));
+        val interned = AuthenticationAttributeInterner.intern(attributes);
+        assertNotSame(attributes, interned);
+        assertEquals(attributes, interned);
+        assertTrue(AuthenticationAttributeInterner.intern((Map<String, List<Object>>) null).isEmpty());
+        assertNull(AuthenticationAttributeInterner.intern((String) null));
+        assertNull(AuthenticationAttributeInterner.intern((Authentication) null));
+
+        val source = getAttributes();
+        val values = source.get("memberOf");
+        AuthenticationAttributeInterner.intern(source);
+        assertSame(values, source.get("memberOf"));
+    }
+
+    @Test
+    public void verifyFootprint() {
+        val sessions = 100;
+        val raw = new ArrayList<Authentication>();
+        val interned = new ArrayList<Authentication>();
+        IntStream.range(0, sessions).forEach(i -> {
+            raw.add(CoreAuthenticationTestUtils.getAuthentication(
+                CoreAuthenticationTestUtils.getPrincipal("casuser", getAttributes()), getAttributes()));
+            interned.add(AuthenticationAttributeInterner.intern(CoreAuthenticationTestUtils.getAuthentication(
+                CoreAuthenticationTestUtils.getPrincipal("casuser", getAttributes()), getAttributes())));
+        });
+        val rawFootprint = estimateStringFootprint(raw);
+        val internedFootprint = estimateStringFootprint(interned);
+        assertEquals(sessions * estimateStringFootprint(raw.subList(0, 1)), rawFootprint);
+        assertEquals(estimateStringFootprint(interned.subList(0, 1)), internedFootprint);
+        assertTrue(internedFootprint * sessions / 2 < rawFootprint);
+    }
+
+    @Test
+    public void verifySharedAcrossSessions() {
+        val tickets = new ArrayList<TicketGrantingTicketImpl>();
+        for (val id : List.of("TGT-1", "TGT-2")) {
+            val principal = CoreAuthenticationTestUtils.getPrincipal("casuser", getAttributes());
+            val authentication = AuthenticationAttributeInterner.intern(CoreAuthenticationTestUtils.getAuthentication(principal, getAttributes()));
+            tickets.add(new TicketGrantingTicketImpl(id, authentication, NeverExpiresExpirationPolicy.INSTANCE));
+        }
+        val first = tickets.get(0).getAuthentication().getPrincipal().getAttributes();
+        val second = tickets.get(1).getAuthentication().getPrincipal().getAttributes();
+        assertEquals(first.keySet(), second.keySet());
+        first.forEach((name, values) -> {
+            val otherName = second.keySet().stream().filter(name::equals).findFirst().orElseThrow();
+            assertSame(name, otherName);
+            val otherValues = second.get(name);
+            assertNotSame(values, otherValues);
+            IntStream.range(0, values.size())
+                .filter(i -> values.get(i) instanceof String)
+                .forEach(i -> assertSame(values.get(i), otherValues.get(i)));
+        });
+    }
+}
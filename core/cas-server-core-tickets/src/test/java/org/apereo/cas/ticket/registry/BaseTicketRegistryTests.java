@@ -316,6 +316,30 @@ public abstract class BaseTicketRegistryTests {
         assertEquals(Collections.singleton("ST1"), tgtResult.getServices().keySet());
     }
 
+    @RepeatedTest(2)
+    public void verifySaveTicketsAsUnitOfWork() throws Exception {
+        val tgt = new TicketGrantingTicketImpl(
+            ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(),
+            NeverExpiresExpirationPolicy.INSTANCE);
+        ticketRegistry.addTicket(tgt);
+        await().untilAsserted(() -> assertNotNull(ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class)));
+
+        val service = RegisteredServiceTestUtils.getService("TGT_UNIT_OF_WORK_TEST");
+        val st = tgt.grantServiceTicket(serviceTicketId, service, NeverExpiresExpirationPolicy.INSTANCE, false, false);
+        val unitOfWork = new TicketRegistryUnitOfWork()
+            .addTicket(st)
+            .updateTicket(tgt)
+            .updateTicket(tgt);
+        assertEquals(1, unitOfWork.getAddedTickets().size());
+        assertEquals(1, unitOfWork.getUpdatedTickets().size());
+        ticketRegistry.saveTickets(unitOfWork);
+
+        await().untilAsserted(() -> assertNotNull(ticketRegistry.getTicket(st.getId(), ServiceTicket.class)));
+        val tgtResult = ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+        assertEquals(Collections.singleton(serviceTicketId), tgtResult.getServices().keySet());
+    }
+
     @RepeatedTest(2)
     public void verifyDeleteAllExistingTickets() throws Exception {
         assumeTrue(isIterableRegistry());
@@ -15,6 +15,9 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.function.Executable;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.Set;
+
+import static org.awaitility.Awaitility.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -66,4 +69,19 @@ public class CachingTicketRegistryTests extends BaseTicketRegistryTests {
         ticket.markTicketExpired();
         assertNull(registry.getTicket(ticket.getId()));
     }
+
+    @RepeatedTest(1)
+    public void verifyExpiredTicketLeavesSessionCatalog() throws Exception {
+        val registry = new CachingTicketRegistry(CipherExecutor.noOp(),
+            new DirectObjectProvider<>(mock(LogoutManager.class)));
+        val catalog = new DefaultTicketRegistrySessionCatalog();
+        registry.setSessionCatalog(catalog);
+        val ticket = new MockTicketGrantingTicket("casuser");
+        registry.addTicket(ticket);
+        assertEquals(Set.of(ticket.getId()), catalog.getSessionsFor("casuser"));
+        ticket.markTicketExpired();
+        assertNull(registry.getTicket(ticket.getId()));
+        registry.getStorage().cleanUp();
+        await().untilAsserted(() -> assertTrue(catalog.getSessionsFor("casuser").isEmpty()));
+    }
 }
@@ -57,6 +57,36 @@ public class DefaultTicketRegistryTests extends BaseTicketRegistryTests {
         assertEquals(1, count);
     }
 
+    @RepeatedTest(1)
+    public void verifySessionCatalog() throws Exception {
+        val user = "CasUser-" + UUID.randomUUID();
+        val tgt = new MockTicketGrantingTicket(user);
+        val registry = getNewTicketRegistry();
+        registry.addTicket(tgt);
+        assertEquals(1, registry.countSessionsFor(user));
+        try (val results = registry.getSessionsFor(user)) {
+            assertEquals(1, results.count());
+        }
+        assertEquals(1, registry.countSessionsFor(user.toUpperCase()));
+        try (val results = registry.getSessionsFor(user.toLowerCase())) {
+            assertEquals(1, results.count());
+        }
+
+        val expired = new MockTicketGrantingTicket(user);
+        registry.addTicket(expired);
+        assertEquals(2, registry.countSessionsFor(user));
+        expired.markTicketExpired();
+        assertEquals(1, registry.countSessionsFor(user));
+        try (val results = registry.getSessionsFor(user)) {
+            assertEquals(1, results.count());
+        }
+        registry.deleteTicket(tgt.getId());
+        assertEquals(0, registry.countSessionsFor(user));
+        try (val results = registry.getSessionsFor(user)) {
+            assertEquals(0, results.count());
+        }
+    }
+
 
     @RepeatedTest(1)
     public void verifyEncodeFails() throws Exception {
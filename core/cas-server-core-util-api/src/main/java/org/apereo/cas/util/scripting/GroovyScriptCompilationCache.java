@@ -0,0 +1,102 @@
+package org.apereo.cas.util.scripting;
+
+import org.apereo.cas.util.DigestUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import groovy.lang.GroovyClassLoader;
+import groovy.transform.CompileStatic;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+/**
+ * This is {@link GroovyScriptCompilationCache} that holds compiled Groovy script classes,
+ * keyed by the hash of the script body, and shared by all inline scripts.
+ * Scripts are compiled dynamically unless the caller explicitly asks for static compilation,
+ * in which case scripts that do not pass static type checking fail to compile;
+ * callers instantiate the compiled class for each execution with their own binding.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@UtilityClass
+public class GroovyScriptCompilationCache {
+    private static final Duration EXPIRATION_AFTER_ACCESS = Duration.ofHours(8);
+
+    private static final int SCRIPT_NAME_HASH_LENGTH = 16;
+
+    private static final String STATIC_KEY_SUFFIX = ":static";
+
+    private static final Cache<String, Class<?>> CACHE = Caffeine.newBuilder()
+        .initialCapacity(100)
+        .maximumSize(1000)
+        .expireAfterAccess(EXPIRATION_AFTER_ACCESS)
+        .build();
+
+    /**
+     * Compile the script body dynamically, or return the previously compiled class for the same body.
+     *
+     * @param script the script
+     * @return the compiled class
+     */
+    public static Class<?> compile(final String script) {
+        return compile(script, false);
+    }
+
+    /**
+     * Compile the script body, or return the previously compiled class for the same body and compilation mode.
+     *
+     * @param script            the script
+     * @param staticCompilation whether the script should be compiled statically
+     * @return the compiled class
+     */
+    public static Class<?> compile(final String script, final boolean staticCompilation) {
+        val hash = DigestUtils.sha256(script);
+        val key = staticCompilation ? hash + STATIC_KEY_SUFFIX : hash;
+        return CACHE.get(key, k -> compile(script, "Script_" + hash.substring(0, SCRIPT_NAME_HASH_LENGTH), staticCompilation));
+    }
+
+    /**
+     * Number of compiled scripts currently cached.
+     *
+     * @return the size
+     */
+    public static long size() {
+        return CACHE.estimatedSize();
+    }
+
+    /**
+     * Remove all compiled scripts from the cache.
+     */
+    public static void clear() {
+        CACHE.invalidateAll();
+    }
+
+    private static Class<?> compile(final String script, final String scriptName, final boolean staticCompilation) {
+        val configuration = new CompilerConfiguration();
+        if (staticCompilation) {
+            configuration.addCompilationCustomizers(new ASTTransformationCustomizer(CompileStatic.class));
+        }
+        val compiled = parseClass(script, scriptName, configuration);
+        LOGGER.debug("Compiled groovy script [{}] {} from [{}]", scriptName, staticCompilation ? "statically" : "dynamically", script);
+        return compiled;
+    }
+
+    private static Class<?> parseClass(final String script, final String scriptName,
+                                    final CompilerConfiguration configuration) {
+        val parent = GroovyScriptCompilationCache.class.getClassLoader();
+        try (val loader = new GroovyClassLoader(parent, configuration)) {
+            return loader.parseClass(script, scriptName + ".groovy");
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
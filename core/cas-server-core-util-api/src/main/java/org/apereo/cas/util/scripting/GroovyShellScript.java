@@ -5,22 +5,43 @@ import lombok.Getter;
 import lombok.val;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
  * This is {@link GroovyShellScript}.
+ * The script body is compiled once into a class that is shared by all scripts
+ * with the same body; each execution runs a fresh script instance
+ * with the binding variables set by the calling thread.
+ * Scripts are compiled dynamically unless static compilation is explicitly requested.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
  */
 @Getter
 public class GroovyShellScript implements ExecutableCompiledGroovyScript {
-    private final transient Script groovyScript;
+    private final transient Class<?> groovyScriptClass;
+
+    private final transient ThreadLocal<Map<String, Object>> bindingVariables = ThreadLocal.withInitial(HashMap::new);
+
     private final String script;
 
     public GroovyShellScript(final String script) {
+        this(script, false);
+    }
+
+    public GroovyShellScript(final String script, final boolean staticCompilation) {
         this.script = script;
-        this.groovyScript = ScriptingUtils.parseGroovyShellScript(script);
+        this.groovyScriptClass = ScriptingUtils.compileGroovyShellScript(script, staticCompilation);
+    }
+
+    /**
+     * Gets a new groovy script instance.
+     *
+     * @return the groovy script
+     */
+    public Script getGroovyScript() {
+        return groovyScriptClass != null ? ScriptingUtils.newGroovyShellScript(groovyScriptClass) : null;
     }
 
     @Override
@@ -35,8 +56,13 @@ public class GroovyShellScript implements ExecutableCompiledGroovyScript {
 
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz, final boolean failOnError) {
-        if (this.groovyScript != null) {
-            return ScriptingUtils.executeGroovyShellScript(this.groovyScript, clazz);
+        if (this.groovyScriptClass != null) {
+            try {
+                val variables = new HashMap<>(bindingVariables.get());
+                return ScriptingUtils.executeGroovyShellScript(getGroovyScript(), variables, clazz);
+            } finally {
+                bindingVariables.remove();
+            }
         }
         return null;
     }
@@ -49,11 +75,10 @@ public class GroovyShellScript implements ExecutableCompiledGroovyScript {
     @Override
     public void setBinding(final Map<String, Object> variables) {
         if (variables != null && !variables.isEmpty()) {
-            val binding = this.groovyScript.getBinding();
-            variables.forEach(binding::setVariable);
+            bindingVariables.get().putAll(variables);
         }
     }
-    
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -4,10 +4,12 @@ import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.ResourceUtils;
 
+import groovy.lang.Binding;
 import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
-import groovy.lang.GroovyShell;
 import groovy.lang.Script;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +18,7 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.codehaus.groovy.runtime.InvokerInvocationException;
 import org.springframework.core.io.Resource;
 
@@ -29,6 +32,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -135,8 +139,13 @@ public class ScriptingUtils {
             script.setBinding(binding);
             LOGGER.debug("Executing groovy script [{}] with variables [{}]", script, binding.getVariables());
 
-            val result = script.run();
-            return getGroovyScriptExecutionResultOrThrow(clazz, result);
+            val startTime = System.nanoTime();
+            try {
+                val result = script.run();
+                return getGroovyScriptExecutionResultOrThrow(clazz, result);
+            } finally {
+                recordGroovyScriptExecution(script.getClass().getName(), "run", System.nanoTime() - startTime);
+            }
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
         }
@@ -258,7 +267,8 @@ public class ScriptingUtils {
                                             final boolean failOnError) {
         try {
             LOGGER.trace("Executing groovy script's [{}] method, with parameters [{}]", methodName, args);
-            val result = groovyObject.invokeMethod(methodName, args);
+            val startTime = System.nanoTime();
+            val result = invokeGroovyObjectMethod(groovyObject, methodName, args, startTime);
             LOGGER.trace("Results returned by the groovy script are [{}]", result);
             if (!clazz.equals(Void.class)) {
                 return getGroovyScriptExecutionResultOrThrow(clazz, result);
@@ -280,16 +290,49 @@ public class ScriptingUtils {
      * @return the script
      */
     public static Script parseGroovyShellScript(final String script) {
+        val scriptClass = compileGroovyShellScript(script);
+        return scriptClass != null ? newGroovyShellScript(scriptClass) : null;
+    }
+
+    /**
+     * Compile groovy shell script dynamically into a class that is shared
+     * by all scripts with the same body.
+     *
+     * @param script the script
+     * @return the compiled class, or null
+     */
+    public static Class<?> compileGroovyShellScript(final String script) {
+        return compileGroovyShellScript(script, false);
+    }
+
+    /**
+     * Compile groovy shell script into a class that is shared
+     * by all scripts with the same body and compilation mode.
+     *
+     * @param script            the script
+     * @param staticCompilation whether the script should be compiled statically
+     * @return the compiled class, or null
+     */
+    public static Class<?> compileGroovyShellScript(final String script, final boolean staticCompilation) {
         try {
-            val shell = new GroovyShell();
             LOGGER.debug("Parsing groovy script [{}]", script);
-            return shell.parse(script);
+            return GroovyScriptCompilationCache.compile(script, staticCompilation);
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
         }
         return null;
     }
 
+    /**
+     * Create a new script instance from the compiled class with an empty binding.
+     *
+     * @param scriptClass the script class
+     * @return the script
+     */
+    public static Script newGroovyShellScript(final Class<?> scriptClass) {
+        return InvokerHelper.createScript(scriptClass, new Binding());
+    }
+
     /**
      * Parse groovy script groovy object.
      *
@@ -353,6 +396,25 @@ public class ScriptingUtils {
         return null;
     }
 
+    private static Object invokeGroovyObjectMethod(final GroovyObject groovyObject, final String methodName,
+                                                   final Object[] args, final long startTime) {
+        try {
+            return groovyObject.invokeMethod(methodName, args);
+        } finally {
+            recordGroovyScriptExecution(groovyObject.getClass().getName(), methodName, System.nanoTime() - startTime);
+        }
+    }
+
+    private static void recordGroovyScriptExecution(final String scriptName, final String methodName, final long durationNanos) {
+        LOGGER.trace("Groovy script [{}] method [{}] executed in [{}] ns", scriptName, methodName, durationNanos);
+        Timer.builder("cas.groovy.script")
+            .description("Execution time of groovy scripts")
+            .tag("script", scriptName)
+            .tag("method", methodName)
+            .register(Metrics.globalRegistry)
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
     private static <T> T getGroovyScriptExecutionResultOrThrow(final Class<T> clazz, final Object result) {
         if (result != null && !clazz.isAssignableFrom(result.getClass())) {
             throw new ClassCastException("Result [" + result + " is of type " + result.getClass() + " when we were expecting " + clazz);
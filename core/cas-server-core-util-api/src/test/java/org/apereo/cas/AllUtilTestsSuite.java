@@ -19,6 +19,7 @@ import org.apereo.cas.util.io.PathWatcherServiceTests;
 import org.apereo.cas.util.io.TemporaryFileSystemResourceTests;
 import org.apereo.cas.util.jwt.JsonWebTokenEncryptorTests;
 import org.apereo.cas.util.jwt.JsonWebTokenSignerTests;
+import org.apereo.cas.util.scripting.GroovyScriptCompilationCacheTests;
 import org.apereo.cas.util.scripting.GroovyScriptResourceCacheManagerTests;
 import org.apereo.cas.util.scripting.GroovyShellScriptTests;
 import org.apereo.cas.util.scripting.WatchableGroovyScriptResourceTests;
@@ -56,6 +57,7 @@ import org.junit.platform.suite.api.Suite;
     GlibcCryptPasswordEncoderTests.class,
     DefaultCasBannerTests.class,
     GroovyShellScriptTests.class,
+    GroovyScriptCompilationCacheTests.class,
     FunctionUtilsTests.class,
     CertUtilsTests.class,
     PrivateKeyFactoryBeanTests.class,
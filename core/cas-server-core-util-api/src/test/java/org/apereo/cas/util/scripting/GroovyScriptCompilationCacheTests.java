@@ -0,0 +1,54 @@
+package org.apereo.cas.util.scripting;
+
+import lombok.val;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link GroovyScriptCompilationCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Groovy")
+public class GroovyScriptCompilationCacheTests {
+
+    @Test
+    public void verifySameBodySharesClass() {
+        val first = GroovyScriptCompilationCache.compile("return 'hello'");
+        val second = GroovyScriptCompilationCache.compile("return 'hello'");
+        assertSame(first, second);
+        assertNotSame(first, GroovyScriptCompilationCache.compile("return 'world'"));
+        assertTrue(GroovyScriptCompilationCache.size() >= 2);
+    }
+
+    @Test
+    public void verifyDynamicByDefault() {
+        val script = new GroovyShellScript("return name.toUpperCase()");
+        script.setBinding(Map.of("name", "casuser"));
+        assertEquals("CASUSER", script.execute(new Object[0], String.class));
+        script.setBinding(Map.of("name", "other"));
+        assertEquals("OTHER", script.execute(new Object[0], String.class));
+    }
+
+    @Test
+    public void verifyStaticCompilation() {
+        val body = "int total = 0; for (int i = 1; i <= 10; i++) { total += i }; return total";
+        assertNotSame(GroovyScriptCompilationCache.compile(body), GroovyScriptCompilationCache.compile(body, true));
+        val script = new GroovyShellScript(body, true);
+        assertEquals(55, script.execute(new Object[0], Integer.class));
+    }
+
+    @Test
+    public void verifyStaticCompilationIsNotSilentlyDropped() {
+        val body = "return name.toUpperCase()";
+        assertNotNull(GroovyScriptCompilationCache.compile(body));
+        assertThrows(CompilationFailedException.class, () -> GroovyScriptCompilationCache.compile(body, true));
+        assertNull(new GroovyShellScript(body, true).getGroovyScriptClass());
+    }
+}
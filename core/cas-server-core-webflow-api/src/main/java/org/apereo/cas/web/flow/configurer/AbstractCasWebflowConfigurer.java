@@ -26,6 +26,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.expression.BeanExpressionContextAccessor;
 import org.springframework.context.expression.EnvironmentAccessor;
 import org.springframework.context.expression.MapAccessor;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
@@ -621,7 +622,10 @@ public abstract class AbstractCasWebflowConfigurer implements CasWebflowConfigur
      * @return the spring expression parser
      */
     public SpringELExpressionParser getSpringExpressionParser() {
-        val configuration = new SpelParserConfiguration();
+        val compilerMode = casProperties.getWebflow().getAutoConfiguration().isCompileExpressions()
+            ? SpelCompilerMode.MIXED
+            : SpelCompilerMode.OFF;
+        val configuration = new SpelParserConfiguration(compilerMode, getClass().getClassLoader());
         val spelExpressionParser = new SpelExpressionParser(configuration);
         val parser = new SpringELExpressionParser(spelExpressionParser, this.flowBuilderServices.getConversionService());
         parser.addPropertyAccessor(new ActionPropertyAccessor());
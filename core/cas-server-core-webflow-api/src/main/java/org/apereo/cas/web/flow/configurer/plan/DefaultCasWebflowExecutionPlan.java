@@ -9,8 +9,11 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -66,4 +69,24 @@ public class DefaultCasWebflowExecutionPlan implements CasWebflowExecutionPlan {
             initialized = true;
         }
     }
+
+    /**
+     * Pin the fully-assembled flow definitions found in the given registries,
+     * so that subsequent lookups no longer go through the flow builders.
+     * This should only be done once the plan has executed.
+     *
+     * @param registries the registries
+     */
+    public void freeze(final Collection<FlowDefinitionRegistry> registries) {
+        registries.stream()
+            .filter(registry -> registry.getFlowDefinitionIds() != null)
+            .forEach(registry -> Arrays.stream(registry.getFlowDefinitionIds()).forEach(id -> {
+                try {
+                    registry.registerFlowDefinition(registry.getFlowDefinition(id));
+                    LOGGER.trace("Froze flow definition [{}]", id);
+                } catch (final Exception e) {
+                    LOGGER.debug("Unable to freeze flow definition [{}]: [{}]", id, e.getMessage());
+                }
+            }));
+    }
 }
@@ -0,0 +1,80 @@
+package org.apereo.cas.web.flow.executor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.webflow.definition.StateDefinition;
+import org.springframework.webflow.execution.FlowExecutionListenerAdapter;
+import org.springframework.webflow.execution.RequestContext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link CasWebflowStateTimingListener} that measures the time spent
+ * in each webflow state while a request is processed, from the moment the state
+ * is entered until the flow transitions to another state or the request is processed.
+ * Time spent by the user in between requests, i.e. while a view state is paused, is not counted.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CasWebflowStateTimingListener extends FlowExecutionListenerAdapter {
+    /**
+     * Meter name used to time webflow states.
+     */
+    public static final String METER_NAME = "cas.webflow.state";
+
+    private static final String REQUEST_SCOPE_ATTRIBUTE_STATE_TIMING = CasWebflowStateTimingListener.class.getName();
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Override
+    public void stateEntering(final RequestContext context, final StateDefinition state) {
+        stopTiming(context);
+    }
+
+    @Override
+    public void stateEntered(final RequestContext context, final StateDefinition previousState, final StateDefinition state) {
+        context.getRequestScope().put(REQUEST_SCOPE_ATTRIBUTE_STATE_TIMING, new StateTiming(state, System.nanoTime()));
+    }
+
+    @Override
+    public void paused(final RequestContext context) {
+        stopTiming(context);
+    }
+
+    @Override
+    public void requestProcessed(final RequestContext context) {
+        stopTiming(context);
+    }
+
+    private void stopTiming(final RequestContext context) {
+        val timing = (StateTiming) context.getRequestScope().remove(REQUEST_SCOPE_ATTRIBUTE_STATE_TIMING);
+        if (timing != null) {
+            val flowId = timing.getState().getOwner().getId();
+            val stateId = timing.getState().getId();
+            val elapsed = System.nanoTime() - timing.getStartTime();
+            LOGGER.trace("Webflow state [{}] in flow [{}] took [{}]ns", stateId, flowId, elapsed);
+            timers.computeIfAbsent(flowId + ':' + stateId,
+                    key -> Timer.builder(METER_NAME).tag("flow", flowId).tag("state", stateId).register(meterRegistry))
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    private static final class StateTiming {
+        private final StateDefinition state;
+
+        private final long startTime;
+    }
+}
@@ -0,0 +1,37 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.webflow.execution.FlowExecutionKey;
+
+/**
+ * Spring Webflow execution key that points to a flow execution snapshot kept in the ticket registry.
+ * The key is rendered as a signed and encrypted handle that carries the identifier of the ticket
+ * that holds the snapshot, so only the handle travels with the browser.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@EqualsAndHashCode(callSuper = false, of = "ticketId")
+@Getter
+@RequiredArgsConstructor
+public class TicketRegistryFlowExecutionKey extends FlowExecutionKey {
+    private static final long serialVersionUID = 6027196314624071536L;
+
+    private final String ticketId;
+
+    private final String handle;
+
+    /**
+     * Digest of the snapshot last read from or written to the ticket registry.
+     */
+    @Setter
+    private transient String snapshotDigest;
+
+    @Override
+    public String toString() {
+        return this.handle;
+    }
+}
@@ -0,0 +1,251 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.ticket.TransientSessionTicket;
+import org.apereo.cas.ticket.TransientSessionTicketFactory;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.Assert;
+import org.springframework.webflow.core.collection.MutableAttributeMap;
+import org.springframework.webflow.definition.registry.FlowDefinitionLocator;
+import org.springframework.webflow.execution.FlowExecution;
+import org.springframework.webflow.execution.FlowExecutionFactory;
+import org.springframework.webflow.execution.FlowExecutionKey;
+import org.springframework.webflow.execution.FlowExecutionKeyFactory;
+import org.springframework.webflow.execution.repository.BadlyFormattedFlowExecutionKeyException;
+import org.springframework.webflow.execution.repository.FlowExecutionLock;
+import org.springframework.webflow.execution.repository.FlowExecutionRepository;
+import org.springframework.webflow.execution.repository.FlowExecutionRepositoryException;
+import org.springframework.webflow.execution.repository.NoSuchFlowExecutionException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores flow execution snapshots in the ticket registry as transient session tickets,
+ * which expire based on the expiration policy assigned to transient session tickets.
+ * The browser only carries a {@link TicketRegistryFlowExecutionKey}, a signed and encrypted handle
+ * that points to the ticket, rather than the full flow execution state. A conversation keeps
+ * the same ticket for its lifetime, and the ticket is not written again if the flow execution
+ * state has not changed since it was last read or written.
+ * <p>
+ * Snapshots are stored as base64-encoded strings, so that they survive ticket registries
+ * that serialize tickets as JSON. Flow executions are not locked; if requests of the same
+ * conversation are processed concurrently, for example on different nodes, the last request
+ * to store its snapshot wins and the changes of the other requests are lost.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketRegistryFlowExecutionRepository implements FlowExecutionRepository, FlowExecutionKeyFactory {
+    /**
+     * Ticket property that holds the base64-encoded flow execution snapshot.
+     */
+    public static final String PROPERTY_SNAPSHOT = "flowExecutionSnapshot";
+
+    /**
+     * Ticket property that holds the digest of the flow execution snapshot.
+     */
+    public static final String PROPERTY_SNAPSHOT_DIGEST = "flowExecutionSnapshotDigest";
+
+    private static final String KEY_FORMAT = "<base64-encoded-signed-ticket-id>";
+
+    /**
+     * Snapshots are read and written in full for each request, so no locking is done
+     * and concurrent requests of the same conversation are last-write-wins.
+     */
+    private static final FlowExecutionLock NOOP_LOCK = new FlowExecutionLock() {
+        @Override
+        public void lock() {
+        }
+
+        @Override
+        public void unlock() {
+        }
+    };
+
+    private FlowExecutionFactory flowExecutionFactory;
+
+    private FlowDefinitionLocator flowDefinitionLocator;
+
+    private TicketRegistry ticketRegistry;
+
+    private TransientSessionTicketFactory transientSessionTicketFactory;
+
+    private CipherExecutor webflowCipherExecutor;
+
+    private boolean compress;
+
+    @Override
+    public FlowExecutionKey parseFlowExecutionKey(final String encodedKey) throws FlowExecutionRepositoryException {
+        try {
+            val decoded = (byte[]) webflowCipherExecutor.decode(EncodingUtils.decodeUrlSafeBase64(encodedKey));
+            val ticketId = decoded == null ? null : new String(decoded, StandardCharsets.UTF_8);
+            if (StringUtils.startsWith(ticketId, TransientSessionTicket.PREFIX)) {
+                return new TicketRegistryFlowExecutionKey(ticketId, encodedKey);
+            }
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to parse flow execution key [{}]: [{}]", encodedKey, e.getMessage());
+        }
+        throw new BadlyFormattedFlowExecutionKeyException(encodedKey, KEY_FORMAT);
+    }
+
+    @Override
+    public FlowExecutionLock getLock(final FlowExecutionKey key) throws FlowExecutionRepositoryException {
+        return NOOP_LOCK;
+    }
+
+    @Override
+    public FlowExecution getFlowExecution(final FlowExecutionKey key) throws FlowExecutionRepositoryException {
+        Assert.notNull(flowExecutionFactory, "FlowExecutionFactory cannot be null");
+        Assert.notNull(flowDefinitionLocator, "FlowDefinitionLocator cannot be null");
+
+        val executionKey = toTicketRegistryFlowExecutionKey(key);
+        val ticket = ticketRegistry.getTicket(executionKey.getTicketId(), TransientSessionTicket.class);
+        if (ticket == null || ticket.isExpired()) {
+            throw new NoSuchFlowExecutionException(key, null);
+        }
+        try {
+            val snapshot = ticket.getProperty(PROPERTY_SNAPSHOT, String.class);
+            val state = deserialize(EncodingUtils.decodeBase64(snapshot));
+            executionKey.setSnapshotDigest(ticket.getProperty(PROPERTY_SNAPSHOT_DIGEST, String.class));
+            val flow = flowDefinitionLocator.getFlowDefinition(state.getFlowId());
+            return flowExecutionFactory.restoreFlowExecution(
+                state.getExecution(), flow, executionKey, state.getConversationScope(), this.flowDefinitionLocator);
+        } catch (final Exception e) {
+            throw new TicketRegistryFlowExecutionRepositoryException("Error restoring flow execution", e);
+        }
+    }
+
+    @Override
+    public void putFlowExecution(final FlowExecution flowExecution) throws FlowExecutionRepositoryException {
+        val executionKey = toTicketRegistryFlowExecutionKey(flowExecution.getKey());
+        try {
+            val serialized = serialize(new SerializedFlowExecutionState(flowExecution));
+            val digest = DigestUtils.sha256Hex(serialized);
+            if (digest.equals(executionKey.getSnapshotDigest())) {
+                LOGGER.trace("Flow execution state for [{}] is unchanged and will not be stored again", executionKey.getTicketId());
+                return;
+            }
+            val snapshot = EncodingUtils.encodeBase64(compress ? gzip(serialized) : serialized);
+            val ticket = transientSessionTicketFactory.create(
+                StringUtils.removeStart(executionKey.getTicketId(), TransientSessionTicket.PREFIX + '-'),
+                CollectionUtils.wrap(PROPERTY_SNAPSHOT, snapshot, PROPERTY_SNAPSHOT_DIGEST, digest));
+            if (executionKey.getSnapshotDigest() == null) {
+                ticketRegistry.addTicket(ticket);
+            } else {
+                ticketRegistry.updateTicket(ticket);
+            }
+            executionKey.setSnapshotDigest(digest);
+        } catch (final Exception e) {
+            throw new TicketRegistryFlowExecutionRepositoryException("Error storing flow execution", e);
+        }
+    }
+
+    @Override
+    public void removeFlowExecution(final FlowExecution flowExecution) throws FlowExecutionRepositoryException {
+        val executionKey = toTicketRegistryFlowExecutionKey(flowExecution.getKey());
+        try {
+            ticketRegistry.deleteTicket(executionKey.getTicketId());
+        } catch (final Exception e) {
+            throw new TicketRegistryFlowExecutionRepositoryException("Error removing flow execution", e);
+        }
+    }
+
+    @Override
+    public FlowExecutionKey getKey(final FlowExecution execution) {
+        if (execution.getKey() instanceof TicketRegistryFlowExecutionKey) {
+            return execution.getKey();
+        }
+        val ticketId = TransientSessionTicketFactory.normalizeTicketId(UUID.randomUUID().toString());
+        val encoded = (byte[]) webflowCipherExecutor.encode(ticketId.getBytes(StandardCharsets.UTF_8));
+        return new TicketRegistryFlowExecutionKey(ticketId, EncodingUtils.encodeUrlSafeBase64(encoded));
+    }
+
+    @Override
+    public void updateFlowExecutionSnapshot(final FlowExecution execution) {
+        putFlowExecution(execution);
+    }
+
+    @Override
+    public void removeFlowExecutionSnapshot(final FlowExecution execution) {
+    }
+
+    @Override
+    public void removeAllFlowExecutionSnapshots(final FlowExecution execution) {
+        removeFlowExecution(execution);
+    }
+
+    private static TicketRegistryFlowExecutionKey toTicketRegistryFlowExecutionKey(final FlowExecutionKey key) {
+        if (!(key instanceof TicketRegistryFlowExecutionKey)) {
+            throw new IllegalArgumentException("Expected instance of TicketRegistryFlowExecutionKey but got "
+                                               + (key == null ? null : key.getClass().getName()));
+        }
+        return (TicketRegistryFlowExecutionKey) key;
+    }
+
+    private static byte[] serialize(final SerializedFlowExecutionState state) throws Exception {
+        val outBuffer = new ByteArrayOutputStream();
+        try (val out = new ObjectOutputStream(outBuffer)) {
+            out.writeObject(state);
+        }
+        return outBuffer.toByteArray();
+    }
+
+    private static byte[] gzip(final byte[] data) throws Exception {
+        val outBuffer = new ByteArrayOutputStream();
+        try (val out = new GZIPOutputStream(outBuffer)) {
+            out.write(data);
+        }
+        return outBuffer.toByteArray();
+    }
+
+    @SuppressWarnings("BanSerializableRead")
+    private SerializedFlowExecutionState deserialize(final byte[] snapshot) throws Exception {
+        try (val inBuffer = new ByteArrayInputStream(snapshot);
+             val in = this.compress
+                 ? new ObjectInputStream(new GZIPInputStream(inBuffer))
+                 : new ObjectInputStream(inBuffer)) {
+            return (SerializedFlowExecutionState) in.readObject();
+        }
+    }
+
+    @Getter
+    private static class SerializedFlowExecutionState implements Serializable {
+        private static final long serialVersionUID = 2931406327104862931L;
+
+        private final String flowId;
+
+        private final MutableAttributeMap conversationScope;
+
+        private final FlowExecution execution;
+
+        SerializedFlowExecutionState(final FlowExecution execution) {
+            this.execution = execution;
+            this.flowId = execution.getDefinition().getId();
+            this.conversationScope = execution.getConversationScope();
+        }
+    }
+}
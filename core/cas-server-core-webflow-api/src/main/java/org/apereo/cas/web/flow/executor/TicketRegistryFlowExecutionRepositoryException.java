@@ -0,0 +1,18 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.springframework.webflow.execution.repository.FlowExecutionRepositoryException;
+
+/**
+ * Describes exceptions unique to {@link TicketRegistryFlowExecutionRepository}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+public class TicketRegistryFlowExecutionRepositoryException extends FlowExecutionRepositoryException {
+
+    private static final long serialVersionUID = -3281956310573942284L;
+
+    public TicketRegistryFlowExecutionRepositoryException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,9 +2,12 @@ package org.apereo.cas.web.flow.executor;
 
 import org.apereo.cas.configuration.model.core.web.flow.WebflowProperties;
 import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.ticket.TransientSessionTicketFactory;
+import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.val;
 import org.springframework.webflow.conversation.impl.SessionBindingConversationManager;
 import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
@@ -29,6 +32,12 @@ public class WebflowExecutorFactory {
     private final CipherExecutor webflowCipherExecutor;
     private final FlowExecutionListener[] executionListeners;
 
+    @Setter
+    private TicketRegistry ticketRegistry;
+
+    @Setter
+    private TransientSessionTicketFactory transientSessionTicketFactory;
+
     /**
      * Build flow executor.
      *
@@ -36,6 +45,9 @@ public class WebflowExecutorFactory {
      */
     public FlowExecutor build() {
         if (webflowProperties.getSession().isStorage()) {
+            if (webflowProperties.getSession().isTicketRegistry() && ticketRegistry != null && transientSessionTicketFactory != null) {
+                return buildFlowExecutorViaTicketRegistryExecution();
+            }
             return buildFlowExecutorViaServerSessionBindingExecution();
         }
         return buildFlowExecutorViaClientFlowExecution();
@@ -59,6 +71,21 @@ public class WebflowExecutorFactory {
         return new FlowExecutorImpl(this.flowDefinitionRegistry, executionFactory, repository);
     }
 
+    private FlowExecutor buildFlowExecutorViaTicketRegistryExecution() {
+        val repository = new TicketRegistryFlowExecutionRepository();
+        repository.setFlowDefinitionLocator(this.flowDefinitionRegistry);
+        repository.setTicketRegistry(this.ticketRegistry);
+        repository.setTransientSessionTicketFactory(this.transientSessionTicketFactory);
+        repository.setWebflowCipherExecutor(this.webflowCipherExecutor);
+        repository.setCompress(webflowProperties.getSession().isCompress());
+
+        val factory = new FlowExecutionImplFactory();
+        factory.setExecutionKeyFactory(repository);
+        factory.setExecutionListenerLoader(new StaticFlowExecutionListenerLoader(executionListeners));
+        repository.setFlowExecutionFactory(factory);
+        return new FlowExecutorImpl(this.flowDefinitionRegistry, factory, repository);
+    }
+
     private FlowExecutor buildFlowExecutorViaClientFlowExecution() {
         val repository = new ClientFlowExecutionRepository();
         repository.setFlowDefinitionLocator(this.flowDefinitionRegistry);
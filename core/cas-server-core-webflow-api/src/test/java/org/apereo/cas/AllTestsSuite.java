@@ -9,8 +9,10 @@ import org.apereo.cas.web.flow.configurer.DefaultCasWebflowExecutionPlanTests;
 import org.apereo.cas.web.flow.configurer.DynamicFlowModelBuilderTests;
 import org.apereo.cas.web.flow.decorator.GroovyLoginWebflowDecoratorTests;
 import org.apereo.cas.web.flow.decorator.RestfulLoginWebflowDecoratorTests;
+import org.apereo.cas.web.flow.executor.CasWebflowStateTimingListenerTests;
 import org.apereo.cas.web.flow.executor.ClientFlowExecutionRepositoryTests;
 import org.apereo.cas.web.flow.executor.EncryptedTranscoderTests;
+import org.apereo.cas.web.flow.executor.TicketRegistryFlowExecutionRepositoryTests;
 import org.apereo.cas.web.flow.services.DefaultRegisteredServiceUserInterfaceInfoTests;
 
 import org.junit.platform.suite.api.SelectClasses;
@@ -34,7 +36,9 @@ import org.junit.platform.suite.api.Suite;
     StaticEventExecutionActionTests.class,
     WebflowActionBeanSupplierTests.class,
     GroovyScriptWebflowActionTests.class,
-    EncryptedTranscoderTests.class
+    EncryptedTranscoderTests.class,
+    CasWebflowStateTimingListenerTests.class,
+    TicketRegistryFlowExecutionRepositoryTests.class
 })
 @Suite
 public class AllTestsSuite {
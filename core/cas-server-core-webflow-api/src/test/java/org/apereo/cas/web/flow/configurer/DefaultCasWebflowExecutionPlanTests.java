@@ -8,6 +8,12 @@ import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
+import org.springframework.webflow.definition.registry.FlowDefinitionHolder;
+import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
+import org.springframework.webflow.definition.registry.FlowDefinitionRegistryImpl;
+import org.springframework.webflow.engine.Flow;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -46,4 +52,22 @@ public class DefaultCasWebflowExecutionPlanTests {
         assertEquals(p2.getName(), plan.getWebflowLoginContextProviders().get(0).getName());
         assertEquals(p1.getName(), plan.getWebflowLoginContextProviders().get(1).getName());
     }
+
+    @Test
+    public void verifyFreeze() {
+        val plan = new DefaultCasWebflowExecutionPlan();
+        plan.execute();
+
+        val flow = new Flow("login");
+        val holder = mock(FlowDefinitionHolder.class);
+        when(holder.getFlowDefinitionId()).thenReturn(flow.getId());
+        when(holder.getFlowDefinition()).thenReturn(flow);
+        val registry = new FlowDefinitionRegistryImpl();
+        registry.registerFlowDefinition(holder);
+
+        plan.freeze(List.of(registry, mock(FlowDefinitionRegistry.class)));
+        assertSame(flow, registry.getFlowDefinition(flow.getId()));
+        assertSame(flow, registry.getFlowDefinition(flow.getId()));
+        verify(holder, times(1)).getFlowDefinition();
+    }
 }
@@ -0,0 +1,45 @@
+package org.apereo.cas.web.flow.executor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.webflow.engine.ActionState;
+import org.springframework.webflow.engine.Flow;
+import org.springframework.webflow.test.MockRequestContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CasWebflowStateTimingListenerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Webflow")
+public class CasWebflowStateTimingListenerTests {
+    @Test
+    public void verifyOperation() {
+        val meterRegistry = new SimpleMeterRegistry();
+        val listener = new CasWebflowStateTimingListener(meterRegistry);
+        val flow = new Flow("login");
+        val first = new ActionState(flow, "first");
+        val second = new ActionState(flow, "second");
+        val context = new MockRequestContext(flow);
+
+        listener.stateEntered(context, null, first);
+        listener.stateEntering(context, second);
+        listener.stateEntered(context, first, second);
+        listener.requestProcessed(context);
+        listener.requestProcessed(context);
+
+        val firstTimer = meterRegistry.find(CasWebflowStateTimingListener.METER_NAME)
+            .tag("flow", "login").tag("state", "first").timer();
+        assertNotNull(firstTimer);
+        assertEquals(1, firstTimer.count());
+        val secondTimer = meterRegistry.find(CasWebflowStateTimingListener.METER_NAME)
+            .tag("flow", "login").tag("state", "second").timer();
+        assertNotNull(secondTimer);
+        assertEquals(1, secondTimer.count());
+    }
+}
@@ -0,0 +1,195 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TransientSessionTicket;
+import org.apereo.cas.ticket.TransientSessionTicketImpl;
+import org.apereo.cas.ticket.expiration.builder.TransientSessionTicketExpirationPolicyBuilder;
+import org.apereo.cas.ticket.factory.DefaultTransientSessionTicketFactory;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.serialization.serializers.TransientSessionTicketStringSerializer;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.webflow.config.FlowBuilderServicesBuilder;
+import org.springframework.webflow.config.FlowDefinitionRegistryBuilder;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
+import org.springframework.webflow.engine.builder.support.FlowBuilderServices;
+import org.springframework.webflow.engine.impl.FlowExecutionImplFactory;
+import org.springframework.webflow.execution.repository.BadlyFormattedFlowExecutionKeyException;
+import org.springframework.webflow.execution.repository.NoSuchFlowExecutionException;
+import org.springframework.webflow.executor.FlowExecutor;
+import org.springframework.webflow.executor.FlowExecutorImpl;
+import org.springframework.webflow.expression.spel.WebFlowSpringELExpressionParser;
+import org.springframework.webflow.test.CasMockViewFactoryCreator;
+import org.springframework.webflow.test.MockExternalContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for {@link TicketRegistryFlowExecutionRepository}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@SpringBootTest(classes = {
+    TicketRegistryFlowExecutionRepositoryTests.WebflowTestConfiguration.class,
+    RefreshAutoConfiguration.class
+})
+@Tag("Webflow")
+public class TicketRegistryFlowExecutionRepositoryTests {
+
+    @Autowired
+    @Qualifier("flowExecutor")
+    private FlowExecutor flowExecutor;
+
+    @Autowired
+    @Qualifier("flowExecutionRepository")
+    private TicketRegistryFlowExecutionRepository flowExecutionRepository;
+
+    @Autowired
+    @Qualifier(TicketRegistry.BEAN_NAME)
+    private TicketRegistry ticketRegistry;
+
+    @Test
+    public void verifyBadKey() {
+        assertThrows(BadlyFormattedFlowExecutionKeyException.class,
+            () -> flowExecutionRepository.parseFlowExecutionKey("unknown"));
+        val key = new TicketRegistryFlowExecutionKey("TST-unknown", "handle");
+        assertThrows(NoSuchFlowExecutionException.class, () -> flowExecutionRepository.getFlowExecution(key));
+    }
+
+    @Test
+    public void verifyLaunchAndResumeFlow() {
+        val launchResult = flowExecutor.launchExecution("test-flow", new LocalAttributeMap<>(), new MockExternalContext());
+        val pausedKey = launchResult.getPausedKey();
+        assertNotNull(pausedKey);
+        val key = (TicketRegistryFlowExecutionKey) flowExecutionRepository.parseFlowExecutionKey(pausedKey);
+        val ticket = ticketRegistry.getTicket(key.getTicketId(), TransientSessionTicket.class);
+        assertNotNull(ticket);
+        assertTrue(ticket.contains(TicketRegistryFlowExecutionRepository.PROPERTY_SNAPSHOT));
+
+        val context = new MockExternalContext();
+        context.setEventId("submit");
+        context.getRequestMap().put("vegan", "0");
+        val resumeResult = flowExecutor.resumeExecution(pausedKey, context);
+        assertNotNull(resumeResult.getOutcome());
+        assertEquals("lasagnaDinner", resumeResult.getOutcome().getId());
+        assertNull(ticketRegistry.getTicket(key.getTicketId()));
+    }
+
+    @Test
+    public void verifyUnchangedStateIsNotStoredAgain() {
+        val launchResult = flowExecutor.launchExecution("test-flow", new LocalAttributeMap<>(), new MockExternalContext());
+        val key = flowExecutionRepository.parseFlowExecutionKey(launchResult.getPausedKey());
+        val execution = flowExecutionRepository.getFlowExecution(key);
+        assertNotNull(((TicketRegistryFlowExecutionKey) execution.getKey()).getSnapshotDigest());
+        flowExecutionRepository.putFlowExecution(execution);
+        ticketRegistry.deleteAll();
+        flowExecutionRepository.putFlowExecution(execution);
+        assertNull(ticketRegistry.getTicket(((TicketRegistryFlowExecutionKey) key).getTicketId()));
+    }
+
+    @Test
+    public void verifySnapshotSurvivesJsonSerialization() {
+        val launchResult = flowExecutor.launchExecution("test-flow", new LocalAttributeMap<>(), new MockExternalContext());
+        val key = (TicketRegistryFlowExecutionKey) flowExecutionRepository.parseFlowExecutionKey(launchResult.getPausedKey());
+        val ticket = ticketRegistry.getTicket(key.getTicketId(), TransientSessionTicket.class);
+        assertTrue(ticket.getProperties().get(TicketRegistryFlowExecutionRepository.PROPERTY_SNAPSHOT) instanceof String);
+        val execution = flowExecutionRepository.getFlowExecution(flowExecutionRepository.parseFlowExecutionKey(launchResult.getPausedKey()));
+        assertEquals("test-flow", execution.getDefinition().getId());
+    }
+
+    /**
+     * Stores transient session tickets as JSON, as do the JPA, MongoDb, DynamoDb and Cassandra registries.
+     */
+    private static class JsonSerializingTicketRegistry extends DefaultTicketRegistry {
+        private static final TransientSessionTicketStringSerializer SERIALIZER = new TransientSessionTicketStringSerializer();
+
+        private static Ticket toJsonAndBack(final Ticket ticket) {
+            if (ticket instanceof TransientSessionTicketImpl) {
+                return SERIALIZER.from(SERIALIZER.toString((TransientSessionTicketImpl) ticket));
+            }
+            return ticket;
+        }
+
+        @Override
+        public void addTicketInternal(final Ticket ticket) throws Exception {
+            super.addTicketInternal(toJsonAndBack(ticket));
+        }
+
+        @Override
+        public Ticket updateTicket(final Ticket ticket) throws Exception {
+            return super.updateTicket(toJsonAndBack(ticket));
+        }
+    }
+
+    @TestConfiguration(value = "WebflowTestConfiguration", proxyBeanMethods = false)
+    public static class WebflowTestConfiguration {
+        @Autowired
+        private ConfigurableApplicationContext applicationContext;
+
+        @Bean
+        public TicketRegistry ticketRegistry() {
+            return new JsonSerializingTicketRegistry();
+        }
+
+        @Bean
+        public TicketRegistryFlowExecutionRepository flowExecutionRepository(
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final TicketRegistry ticketRegistry,
+            @Qualifier("flowRegistry")
+            final FlowDefinitionRegistry flowRegistry) {
+            val repo = new TicketRegistryFlowExecutionRepository();
+            repo.setFlowDefinitionLocator(flowRegistry);
+            repo.setTicketRegistry(ticketRegistry);
+            repo.setTransientSessionTicketFactory(new DefaultTransientSessionTicketFactory(
+                new TransientSessionTicketExpirationPolicyBuilder(new CasConfigurationProperties())));
+            repo.setWebflowCipherExecutor(CipherExecutor.noOp());
+            repo.setCompress(true);
+            val factory = new FlowExecutionImplFactory();
+            factory.setExecutionKeyFactory(repo);
+            repo.setFlowExecutionFactory(factory);
+            return repo;
+        }
+
+        @Bean
+        public FlowExecutor flowExecutor(
+            @Qualifier("flowExecutionRepository")
+            final TicketRegistryFlowExecutionRepository flowExecutionRepository,
+            @Qualifier("flowRegistry")
+            final FlowDefinitionRegistry flowRegistry) {
+            return new FlowExecutorImpl(flowRegistry, flowExecutionRepository.getFlowExecutionFactory(), flowExecutionRepository);
+        }
+
+        @Bean
+        public FlowDefinitionRegistry flowRegistry(
+            @Qualifier("flowBuilder")
+            final FlowBuilderServices flowBuilder) {
+            val builder = new FlowDefinitionRegistryBuilder(this.applicationContext, flowBuilder);
+            builder.setBasePath("classpath:");
+            builder.addFlowLocationPattern("/test/*-flow.xml");
+            return builder.build();
+        }
+
+        @Bean
+        public FlowBuilderServices flowBuilder() {
+            val builder = new FlowBuilderServicesBuilder();
+            builder.setViewFactoryCreator(new CasMockViewFactoryCreator());
+            builder.setExpressionParser(new WebFlowSpringELExpressionParser(new SpelExpressionParser()));
+            return builder.build();
+        }
+    }
+}
@@ -49,6 +49,8 @@ import org.apereo.cas.web.flow.resolver.impl.RankedMultifactorAuthenticationProv
 import org.apereo.cas.web.flow.resolver.impl.SelectiveMultifactorAuthenticationProviderWebflowEventResolver;
 import org.apereo.cas.web.flow.resolver.impl.mfa.DefaultMultifactorAuthenticationProviderWebflowEventResolver;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -398,10 +400,12 @@ public class CasMultifactorAuthenticationWebflowConfiguration {
         @Bean
         @ConditionalOnMissingBean(name = "defaultMultifactorTriggerSelectionStrategy")
         public MultifactorAuthenticationTriggerSelectionStrategy defaultMultifactorTriggerSelectionStrategy(
+            final ObjectProvider<MeterRegistry> meterRegistry,
             final List<MultifactorAuthenticationTrigger> triggers) {
             val activeTriggers = triggers.stream().filter(BeanSupplier::isNotProxy).collect(Collectors.toList());
             AnnotationAwareOrderComparator.sortIfNecessary(activeTriggers);
-            return new DefaultMultifactorAuthenticationTriggerSelectionStrategy(activeTriggers);
+            return new DefaultMultifactorAuthenticationTriggerSelectionStrategy(activeTriggers,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
         }
     }
     @Configuration(value = "CasMultifactorAuthenticationWebflowResolverConfiguration", proxyBeanMethods = false)
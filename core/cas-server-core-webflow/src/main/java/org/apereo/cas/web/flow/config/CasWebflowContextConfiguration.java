@@ -4,6 +4,10 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.throttle.AuthenticationThrottlingExecutionPlan;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TransientSessionTicket;
+import org.apereo.cas.ticket.TransientSessionTicketFactory;
+import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
@@ -20,10 +24,13 @@ import org.apereo.cas.web.flow.configurer.DefaultLogoutWebflowConfigurer;
 import org.apereo.cas.web.flow.configurer.DynamicFlowModelBuilder;
 import org.apereo.cas.web.flow.configurer.GroovyWebflowConfigurer;
 import org.apereo.cas.web.flow.configurer.plan.DefaultCasWebflowExecutionPlan;
+import org.apereo.cas.web.flow.executor.CasWebflowStateTimingListener;
 import org.apereo.cas.web.flow.executor.WebflowExecutorFactory;
 import org.apereo.cas.web.support.ArgumentExtractor;
 import org.apereo.cas.web.support.CasLocaleChangeInterceptor;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -40,6 +47,8 @@ import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.annotation.Order;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.web.servlet.HandlerAdapter;
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -82,8 +91,6 @@ public class CasWebflowContextConfiguration {
 
     private static final int LOGOUT_FLOW_HANDLER_ORDER = 3;
 
-    private static final FlowExecutionListener[] FLOW_EXECUTION_LISTENERS = new FlowExecutionListener[0];
-
     @Configuration(value = "CasWebflowContextFlowHandlerConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class CasWebflowContextFlowHandlerConfiguration {
@@ -160,6 +167,21 @@ public class CasWebflowContextConfiguration {
     @Configuration(value = "CasWebflowContextFlowExecutorConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class CasWebflowContextFlowExecutorConfiguration {
+        private static void configureTicketRegistryStorage(final WebflowExecutorFactory factory,
+                                                           final ObjectProvider<TicketRegistry> ticketRegistry,
+                                                           final ObjectProvider<TicketFactory> ticketFactory) {
+            ticketRegistry.ifAvailable(factory::setTicketRegistry);
+            ticketFactory.ifAvailable(tf -> factory.setTransientSessionTicketFactory(
+                (TransientSessionTicketFactory) tf.get(TransientSessionTicket.class)));
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = "casWebflowStateTimingListener")
+        public FlowExecutionListener casWebflowStateTimingListener(
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+            return new CasWebflowStateTimingListener(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        }
+
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @Bean
         public FlowExecutor logoutFlowExecutor(
@@ -167,9 +189,16 @@ public class CasWebflowContextConfiguration {
             @Qualifier(CasWebflowConstants.BEAN_NAME_LOGOUT_FLOW_DEFINITION_REGISTRY)
             final FlowDefinitionRegistry logoutFlowRegistry,
             @Qualifier("webflowCipherExecutor")
-            final CipherExecutor webflowCipherExecutor) {
+            final CipherExecutor webflowCipherExecutor,
+            @Qualifier("casWebflowStateTimingListener")
+            final FlowExecutionListener casWebflowStateTimingListener,
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final ObjectProvider<TicketRegistry> ticketRegistry,
+            @Qualifier(TicketFactory.BEAN_NAME)
+            final ObjectProvider<TicketFactory> ticketFactory) {
             val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
-                logoutFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS);
+                logoutFlowRegistry, webflowCipherExecutor, new FlowExecutionListener[]{casWebflowStateTimingListener});
+            configureTicketRegistryStorage(factory, ticketRegistry, ticketFactory);
             return factory.build();
         }
 
@@ -180,11 +209,18 @@ public class CasWebflowContextConfiguration {
             @Qualifier(CasWebflowConstants.BEAN_NAME_LOGIN_FLOW_DEFINITION_REGISTRY)
             final FlowDefinitionRegistry loginFlowRegistry,
             @Qualifier("webflowCipherExecutor")
-            final CipherExecutor webflowCipherExecutor) {
+            final CipherExecutor webflowCipherExecutor,
+            @Qualifier("casWebflowStateTimingListener")
+            final FlowExecutionListener casWebflowStateTimingListener,
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final ObjectProvider<TicketRegistry> ticketRegistry,
+            @Qualifier(TicketFactory.BEAN_NAME)
+            final ObjectProvider<TicketFactory> ticketFactory) {
             val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
                 loginFlowRegistry, webflowCipherExecutor,
-                FLOW_EXECUTION_LISTENERS);
+                new FlowExecutionListener[]{casWebflowStateTimingListener});
 
+            configureTicketRegistryStorage(factory, ticketRegistry, ticketFactory);
             return factory.build();
         }
     }
@@ -331,9 +367,14 @@ public class CasWebflowContextConfiguration {
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public ExpressionParser expressionParser(
+            final CasConfigurationProperties casProperties,
             @Qualifier("logoutConversionService")
             final ConversionService logoutConversionService) {
-            return new WebFlowSpringELExpressionParser(new SpelExpressionParser(), logoutConversionService);
+            val compilerMode = casProperties.getWebflow().getAutoConfiguration().isCompileExpressions()
+                ? SpelCompilerMode.MIXED
+                : SpelCompilerMode.OFF;
+            val configuration = new SpelParserConfiguration(compilerMode, getClass().getClassLoader());
+            return new WebFlowSpringELExpressionParser(new SpelExpressionParser(configuration), logoutConversionService);
         }
 
         @Bean
@@ -399,14 +440,20 @@ public class CasWebflowContextConfiguration {
     }
 
     @Configuration(value = "CasWebflowExecutionConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class CasWebflowExecutionConfiguration {
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
-        public CasWebflowExecutionPlan casWebflowExecutionPlan(final ConfigurableApplicationContext applicationContext) {
+        public CasWebflowExecutionPlan casWebflowExecutionPlan(
+            final CasConfigurationProperties casProperties,
+            final ConfigurableApplicationContext applicationContext) {
             val configurers = applicationContext.getBeansOfType(CasWebflowExecutionPlanConfigurer.class).values();
             val plan = new DefaultCasWebflowExecutionPlan();
             configurers.forEach(c -> c.configureWebflowExecutionPlan(plan));
             plan.execute();
+            if (casProperties.getWebflow().getAutoConfiguration().isFreezeDefinitions()) {
+                plan.freeze(applicationContext.getBeansOfType(FlowDefinitionRegistry.class).values());
+            }
             return plan;
         }
     }
@@ -16,6 +16,7 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.UnsatisfiedAuthenticationPolicyException;
+import org.apereo.cas.ticket.registry.TicketRegistryUnitOfWork;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 
@@ -121,6 +122,13 @@ public abstract class AbstractCentralAuthenticationService implements CentralAut
         return ticket;
     }
 
+    @Override
+    public void saveTickets(final TicketRegistryUnitOfWork unitOfWork) throws Exception {
+        if (!unitOfWork.isEmpty()) {
+            configurationContext.getTicketRegistry().saveTickets(unitOfWork);
+        }
+    }
+
     /**
      * Publish CAS events.
      *
@@ -38,6 +38,7 @@ import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicketFactory;
 import org.apereo.cas.ticket.proxy.ProxyTicket;
 import org.apereo.cas.ticket.proxy.ProxyTicketFactory;
+import org.apereo.cas.ticket.registry.TicketRegistryUnitOfWork;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
@@ -132,8 +133,9 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
 
                     val factory = (ServiceTicketFactory) configurationContext.getTicketFactory().get(ServiceTicket.class);
                     val serviceTicket = factory.create(ticketGrantingTicket, selectedService, credentialProvided, ServiceTicket.class);
-                    configurationContext.getTicketRegistry().updateTicket(ticketGrantingTicket);
-                    configurationContext.getTicketRegistry().addTicket(serviceTicket);
+                    configurationContext.getTicketRegistry().saveTickets(new TicketRegistryUnitOfWork()
+                        .addTicket(serviceTicket)
+                        .updateTicket(ticketGrantingTicket));
 
                     LOGGER.info("Granted service ticket [{}] for service [{}] and principal [{}]",
                         serviceTicket.getId(), DigestUtils.abbreviate(selectedService.getId()), principal.getId());
@@ -178,8 +180,9 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
                         val factory = (ProxyTicketFactory) configurationContext.getTicketFactory().get(ProxyTicket.class);
                         val proxyTicket = factory.create(proxyGrantingTicketObject, service, ProxyTicket.class);
 
-                        configurationContext.getTicketRegistry().updateTicket(proxyGrantingTicketObject);
-                        configurationContext.getTicketRegistry().addTicket(proxyTicket);
+                        configurationContext.getTicketRegistry().saveTickets(new TicketRegistryUnitOfWork()
+                            .addTicket(proxyTicket)
+                            .updateTicket(proxyGrantingTicketObject));
 
                         LOGGER.info("Granted proxy ticket [{}] for service [{}] for user [{}]",
                             proxyTicket.getId(), service.getId(), principal.getId());
@@ -230,8 +233,9 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
                     val factory = (ProxyGrantingTicketFactory) configurationContext.getTicketFactory().get(ProxyGrantingTicket.class);
                     val proxyGrantingTicket = factory.create(serviceTicket, authentication, ProxyGrantingTicket.class);
                     LOGGER.debug("Generated proxy granting ticket [{}] based off of [{}]", proxyGrantingTicket, serviceTicketId);
-                    configurationContext.getTicketRegistry().addTicket(proxyGrantingTicket);
-                    configurationContext.getTicketRegistry().updateTicket(serviceTicket.getTicketGrantingTicket());
+                    configurationContext.getTicketRegistry().saveTickets(new TicketRegistryUnitOfWork()
+                        .addTicket(proxyGrantingTicket)
+                        .updateTicket(serviceTicket.getTicketGrantingTicket()));
                     doPublishEvent(new CasProxyGrantingTicketCreatedEvent(this, proxyGrantingTicket));
                     return proxyGrantingTicket;
                 }))
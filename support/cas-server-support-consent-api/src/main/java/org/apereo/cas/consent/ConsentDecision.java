@@ -55,6 +55,13 @@ public class ConsentDecision implements Serializable {
     @Lob
     @Column(name = "attributes", length = Integer.MAX_VALUE)
     private String attributes;
+
+    @Column(length = 128)
+    private String attributeNamesHash;
+
+    @Column(length = 128)
+    private String attributeValuesHash;
+
     public ConsentDecision() {
         this.id = System.currentTimeMillis();
     }
@@ -4,9 +4,11 @@ import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.consent.AttributeConsentReportEndpoint;
 import org.apereo.cas.consent.AttributeReleaseConsentCipherExecutor;
+import org.apereo.cas.consent.CachingConsentRepository;
 import org.apereo.cas.consent.ConsentActivationStrategy;
 import org.apereo.cas.consent.ConsentDecisionBuilder;
 import org.apereo.cas.consent.ConsentEngine;
@@ -67,7 +69,11 @@ public class CasConsentCoreConfiguration {
             @Qualifier(ConsentRepository.BEAN_NAME)
             final ConsentRepository consentRepository) {
             AnnotationAwareOrderComparator.sortIfNecessary(builders);
-            return new DefaultConsentEngine(consentRepository, consentDecisionBuilder, casProperties, builders);
+            val cache = casProperties.getConsent().getCore().getCache();
+            val repository = cache.isEnabled()
+                ? new CachingConsentRepository(consentRepository, Beans.newDuration(cache.getExpireAfterWrite()), cache.getMaximumSize())
+                : consentRepository;
+            return new DefaultConsentEngine(repository, consentDecisionBuilder, casProperties, builders);
         }
     }
 
@@ -175,10 +181,8 @@ public class CasConsentCoreConfiguration {
         public AttributeConsentReportEndpoint attributeConsentReportEndpoint(
             @Qualifier(ConsentEngine.BEAN_NAME)
             final ObjectProvider<ConsentEngine> consentEngine,
-            @Qualifier(ConsentRepository.BEAN_NAME)
-            final ObjectProvider<ConsentRepository> consentRepository,
             final CasConfigurationProperties casProperties) {
-            return new AttributeConsentReportEndpoint(casProperties, consentRepository, consentEngine);
+            return new AttributeConsentReportEndpoint(casProperties, consentEngine);
         }
     }
 }
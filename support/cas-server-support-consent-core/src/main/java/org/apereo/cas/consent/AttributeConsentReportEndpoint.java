@@ -48,15 +48,11 @@ public class AttributeConsentReportEndpoint extends BaseCasActuatorEndpoint {
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(false).build().toObjectMapper();
 
-    private final ObjectProvider<ConsentRepository> consentRepository;
-
     private final ObjectProvider<ConsentEngine> consentEngine;
 
     public AttributeConsentReportEndpoint(final CasConfigurationProperties casProperties,
-                                          final ObjectProvider<ConsentRepository> consentRepository,
                                           final ObjectProvider<ConsentEngine> consentEngine) {
         super(casProperties);
-        this.consentRepository = consentRepository;
         this.consentEngine = consentEngine;
     }
 
@@ -73,7 +69,7 @@ public class AttributeConsentReportEndpoint extends BaseCasActuatorEndpoint {
         final String principal) {
         val result = new HashSet<Map<String, Object>>();
         LOGGER.debug("Fetching consent decisions for principal [{}]", principal);
-        val consentDecisions = this.consentRepository.getObject().findConsentDecisions(principal);
+        val consentDecisions = getConsentRepository().findConsentDecisions(principal);
         LOGGER.debug("Resolved consent decisions for principal [{}]: [{}]", principal, consentDecisions);
 
         consentDecisions.forEach(d -> {
@@ -94,7 +90,7 @@ public class AttributeConsentReportEndpoint extends BaseCasActuatorEndpoint {
     @ResponseBody
     @Operation(summary = "Export consent decisions as a zip file")
     public ResponseEntity<Resource> export() {
-        val accounts = consentRepository.getObject().findConsentDecisions();
+        val accounts = getConsentRepository().findConsentDecisions();
         val resource = CompressionUtils.toZipFile(accounts.stream(),
             Unchecked.function(entry -> {
                 val acct = (ConsentDecision) entry;
@@ -124,7 +120,7 @@ public class AttributeConsentReportEndpoint extends BaseCasActuatorEndpoint {
         val decision = MAPPER.readValue(requestBody, new TypeReference<ConsentDecision>() {
         });
         LOGGER.trace("Storing account: [{}]", decision);
-        consentRepository.getObject().storeConsentDecision(decision);
+        getConsentRepository().storeConsentDecision(decision);
         return HttpStatus.CREATED;
     }
 
@@ -144,7 +140,7 @@ public class AttributeConsentReportEndpoint extends BaseCasActuatorEndpoint {
         @PathVariable
         final long decisionId) {
         LOGGER.debug("Deleting consent decision for principal [{}].", principal);
-        return this.consentRepository.getObject().deleteConsentDecision(decisionId, principal);
+        return getConsentRepository().deleteConsentDecision(decisionId, principal);
     }
 
     /**
@@ -159,6 +155,16 @@ public class AttributeConsentReportEndpoint extends BaseCasActuatorEndpoint {
         @PathVariable
         final String principal) {
         LOGGER.debug("Deleting all consent decisions for principal [{}].", principal);
-        return this.consentRepository.getObject().deleteConsentDecisions(principal);
+        return getConsentRepository().deleteConsentDecisions(principal);
+    }
+
+    /**
+     * Consent decisions are managed through the repository of the consent engine,
+     * so that changes are also reflected in any consent decisions the engine has cached.
+     *
+     * @return the consent repository
+     */
+    private ConsentRepository getConsentRepository() {
+        return consentEngine.getObject().getConsentRepository();
     }
 }
@@ -0,0 +1,118 @@
+package org.apereo.cas.consent;
+
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.services.RegisteredService;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * This is {@link CachingConsentRepository} that remembers consent decisions
+ * found for a principal and service, so repeated single sign-on sessions
+ * do not need to consult the underlying consent repository.
+ * Decisions stored and removed through this repository update the cache immediately.
+ * Absent decisions are not cached, so that a decision stored by another CAS server
+ * is found as soon as it is available.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@Getter
+public class CachingConsentRepository implements ConsentRepository {
+    private static final long serialVersionUID = 5196418392076113846L;
+
+    private final ConsentRepository consentRepository;
+
+    private final transient Cache<ConsentDecisionKey, ConsentDecision> cache;
+
+    public CachingConsentRepository(final ConsentRepository consentRepository,
+                                    final Duration expireAfterWrite,
+                                    final long maximumSize) {
+        this.consentRepository = consentRepository;
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(expireAfterWrite)
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    @Override
+    public ConsentDecision findConsentDecision(final Service service,
+                                               final RegisteredService registeredService,
+                                               final Authentication authentication) {
+        val key = new ConsentDecisionKey(authentication.getPrincipal().getId(), service.getId());
+        return cache.get(key, k -> {
+            LOGGER.trace("Locating consent decision for [{}] and [{}] in the consent repository", k.getPrincipal(), k.getService());
+            return consentRepository.findConsentDecision(service, registeredService, authentication);
+        });
+    }
+
+    @Override
+    public Collection<? extends ConsentDecision> findConsentDecisions(final String principal) {
+        return consentRepository.findConsentDecisions(principal);
+    }
+
+    @Override
+    public Collection<? extends ConsentDecision> findConsentDecisions() {
+        return consentRepository.findConsentDecisions();
+    }
+
+    @Override
+    public ConsentDecision storeConsentDecision(final ConsentDecision decision) throws Exception {
+        val key = new ConsentDecisionKey(decision.getPrincipal(), decision.getService());
+        try {
+            val result = consentRepository.storeConsentDecision(decision);
+            if (result != null) {
+                cache.put(key, result);
+            } else {
+                cache.invalidate(key);
+            }
+            return result;
+        } catch (final Exception e) {
+            cache.invalidate(key);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean deleteConsentDecision(final long id, final String principal) {
+        val result = consentRepository.deleteConsentDecision(id, principal);
+        invalidate(principal);
+        return result;
+    }
+
+    @Override
+    public boolean deleteConsentDecisions(final String principal) {
+        val result = consentRepository.deleteConsentDecisions(principal);
+        invalidate(principal);
+        return result;
+    }
+
+    @Override
+    public void deleteAll() {
+        consentRepository.deleteAll();
+        cache.invalidateAll();
+    }
+
+    private void invalidate(final String principal) {
+        cache.asMap().keySet().removeIf(key -> key.getPrincipal().equalsIgnoreCase(principal));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class ConsentDecisionKey {
+        private final String principal;
+
+        private final String service;
+    }
+}
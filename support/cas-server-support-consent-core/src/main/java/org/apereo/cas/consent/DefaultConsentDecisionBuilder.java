@@ -3,7 +3,6 @@ package org.apereo.cas.consent;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.CollectionUtils;
-import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
@@ -13,17 +12,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.hjson.JsonValue;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
 
 /**
  * This is {@link DefaultConsentDecisionBuilder}.
@@ -39,12 +40,20 @@ public class DefaultConsentDecisionBuilder implements ConsentDecisionBuilder {
 
     private static final long serialVersionUID = 8220243983483982326L;
 
+    private static final byte ATTRIBUTE_SEPARATOR = 0x1E;
+
+    private static final byte NAME_SEPARATOR = 0x1D;
+
+    private static final byte VALUE_SEPARATOR = 0x1F;
+
     private final transient CipherExecutor<Serializable, String> consentCipherExecutor;
 
     @Override
     public ConsentDecision update(final ConsentDecision consent, final Map<String, List<Object>> attributes) {
         val encodedNames = buildAndEncodeConsentAttributes(attributes);
         consent.setAttributes(encodedNames);
+        consent.setAttributeNamesHash(sha512ConsentAttributeNames(attributes));
+        consent.setAttributeValuesHash(sha512ConsentAttributeValues(attributes));
         consent.setCreatedDate(LocalDateTime.now(ZoneId.systemDefault()));
         return consent;
     }
@@ -63,23 +72,18 @@ public class DefaultConsentDecisionBuilder implements ConsentDecisionBuilder {
     @Override
     public boolean doesAttributeReleaseRequireConsent(final ConsentDecision decision,
                                                       final Map<String, List<Object>> attributes) {
-        val consentAttributes = getConsentableAttributesFrom(decision);
-
         if (decision.getOptions() == ConsentReminderOptions.ATTRIBUTE_NAME) {
-            val consentAttributesHash = sha512ConsentAttributeNames(consentAttributes);
-            val currentAttributesHash = sha512ConsentAttributeNames(attributes);
-            return !StringUtils.equals(consentAttributesHash, currentAttributesHash);
+            val consentAttributesHash = StringUtils.isNotBlank(decision.getAttributeNamesHash())
+                ? decision.getAttributeNamesHash()
+                : sha512ConsentAttributeNames(getConsentableAttributesFrom(decision));
+            return !StringUtils.equals(consentAttributesHash, sha512ConsentAttributeNames(attributes));
         }
 
         if (decision.getOptions() == ConsentReminderOptions.ATTRIBUTE_VALUE) {
-            val consentAttributesHash = sha512ConsentAttributeNames(consentAttributes);
-            val currentAttributesHash = sha512ConsentAttributeNames(attributes);
-
-            val consentAttributeValuesHash = sha512ConsentAttributeValues(consentAttributes);
-            val currentAttributeValuesHash = sha512ConsentAttributeValues(attributes);
-
-            return !StringUtils.equals(consentAttributesHash, currentAttributesHash)
-                || !StringUtils.equals(consentAttributeValuesHash, currentAttributeValuesHash);
+            val consentAttributeValuesHash = StringUtils.isNotBlank(decision.getAttributeValuesHash())
+                ? decision.getAttributeValuesHash()
+                : sha512ConsentAttributeValues(getConsentableAttributesFrom(decision));
+            return !StringUtils.equals(consentAttributeValuesHash, sha512ConsentAttributeValues(attributes));
         }
         return true;
     }
@@ -99,17 +103,40 @@ public class DefaultConsentDecisionBuilder implements ConsentDecisionBuilder {
         }
     }
 
+    /**
+     * Hash the attribute names, in sorted order, without the attribute values.
+     *
+     * @param attributes the attributes
+     * @return the hash
+     */
     private static String sha512ConsentAttributeNames(final Map<String, List<Object>> attributes) {
-        val allNames = String.join("|", attributes.keySet());
-        return DigestUtils.sha512(allNames);
+        val digest = DigestUtils.getSha512Digest();
+        new TreeMap<>(attributes).keySet().forEach(name -> {
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update(ATTRIBUTE_SEPARATOR);
+        });
+        return EncodingUtils.hexEncode(digest.digest());
     }
 
+    /**
+     * Hash the attribute names and values, in sorted order of attribute names.
+     * Attributes whose values differ, or whose names differ, produce different hashes.
+     *
+     * @param attributes the attributes
+     * @return the hash
+     */
     private static String sha512ConsentAttributeValues(final Map<String, List<Object>> attributes) {
-        val allValues = attributes.values().stream()
-            .map(CollectionUtils::toCollection)
-            .map(c -> c.stream().map(Object::toString).collect(Collectors.joining()))
-            .collect(Collectors.joining("|"));
-        return DigestUtils.sha512(allValues);
+        val digest = DigestUtils.getSha512Digest();
+        new TreeMap<>(attributes).forEach((name, values) -> {
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update(NAME_SEPARATOR);
+            CollectionUtils.toCollection(values).forEach(value -> {
+                digest.update(value.toString().getBytes(StandardCharsets.UTF_8));
+                digest.update(VALUE_SEPARATOR);
+            });
+            digest.update(ATTRIBUTE_SEPARATOR);
+        });
+        return EncodingUtils.hexEncode(digest.digest());
     }
 
     /**
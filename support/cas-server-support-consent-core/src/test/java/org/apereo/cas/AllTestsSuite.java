@@ -2,6 +2,7 @@
 package org.apereo.cas;
 
 import org.apereo.cas.consent.AttributeConsentReportEndpointTests;
+import org.apereo.cas.consent.CachingConsentRepositoryTests;
 import org.apereo.cas.consent.DefaultConsentActivationStrategyDisabledTests;
 import org.apereo.cas.consent.DefaultConsentActivationStrategyTests;
 import org.apereo.cas.consent.DefaultConsentDecisionBuilderTests;
@@ -29,7 +30,8 @@ import org.junit.platform.suite.api.Suite;
     DefaultConsentDecisionBuilderTests.class,
     InMemoryConsentRepositoryTests.class,
     JsonConsentRepositoryTests.class,
-    AttributeConsentReportEndpointTests.class
+    AttributeConsentReportEndpointTests.class,
+    CachingConsentRepositoryTests.class
 })
 @Suite
 public class AllTestsSuite {
@@ -0,0 +1,83 @@
+package org.apereo.cas.consent;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CachingConsentRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Simple")
+public class CachingConsentRepositoryTests {
+    private static ConsentDecision getConsentDecision() {
+        val decision = new ConsentDecision();
+        decision.setPrincipal("casuser");
+        decision.setService(RegisteredServiceTestUtils.getService().getId());
+        return decision;
+    }
+
+    @Test
+    public void verifyDecisionsAreCached() throws Exception {
+        val delegate = spy(new InMemoryConsentRepository());
+        val repository = new CachingConsentRepository(delegate, Duration.ofMinutes(5), 100);
+        val service = RegisteredServiceTestUtils.getService();
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService();
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+
+        assertNull(repository.findConsentDecision(service, registeredService, authentication));
+        assertNull(repository.findConsentDecision(service, registeredService, authentication));
+        verify(delegate, times(2)).findConsentDecision(any(), any(), any());
+
+        val decision = repository.storeConsentDecision(getConsentDecision());
+        assertSame(decision, repository.findConsentDecision(service, registeredService, authentication));
+        assertSame(decision, repository.findConsentDecision(service, registeredService, authentication));
+        verify(delegate, times(2)).findConsentDecision(any(), any(), any());
+        assertEquals(1, repository.findConsentDecisions("casuser").size());
+
+        assertTrue(repository.deleteConsentDecision(decision.getId(), "casuser"));
+        assertNull(repository.findConsentDecision(service, registeredService, authentication));
+        verify(delegate, times(3)).findConsentDecision(any(), any(), any());
+    }
+
+    @Test
+    public void verifyDecisionStoredElsewhereIsFound() throws Exception {
+        val delegate = new InMemoryConsentRepository();
+        val repository = new CachingConsentRepository(delegate, Duration.ofMinutes(5), 100);
+        val service = RegisteredServiceTestUtils.getService();
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService();
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+
+        assertNull(repository.findConsentDecision(service, registeredService, authentication));
+        val decision = delegate.storeConsentDecision(getConsentDecision());
+        assertSame(decision, repository.findConsentDecision(service, registeredService, authentication));
+    }
+
+    @Test
+    public void verifyDeleteAll() throws Exception {
+        val repository = new CachingConsentRepository(new InMemoryConsentRepository(), Duration.ofMinutes(5), 100);
+        val service = RegisteredServiceTestUtils.getService();
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService();
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+
+        repository.storeConsentDecision(getConsentDecision());
+        assertNotNull(repository.findConsentDecision(service, registeredService, authentication));
+        repository.deleteAll();
+        assertNull(repository.findConsentDecision(service, registeredService, authentication));
+
+        repository.storeConsentDecision(getConsentDecision());
+        assertTrue(repository.deleteConsentDecisions("CASUSER"));
+        assertNull(repository.findConsentDecision(service, registeredService, authentication));
+        assertTrue(repository.findConsentDecisions().isEmpty());
+    }
+}
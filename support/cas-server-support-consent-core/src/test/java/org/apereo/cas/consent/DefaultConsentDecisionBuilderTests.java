@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -73,6 +74,40 @@ public class DefaultConsentDecisionBuilderTests {
             CollectionUtils.wrap("attr1", List.of("value2"))));
     }
 
+    @Test
+    public void verifyAttributeHashesAreCanonical() {
+        val consentDecision = consentDecisionBuilder.build(RegisteredServiceTestUtils.getService(),
+            RegisteredServiceTestUtils.getRegisteredService("test"), "casuser",
+            CollectionUtils.wrap("attr1", List.of("value1"), "attr2", List.of("value2", "value3")));
+        assertNotNull(consentDecision.getAttributeNamesHash());
+        assertNotNull(consentDecision.getAttributeValuesHash());
+        consentDecision.setOptions(ConsentReminderOptions.ATTRIBUTE_VALUE);
+
+        val reordered = new LinkedHashMap<String, List<Object>>();
+        reordered.put("attr2", List.of("value2", "value3"));
+        reordered.put("attr1", List.of("value1"));
+        assertFalse(consentDecisionBuilder.doesAttributeReleaseRequireConsent(consentDecision, reordered));
+        reordered.put("attr1", List.of("value1", "value4"));
+        assertTrue(consentDecisionBuilder.doesAttributeReleaseRequireConsent(consentDecision, reordered));
+        reordered.remove("attr1");
+        reordered.put("attr3", List.of("value1"));
+        assertTrue(consentDecisionBuilder.doesAttributeReleaseRequireConsent(consentDecision, reordered));
+    }
+
+    @Test
+    public void verifyDecisionWithoutHashes() {
+        val consentDecision = getConsentDecision();
+        consentDecision.setAttributeNamesHash(null);
+        consentDecision.setAttributeValuesHash(null);
+        assertFalse(consentDecisionBuilder.doesAttributeReleaseRequireConsent(consentDecision,
+            CollectionUtils.wrap("attr1", List.of("something"))));
+        consentDecision.setOptions(ConsentReminderOptions.ATTRIBUTE_VALUE);
+        assertFalse(consentDecisionBuilder.doesAttributeReleaseRequireConsent(consentDecision,
+            CollectionUtils.wrap("attr1", List.of("value1"))));
+        assertTrue(consentDecisionBuilder.doesAttributeReleaseRequireConsent(consentDecision,
+            CollectionUtils.wrap("attr1", List.of("value2"))));
+    }
+
     @Test
     public void verifyAttributesAreRetrieved() {
         val consentDecision = getConsentDecision();
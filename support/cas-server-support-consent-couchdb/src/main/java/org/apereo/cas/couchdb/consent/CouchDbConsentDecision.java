@@ -66,6 +66,8 @@ public class CouchDbConsentDecision extends ConsentDecision {
         setReminder(c.getReminder());
         setReminderTimeUnit(c.getReminderTimeUnit());
         setService(c.getService());
+        setAttributeNamesHash(c.getAttributeNamesHash());
+        setAttributeValuesHash(c.getAttributeValuesHash());
         if (getId() < 0) {
             setId(RandomUtils.nextLong());
         }
@@ -86,6 +88,8 @@ public class CouchDbConsentDecision extends ConsentDecision {
         setReminder(other.getReminder());
         setReminderTimeUnit(other.getReminderTimeUnit());
         setService(other.getService());
+        setAttributeNamesHash(other.getAttributeNamesHash());
+        setAttributeValuesHash(other.getAttributeValuesHash());
         return this;
     }
 }
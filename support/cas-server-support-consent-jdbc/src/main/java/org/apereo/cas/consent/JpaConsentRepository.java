@@ -74,6 +74,8 @@ public class JpaConsentRepository implements ConsentRepository {
         account.setReminder(decision.getReminder());
         account.setReminderTimeUnit(decision.getReminderTimeUnit());
         account.setService(decision.getService());
+        account.setAttributeNamesHash(decision.getAttributeNamesHash());
+        account.setAttributeValuesHash(decision.getAttributeValuesHash());
 
         val isNew = account.getId() < 0;
         val mergedDecision = this.entityManager.merge(account);
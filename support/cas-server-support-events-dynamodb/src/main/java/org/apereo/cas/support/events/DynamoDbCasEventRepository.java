@@ -4,6 +4,7 @@ import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -26,6 +27,11 @@ public class DynamoDbCasEventRepository extends AbstractCasEventRepository {
         return dbCasEventsFacilitator.save(event);
     }
 
+    @Override
+    protected void saveAllInternal(final List<CasEvent> events) throws Exception {
+        dbCasEventsFacilitator.saveAll(events);
+    }
+
     @Override
     public Stream<? extends CasEvent> load() {
         return dbCasEventsFacilitator.getAll();
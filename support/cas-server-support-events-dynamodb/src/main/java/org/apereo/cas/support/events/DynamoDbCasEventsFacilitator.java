@@ -8,6 +8,7 @@ import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,13 +17,17 @@ import org.jooq.lambda.Unchecked;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +43,10 @@ import java.util.stream.Stream;
 @Getter
 @RequiredArgsConstructor
 public class DynamoDbCasEventsFacilitator {
+    private static final int MAX_BATCH_WRITE_ITEMS = 25;
+
+    private static final int MAX_BATCH_WRITE_ATTEMPTS = 3;
+
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(false).build().toObjectMapper();
 
@@ -97,6 +106,32 @@ public class DynamoDbCasEventsFacilitator {
         return record;
     }
 
+    /**
+     * Save all records using batched write requests.
+     *
+     * @param records the records
+     * @throws Exception the exception
+     */
+    public void saveAll(final List<CasEvent> records) throws Exception {
+        val requests = new ArrayList<WriteRequest>(records.size());
+        for (val record : records) {
+            val putRequest = PutRequest.builder().item(buildTableAttributeValuesMap(record)).build();
+            requests.add(WriteRequest.builder().putRequest(putRequest).build());
+        }
+        for (val batch : Lists.partition(requests, MAX_BATCH_WRITE_ITEMS)) {
+            var pending = Map.<String, List<WriteRequest>>of(dynamoDbProperties.getTableName(), batch);
+            for (var attempt = 0; !pending.isEmpty() && attempt < MAX_BATCH_WRITE_ATTEMPTS; attempt++) {
+                val batchRequest = BatchWriteItemRequest.builder().requestItems(pending).build();
+                LOGGER.debug("Submitting batch write request for [{}] records", batch.size());
+                pending = amazonDynamoDBClient.batchWriteItem(batchRequest).unprocessedItems();
+            }
+            if (!pending.isEmpty()) {
+                LOGGER.warn("Unable to save [{}] event records after [{}] attempts",
+                    pending.values().stream().mapToInt(List::size).sum(), MAX_BATCH_WRITE_ATTEMPTS);
+            }
+        }
+    }
+
     public Stream<CasEvent> getAll() {
         return getRecordsByKeys(List.of());
     }
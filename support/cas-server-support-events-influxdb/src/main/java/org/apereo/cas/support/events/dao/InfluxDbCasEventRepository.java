@@ -3,22 +3,30 @@ package org.apereo.cas.support.events.dao;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
 import org.apereo.cas.influxdb.InfluxDbConnectionFactory;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
+import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.influxdb.annotations.Column;
 import com.influxdb.annotations.Measurement;
+import com.influxdb.client.write.Point;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.val;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.jooq.lambda.Unchecked;
 import org.springframework.beans.factory.DisposableBean;
 
 import java.io.Serializable;
+import java.time.Clock;
 import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -43,7 +51,19 @@ public class InfluxDbCasEventRepository extends AbstractCasEventRepository imple
 
     @Override
     public CasEvent saveInternal(final CasEvent event) {
-        influxDbConnectionFactory.write(MEASUREMENT,
+        influxDbConnectionFactory.write(toPoint(event));
+        return event;
+    }
+
+    @Override
+    protected void saveAllInternal(final List<CasEvent> events) {
+        influxDbConnectionFactory.write(events.stream()
+            .map(InfluxDbCasEventRepository::toPoint)
+            .collect(Collectors.toList()));
+    }
+
+    private static Point toPoint(final CasEvent event) {
+        return InfluxDbConnectionFactory.newPoint(MEASUREMENT, getEventTime(event),
             Map.of("value", event.getEventId()),
             Map.of(
                 "serverIpAddress", event.getServerIpAddress(),
@@ -53,7 +73,24 @@ public class InfluxDbCasEventRepository extends AbstractCasEventRepository imple
                 "creationTime", event.getCreationTime(),
                 "timestamp", String.valueOf(event.getTimestamp()),
                 "type", event.getType()));
-        return event;
+    }
+
+    /**
+     * Determine when the event occurred, so that buffered events are recorded
+     * at their own time rather than the time they are written.
+     *
+     * @param event the event
+     * @return the event time
+     */
+    private static Instant getEventTime(final CasEvent event) {
+        val timestamp = event.get(CasEvent.FIELD_TIMESTAMP);
+        if (NumberUtils.isCreatable(timestamp)) {
+            return Instant.ofEpochMilli(NumberUtils.toLong(timestamp));
+        }
+        return Optional.ofNullable(event.getCreationTime())
+            .map(DateTimeUtils::zonedDateTimeOf)
+            .map(ZonedDateTime::toInstant)
+            .orElseGet(() -> Instant.now(Clock.systemUTC()));
     }
 
     @Override
@@ -18,6 +18,7 @@ import javax.persistence.EntityManager;
 import javax.persistence.LockModeType;
 import javax.persistence.PersistenceContext;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -136,14 +137,25 @@ public class JpaCasEventRepository extends AbstractCasEventRepository {
     @Override
     public CasEvent saveInternal(final CasEvent event) {
         val transactionTemplate = new TransactionTemplate(this.transactionManager);
-        return transactionTemplate.execute((TransactionCallback<CasEvent>) ts -> {
-            val jpaEvent = new JpaCasEvent();
-            jpaEvent.setId(event.getId());
-            jpaEvent.setCreationTime(event.getCreationTime());
-            jpaEvent.setPrincipalId(event.getPrincipalId());
-            jpaEvent.setProperties(event.getProperties());
-            jpaEvent.setType(event.getType());
-            return entityManager.merge(jpaEvent);
+        return transactionTemplate.execute((TransactionCallback<CasEvent>) ts -> entityManager.merge(toJpaCasEvent(event)));
+    }
+
+    @Override
+    protected void saveAllInternal(final List<CasEvent> events) {
+        val transactionTemplate = new TransactionTemplate(this.transactionManager);
+        transactionTemplate.executeWithoutResult(ts -> {
+            events.forEach(event -> entityManager.merge(toJpaCasEvent(event)));
+            entityManager.flush();
         });
     }
+
+    private static JpaCasEvent toJpaCasEvent(final CasEvent event) {
+        val jpaEvent = new JpaCasEvent();
+        jpaEvent.setId(event.getId());
+        jpaEvent.setCreationTime(event.getCreationTime());
+        jpaEvent.setPrincipalId(event.getPrincipalId());
+        jpaEvent.setProperties(event.getProperties());
+        jpaEvent.setType(event.getType());
+        return jpaEvent;
+    }
 }
@@ -4,12 +4,9 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
-import org.apereo.cas.support.events.dao.CasEvent;
 import org.apereo.cas.support.events.dao.InMemoryCasEventRepository;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -33,9 +30,9 @@ import java.time.Duration;
 @AutoConfiguration
 public class CasEventsInMemoryRepositoryConfiguration {
 
-    private static final int INITIAL_CACHE_SIZE = 50;
+    private static final long MAX_EVENTS = 1_000_000;
 
-    private static final long MAX_CACHE_SIZE = 1_000_000;
+    private static final long MAX_EVENTS_PER_PRINCIPAL = 10_000;
 
     private static final long EXPIRATION_TIME = 2;
 
@@ -44,17 +41,9 @@ public class CasEventsInMemoryRepositoryConfiguration {
     public CasEventRepository casEventRepository(
         @Qualifier("casEventRepositoryFilter")
         final CasEventRepositoryFilter casEventRepositoryFilter) {
-        final LoadingCache<String, CasEvent> storage = Caffeine.newBuilder()
-            .initialCapacity(INITIAL_CACHE_SIZE)
-            .maximumSize(MAX_CACHE_SIZE)
-            .recordStats()
-            .expireAfterWrite(Duration.ofHours(EXPIRATION_TIME))
-            .build(s -> {
-                LOGGER.error("Load operation of the cache is not supported.");
-                return null;
-            });
         LOGGER.debug("Created an in-memory event repository to store CAS events for [{}] hours", EXPIRATION_TIME);
-        return new InMemoryCasEventRepository(casEventRepositoryFilter, storage);
+        return new InMemoryCasEventRepository(casEventRepositoryFilter,
+            Duration.ofHours(EXPIRATION_TIME), MAX_EVENTS, MAX_EVENTS_PER_PRINCIPAL);
     }
 
     @ConditionalOnMissingBean(name = "casEventRepositoryFilter")
@@ -1,44 +1,207 @@
 package org.apereo.cas.support.events.dao;
 
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
+import org.apereo.cas.util.DateTimeUtils;
+import org.apereo.cas.util.function.FunctionUtils;
 
-import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 
-import java.util.UUID;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 /**
- * This is {@link InMemoryCasEventRepository}.
+ * This is {@link InMemoryCasEventRepository} that keeps events in memory,
+ * ordered by their creation time and indexed by principal and by event type.
+ * Queries for a principal or a type only visit the events recorded for that principal or type,
+ * and queries bounded by a date skip directly to the first matching event.
+ * Events are retained for a limited amount of time, and the number of events
+ * kept overall and for each principal is capped by discarding the oldest events first.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
+@Slf4j
 public class InMemoryCasEventRepository extends AbstractCasEventRepository {
-    private final LoadingCache<String, CasEvent> cache;
+    private final NavigableMap<EventKey, CasEvent> events = new ConcurrentSkipListMap<>();
+
+    private final Map<String, NavigableMap<EventKey, CasEvent>> eventsByPrincipal = new ConcurrentHashMap<>();
+
+    private final Map<String, NavigableMap<EventKey, CasEvent>> eventsByType = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Duration expiration;
+
+    private final long maximumEvents;
+
+    private final long maximumEventsPerPrincipal;
+
+    private final Clock clock;
 
     public InMemoryCasEventRepository(final CasEventRepositoryFilter eventRepositoryFilter,
-                                      final LoadingCache<String, CasEvent> cache) {
+                                      final Duration expiration,
+                                      final long maximumEvents,
+                                      final long maximumEventsPerPrincipal) {
+        this(eventRepositoryFilter, expiration, maximumEvents, maximumEventsPerPrincipal, Clock.systemUTC());
+    }
+
+    public InMemoryCasEventRepository(final CasEventRepositoryFilter eventRepositoryFilter,
+                                      final Duration expiration,
+                                      final long maximumEvents,
+                                      final long maximumEventsPerPrincipal,
+                                      final Clock clock) {
         super(eventRepositoryFilter);
-        this.cache = cache;
+        this.expiration = expiration;
+        this.maximumEvents = maximumEvents;
+        this.maximumEventsPerPrincipal = maximumEventsPerPrincipal;
+        this.clock = clock;
+    }
+
+    private static String getPrincipalKey(final String principalId) {
+        return StringUtils.defaultString(principalId).toLowerCase(Locale.ENGLISH);
+    }
+
+    private static void removeFromIndex(final Map<String, NavigableMap<EventKey, CasEvent>> index,
+                                        final String indexKey, final EventKey key) {
+        index.computeIfPresent(indexKey, (k, indexedEvents) -> {
+            indexedEvents.remove(key);
+            return indexedEvents.isEmpty() ? null : indexedEvents;
+        });
+    }
+
+    private static EventKey lowerBoundOf(final ZonedDateTime dateTime) {
+        return new EventKey(dateTime.toInstant().toEpochMilli(), Long.MIN_VALUE);
     }
 
     @Override
     public Stream<? extends CasEvent> load() {
-        return cache.asMap().values().stream();
+        return activeEventsOf(events).values().stream();
+    }
+
+    @Override
+    public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
+        return activeEventsOf(events, dateTime).values().stream();
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
+        return getEventsForPrincipal(principal).filter(event -> StringUtils.equals(event.getType(), type));
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
+                                                                  final ZonedDateTime dateTime) {
+        return getEventsForPrincipal(principal, dateTime).filter(event -> StringUtils.equals(event.getType(), type));
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type) {
+        return activeEventsOf(eventsByType.get(type)).values().stream();
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
+        return activeEventsOf(eventsByType.get(type), dateTime).values().stream();
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        return cache
-            .asMap()
-            .values()
-            .stream()
-            .filter(e -> e.getPrincipalId().equalsIgnoreCase(id));
+        return activeEventsOf(eventsByPrincipal.get(getPrincipalKey(id))).values().stream();
     }
 
     @Override
-    public CasEvent saveInternal(final CasEvent event) {
-        cache.put(UUID.randomUUID().toString(), event);
+    public Stream<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
+        return activeEventsOf(eventsByPrincipal.get(getPrincipalKey(id)), dateTime).values().stream();
+    }
+
+    @Override
+    public synchronized CasEvent saveInternal(final CasEvent event) {
+        val key = new EventKey(getCreationTime(event), sequence.incrementAndGet());
+        events.put(key, event);
+        val principalEvents = eventsByPrincipal.computeIfAbsent(getPrincipalKey(event.getPrincipalId()),
+            k -> new ConcurrentSkipListMap<>());
+        principalEvents.put(key, event);
+        eventsByType.computeIfAbsent(StringUtils.defaultString(event.getType()), k -> new ConcurrentSkipListMap<>()).put(key, event);
+
+        while (principalEvents.size() > maximumEventsPerPrincipal) {
+            remove(principalEvents.firstKey());
+        }
+        while (events.size() > maximumEvents) {
+            remove(events.firstKey());
+        }
+        removeExpiredEvents();
         return event;
     }
+
+    /**
+     * Remove events that have outlived the expiration period.
+     */
+    public synchronized void removeExpiredEvents() {
+        val expired = events.headMap(lowerBoundOf(getExpirationDateTime()));
+        expired.keySet().forEach(this::remove);
+    }
+
+    private void remove(final EventKey key) {
+        val event = events.remove(key);
+        if (event != null) {
+            removeFromIndex(eventsByPrincipal, getPrincipalKey(event.getPrincipalId()), key);
+            removeFromIndex(eventsByType, StringUtils.defaultString(event.getType()), key);
+            LOGGER.trace("Removed event [{}] for [{}]", event.getType(), event.getPrincipalId());
+        }
+    }
+
+    private NavigableMap<EventKey, CasEvent> activeEventsOf(final NavigableMap<EventKey, CasEvent> indexedEvents) {
+        return activeEventsOf(indexedEvents, getExpirationDateTime());
+    }
+
+    private NavigableMap<EventKey, CasEvent> activeEventsOf(final NavigableMap<EventKey, CasEvent> indexedEvents,
+                                                           final ZonedDateTime dateTime) {
+        if (indexedEvents == null) {
+            return Collections.emptyNavigableMap();
+        }
+        val expirationDateTime = getExpirationDateTime();
+        val from = dateTime.isAfter(expirationDateTime) ? dateTime : expirationDateTime;
+        return indexedEvents.tailMap(lowerBoundOf(from), true);
+    }
+
+    private ZonedDateTime getExpirationDateTime() {
+        return ZonedDateTime.now(clock).minus(expiration);
+    }
+
+    private long getCreationTime(final CasEvent event) {
+        return FunctionUtils.doAndHandle(
+            () -> DateTimeUtils.convertToZonedDateTime(event.getCreationTime()).toInstant().toEpochMilli(),
+            e -> clock.millis()).get();
+    }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class EventKey implements Comparable<EventKey> {
+        private static final Comparator<EventKey> COMPARATOR = Comparator
+            .comparingLong((EventKey key) -> key.creationTime)
+            .thenComparingLong(key -> key.sequence);
+
+        private final long creationTime;
+
+        private final long sequence;
+
+        @Override
+        public int compareTo(final EventKey other) {
+            return COMPARATOR.compare(this, other);
+        }
+    }
 }
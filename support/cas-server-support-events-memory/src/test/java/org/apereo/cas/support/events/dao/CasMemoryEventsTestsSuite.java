@@ -11,6 +11,7 @@ import org.junit.platform.suite.api.Suite;
  */
 @SelectClasses({
     GroovyCasEventRepositoryFilterTests.class,
+    IndexedInMemoryCasEventRepositoryTests.class,
     InMemoryCasEventRepositoryTests.class
 })
 @Suite
@@ -0,0 +1,82 @@
+package org.apereo.cas.support.events.dao;
+
+import org.apereo.cas.support.events.CasEventRepositoryFilter;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link IndexedInMemoryCasEventRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Events")
+public class IndexedInMemoryCasEventRepositoryTests {
+    private static final Instant NOW = Instant.parse("2022-01-01T12:00:00Z");
+
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private static CasEvent newEvent(final String principal, final String type, final Duration age) {
+        val event = new CasEvent();
+        event.setPrincipalId(principal);
+        event.setType(type);
+        event.setCreationTime(ZonedDateTime.ofInstant(NOW.minus(age), ZoneOffset.UTC).toString());
+        return event;
+    }
+
+    @Test
+    public void verifyIndexedQueries() throws Exception {
+        val repository = new InMemoryCasEventRepository(CasEventRepositoryFilter.noOp(), Duration.ofHours(2), 100, 100, CLOCK);
+        repository.save(newEvent("casuser", "login", Duration.ofMinutes(30)));
+        repository.save(newEvent("CASUSER", "logout", Duration.ofMinutes(10)));
+        repository.save(newEvent("other", "login", Duration.ofMinutes(5)));
+
+        assertEquals(3, repository.load().count());
+        assertEquals(2, repository.getEventsForPrincipal("casuser").count());
+        assertEquals(2, repository.getEventsOfType("login").count());
+        assertEquals(1, repository.getEventsOfTypeForPrincipal("logout", "casuser").count());
+
+        val since = ZonedDateTime.ofInstant(NOW.minus(Duration.ofMinutes(15)), ZoneOffset.UTC);
+        assertEquals(2, repository.load(since).count());
+        assertEquals(1, repository.getEventsForPrincipal("casuser", since).count());
+        assertEquals(1, repository.getEventsOfType("login", since).count());
+        assertEquals(0, repository.getEventsOfTypeForPrincipal("login", "casuser", since).count());
+        assertEquals(0, repository.getEventsForPrincipal("unknown").count());
+    }
+
+    @Test
+    public void verifyExpiredEventsAreRemoved() throws Exception {
+        val repository = new InMemoryCasEventRepository(CasEventRepositoryFilter.noOp(), Duration.ofHours(2), 100, 100, CLOCK);
+        repository.save(newEvent("casuser", "login", Duration.ofHours(3)));
+        repository.save(newEvent("casuser", "login", Duration.ofMinutes(1)));
+        assertEquals(1, repository.load().count());
+        assertEquals(1, repository.getEventsForPrincipal("casuser").count());
+        assertEquals(1, repository.getEventsOfType("login").count());
+    }
+
+    @Test
+    public void verifyOldestEventsAreEvicted() throws Exception {
+        val repository = new InMemoryCasEventRepository(CasEventRepositoryFilter.noOp(), Duration.ofHours(2), 5, 2, CLOCK);
+        repository.save(newEvent("casuser", "login", Duration.ofMinutes(3)));
+        repository.save(newEvent("casuser", "login", Duration.ofMinutes(2)));
+        repository.save(newEvent("casuser", "logout", Duration.ofMinutes(1)));
+        assertEquals(2, repository.getEventsForPrincipal("casuser").count());
+        assertEquals(1, repository.getEventsOfType("login").count());
+
+        for (var i = 0; i < 5; i++) {
+            repository.save(newEvent("user" + i, "login", Duration.ofSeconds(i)));
+        }
+        assertEquals(5, repository.load().count());
+        assertEquals(0, repository.getEventsForPrincipal("casuser").count());
+    }
+}
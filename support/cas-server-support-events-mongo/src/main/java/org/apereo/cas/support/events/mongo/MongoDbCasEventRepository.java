@@ -6,11 +6,14 @@ import org.apereo.cas.support.events.dao.CasEvent;
 
 import lombok.ToString;
 import lombok.val;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -96,4 +99,12 @@ public class MongoDbCasEventRepository extends AbstractCasEventRepository {
     public CasEvent saveInternal(final CasEvent event) {
         return this.mongoTemplate.save(event, this.collectionName);
     }
+
+    @Override
+    protected void saveAllInternal(final List<CasEvent> events) {
+        val operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, CasEvent.class, collectionName);
+        events.forEach(event -> operations.replaceOne(new Query(Criteria.where("id").is(event.getId())),
+            event, FindAndReplaceOptions.options().upsert()));
+        operations.execute();
+    }
 }
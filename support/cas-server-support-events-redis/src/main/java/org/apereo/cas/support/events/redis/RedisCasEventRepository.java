@@ -11,7 +11,11 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
 import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -123,6 +127,17 @@ public class RedisCasEventRepository extends AbstractCasEventRepository {
         return event;
     }
 
+    @Override
+    protected void saveAllInternal(final List<CasEvent> events) {
+        val entries = events
+            .stream()
+            .collect(Collectors.toMap(
+                event -> getKey(event.getType(), event.getPrincipalId(), String.valueOf(event.getTimestamp())),
+                Function.identity(), (first, second) -> second, LinkedHashMap::new));
+        LOGGER.trace("Saving [{}] event records", entries.size());
+        template.opsForValue().multiSet(entries);
+    }
+
     private Stream<String> getKeys(final String type, final String principal, final String timestamp) {
         val key = getKey(type, principal, timestamp);
         LOGGER.trace("Fetching records based on key [{}]", key);
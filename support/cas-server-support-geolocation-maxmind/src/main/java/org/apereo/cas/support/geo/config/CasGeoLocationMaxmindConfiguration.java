@@ -5,12 +5,8 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.support.geo.GeoLocationServiceConfigurer;
 import org.apereo.cas.support.geo.maxmind.MaxmindDatabaseGeoLocationService;
-import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 
-import com.maxmind.db.CHMCache;
-import com.maxmind.db.Reader;
-import com.maxmind.geoip2.DatabaseReader;
 import lombok.val;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -19,9 +15,6 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
-import org.springframework.core.io.Resource;
-
-import java.io.IOException;
 
 /**
  * This is {@link CasGeoLocationMaxmindConfiguration}.
@@ -34,22 +27,19 @@ import java.io.IOException;
 @AutoConfiguration
 public class CasGeoLocationMaxmindConfiguration {
 
-    private static DatabaseReader readDatabase(final Resource maxmindDatabase) throws IOException {
-        if (ResourceUtils.doesResourceExist(maxmindDatabase)) {
-            return new DatabaseReader.Builder(maxmindDatabase.getFile()).fileMode(Reader.FileMode.MEMORY).withCache(new CHMCache()).build();
-        }
-        return null;
-    }
-
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @ConditionalOnMissingBean(name = "maxMindGeoLocationService")
     public GeoLocationService maxMindGeoLocationService(final CasConfigurationProperties casProperties)
         throws Exception {
         val properties = casProperties.getGeoLocation().getMaxmind();
-        val cityDatabase = readDatabase(properties.getCityDatabase());
-        val countryDatabase = readDatabase(properties.getCountryDatabase());
-        return new MaxmindDatabaseGeoLocationService(cityDatabase, countryDatabase);
+        val cityDatabase = MaxmindDatabaseGeoLocationService.readDatabase(properties.getCityDatabase(), properties.isMemoryMapped());
+        val countryDatabase = MaxmindDatabaseGeoLocationService.readDatabase(properties.getCountryDatabase(), properties.isMemoryMapped());
+        val service = new MaxmindDatabaseGeoLocationService(cityDatabase, countryDatabase);
+        if (properties.isWatcherEnabled()) {
+            service.watchDatabases(properties.getCityDatabase(), properties.getCountryDatabase(), properties.isMemoryMapped());
+        }
+        return service;
     }
 
     @Bean
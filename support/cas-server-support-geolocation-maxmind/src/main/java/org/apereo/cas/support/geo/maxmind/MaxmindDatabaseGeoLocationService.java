@@ -3,40 +3,132 @@ package org.apereo.cas.support.geo.maxmind;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationResponse;
 import org.apereo.cas.support.geo.AbstractGeoLocationService;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.ResourceUtils;
+import org.apereo.cas.util.io.FileWatcherService;
+import org.apereo.cas.util.io.WatcherService;
 
+import com.maxmind.db.CHMCache;
+import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.AddressNotFoundException;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.io.Resource;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * This is {@link MaxmindDatabaseGeoLocationService} that reads geo data
  * from a maxmind database and constructs a geo location based on the ip address.
  * Default caching of the databases is enabled by default.
+ * Database files can be watched for changes, in which case the database
+ * readers are rebuilt and swapped in when files are modified or replaced,
+ * and listeners such as caches are notified. The previous readers are closed
+ * after a grace period, so that lookups still using them can complete.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
  */
 @Slf4j
-@RequiredArgsConstructor
-public class MaxmindDatabaseGeoLocationService extends AbstractGeoLocationService {
-    private final DatabaseReader cityDatabaseReader;
+@Getter
+public class MaxmindDatabaseGeoLocationService extends AbstractGeoLocationService implements DisposableBean {
+    private static final Duration DEFAULT_CLOSE_GRACE_PERIOD = Duration.ofMinutes(1);
 
-    private final DatabaseReader countryDatabaseReader;
+    private final List<WatcherService> watcherServices = new ArrayList<>();
+
+    /**
+     * How long a replaced database reader is kept open for in-flight lookups.
+     */
+    @Setter
+    private Duration closeGracePeriod = DEFAULT_CLOSE_GRACE_PERIOD;
+
+    private volatile DatabaseReader cityDatabaseReader;
+
+    private volatile DatabaseReader countryDatabaseReader;
+
+    public MaxmindDatabaseGeoLocationService(final DatabaseReader cityDatabaseReader,
+                                             final DatabaseReader countryDatabaseReader) {
+        this.cityDatabaseReader = cityDatabaseReader;
+        this.countryDatabaseReader = countryDatabaseReader;
+    }
+
+    /**
+     * Build a database reader for the given maxmind database, if the resource exists.
+     *
+     * @param database     the database
+     * @param memoryMapped whether the database file should be memory-mapped
+     * @return the database reader, or null
+     * @throws IOException the exception
+     */
+    public static DatabaseReader readDatabase(final Resource database, final boolean memoryMapped) throws IOException {
+        if (ResourceUtils.doesResourceExist(database)) {
+            val fileMode = memoryMapped && ResourceUtils.isFile(database) ? Reader.FileMode.MEMORY_MAPPED : Reader.FileMode.MEMORY;
+            LOGGER.debug("Loading maxmind database [{}] with file mode [{}]", database, fileMode);
+            return new DatabaseReader.Builder(database.getFile()).fileMode(fileMode).withCache(new CHMCache()).build();
+        }
+        return null;
+    }
+
+    /**
+     * Watch the city and country database files and reload them when they change.
+     *
+     * @param cityDatabase    the city database
+     * @param countryDatabase the country database
+     * @param memoryMapped    whether database files should be memory-mapped
+     * @throws IOException the exception
+     */
+    public void watchDatabases(final Resource cityDatabase, final Resource countryDatabase,
+                               final boolean memoryMapped) throws IOException {
+        if (ResourceUtils.isFile(cityDatabase)) {
+            watchDatabase(cityDatabase, file -> reloadDatabase(cityDatabase, memoryMapped).ifPresent(reader -> {
+                val previous = this.cityDatabaseReader;
+                this.cityDatabaseReader = reader;
+                closeDatabaseLater(previous, reader);
+                notifyReloadListeners();
+                LOGGER.info("Reloaded maxmind city database from [{}]", file);
+            }));
+        }
+        if (ResourceUtils.isFile(countryDatabase)) {
+            watchDatabase(countryDatabase, file -> reloadDatabase(countryDatabase, memoryMapped).ifPresent(reader -> {
+                val previous = this.countryDatabaseReader;
+                this.countryDatabaseReader = reader;
+                closeDatabaseLater(previous, reader);
+                notifyReloadListeners();
+                LOGGER.info("Reloaded maxmind country database from [{}]", file);
+            }));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        watcherServices.forEach(WatcherService::close);
+        watcherServices.clear();
+    }
 
     @Override
     public GeoLocationResponse locate(final InetAddress address) {
         try {
-            if (cityDatabaseReader == null && countryDatabaseReader == null) {
+            val cityReader = this.cityDatabaseReader;
+            val countryReader = this.countryDatabaseReader;
+            if (cityReader == null && countryReader == null) {
                 throw new IllegalArgumentException("No geolocation services have been defined for Maxmind");
             }
 
             val location = new GeoLocationResponse();
-            if (this.cityDatabaseReader != null) {
-                val response = this.cityDatabaseReader.city(address);
+            if (cityReader != null) {
+                val response = cityReader.city(address);
                 location.addAddress(response.getCity().getName());
                 val loc = response.getLocation();
                 if (loc != null) {
@@ -48,8 +140,8 @@ public class MaxmindDatabaseGeoLocationService extends AbstractGeoLocationServic
                     }
                 }
             }
-            if (this.countryDatabaseReader != null) {
-                val response = this.countryDatabaseReader.country(address);
+            if (countryReader != null) {
+                val response = countryReader.country(address);
                 location.addAddress(response.getCountry().getName());
             }
             LOGGER.debug("Geo location for [{}] is calculated as [{}]", address, location);
@@ -67,4 +159,45 @@ public class MaxmindDatabaseGeoLocationService extends AbstractGeoLocationServic
         LOGGER.warn("Geo-locating an address by latitude/longitude [{}]/[{}] is not supported", latitude, longitude);
         return null;
     }
+
+    /**
+     * Read the database again once its file has changed.
+     *
+     * @param database     the database
+     * @param memoryMapped whether the database file should be memory-mapped
+     * @return the database reader, if the database can be read
+     */
+    protected Optional<DatabaseReader> reloadDatabase(final Resource database, final boolean memoryMapped) {
+        try {
+            return Optional.ofNullable(readDatabase(database, memoryMapped));
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, "Unable to reload maxmind database " + database + "; the current database remains in use", e);
+            return Optional.empty();
+        }
+    }
+
+    private static void closeDatabase(final DatabaseReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, e);
+            }
+        }
+    }
+
+    private void closeDatabaseLater(final DatabaseReader previous, final DatabaseReader current) {
+        if (previous != null && previous != current) {
+            LOGGER.debug("Previous maxmind database will be closed in [{}]", closeGracePeriod);
+            CompletableFuture.runAsync(() -> closeDatabase(previous),
+                CompletableFuture.delayedExecutor(closeGracePeriod.toMillis(), TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private void watchDatabase(final Resource database, final Consumer<File> onChange) throws IOException {
+        val watcher = new FileWatcherService(database.getFile(), onChange, onChange,
+            file -> LOGGER.warn("Maxmind database [{}] is removed; the current database remains in use", file));
+        watcher.start(getClass().getSimpleName());
+        watcherServices.add(watcher);
+    }
 }
@@ -13,11 +13,21 @@ import com.maxmind.geoip2.record.Postal;
 import com.maxmind.geoip2.record.RepresentedCountry;
 import com.maxmind.geoip2.record.Traits;
 import lombok.val;
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 
+import java.io.File;
 import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -86,4 +96,62 @@ public class MaxmindDatabaseGeoLocationServiceTests {
         val response2 = service.locate(100D, 100D);
         assertNull(response2);
     }
+
+    @Test
+    public void verifyMissingDatabase() throws Exception {
+        assertNull(MaxmindDatabaseGeoLocationService.readDatabase(new FileSystemResource("/does/not/exist.mmdb"), true));
+    }
+
+    @Test
+    public void verifyDatabaseWatchers() throws Exception {
+        val directory = Files.createTempDirectory("maxmind").toFile();
+        val file = new File(directory, "GeoLite2-City.mmdb");
+        FileUtils.writeStringToFile(file, "original", StandardCharsets.UTF_8);
+
+        val city = mock(DatabaseReader.class);
+        val reloaded = mock(DatabaseReader.class);
+        val reloads = new AtomicInteger();
+        val service = new MaxmindDatabaseGeoLocationService(city, null) {
+            @Override
+            protected Optional<DatabaseReader> reloadDatabase(final Resource database, final boolean memoryMapped) {
+                return Optional.of(reloaded);
+            }
+        };
+        service.addReloadListener(reloads::incrementAndGet);
+        service.setCloseGracePeriod(Duration.ofSeconds(2));
+        service.watchDatabases(new FileSystemResource(file), null, true);
+        assertEquals(1, service.getWatcherServices().size());
+        assertSame(city, service.getCityDatabaseReader());
+
+        val replacement = new File(directory, "GeoLite2-City.mmdb.tmp");
+        FileUtils.writeStringToFile(replacement, "replacement", StandardCharsets.UTF_8);
+        Files.move(replacement.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        val deadline = System.currentTimeMillis() + 30_000;
+        while (service.getCityDatabaseReader() != reloaded && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertSame(reloaded, service.getCityDatabaseReader());
+        verify(city, never()).close();
+        verify(city, timeout(10_000).times(1)).close();
+        assertTrue(reloads.get() >= 1);
+
+        service.destroy();
+        assertTrue(service.getWatcherServices().isEmpty());
+        FileUtils.deleteQuietly(directory);
+    }
+
+    @Test
+    public void verifyFailedReloadKeepsDatabase() throws Exception {
+        val directory = Files.createTempDirectory("maxmind").toFile();
+        val file = new File(directory, "GeoLite2-City.mmdb");
+        FileUtils.writeStringToFile(file, "original", StandardCharsets.UTF_8);
+
+        val city = mock(DatabaseReader.class);
+        val service = new MaxmindDatabaseGeoLocationService(city, null);
+        assertTrue(service.reloadDatabase(new FileSystemResource(file), true).isEmpty());
+        assertSame(city, service.getCityDatabaseReader());
+        verify(city, never()).close();
+        FileUtils.deleteQuietly(directory);
+    }
 }
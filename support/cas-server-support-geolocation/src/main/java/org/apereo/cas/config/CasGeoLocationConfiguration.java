@@ -2,7 +2,9 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.CasFeatureModule;
+import org.apereo.cas.support.geo.CachingGeoLocationService;
 import org.apereo.cas.support.geo.GeoLocationServiceConfigurer;
 import org.apereo.cas.support.geo.GroovyGeoLocationService;
 import org.apereo.cas.util.scripting.WatchableGroovyScriptResource;
@@ -10,7 +12,10 @@ import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -38,6 +43,8 @@ public class CasGeoLocationConfiguration {
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     public GeoLocationService geoLocationService(
+        final ObjectProvider<MeterRegistry> meterRegistry,
+        final CasConfigurationProperties casProperties,
         final List<GeoLocationServiceConfigurer> providers) {
         val services = providers.stream()
             .map(GeoLocationServiceConfigurer::configure)
@@ -46,7 +53,14 @@ public class CasGeoLocationConfiguration {
             .collect(Collectors.toList());
         return BeanSupplier.of(GeoLocationService.class)
             .when(!services.isEmpty())
-            .supply(() -> services.get(0))
+            .supply(() -> {
+                val cache = casProperties.getGeoLocation().getCache();
+                val service = services.get(0);
+                return cache.isEnabled()
+                    ? new CachingGeoLocationService(service, Beans.newDuration(cache.getExpireAfterWrite()),
+                        cache.getMaximumSize(), meterRegistry.getIfAvailable(() -> Metrics.globalRegistry))
+                    : service;
+            })
             .otherwiseProxy()
             .get();
     }
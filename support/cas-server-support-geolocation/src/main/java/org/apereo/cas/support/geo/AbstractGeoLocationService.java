@@ -10,6 +10,8 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
 import java.net.InetAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * This is {@link AbstractGeoLocationService}.
@@ -19,6 +21,25 @@ import java.net.InetAddress;
  */
 @Slf4j
 public abstract class AbstractGeoLocationService implements GeoLocationService {
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Register a listener that is notified when the data
+     * behind this service is reloaded, such as when a database file is replaced.
+     *
+     * @param listener the listener
+     */
+    public void addReloadListener(final Runnable listener) {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * Notify registered listeners that the data behind this service is reloaded.
+     */
+    protected void notifyReloadListeners() {
+        reloadListeners.forEach(Runnable::run);
+    }
+
     @Override
     public GeoLocationResponse locate(final String address) {
         return FunctionUtils.doAndHandle(() -> locate(InetAddress.getByName(address)), e -> null).get();
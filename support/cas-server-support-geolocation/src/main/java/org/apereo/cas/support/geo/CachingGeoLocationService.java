@@ -0,0 +1,98 @@
+package org.apereo.cas.support.geo;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationResponse;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link CachingGeoLocationService} that remembers the geolocation
+ * calculated by another {@link GeoLocationService} for each address, or each latitude/longitude pair,
+ * so that repeated lookups during adaptive authentication and risk assessment
+ * are answered from memory. Addresses that cannot be located are not cached,
+ * so that transient failures of the underlying service are not remembered.
+ * Lookups are timed and tagged by whether they were served from the cache.
+ * Cached results are removed when the underlying service reports that its data is reloaded.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@Getter
+public class CachingGeoLocationService extends AbstractGeoLocationService {
+    /**
+     * Meter name used to time geolocation lookups.
+     */
+    public static final String METER_NAME = "cas.geolocation.lookup";
+
+    private final GeoLocationService geoLocationService;
+
+    private final Cache<String, GeoLocationResponse> cache;
+
+    private final Timer cacheHitTimer;
+
+    private final Timer cacheMissTimer;
+
+    public CachingGeoLocationService(final GeoLocationService geoLocationService,
+                                     final Duration expireAfterWrite,
+                                     final long maximumSize,
+                                     final MeterRegistry meterRegistry) {
+        this.geoLocationService = geoLocationService;
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(expireAfterWrite)
+            .maximumSize(maximumSize)
+            .build();
+        this.cacheHitTimer = Timer.builder(METER_NAME).tag("cache", "hit").register(meterRegistry);
+        this.cacheMissTimer = Timer.builder(METER_NAME).tag("cache", "miss").register(meterRegistry);
+        if (geoLocationService instanceof AbstractGeoLocationService) {
+            ((AbstractGeoLocationService) geoLocationService).addReloadListener(this::invalidate);
+        }
+    }
+
+    @Override
+    public GeoLocationResponse locate(final InetAddress address) {
+        if (address == null) {
+            return geoLocationService.locate(address);
+        }
+        return getOrLocate(address.getHostAddress(), () -> geoLocationService.locate(address));
+    }
+
+    @Override
+    public GeoLocationResponse locate(final Double latitude, final Double longitude) {
+        if (latitude == null || longitude == null) {
+            return geoLocationService.locate(latitude, longitude);
+        }
+        return getOrLocate(latitude + "," + longitude, () -> geoLocationService.locate(latitude, longitude));
+    }
+
+    /**
+     * Remove all cached geolocation results.
+     */
+    public void invalidate() {
+        cache.invalidateAll();
+    }
+
+    private GeoLocationResponse getOrLocate(final String key, final Supplier<GeoLocationResponse> lookup) {
+        val start = System.nanoTime();
+        val cached = cache.getIfPresent(key);
+        if (cached != null) {
+            cacheHitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            LOGGER.trace("Found cached geolocation for [{}]", key);
+            return cached;
+        }
+        val result = cache.get(key, k -> lookup.get());
+        cacheMissTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
+}
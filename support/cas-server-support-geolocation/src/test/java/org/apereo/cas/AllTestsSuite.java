@@ -1,5 +1,6 @@
 package org.apereo.cas;
 
+import org.apereo.cas.support.geo.CachingGeoLocationServiceTests;
 import org.apereo.cas.support.geo.GeoLocationServiceTests;
 import org.apereo.cas.support.geo.GroovyGeoLocationServiceTests;
 
@@ -13,6 +14,7 @@ import org.junit.platform.suite.api.Suite;
  * @since 6.0.0-RC3
  */
 @SelectClasses({
+    CachingGeoLocationServiceTests.class,
     GeoLocationServiceTests.class,
     GroovyGeoLocationServiceTests.class
 })
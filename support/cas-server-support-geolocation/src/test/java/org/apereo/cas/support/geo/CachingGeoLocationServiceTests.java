@@ -0,0 +1,95 @@
+package org.apereo.cas.support.geo;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationResponse;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CachingGeoLocationServiceTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("GeoLocation")
+public class CachingGeoLocationServiceTests {
+    @Test
+    public void verifyAddressIsCached() throws Exception {
+        val delegate = mock(GeoLocationService.class);
+        when(delegate.locate(any(InetAddress.class))).thenReturn(new GeoLocationResponse().addAddress("Main Street"));
+        val meterRegistry = new SimpleMeterRegistry();
+        val service = new CachingGeoLocationService(delegate, Duration.ofMinutes(5), 100, meterRegistry);
+
+        val response = service.locate("1.2.3.4");
+        assertNotNull(response);
+        assertSame(response, service.locate(InetAddress.getByName("1.2.3.4")));
+        verify(delegate, times(1)).locate(any(InetAddress.class));
+        assertEquals(1, meterRegistry.get(CachingGeoLocationService.METER_NAME).tag("cache", "hit").timer().count());
+        assertEquals(1, meterRegistry.get(CachingGeoLocationService.METER_NAME).tag("cache", "miss").timer().count());
+
+        service.invalidate();
+        assertNotNull(service.locate("1.2.3.4"));
+        verify(delegate, times(2)).locate(any(InetAddress.class));
+    }
+
+    @Test
+    public void verifyUnknownAddressIsNotCached() {
+        val delegate = mock(GeoLocationService.class);
+        val service = new CachingGeoLocationService(delegate, Duration.ofMinutes(5), 100, new SimpleMeterRegistry());
+        assertNull(service.locate("1.2.3.4"));
+        assertNull(service.locate("1.2.3.4"));
+        verify(delegate, times(2)).locate(any(InetAddress.class));
+
+        when(delegate.locate(any(InetAddress.class))).thenReturn(new GeoLocationResponse().addAddress("Main Street"));
+        assertNotNull(service.locate("1.2.3.4"));
+        assertNotNull(service.locate("1.2.3.4"));
+        verify(delegate, times(3)).locate(any(InetAddress.class));
+    }
+
+    @Test
+    public void verifyCoordinatesAreCached() {
+        val delegate = mock(GeoLocationService.class);
+        when(delegate.locate(anyDouble(), anyDouble())).thenReturn(new GeoLocationResponse());
+        val service = new CachingGeoLocationService(delegate, Duration.ofMinutes(5), 100, new SimpleMeterRegistry());
+        assertNotNull(service.locate(10D, 20D));
+        assertNotNull(service.locate(10D, 20D));
+        assertNull(service.locate(10D, null));
+        verify(delegate, times(1)).locate(anyDouble(), anyDouble());
+    }
+
+    @Test
+    public void verifyCacheIsInvalidatedOnReload() {
+        var delegate = new AbstractGeoLocationService() {
+            private int count;
+
+            @Override
+            public GeoLocationResponse locate(final InetAddress address) {
+                count++;
+                return new GeoLocationResponse().addAddress("Street " + count);
+            }
+
+            @Override
+            public GeoLocationResponse locate(final Double latitude, final Double longitude) {
+                return null;
+            }
+
+            void reload() {
+                notifyReloadListeners();
+            }
+        };
+        val service = new CachingGeoLocationService(delegate, Duration.ofMinutes(5), 100, new SimpleMeterRegistry());
+        val first = service.locate("1.2.3.4");
+        assertSame(first, service.locate("1.2.3.4"));
+        delegate.reload();
+        assertNotSame(first, service.locate("1.2.3.4"));
+    }
+}
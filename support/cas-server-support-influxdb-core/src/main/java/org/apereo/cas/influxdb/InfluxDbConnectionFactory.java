@@ -65,6 +65,16 @@ public class InfluxDbConnectionFactory implements AutoCloseable {
             influxDbProperties.getOrganization(), point);
     }
 
+    /**
+     * Write measurement points in a single batch.
+     *
+     * @param points the points
+     */
+    public void write(final List<Point> points) {
+        influxDb.getWriteApiBlocking().writePoints(influxDbProperties.getDatabase(),
+            influxDbProperties.getOrganization(), points);
+    }
+
     /**
      * Write.
      *
@@ -73,11 +83,36 @@ public class InfluxDbConnectionFactory implements AutoCloseable {
      * @param tags        the tags
      */
     public void write(final String measurement, final Map<String, Object> fields, final Map<String, String> tags) {
-        val p = Point.measurement(measurement)
-            .time(Instant.now(Clock.systemUTC()), WritePrecision.NS)
+        write(newPoint(measurement, fields, tags));
+    }
+
+    /**
+     * Build a measurement point timestamped with the current time.
+     *
+     * @param measurement the measurement
+     * @param fields      the fields
+     * @param tags        the tags
+     * @return the point
+     */
+    public static Point newPoint(final String measurement, final Map<String, Object> fields, final Map<String, String> tags) {
+        return newPoint(measurement, Instant.now(Clock.systemUTC()), fields, tags);
+    }
+
+    /**
+     * Build a measurement point timestamped with the given time.
+     *
+     * @param measurement the measurement
+     * @param time        the time
+     * @param fields      the fields
+     * @param tags        the tags
+     * @return the point
+     */
+    public static Point newPoint(final String measurement, final Instant time,
+                                 final Map<String, Object> fields, final Map<String, String> tags) {
+        return Point.measurement(measurement)
+            .time(time, WritePrecision.NS)
             .addFields(fields)
             .addTags(tags);
-        write(p);
     }
 
     /**
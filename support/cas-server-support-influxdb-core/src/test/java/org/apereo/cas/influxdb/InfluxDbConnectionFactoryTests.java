@@ -15,7 +15,9 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import java.io.Serializable;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -60,6 +62,16 @@ public class InfluxDbConnectionFactoryTests {
         assertEquals(1234.5678, result.get(0).getValue());
     }
 
+    @Test
+    public void verifyWritePointAtTime() {
+        val time = Instant.now().minus(Duration.ofHours(1)).truncatedTo(ChronoUnit.SECONDS);
+        factory.write(InfluxDbConnectionFactory.newPoint("events", time,
+            Map.of("value", 1234.5678), Map.of("hostname", "cas.example.org")));
+        val result = factory.query(InfluxEvent.class);
+        assertEquals(1, result.size());
+        assertEquals(time, result.get(0).getTime());
+    }
+
     @Measurement(name = "events")
     @Getter
     @Setter
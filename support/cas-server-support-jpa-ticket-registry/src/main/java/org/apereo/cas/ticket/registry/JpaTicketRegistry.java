@@ -147,6 +147,20 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return encodeTicket;
     }
 
+    /**
+     * Saves all tickets of the unit of work in a single transaction.
+     * With the default propagation behavior, the transactions of the individual additions
+     * and updates join this one, so the batch is committed or rolled back as a whole.
+     *
+     * @param unitOfWork the unit of work
+     * @throws Exception the exception
+     */
+    @Override
+    @Transactional(transactionManager = JpaTicketRegistry.BEAN_NAME_TRANSACTION_MANAGER)
+    public void saveTickets(final TicketRegistryUnitOfWork unitOfWork) throws Exception {
+        super.saveTickets(unitOfWork);
+    }
+
     /**
      * This method purposefully doesn't lock any rows, because the stream traversing can take an indeterminate
      * amount of time, and logging in to an application with an existing TGT will update the TGT row in the database.
@@ -176,6 +190,22 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return countToLong(query.getSingleResult());
     }
 
+    @Override
+    @Transactional(transactionManager = JpaTicketRegistry.BEAN_NAME_TRANSACTION_MANAGER, readOnly = true)
+    public long countSessionsFor(final String principalId) {
+        if (isCipherExecutorEnabled()) {
+            return super.countSessionsFor(principalId);
+        }
+        val factory = getJpaTicketEntityFactory();
+        val md = this.ticketCatalog.find(TicketGrantingTicket.PREFIX);
+        val sql = String.format("SELECT COUNT(t.id) FROM %s t WHERE t.type=:type AND LOWER(t.principalId)=LOWER(:principalId)",
+            factory.getEntityName());
+        val query = this.entityManager.createQuery(sql)
+            .setParameter("principalId", principalId)
+            .setParameter("type", md.getImplementationClass().getName());
+        return countToLong(query.getSingleResult());
+    }
+
     @Override
     @Transactional(transactionManager = JpaTicketRegistry.BEAN_NAME_TRANSACTION_MANAGER, readOnly = true)
     public Stream<? extends Ticket> getSessionsFor(final String principalId) {
@@ -184,7 +214,7 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         }
         val factory = getJpaTicketEntityFactory();
         val md = this.ticketCatalog.find(TicketGrantingTicket.PREFIX);
-        val sql = String.format("SELECT t FROM %s t WHERE t.type=:type AND t.principalId=:principalId", factory.getEntityName());
+        val sql = String.format("SELECT t FROM %s t WHERE t.type=:type AND LOWER(t.principalId)=LOWER(:principalId)", factory.getEntityName());
         val query = this.entityManager.createQuery(sql, factory.getType())
             .setParameter("principalId", principalId)
             .setParameter("type", md.getImplementationClass().getName());
@@ -193,7 +223,8 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             .streamQuery(query)
             .map(BaseTicketEntity.class::cast)
             .map(factory::toTicket)
-            .map(this::decodeTicket);
+            .map(this::decodeTicket)
+            .filter(ticket -> !ticket.isExpired());
     }
 
     @Override
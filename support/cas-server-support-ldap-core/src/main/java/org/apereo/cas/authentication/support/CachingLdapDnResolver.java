@@ -0,0 +1,66 @@
+package org.apereo.cas.authentication.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.ldaptive.LdapException;
+import org.ldaptive.auth.DnResolver;
+import org.ldaptive.auth.User;
+
+import java.time.Duration;
+
+/**
+ * This is {@link CachingLdapDnResolver} that remembers the DN resolved
+ * for a user identifier for a period of time, so repeated authentication attempts
+ * do not need to search the directory before binding.
+ * Only successful resolutions are cached; failures are always delegated.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@Getter
+public class CachingLdapDnResolver implements DnResolver {
+    private final DnResolver resolver;
+
+    private final Cache<String, String> cache;
+
+    public CachingLdapDnResolver(final DnResolver resolver, final Duration expiration, final long maximumSize) {
+        this.resolver = resolver;
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(expiration)
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    @Override
+    public String resolve(final User user) throws LdapException {
+        if (user == null || StringUtils.isBlank(user.getIdentifier())) {
+            return resolver.resolve(user);
+        }
+        val identifier = user.getIdentifier();
+        val cachedDn = cache.getIfPresent(identifier);
+        if (cachedDn != null) {
+            LOGGER.trace("Found cached DN [{}] for [{}]", cachedDn, identifier);
+            return cachedDn;
+        }
+        val dn = resolver.resolve(user);
+        if (StringUtils.isNotBlank(dn)) {
+            LOGGER.trace("Caching resolved DN [{}] for [{}]", dn, identifier);
+            cache.put(identifier, dn);
+        }
+        return dn;
+    }
+
+    /**
+     * Remove the cached DN for the given user identifier.
+     *
+     * @param identifier the identifier
+     */
+    public void invalidate(final String identifier) {
+        cache.invalidate(identifier);
+    }
+}
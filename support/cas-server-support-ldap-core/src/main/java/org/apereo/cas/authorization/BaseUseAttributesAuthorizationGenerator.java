@@ -17,6 +17,7 @@ import org.pac4j.core.context.WebContext;
 import org.pac4j.core.context.session.SessionStore;
 import org.pac4j.core.profile.UserProfile;
 
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -61,7 +62,20 @@ public abstract class BaseUseAttributesAuthorizationGenerator implements Authori
     protected void addProfileRolesFromAttributes(final UserProfile profile,
                                                  final LdapAttribute ldapAttribute,
                                                  final String prefix) {
-        ldapAttribute.getStringValues().forEach(value -> profile.addRole(prefix.concat(value.toUpperCase())));
+        addProfileRolesFromValues(profile, ldapAttribute.getStringValues(), prefix);
+    }
+
+    /**
+     * Add profile roles from attribute values.
+     *
+     * @param profile the profile
+     * @param values  the attribute values
+     * @param prefix  the prefix
+     */
+    protected void addProfileRolesFromValues(final UserProfile profile,
+                                             final Collection<String> values,
+                                             final String prefix) {
+        values.forEach(value -> profile.addRole(prefix.concat(value.toUpperCase())));
     }
 
     @Override
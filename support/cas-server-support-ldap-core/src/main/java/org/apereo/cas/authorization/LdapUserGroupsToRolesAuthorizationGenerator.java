@@ -4,6 +4,8 @@ import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.ldaptive.LdapEntry;
@@ -11,6 +13,9 @@ import org.ldaptive.SearchOperation;
 import org.pac4j.core.authorization.generator.AuthorizationGenerator;
 import org.pac4j.core.profile.UserProfile;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,6 +27,7 @@ import java.util.Optional;
  * <li>Search for groups of which the user is a member. This search commonly occurs on a separate directory
  * branch than that of the user search.</li>
  * </ol>
+ * Group memberships may optionally be cached by user DN to avoid repeating the group search.
  *
  * @author Jerome Leleu
  * @author Marvin S. Addison
@@ -37,6 +43,11 @@ public class LdapUserGroupsToRolesAuthorizationGenerator extends BaseUseAttribut
 
     private final SearchOperation groupSearchOperation;
 
+    /**
+     * Group memberships, keyed by user DN, if caching is enabled.
+     */
+    private Cache<String, List<String>> groupMembershipCache;
+
     public LdapUserGroupsToRolesAuthorizationGenerator(final SearchOperation userSearchOperation,
                                                        final boolean allowMultipleResults,
                                                        final String groupAttributeName,
@@ -48,21 +59,51 @@ public class LdapUserGroupsToRolesAuthorizationGenerator extends BaseUseAttribut
         this.groupSearchOperation = groupSearchOperation;
     }
 
+    /**
+     * Cache group memberships of user entries for the given period of time.
+     * A zero or negative expiration disables the cache.
+     *
+     * @param expiration  the expiration
+     * @param maximumSize the maximum size
+     * @return this generator
+     */
+    public LdapUserGroupsToRolesAuthorizationGenerator withGroupMembershipCache(final Duration expiration,
+                                                                               final long maximumSize) {
+        if (expiration.isZero() || expiration.isNegative()) {
+            this.groupMembershipCache = null;
+        } else {
+            this.groupMembershipCache = Caffeine.newBuilder()
+                .expireAfterWrite(expiration)
+                .maximumSize(maximumSize)
+                .build();
+        }
+        return this;
+    }
+
     @Override
     protected Optional<UserProfile> generateAuthorizationForLdapEntry(final UserProfile profile, final LdapEntry userEntry) {
         LOGGER.debug("Attempting to get roles for user [{}].", userEntry.getDn());
+        val groups = groupMembershipCache == null
+            ? searchForGroups(userEntry)
+            : groupMembershipCache.get(userEntry.getDn(), dn -> searchForGroups(userEntry));
+        addProfileRolesFromValues(profile, groups, this.groupPrefix);
+        return Optional.ofNullable(profile);
+    }
+
+    private List<String> searchForGroups(final LdapEntry userEntry) {
         val response = FunctionUtils.doUnchecked(() -> groupSearchOperation.execute(
             LdapUtils.newLdaptiveSearchFilter(groupSearchOperation.getTemplate().getFilter(),
                 LdapUtils.LDAP_SEARCH_FILTER_DEFAULT_PARAM_NAME, CollectionUtils.wrap(userEntry.getDn()))));
         LOGGER.debug("LDAP role search response: [{}]", response);
+        val groups = new ArrayList<String>();
         for (val entry : response.getEntries()) {
             val groupAttribute = entry.getAttribute(this.groupAttributeName);
             if (groupAttribute == null) {
                 LOGGER.warn("Role attribute not found on entry [{}]", entry);
                 continue;
             }
-            addProfileRolesFromAttributes(profile, groupAttribute, this.groupPrefix);
+            groups.addAll(groupAttribute.getStringValues());
         }
-        return Optional.ofNullable(profile);
+        return groups;
     }
 }
@@ -5,6 +5,7 @@ import org.apereo.cas.authentication.CoreAuthenticationUtils;
 import org.apereo.cas.authentication.LdapAuthenticationHandler;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.PrincipalNameTransformerUtils;
+import org.apereo.cas.authentication.support.CachingLdapDnResolver;
 import org.apereo.cas.authentication.support.DefaultLdapAccountStateHandler;
 import org.apereo.cas.authentication.support.OptionalWarningLdapAccountStateHandler;
 import org.apereo.cas.authentication.support.RejectResultCodeLdapPasswordPolicyHandlingStrategy;
@@ -43,6 +44,7 @@ import org.ldaptive.AttributeModification;
 import org.ldaptive.BindConnectionInitializer;
 import org.ldaptive.CompareConnectionValidator;
 import org.ldaptive.CompareRequest;
+import org.ldaptive.Connection;
 import org.ldaptive.ConnectionConfig;
 import org.ldaptive.ConnectionFactory;
 import org.ldaptive.Credential;
@@ -698,12 +700,26 @@ public class LdapUtils {
      * @return the pooled connection factory
      */
     public static PooledConnectionFactory newLdaptivePooledConnectionFactory(final AbstractLdapProperties l) {
+        return newLdaptivePooledConnectionFactory(l, l.getMinPoolSize(), l.getMaxPoolSize());
+    }
+
+    /**
+     * New pooled connection factory with the given pool size boundaries.
+     *
+     * @param l           the ldap properties
+     * @param minPoolSize the min pool size
+     * @param maxPoolSize the max pool size
+     * @return the pooled connection factory
+     */
+    public static PooledConnectionFactory newLdaptivePooledConnectionFactory(final AbstractLdapProperties l,
+                                                                             final int minPoolSize,
+                                                                             final int maxPoolSize) {
         val cc = newLdaptiveConnectionConfig(l);
 
         LOGGER.debug("Creating LDAP connection pool configuration for [{}]", l.getLdapUrl());
         val pooledCf = new PooledConnectionFactory(cc);
-        pooledCf.setMinPoolSize(l.getMinPoolSize());
-        pooledCf.setMaxPoolSize(l.getMaxPoolSize());
+        pooledCf.setMinPoolSize(minPoolSize);
+        pooledCf.setMaxPoolSize(maxPoolSize);
         pooledCf.setValidateOnCheckOut(l.isValidateOnCheckout());
         pooledCf.setValidatePeriodically(l.isValidatePeriodically());
         pooledCf.setBlockWaitTime(Beans.newDuration(l.getBlockWaitTime()));
@@ -772,9 +788,38 @@ public class LdapUtils {
 
         LOGGER.debug("Initializing ldap connection pool for [{}] and bindDn [{}]", l.getLdapUrl(), l.getBindDn());
         pooledCf.initialize();
+        if (l.isWarmUpPool()) {
+            warmUpPooledConnectionFactory(pooledCf, minPoolSize);
+        }
         return pooledCf;
     }
 
+    /**
+     * Warm up the pooled connection factory by checking out
+     * and returning the given number of connections.
+     *
+     * @param pooledCf the pooled connection factory
+     * @param count    the number of connections to warm up
+     * @return the number of connections that were successfully checked out
+     */
+    public static int warmUpPooledConnectionFactory(final PooledConnectionFactory pooledCf, final int count) {
+        val connections = new ArrayList<Connection>(count);
+        try {
+            for (var i = 0; i < count; i++) {
+                connections.add(pooledCf.getConnection());
+            }
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to warm up LDAP connection pool for [{}]: [{}]",
+                pooledCf.getConnectionConfig().getLdapUrl(), e.getMessage());
+            LOGGER.trace(e.getMessage(), e);
+        } finally {
+            connections.forEach(Connection::close);
+        }
+        LOGGER.debug("Warmed up [{}] connection(s) for LDAP connection pool of [{}]",
+            connections.size(), pooledCf.getConnectionConfig().getLdapUrl());
+        return connections.size();
+    }
+
     /**
      * New connection config connection config.
      *
@@ -909,6 +954,25 @@ public class LdapUtils {
         return l.isDisablePooling() ? newLdaptiveDefaultConnectionFactory(l) : newLdaptivePooledConnectionFactory(l);
     }
 
+    /**
+     * New connection factory dedicated to bind operations.
+     * When pooling is enabled, binds are given their own pool whose size
+     * may be tuned independently of the pool used for searches.
+     *
+     * @param l the ldap properties
+     * @return the connection factory
+     */
+    public static ConnectionFactory newLdaptiveBindConnectionFactory(final AbstractLdapAuthenticationProperties l) {
+        if (l.isDisablePooling()) {
+            return newLdaptiveDefaultConnectionFactory(l);
+        }
+        val minPoolSize = l.getBindMinPoolSize() > 0 ? l.getBindMinPoolSize() : l.getMinPoolSize();
+        val maxPoolSize = l.getBindMaxPoolSize() > 0 ? l.getBindMaxPoolSize() : l.getMaxPoolSize();
+        LOGGER.debug("Creating LDAP bind connection pool for [{}] with min/max pool size [{}]/[{}]",
+            l.getLdapUrl(), minPoolSize, maxPoolSize);
+        return newLdaptivePooledConnectionFactory(l, minPoolSize, Math.max(minPoolSize, maxPoolSize));
+    }
+
     /**
      * New dn resolver entry resolver.
      * Creates the necessary search entry resolver.
@@ -1051,10 +1115,10 @@ public class LdapUtils {
             throw new IllegalArgumentException("User filter cannot be empty/blank for authenticated/anonymous authentication");
         }
         val connectionFactoryForSearch = newLdaptiveConnectionFactory(l);
-        val resolver = buildAggregateDnResolver(l, connectionFactoryForSearch);
+        val resolver = newLdaptiveCachingDnResolver(l, buildAggregateDnResolver(l, connectionFactoryForSearch));
 
         val auth = StringUtils.isBlank(l.getPrincipalAttributePassword())
-            ? new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveConnectionFactory(l)))
+            ? new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveBindConnectionFactory(l)))
             : new Authenticator(resolver, getCompareAuthenticationHandler(l, newLdaptiveConnectionFactory(l)));
 
         if (l.isEnhanceWithEntryResolver()) {
@@ -1079,7 +1143,7 @@ public class LdapUtils {
 
     private static Authenticator getAuthenticatorViaDnFormat(final AbstractLdapAuthenticationProperties l) {
         val resolver = new FormatDnResolver(l.getDnFormat());
-        val authenticator = new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveConnectionFactory(l)));
+        val authenticator = new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveBindConnectionFactory(l)));
 
         if (l.isEnhanceWithEntryResolver()) {
             authenticator.setEntryResolver(newLdaptiveSearchEntryResolver(l, newLdaptiveConnectionFactory(l)));
@@ -1164,6 +1228,23 @@ public class LdapUtils {
         return new ChainingLdapDnResolver(resolvers);
     }
 
+    /**
+     * Wrap the dn resolver with a cache, if the cache is enabled.
+     *
+     * @param l        the lDAP properties
+     * @param resolver the resolver
+     * @return the dn resolver
+     */
+    public static DnResolver newLdaptiveCachingDnResolver(final AbstractLdapAuthenticationProperties l,
+                                                          final DnResolver resolver) {
+        val expiration = Beans.newDuration(l.getDnResolutionCacheExpiration());
+        if (expiration.isZero() || expiration.isNegative()) {
+            return resolver;
+        }
+        LOGGER.debug("Caching resolved DNs for [{}] for [{}]", l.getLdapUrl(), expiration);
+        return new CachingLdapDnResolver(resolver, expiration, l.getDnResolutionCacheSize());
+    }
+
     /**
      * Create ldap authentication factory bean set factory bean.
      *
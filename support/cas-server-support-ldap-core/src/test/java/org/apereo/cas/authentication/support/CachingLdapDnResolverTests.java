@@ -0,0 +1,48 @@
+package org.apereo.cas.authentication.support;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.ldaptive.auth.DnResolver;
+import org.ldaptive.auth.User;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CachingLdapDnResolverTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Ldap")
+public class CachingLdapDnResolverTests {
+    @Test
+    public void verifyResolvedDnIsCached() throws Exception {
+        val delegate = mock(DnResolver.class);
+        when(delegate.resolve(any())).thenReturn("uid=casuser,ou=people,dc=example,dc=org");
+        val resolver = new CachingLdapDnResolver(delegate, Duration.ofMinutes(1), 10);
+        val user = new User("casuser");
+        assertEquals("uid=casuser,ou=people,dc=example,dc=org", resolver.resolve(user));
+        assertEquals("uid=casuser,ou=people,dc=example,dc=org", resolver.resolve(user));
+        verify(delegate, times(1)).resolve(any());
+
+        resolver.invalidate("casuser");
+        assertNotNull(resolver.resolve(user));
+        verify(delegate, times(2)).resolve(any());
+    }
+
+    @Test
+    public void verifyUnresolvedDnIsNotCached() throws Exception {
+        val delegate = mock(DnResolver.class);
+        when(delegate.resolve(any())).thenReturn(null);
+        val resolver = new CachingLdapDnResolver(delegate, Duration.ofMinutes(1), 10);
+        val user = new User("unknown");
+        assertNull(resolver.resolve(user));
+        assertNull(resolver.resolve(user));
+        verify(delegate, times(2)).resolve(any());
+        assertEquals(0, resolver.getCache().estimatedSize());
+    }
+}
@@ -14,6 +14,7 @@ import org.pac4j.core.context.WebContext;
 import org.pac4j.core.profile.CommonProfile;
 import org.pac4j.jee.context.session.JEESessionStore;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -61,6 +62,13 @@ public class LdapUserGroupsToRolesAuthorizationGeneratorTests {
         assertTrue(profile.getAttributes().isEmpty());
         assertTrue(profile.getRoles().isEmpty());
         assertTrue(profile.getPermissions().isEmpty());
+
+        generator.withGroupMembershipCache(Duration.ofMinutes(1), 100);
+        profile = new CommonProfile();
+        profile.setId("casTest");
+        assertFalse(generator.generate(mock(WebContext.class), JEESessionStore.INSTANCE, profile).isEmpty());
+        assertFalse(generator.generate(mock(WebContext.class), JEESessionStore.INSTANCE, profile).isEmpty());
+        assertTrue(profile.getRoles().isEmpty());
     }
 
     private static class Ldap extends AbstractLdapAuthenticationProperties {
@@ -61,4 +61,9 @@ public class PooledLdapConnectionFactoryHealthIndicator extends AbstractPoolHeal
     protected int getActiveCount() {
         return this.connectionFactory.activeCount();
     }
+
+    @Override
+    protected int getMaxSize() {
+        return this.connectionFactory.getMaxPoolSize();
+    }
 }
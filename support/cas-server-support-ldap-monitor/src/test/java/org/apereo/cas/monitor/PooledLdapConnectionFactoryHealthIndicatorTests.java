@@ -50,10 +50,12 @@ public class PooledLdapConnectionFactoryHealthIndicatorTests {
     public void verifyObserve() throws Exception {
         val results = monitor.stream()
             .map(it -> HealthIndicator.class.cast(it.getContributor()))
-            .map(it -> it.health().getStatus())
+            .map(HealthIndicator::health)
             .collect(Collectors.toList());
         assertFalse(results.isEmpty());
-        assertEquals(Status.UP, results.get(0));
+        assertEquals(Status.UP, results.get(0).getStatus());
+        assertTrue(results.get(0).getDetails().containsKey("maxSize"));
+        assertTrue(results.get(0).getDetails().containsKey("utilization"));
         pooledLdapConnectionFactoryHealthIndicatorListFactoryBean.destroy();
     }
 }
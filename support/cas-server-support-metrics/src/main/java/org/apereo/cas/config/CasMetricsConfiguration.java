@@ -2,11 +2,21 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.CasFeatureModule;
+import org.apereo.cas.monitor.CasMetricsMonitoringAspect;
+import org.apereo.cas.monitor.CasValidationEndpointMonitoringAspect;
+import org.apereo.cas.monitor.OAuth20TokenEndpointMonitoringAspect;
+import org.apereo.cas.monitor.SamlIdPProfileEndpointMonitoringAspect;
+import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 
 import io.micrometer.core.aop.TimedAspect;
 import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
@@ -25,4 +35,45 @@ public class CasMetricsConfiguration {
     public TimedAspect timedAspect(final MeterRegistry registry) {
         return new TimedAspect(registry);
     }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "casMetricsMonitoringAspect")
+    @ConditionalOnProperty(name = "cas.monitor.metrics.enabled", havingValue = "true", matchIfMissing = true)
+    public CasMetricsMonitoringAspect casMetricsMonitoringAspect(
+        final MeterRegistry registry,
+        final CasConfigurationProperties casProperties,
+        @Qualifier(TicketCatalog.BEAN_NAME)
+        final ObjectProvider<TicketCatalog> ticketCatalog) {
+        return new CasMetricsMonitoringAspect(registry, casProperties.getMonitor().getMetrics(), ticketCatalog);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "casValidationEndpointMonitoringAspect")
+    @ConditionalOnProperty(name = "cas.monitor.metrics.enabled", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnClass(name = "org.apereo.cas.web.AbstractServiceValidateController")
+    public CasValidationEndpointMonitoringAspect casValidationEndpointMonitoringAspect(
+        final MeterRegistry registry,
+        final CasConfigurationProperties casProperties) {
+        return new CasValidationEndpointMonitoringAspect(registry, casProperties.getMonitor().getMetrics());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "oauthTokenEndpointMonitoringAspect")
+    @ConditionalOnProperty(name = "cas.monitor.metrics.enabled", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnClass(name = "org.apereo.cas.support.oauth.web.endpoints.OAuth20AccessTokenEndpointController")
+    public OAuth20TokenEndpointMonitoringAspect oauthTokenEndpointMonitoringAspect(
+        final MeterRegistry registry,
+        final CasConfigurationProperties casProperties) {
+        return new OAuth20TokenEndpointMonitoringAspect(registry, casProperties.getMonitor().getMetrics());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "samlIdPProfileEndpointMonitoringAspect")
+    @ConditionalOnProperty(name = "cas.monitor.metrics.enabled", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnClass(name = "org.apereo.cas.support.saml.web.idp.profile.AbstractSamlIdPProfileHandlerController")
+    public SamlIdPProfileEndpointMonitoringAspect samlIdPProfileEndpointMonitoringAspect(
+        final MeterRegistry registry,
+        final CasConfigurationProperties casProperties) {
+        return new SamlIdPProfileEndpointMonitoringAspect(registry, casProperties.getMonitor().getMetrics());
+    }
 }
@@ -0,0 +1,106 @@
+package org.apereo.cas.monitor;
+
+import org.apereo.cas.configuration.model.core.monitor.MetricsMonitorProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This is {@link AbstractCasMetricsMonitoringAspect} that records a timer for an advised operation,
+ * tagged by its outcome, along with a gauge that tracks the number of operations in flight.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@RequiredArgsConstructor
+public abstract class AbstractCasMetricsMonitoringAspect {
+    /**
+     * Tag that carries the name of the advised operation.
+     */
+    protected static final String TAG_OPERATION = "operation";
+
+    private static final String TAG_OUTCOME = "outcome";
+
+    private static final String TAG_PROTOCOL = "protocol";
+
+    /**
+     * The meter registry.
+     */
+    protected final MeterRegistry meterRegistry;
+
+    /**
+     * The metrics properties.
+     */
+    protected final MetricsMonitorProperties properties;
+
+    private final Map<String, AtomicInteger> activeOperations = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the type of the advised component.
+     *
+     * @param joinPoint the join point
+     * @return the simple name of the target class
+     */
+    protected static String getComponentType(final ProceedingJoinPoint joinPoint) {
+        return ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName();
+    }
+
+    /**
+     * Proceed with the protocol endpoint and record its timing.
+     *
+     * @param joinPoint the join point
+     * @param protocol  the protocol
+     * @return the object
+     * @throws Throwable the throwable
+     */
+    protected Object monitorProtocolEndpoint(final ProceedingJoinPoint joinPoint, final String protocol) throws Throwable {
+        val tags = Tags.of(
+            Tag.of(TAG_PROTOCOL, protocol),
+            Tag.of("endpoint", getComponentType(joinPoint)),
+            Tag.of(TAG_OPERATION, joinPoint.getSignature().getName()));
+        return record(joinPoint, CasMetricsMonitoringAspect.METRIC_PROTOCOL_ENDPOINT, Tags.of(TAG_PROTOCOL, protocol), tags);
+    }
+
+    /**
+     * Proceed with the join point and record its timing.
+     *
+     * @param joinPoint the join point
+     * @param name      the metric name
+     * @param gaugeTags the tags of the in-flight gauge
+     * @param tags      the tags of the timer
+     * @return the object
+     * @throws Throwable the throwable
+     */
+    protected Object record(final ProceedingJoinPoint joinPoint, final String name,
+                            final Tags gaugeTags, final Tags tags) throws Throwable {
+        val active = activeOperations.computeIfAbsent(name,
+            k -> meterRegistry.gauge(k + ".active", gaugeTags, new AtomicInteger()));
+        val sample = Timer.start(meterRegistry);
+        var outcome = "success";
+        active.incrementAndGet();
+        try {
+            return joinPoint.proceed();
+        } catch (final Throwable e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            active.decrementAndGet();
+            val timer = Timer.builder(name)
+                .tags(tags)
+                .tag(TAG_OUTCOME, outcome)
+                .publishPercentileHistogram(properties.isPublishPercentileHistogram())
+                .register(meterRegistry);
+            sample.stop(timer);
+        }
+    }
+}
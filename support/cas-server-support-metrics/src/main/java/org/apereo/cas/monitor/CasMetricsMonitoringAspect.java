@@ -0,0 +1,166 @@
+package org.apereo.cas.monitor;
+
+import org.apereo.cas.configuration.model.core.monitor.MetricsMonitorProperties;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+
+import com.google.common.base.Suppliers;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link CasMetricsMonitoringAspect} that records timers for CAS operations
+ * on the request path, such as ticket registry operations, service lookups,
+ * attribute repository queries and cipher operations.
+ * Being proxy-based, the aspect only applies to components that are registered as beans;
+ * cipher executors and attribute repositories that are created inline by other components are not observed.
+ * Protocol endpoints are monitored by separate aspects, which are registered
+ * only when the module that provides the endpoint is present.
+ * Each metric also publishes a gauge that tracks the number of operations in flight.
+ * Tags are limited to operation names, component types, outcomes and ticket types
+ * that are known to the ticket catalog, so that the number of time series remains bounded.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Aspect
+public class CasMetricsMonitoringAspect extends AbstractCasMetricsMonitoringAspect {
+    /**
+     * Metric name for ticket registry operations.
+     */
+    public static final String METRIC_TICKET_REGISTRY = "cas.ticket.registry";
+
+    /**
+     * Metric name for service lookups.
+     */
+    public static final String METRIC_SERVICES_MANAGER = "cas.services.manager";
+
+    /**
+     * Metric name for attribute repository queries.
+     */
+    public static final String METRIC_ATTRIBUTE_REPOSITORY = "cas.attribute.repository";
+
+    /**
+     * Metric name for cipher operations.
+     */
+    public static final String METRIC_CIPHER_EXECUTOR = "cas.cipher.executor";
+
+    /**
+     * Metric name for protocol endpoints.
+     */
+    public static final String METRIC_PROTOCOL_ENDPOINT = "cas.protocol.endpoint";
+
+    private static final String TICKET_TYPE_UNKNOWN = "UNKNOWN";
+
+    private static final String TICKET_TYPE_MULTIPLE = "MULTIPLE";
+
+    private static final long KNOWN_TICKET_TYPES_EXPIRATION_SECONDS = 60;
+
+    private final Supplier<Set<String>> knownTicketTypes;
+
+    public CasMetricsMonitoringAspect(final MeterRegistry meterRegistry,
+                                      final MetricsMonitorProperties properties,
+                                      final ObjectProvider<TicketCatalog> ticketCatalog) {
+        super(meterRegistry, properties);
+        this.knownTicketTypes = Suppliers.memoizeWithExpiration(() -> ticketCatalog.stream()
+            .flatMap(catalog -> catalog.findAll().stream())
+            .map(TicketDefinition::getPrefix)
+            .collect(Collectors.toUnmodifiableSet()), KNOWN_TICKET_TYPES_EXPIRATION_SECONDS, TimeUnit.SECONDS)::get;
+    }
+
+    /**
+     * Monitor ticket registry operations.
+     *
+     * @param joinPoint the join point
+     * @return the object
+     * @throws Throwable the throwable
+     */
+    @Around("execution(* org.apereo.cas.ticket.registry.TicketRegistry+.addTicket(..))"
+        + " || execution(* org.apereo.cas.ticket.registry.TicketRegistry+.getTicket(..))"
+        + " || execution(* org.apereo.cas.ticket.registry.TicketRegistry+.updateTicket(..))"
+        + " || execution(* org.apereo.cas.ticket.registry.TicketRegistry+.deleteTicket(..))")
+    public Object monitorTicketRegistry(final ProceedingJoinPoint joinPoint) throws Throwable {
+        val tags = Tags.of(
+            Tag.of(TAG_OPERATION, joinPoint.getSignature().getName()),
+            Tag.of("registry", getComponentType(joinPoint)),
+            Tag.of("type", getTicketType(joinPoint.getArgs())));
+        return record(joinPoint, METRIC_TICKET_REGISTRY, Tags.empty(), tags);
+    }
+
+    /**
+     * Monitor service lookups.
+     *
+     * @param joinPoint the join point
+     * @return the object
+     * @throws Throwable the throwable
+     */
+    @Around("execution(* org.apereo.cas.services.ServicesManager+.findServiceBy(..))")
+    public Object monitorServicesManager(final ProceedingJoinPoint joinPoint) throws Throwable {
+        val tags = Tags.of(
+            Tag.of(TAG_OPERATION, joinPoint.getSignature().getName()),
+            Tag.of("manager", getComponentType(joinPoint)));
+        return record(joinPoint, METRIC_SERVICES_MANAGER, Tags.empty(), tags);
+    }
+
+    /**
+     * Monitor attribute repository queries.
+     *
+     * @param joinPoint the join point
+     * @return the object
+     * @throws Throwable the throwable
+     */
+    @Around("execution(* org.apereo.services.persondir.IPersonAttributeDao+.getPerson(..))"
+        + " || execution(* org.apereo.services.persondir.IPersonAttributeDao+.getPeople(..))"
+        + " || execution(* org.apereo.services.persondir.IPersonAttributeDao+.getPeopleWithMultivaluedAttributes(..))")
+    public Object monitorAttributeRepository(final ProceedingJoinPoint joinPoint) throws Throwable {
+        val tags = Tags.of(
+            Tag.of(TAG_OPERATION, joinPoint.getSignature().getName()),
+            Tag.of("repository", getComponentType(joinPoint)));
+        return record(joinPoint, METRIC_ATTRIBUTE_REPOSITORY, Tags.empty(), tags);
+    }
+
+    /**
+     * Monitor cipher operations.
+     *
+     * @param joinPoint the join point
+     * @return the object
+     * @throws Throwable the throwable
+     */
+    @Around("(execution(* org.apereo.cas.util.crypto.CipherExecutor+.encode(..))"
+        + " || execution(* org.apereo.cas.util.crypto.CipherExecutor+.decode(..)))"
+        + " && !within(org.apereo.cas.util.crypto.NoOpCipherExecutor)")
+    public Object monitorCipherExecutor(final ProceedingJoinPoint joinPoint) throws Throwable {
+        val tags = Tags.of(
+            Tag.of(TAG_OPERATION, joinPoint.getSignature().getName()),
+            Tag.of("cipher", getComponentType(joinPoint)));
+        return record(joinPoint, METRIC_CIPHER_EXECUTOR, Tags.empty(), tags);
+    }
+
+    private String getTicketType(final Object[] args) {
+        if (args.length == 0 || args[0] == null) {
+            return TICKET_TYPE_UNKNOWN;
+        }
+        if (args[0] instanceof Stream) {
+            return TICKET_TYPE_MULTIPLE;
+        }
+        val prefix = args[0] instanceof Ticket
+            ? ((Ticket) args[0]).getPrefix()
+            : StringUtils.substringBefore(args[0].toString(), String.valueOf(UniqueTicketIdGenerator.SEPARATOR));
+        return knownTicketTypes.get().contains(prefix) ? prefix : TICKET_TYPE_UNKNOWN;
+    }
+}
@@ -0,0 +1,35 @@
+package org.apereo.cas.monitor;
+
+import org.apereo.cas.configuration.model.core.monitor.MetricsMonitorProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * This is {@link CasValidationEndpointMonitoringAspect} that records timers for the
+ * CAS protocol service validation endpoints. It must only be registered when {@code AbstractServiceValidateController}
+ * is present on the classpath, since the pointcut names the controller type.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Aspect
+public class CasValidationEndpointMonitoringAspect extends AbstractCasMetricsMonitoringAspect {
+    public CasValidationEndpointMonitoringAspect(final MeterRegistry meterRegistry, final MetricsMonitorProperties properties) {
+        super(meterRegistry, properties);
+    }
+
+    /**
+     * Monitor CAS protocol service validation endpoints.
+     *
+     * @param joinPoint the join point
+     * @return the object
+     * @throws Throwable the throwable
+     */
+    @Around("execution(public * org.apereo.cas.web.AbstractServiceValidateController+.handle*(..))")
+    public Object monitorCasValidationEndpoint(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return monitorProtocolEndpoint(joinPoint, "cas");
+    }
+}
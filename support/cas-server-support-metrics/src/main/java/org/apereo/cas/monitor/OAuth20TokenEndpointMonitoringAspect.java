@@ -0,0 +1,35 @@
+package org.apereo.cas.monitor;
+
+import org.apereo.cas.configuration.model.core.monitor.MetricsMonitorProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * This is {@link OAuth20TokenEndpointMonitoringAspect} that records timers for the
+ * OAuth and OpenID Connect token endpoints. It must only be registered when {@code OAuth20AccessTokenEndpointController}
+ * is present on the classpath, since the pointcut names the controller type.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Aspect
+public class OAuth20TokenEndpointMonitoringAspect extends AbstractCasMetricsMonitoringAspect {
+    public OAuth20TokenEndpointMonitoringAspect(final MeterRegistry meterRegistry, final MetricsMonitorProperties properties) {
+        super(meterRegistry, properties);
+    }
+
+    /**
+     * Monitor OAuth and OpenID Connect token endpoints.
+     *
+     * @param joinPoint the join point
+     * @return the object
+     * @throws Throwable the throwable
+     */
+    @Around("execution(public * org.apereo.cas.support.oauth.web.endpoints.OAuth20AccessTokenEndpointController+.handle*(..))")
+    public Object monitorTokenEndpoint(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return monitorProtocolEndpoint(joinPoint, "oauth");
+    }
+}
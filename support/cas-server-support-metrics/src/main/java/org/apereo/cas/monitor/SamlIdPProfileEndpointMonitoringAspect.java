@@ -0,0 +1,35 @@
+package org.apereo.cas.monitor;
+
+import org.apereo.cas.configuration.model.core.monitor.MetricsMonitorProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * This is {@link SamlIdPProfileEndpointMonitoringAspect} that records timers for the
+ * SAML2 identity provider profile endpoints. It must only be registered when {@code AbstractSamlIdPProfileHandlerController}
+ * is present on the classpath, since the pointcut names the controller type.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Aspect
+public class SamlIdPProfileEndpointMonitoringAspect extends AbstractCasMetricsMonitoringAspect {
+    public SamlIdPProfileEndpointMonitoringAspect(final MeterRegistry meterRegistry, final MetricsMonitorProperties properties) {
+        super(meterRegistry, properties);
+    }
+
+    /**
+     * Monitor SAML2 identity provider profile endpoints.
+     *
+     * @param joinPoint the join point
+     * @return the object
+     * @throws Throwable the throwable
+     */
+    @Around("execution(public * org.apereo.cas.support.saml.web.idp.profile.AbstractSamlIdPProfileHandlerController+.handle*(..))")
+    public Object monitorSamlProfileEndpoint(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return monitorProtocolEndpoint(joinPoint, "saml2");
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.Simp
 import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -37,8 +38,14 @@ public class CasMetricsConfigurationTests {
     @Qualifier("timedAspect")
     private TimedAspect timedAspect;
 
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
     @Test
     public void verifyOperation() {
         assertNotNull(timedAspect);
+        assertTrue(applicationContext.containsBean("casMetricsMonitoringAspect"));
+        assertFalse(applicationContext.containsBean("oauthTokenEndpointMonitoringAspect"));
+        assertFalse(applicationContext.containsBean("samlIdPProfileEndpointMonitoringAspect"));
     }
 }
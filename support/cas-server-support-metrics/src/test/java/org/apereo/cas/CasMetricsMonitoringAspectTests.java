@@ -0,0 +1,72 @@
+package org.apereo.cas;
+
+import org.apereo.cas.configuration.model.core.monitor.MetricsMonitorProperties;
+import org.apereo.cas.monitor.CasMetricsMonitoringAspect;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CasMetricsMonitoringAspectTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Metrics")
+public class CasMetricsMonitoringAspectTests {
+    @Test
+    @SuppressWarnings("unchecked")
+    public void verifyTicketRegistryOperations() throws Exception {
+        val definition = mock(TicketDefinition.class);
+        when(definition.getPrefix()).thenReturn("TGT");
+        val catalog = mock(TicketCatalog.class);
+        when(catalog.findAll()).thenReturn(List.of(definition));
+        val catalogProvider = mock(ObjectProvider.class);
+        when(catalogProvider.stream()).thenAnswer(args -> Stream.of(catalog));
+
+        val meterRegistry = new SimpleMeterRegistry();
+        val aspect = new CasMetricsMonitoringAspect(meterRegistry, new MetricsMonitorProperties(), catalogProvider);
+
+        val ticket = mock(Ticket.class);
+        when(ticket.getPrefix()).thenReturn("TGT");
+        val target = mock(TicketRegistry.class);
+        when(target.getTicket(anyString())).thenReturn(ticket);
+        doThrow(new IllegalArgumentException()).when(target).deleteTicket(anyString());
+
+        val factory = new AspectJProxyFactory(target);
+        factory.addInterface(TicketRegistry.class);
+        factory.addAspect(aspect);
+        val registry = (TicketRegistry) factory.getProxy();
+
+        assertNotNull(registry.getTicket("TGT-1-abcdef"));
+        assertNotNull(registry.getTicket("XYZ-1-abcdef"));
+        assertThrows(IllegalArgumentException.class, () -> registry.deleteTicket("TGT-1-abcdef"));
+
+        val found = meterRegistry.find(CasMetricsMonitoringAspect.METRIC_TICKET_REGISTRY)
+            .tags("operation", "getTicket", "type", "TGT", "outcome", "success").timer();
+        assertNotNull(found);
+        assertEquals(1, found.count());
+        assertNotNull(meterRegistry.find(CasMetricsMonitoringAspect.METRIC_TICKET_REGISTRY)
+            .tags("operation", "getTicket", "type", "UNKNOWN").timer());
+        assertNotNull(meterRegistry.find(CasMetricsMonitoringAspect.METRIC_TICKET_REGISTRY)
+            .tags("operation", "deleteTicket", "outcome", "failure").timer());
+        val active = meterRegistry.find(CasMetricsMonitoringAspect.METRIC_TICKET_REGISTRY + ".active").gauge();
+        assertNotNull(active);
+        assertEquals(0, active.value());
+    }
+}
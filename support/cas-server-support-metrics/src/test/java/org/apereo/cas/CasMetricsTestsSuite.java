@@ -11,6 +11,7 @@ import org.junit.platform.suite.api.Suite;
  */
 @SelectClasses({
     CasMetricsConfigurationTests.class,
+    CasMetricsMonitoringAspectTests.class,
     SystemMonitorHealthIndicatorTests.class
 })
 @Suite
@@ -6,7 +6,9 @@ import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.mongo.MongoDbConnectionFactory;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.registry.MongoDbTicketRegistry;
+import org.apereo.cas.ticket.registry.MongoDbTicketRegistrySessionCatalog;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistrySessionCatalog;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.MongoDbTicketRegistryFacilitator;
@@ -33,6 +35,19 @@ import org.springframework.data.mongodb.core.MongoOperations;
 @AutoConfiguration
 public class MongoDbTicketRegistryConfiguration {
 
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @Bean
+    @ConditionalOnMissingBean(name = TicketRegistrySessionCatalog.BEAN_NAME)
+    public TicketRegistrySessionCatalog ticketRegistrySessionCatalog(
+        final CasConfigurationProperties casProperties,
+        @Qualifier("mongoDbTicketRegistryTemplate")
+        final MongoOperations mongoDbTicketRegistryTemplate) {
+        if (casProperties.getTicket().getRegistry().getCore().isEnableSessionCatalog()) {
+            return new MongoDbTicketRegistrySessionCatalog(mongoDbTicketRegistryTemplate);
+        }
+        return TicketRegistrySessionCatalog.noOp();
+    }
+
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @Bean
     public TicketRegistry ticketRegistry(
@@ -41,10 +56,13 @@ public class MongoDbTicketRegistryConfiguration {
         @Qualifier("mongoDbTicketRegistryTemplate")
         final MongoOperations mongoDbTicketRegistryTemplate,
         @Qualifier("ticketSerializationManager")
-        final TicketSerializationManager ticketSerializationManager) {
+        final TicketSerializationManager ticketSerializationManager,
+        @Qualifier(TicketRegistrySessionCatalog.BEAN_NAME)
+        final TicketRegistrySessionCatalog ticketRegistrySessionCatalog) {
         val mongo = casProperties.getTicket().getRegistry().getMongo();
         val registry = new MongoDbTicketRegistry(ticketCatalog, mongoDbTicketRegistryTemplate, ticketSerializationManager);
         registry.setCipherExecutor(CoreTicketUtils.newTicketRegistryCipherExecutor(mongo.getCrypto(), "mongo"));
+        registry.setSessionCatalog(ticketRegistrySessionCatalog);
         new MongoDbTicketRegistryFacilitator(ticketCatalog, mongoDbTicketRegistryTemplate,
             mongo.isDropCollection(), mongo.isUpdateIndexes(), mongo.isDropIndexes()).createTicketCollections();
         return registry;
@@ -122,6 +122,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
     @Override
     public long deleteAll() {
         val query = new Query(Criteria.where(TicketHolder.FIELD_NAME_ID).exists(true));
+        sessionCatalog.removeAll();
         return this.ticketCatalog.findAll().stream()
             .map(this::getTicketCollectionInstanceByMetadata)
             .filter(StringUtils::isNotBlank)
@@ -159,6 +160,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             val update = Update.update(TicketHolder.FIELD_NAME_JSON, holder.getJson());
             val result = this.mongoTemplate.updateFirst(query, update, collectionName);
             LOGGER.debug("Updated ticket [{}] with result [{}]", ticket, result);
+            addTicketToSessionCatalog(ticket);
             return result.getMatchedCount() > 0 ? ticket : null;
         } catch (final Exception e) {
             LOGGER.error("Failed updating [{}]", ticket);
@@ -183,7 +185,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public long countSessionsFor(final String principalId) {
-        if (isCipherExecutorEnabled()) {
+        if (isCipherExecutorEnabled() || isSessionCatalogEnabled()) {
             return super.countSessionsFor(principalId);
         }
         return getSessionsFor(principalId).count();
@@ -191,7 +193,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public Stream<? extends Ticket> getSessionsFor(final String principalId) {
-        if (isCipherExecutorEnabled()) {
+        if (isCipherExecutorEnabled() || isSessionCatalogEnabled()) {
             return super.getSessionsFor(principalId);
         }
         val ticketDefinitions = ticketCatalog.find(TicketGrantingTicket.class);
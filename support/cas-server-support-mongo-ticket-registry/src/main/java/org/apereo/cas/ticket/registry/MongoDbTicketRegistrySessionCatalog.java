@@ -0,0 +1,74 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This is {@link MongoDbTicketRegistrySessionCatalog} that keeps
+ * one document per principal in a dedicated collection,
+ * holding the set of ticket-granting ticket ids for that principal.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MongoDbTicketRegistrySessionCatalog implements TicketRegistrySessionCatalog {
+    /**
+     * Default collection name.
+     */
+    public static final String COLLECTION_NAME = "ticketRegistrySessionCatalog";
+
+    /**
+     * Field name to hold ticket-granting ticket ids.
+     */
+    public static final String FIELD_NAME_TICKETS = "tickets";
+
+    private static final String FIELD_NAME_ID = "_id";
+
+    private final MongoOperations mongoTemplate;
+
+    @Override
+    public void add(final String principalId, final String ticketGrantingTicketId) {
+        LOGGER.trace("Adding [{}] to session catalog entry [{}]", ticketGrantingTicketId, principalId);
+        val update = new Update().addToSet(FIELD_NAME_TICKETS, ticketGrantingTicketId);
+        mongoTemplate.upsert(queryFor(principalId), update, COLLECTION_NAME);
+    }
+
+    @Override
+    public void remove(final String principalId, final String ticketGrantingTicketId) {
+        LOGGER.trace("Removing [{}] from session catalog entry [{}]", ticketGrantingTicketId, principalId);
+        val update = new Update().pull(FIELD_NAME_TICKETS, ticketGrantingTicketId);
+        mongoTemplate.updateFirst(queryFor(principalId), update, COLLECTION_NAME);
+        val empty = new Query(Criteria.where(FIELD_NAME_ID).is(principalId).and(FIELD_NAME_TICKETS).size(0));
+        mongoTemplate.remove(empty, COLLECTION_NAME);
+    }
+
+    @Override
+    public Set<String> getSessionsFor(final String principalId) {
+        val document = mongoTemplate.findOne(queryFor(principalId), Document.class, COLLECTION_NAME);
+        if (document == null) {
+            return Set.of();
+        }
+        return new LinkedHashSet<>(document.getList(FIELD_NAME_TICKETS, String.class, List.of()));
+    }
+
+    @Override
+    public long removeAll() {
+        return mongoTemplate.remove(new Query(), COLLECTION_NAME).getDeletedCount();
+    }
+
+    private static Query queryFor(final String principalId) {
+        return new Query(Criteria.where(FIELD_NAME_ID).is(principalId));
+    }
+}
@@ -0,0 +1,85 @@
+package org.apereo.cas.ticket;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * This is {@link OAuth20TokenLineageIndex}, which records the lineage of OAuth tokens
+ * as they are issued by the token factories, linking ticket-granting tickets to the codes,
+ * refresh tokens and access tokens issued on their behalf, and codes, device codes and refresh tokens
+ * to the access tokens they are exchanged for. Revocation and logout resolve the descendants
+ * of a token through the index, without scanning the ticket registry.
+ * <p>
+ * Entries in the index are hints; the ticket registry remains the source of truth
+ * and the links carried by the tickets themselves continue to apply.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+public interface OAuth20TokenLineageIndex {
+
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "oauthTokenLineageIndex";
+
+    /**
+     * No op lineage index.
+     *
+     * @return the token lineage index
+     */
+    static OAuth20TokenLineageIndex noOp() {
+        return new OAuth20TokenLineageIndex() {
+            @Override
+            public void link(final String parentId, final String childId) {
+            }
+
+            @Override
+            public Set<String> getDescendants(final String ticketId) {
+                return Set.of();
+            }
+
+            @Override
+            public void remove(final Collection<String> ticketIds) {
+            }
+
+            @Override
+            public boolean isEnabled() {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Record the child ticket as issued on behalf of the parent ticket.
+     *
+     * @param parentId the parent ticket id
+     * @param childId  the child ticket id
+     */
+    void link(String parentId, String childId);
+
+    /**
+     * Gets the ids of all tickets that descend from the given ticket,
+     * directly or through other descendants.
+     *
+     * @param ticketId the ticket id
+     * @return the descendant ticket ids, excluding the ticket itself
+     */
+    Set<String> getDescendants(String ticketId);
+
+    /**
+     * Remove the tickets from the index, along with their links.
+     *
+     * @param ticketIds the ticket ids
+     */
+    void remove(Collection<String> ticketIds);
+
+    /**
+     * Whether the index is able to track tokens.
+     *
+     * @return true/false
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,60 @@
+package org.apereo.cas.support.oauth.services;
+
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.ServicesManagerRegisteredServiceIndex;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * This is {@link OAuth20ClientIdRegisteredServiceIndex} that indexes OAuth registered services
+ * by their client id, ignoring case.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+public class OAuth20ClientIdRegisteredServiceIndex implements ServicesManagerRegisteredServiceIndex {
+    /**
+     * Index name.
+     */
+    public static final String NAME = "oauthClientId";
+
+    /**
+     * Normalize the value such that two values that are equal ignoring case,
+     * as defined by {@link String#equalsIgnoreCase(String)}, produce the same result.
+     *
+     * @param value the value
+     * @return the normalized value
+     */
+    static String normalize(final String value) {
+        val chars = value.toCharArray();
+        for (var i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(final RegisteredService registeredService) {
+        return registeredService instanceof OAuthRegisteredService
+            && StringUtils.isNotBlank(((OAuthRegisteredService) registeredService).getClientId());
+    }
+
+    @Override
+    public Collection<String> getIndexKeys(final RegisteredService registeredService) {
+        return List.of(normalize(((OAuthRegisteredService) registeredService).getClientId()));
+    }
+
+    @Override
+    public Collection<String> getLookupKeys(final String query) {
+        return List.of(normalize(query));
+    }
+}
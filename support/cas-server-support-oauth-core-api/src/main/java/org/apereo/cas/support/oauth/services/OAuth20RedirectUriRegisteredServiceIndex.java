@@ -0,0 +1,131 @@
+package org.apereo.cas.support.oauth.services;
+
+import org.apereo.cas.services.FullRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.ServicesManagerRegisteredServiceIndex;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * This is {@link OAuth20RedirectUriRegisteredServiceIndex} that indexes OAuth registered services
+ * by the literal prefix of their service id, which is the portion of the pattern before the
+ * first regular expression construct. A redirect URI can then only match services whose prefix
+ * is a prefix of the redirect URI. Services whose pattern cannot be reduced to a reliable prefix,
+ * such as patterns with alternations or services that use partial or custom matching strategies,
+ * are indexed under an empty prefix and remain candidates for every redirect URI.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+public class OAuth20RedirectUriRegisteredServiceIndex implements ServicesManagerRegisteredServiceIndex {
+    /**
+     * Index name.
+     */
+    public static final String NAME = "oauthRedirectUri";
+
+    private static final int MAX_PREFIX_LENGTH = 64;
+
+    private static final String METACHARACTERS = ".[]{}()*+?^$|";
+
+    private static final String QUANTIFIERS = "?*+{";
+
+    private static final int MAX_ASCII_CHARACTER = 127;
+
+    /**
+     * Gets the literal prefix of the given service id pattern.
+     *
+     * @param pattern the pattern
+     * @return the literal prefix, lower-cased, or an empty string
+     */
+    static String getLiteralPrefix(final String pattern) {
+        if (StringUtils.isBlank(pattern) || pattern.indexOf('|') >= 0) {
+            return StringUtils.EMPTY;
+        }
+        val prefix = new StringBuilder();
+        var index = pattern.startsWith("^") ? 1 : 0;
+        while (index < pattern.length() && prefix.length() < MAX_PREFIX_LENGTH) {
+            val current = pattern.charAt(index);
+            var literal = current;
+            var next = index + 1;
+            if (current == '\\') {
+                if (next >= pattern.length() || Character.isLetterOrDigit(pattern.charAt(next))) {
+                    break;
+                }
+                literal = pattern.charAt(next);
+                next++;
+            } else if (METACHARACTERS.indexOf(current) >= 0) {
+                break;
+            }
+            if (literal > MAX_ASCII_CHARACTER) {
+                break;
+            }
+            if (next < pattern.length() && QUANTIFIERS.indexOf(pattern.charAt(next)) >= 0) {
+                if (pattern.charAt(next) == '+') {
+                    prefix.append(literal);
+                }
+                break;
+            }
+            prefix.append(literal);
+            index = next;
+        }
+        return toLowerCase(prefix.toString());
+    }
+
+    private static String getLiteralValue(final String value) {
+        val prefix = new StringBuilder();
+        for (var i = 0; i < value.length() && prefix.length() < MAX_PREFIX_LENGTH && value.charAt(i) <= MAX_ASCII_CHARACTER; i++) {
+            prefix.append(value.charAt(i));
+        }
+        return toLowerCase(prefix.toString());
+    }
+
+    private static String toLowerCase(final String value) {
+        val chars = value.toCharArray();
+        for (var i = 0; i < chars.length; i++) {
+            if (chars[i] >= 'A' && chars[i] <= 'Z') {
+                chars[i] = (char) (chars[i] + ('a' - 'A'));
+            }
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(final RegisteredService registeredService) {
+        return registeredService instanceof OAuthRegisteredService;
+    }
+
+    @Override
+    public Collection<String> getIndexKeys(final RegisteredService registeredService) {
+        val strategy = registeredService.getMatchingStrategy();
+        val serviceId = StringUtils.defaultString(registeredService.getServiceId());
+        if (strategy == null || strategy instanceof FullRegexRegisteredServiceMatchingStrategy) {
+            return List.of(getLiteralPrefix(serviceId));
+        }
+        if (strategy instanceof LiteralRegisteredServiceMatchingStrategy) {
+            return List.of(getLiteralValue(serviceId.trim()));
+        }
+        return List.of(StringUtils.EMPTY);
+    }
+
+    @Override
+    public Collection<String> getLookupKeys(final String query) {
+        val value = toLowerCase(query);
+        val length = Math.min(value.length(), MAX_PREFIX_LENGTH);
+        val keys = new ArrayList<String>(length + 1);
+        for (var i = 0; i <= length; i++) {
+            keys.add(value.substring(0, i));
+        }
+        return keys;
+    }
+}
@@ -8,6 +8,8 @@ import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.OAuth20GrantTypes;
 import org.apereo.cas.support.oauth.OAuth20ResponseModeTypes;
 import org.apereo.cas.support.oauth.OAuth20ResponseTypes;
+import org.apereo.cas.support.oauth.services.OAuth20ClientIdRegisteredServiceIndex;
+import org.apereo.cas.support.oauth.services.OAuth20RedirectUriRegisteredServiceIndex;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.ticket.OAuth20Token;
 import org.apereo.cas.util.CollectionUtils;
@@ -105,7 +107,8 @@ public class OAuth20Utils {
         if (StringUtils.isBlank(clientId)) {
             return null;
         }
-        return getRegisteredOAuthServiceByPredicate(servicesManager, s -> s.getClientId().equalsIgnoreCase(clientId));
+        return getRegisteredOAuthServiceByIndex(servicesManager, OAuth20ClientIdRegisteredServiceIndex.NAME,
+            clientId, s -> s.getClientId().equalsIgnoreCase(clientId));
     }
 
     /**
@@ -120,7 +123,22 @@ public class OAuth20Utils {
         if (StringUtils.isBlank(redirectUri)) {
             return null;
         }
-        return getRegisteredOAuthServiceByPredicate(servicesManager, s -> s.matches(redirectUri));
+        return getRegisteredOAuthServiceByIndex(servicesManager, OAuth20RedirectUriRegisteredServiceIndex.NAME,
+            redirectUri, s -> s.matches(redirectUri));
+    }
+
+    private static OAuthRegisteredService getRegisteredOAuthServiceByIndex(final ServicesManager servicesManager,
+                                                                           final String indexName,
+                                                                           final String query,
+                                                                           final Predicate<OAuthRegisteredService> predicate) {
+        return servicesManager.findServicesByIndex(indexName, query)
+            .map(candidates -> candidates.stream()
+                .filter(OAuthRegisteredService.class::isInstance)
+                .map(OAuthRegisteredService.class::cast)
+                .filter(predicate)
+                .findFirst()
+                .orElse(null))
+            .orElseGet(() -> getRegisteredOAuthServiceByPredicate(servicesManager, predicate));
     }
 
     private static OAuthRegisteredService getRegisteredOAuthServiceByPredicate(final ServicesManager servicesManager,
@@ -23,9 +23,11 @@ import org.apereo.cas.support.oauth.web.views.ConsentApprovalViewResolver;
 import org.apereo.cas.support.oauth.web.views.OAuth20CallbackAuthorizeViewResolver;
 import org.apereo.cas.support.oauth.web.views.OAuth20UserProfileViewRenderer;
 import org.apereo.cas.ticket.ExpirationPolicyBuilder;
+import org.apereo.cas.ticket.OAuth20TokenLineageIndex;
 import org.apereo.cas.ticket.OAuth20TokenSigningAndEncryptionService;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenLookupCache;
 import org.apereo.cas.ticket.device.OAuth20DeviceToken;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.token.JwtBuilder;
@@ -132,6 +134,10 @@ public class OAuth20ConfigurationContext {
 
     private final OAuth20ClientSecretValidator clientSecretValidator;
 
+    private final OAuth20AccessTokenLookupCache accessTokenLookupCache;
+
+    private final OAuth20TokenLineageIndex tokenLineageIndex;
+
     /**
      * Gets ticket granting ticket.
      *
@@ -24,6 +24,7 @@ import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.LinkedHashSet;
 
 /**
  * This is {@link OAuth20RevocationEndpointController}.
@@ -125,11 +126,7 @@ public class OAuth20RevocationEndpointController<T extends OAuth20ConfigurationC
                 return OAuth20Utils.writeError(response, OAuth20Constants.INVALID_REQUEST);
             }
 
-            if (isRefreshToken(registryToken)) {
-                revokeToken((OAuth20RefreshToken) registryToken);
-            } else {
-                revokeToken(registryToken.getId());
-            }
+            revokeToken(registryToken);
         } else {
             LOGGER.error("Provided token [{}] is either not a refresh token or not an access token", token);
             return OAuth20Utils.writeError(response, OAuth20Constants.INVALID_REQUEST);
@@ -141,18 +138,26 @@ public class OAuth20RevocationEndpointController<T extends OAuth20ConfigurationC
     }
 
     /**
-     * Revoke the provided Refresh Token and it's related Access Tokens.
+     * Revoke the provided token along with all tokens that descend from it.
+     * Descendants are resolved via the token lineage index, as well as the access tokens
+     * linked to a refresh token, and are deleted together.
      *
      * @param token the token
+     * @throws Exception the exception
      */
-    private void revokeToken(final OAuth20RefreshToken token) throws Exception {
-        revokeToken(token.getId());
-        token.getAccessTokens().forEach(Unchecked.consumer(this::revokeToken));
-    }
-
-    private void revokeToken(final String token) throws Exception {
-        LOGGER.debug("Revoking token [{}]", token);
-        getConfigurationContext().getTicketRegistry().deleteTicket(token);
+    protected void revokeToken(final OAuth20Token token) throws Exception {
+        val tokensToRevoke = new LinkedHashSet<String>();
+        tokensToRevoke.add(token.getId());
+        tokensToRevoke.addAll(getConfigurationContext().getTokenLineageIndex().getDescendants(token.getId()));
+        if (isRefreshToken(token)) {
+            tokensToRevoke.addAll(((OAuth20RefreshToken) token).getAccessTokens());
+        }
+        LOGGER.debug("Revoking tokens [{}]", tokensToRevoke);
+        for (val tokenId : tokensToRevoke) {
+            getConfigurationContext().getTicketRegistry().deleteTicket(tokenId);
+            getConfigurationContext().getAccessTokenLookupCache().invalidate(tokenId);
+        }
+        getConfigurationContext().getTokenLineageIndex().remove(tokensToRevoke);
     }
 
     /**
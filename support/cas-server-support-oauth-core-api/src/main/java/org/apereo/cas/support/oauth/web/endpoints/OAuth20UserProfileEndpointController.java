@@ -20,6 +20,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * This controller returns a profile for the authenticated user
  * (identifier + attributes), found with the access token.
@@ -84,36 +86,60 @@ public class OAuth20UserProfileEndpointController<T extends OAuth20Configuration
             LOGGER.error("Missing [{}] from the request", OAuth20Constants.ACCESS_TOKEN);
             return buildUnauthorizedResponseEntity(OAuth20Constants.MISSING_ACCESS_TOKEN);
         }
-        val accessTokenTicket = getConfigurationContext().getTicketRegistry()
-            .getTicket(accessToken, OAuth20AccessToken.class);
+        val loadedTicket = new AtomicReference<OAuth20AccessToken>();
+        val accessTokenTicket = getConfigurationContext().getAccessTokenLookupCache().get(accessToken, OAuth20AccessToken.class,
+            token -> {
+                loadedTicket.set(getConfigurationContext().getTicketRegistry().getTicket(token, OAuth20AccessToken.class));
+                return loadedTicket.get();
+            });
 
         if (accessTokenTicket == null || accessTokenTicket.isExpired()) {
             LOGGER.error("Access token [{}] cannot be found in the ticket registry or has expired.", accessToken);
             return expiredAccessTokenResponseEntity;
         }
-        AuthenticationCredentialsThreadLocalBinder.bindCurrent(accessTokenTicket.getAuthentication());
-        updateAccessTokenUsage(accessTokenTicket);
-        val map = getConfigurationContext().getUserProfileDataCreator().createFrom(accessTokenTicket, context);
-        return getConfigurationContext().getUserProfileViewRenderer().render(map, accessTokenTicket, response);
+        val registryTicket = updateAccessTokenUsage(accessTokenTicket, accessTokenTicket == loadedTicket.get());
+        if (registryTicket == null) {
+            LOGGER.error("Access token [{}] cannot be found in the ticket registry.", accessTokenTicket.getId());
+            return expiredAccessTokenResponseEntity;
+        }
+        AuthenticationCredentialsThreadLocalBinder.bindCurrent(registryTicket.getAuthentication());
+        val map = getConfigurationContext().getUserProfileDataCreator().createFrom(registryTicket, context);
+        return getConfigurationContext().getUserProfileViewRenderer().render(map, registryTicket, response);
     }
 
     /**
      * Update the access token in the registry.
+     * A token that was served from the lookup cache is read again from the registry,
+     * since the cached instance may no longer be current; a token that was just loaded
+     * from the registry is used as is.
      *
-     * @param accessTokenTicket the access token
+     * @param accessTokenTicket  the access token
+     * @param loadedFromRegistry whether the access token was just loaded from the registry
+     * @return the access token as found in the registry, or null if it no longer exists
      * @throws Exception the exception
      */
-    protected void updateAccessTokenUsage(final OAuth20AccessToken accessTokenTicket) throws Exception {
-        accessTokenTicket.update();
-        if (accessTokenTicket.isExpired()) {
-            getConfigurationContext().getTicketRegistry().deleteTicket(accessTokenTicket.getId());
+    protected OAuth20AccessToken updateAccessTokenUsage(final OAuth20AccessToken accessTokenTicket,
+                                                        final boolean loadedFromRegistry) throws Exception {
+        val registryTicket = loadedFromRegistry
+            ? accessTokenTicket
+            : getConfigurationContext().getTicketRegistry().getTicket(accessTokenTicket.getId(), OAuth20AccessToken.class);
+        if (registryTicket == null) {
+            getConfigurationContext().getAccessTokenLookupCache().invalidate(accessTokenTicket.getId());
+            return null;
+        }
+        registryTicket.update();
+        if (registryTicket.isExpired()) {
+            getConfigurationContext().getAccessTokenLookupCache().invalidate(registryTicket.getId());
+            getConfigurationContext().getTicketRegistry().deleteTicket(registryTicket.getId());
         } else {
-            getConfigurationContext().getTicketRegistry().updateTicket(accessTokenTicket);
+            getConfigurationContext().getTicketRegistry().updateTicket(registryTicket);
         }
+        return registryTicket;
     }
 
     /**
-     * Gets access token from request.
+     * Gets access token from request, as it was presented.
+     * Access tokens issued as JWTs are decoded once they are looked up.
      *
      * @param request the request
      * @return the access token from request
@@ -128,6 +154,6 @@ public class OAuth20UserProfileEndpointController<T extends OAuth20Configuration
             }
         }
         LOGGER.debug("[{}]: [{}]", OAuth20Constants.ACCESS_TOKEN, accessToken);
-        return extractAccessTokenFrom(accessToken);
+        return accessToken;
     }
 }
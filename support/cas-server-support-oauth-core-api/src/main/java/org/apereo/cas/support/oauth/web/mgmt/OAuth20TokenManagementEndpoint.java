@@ -3,8 +3,10 @@ package org.apereo.cas.support.oauth.web.mgmt;
 import org.apereo.cas.CentralAuthenticationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenEncoder;
+import org.apereo.cas.ticket.OAuth20TokenLineageIndex;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenLookupCache;
 import org.apereo.cas.ticket.refreshtoken.OAuth20RefreshToken;
 import org.apereo.cas.token.JwtBuilder;
 import org.apereo.cas.web.BaseCasActuatorEndpoint;
@@ -20,6 +22,7 @@ import org.springframework.boot.actuate.endpoint.annotation.Selector;
 
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.stream.Collectors;
 
 /**
@@ -36,12 +39,33 @@ public class OAuth20TokenManagementEndpoint extends BaseCasActuatorEndpoint {
 
     private final JwtBuilder accessTokenJwtBuilder;
 
+    private final OAuth20TokenLineageIndex tokenLineageIndex;
+
+    private final OAuth20AccessTokenLookupCache accessTokenLookupCache;
+
     public OAuth20TokenManagementEndpoint(final CasConfigurationProperties casProperties,
                                           final CentralAuthenticationService centralAuthenticationService,
                                           final JwtBuilder accessTokenJwtBuilder) {
+        this(casProperties, centralAuthenticationService, accessTokenJwtBuilder, OAuth20TokenLineageIndex.noOp());
+    }
+
+    public OAuth20TokenManagementEndpoint(final CasConfigurationProperties casProperties,
+                                          final CentralAuthenticationService centralAuthenticationService,
+                                          final JwtBuilder accessTokenJwtBuilder,
+                                          final OAuth20TokenLineageIndex tokenLineageIndex) {
+        this(casProperties, centralAuthenticationService, accessTokenJwtBuilder, tokenLineageIndex, null);
+    }
+
+    public OAuth20TokenManagementEndpoint(final CasConfigurationProperties casProperties,
+                                          final CentralAuthenticationService centralAuthenticationService,
+                                          final JwtBuilder accessTokenJwtBuilder,
+                                          final OAuth20TokenLineageIndex tokenLineageIndex,
+                                          final OAuth20AccessTokenLookupCache accessTokenLookupCache) {
         super(casProperties);
         this.centralAuthenticationService = centralAuthenticationService;
         this.accessTokenJwtBuilder = accessTokenJwtBuilder;
+        this.tokenLineageIndex = tokenLineageIndex;
+        this.accessTokenLookupCache = accessTokenLookupCache;
     }
 
     /**
@@ -79,7 +103,8 @@ public class OAuth20TokenManagementEndpoint extends BaseCasActuatorEndpoint {
     }
 
     /**
-     * Delete access token.
+     * Delete access token, along with all tokens that descend from it
+     * as recorded by the token lineage index.
      *
      * @param ticketId the ticket id
      * @throws Exception the exception
@@ -89,7 +114,17 @@ public class OAuth20TokenManagementEndpoint extends BaseCasActuatorEndpoint {
     public void deleteToken(@Selector final String ticketId) throws Exception {
         val ticket = getToken(ticketId);
         if (ticket != null) {
-            centralAuthenticationService.deleteTicket(ticket.getId());
+            val tokens = new LinkedHashSet<String>();
+            tokens.add(ticket.getId());
+            tokens.addAll(tokenLineageIndex.getDescendants(ticket.getId()));
+            LOGGER.debug("Deleting tokens [{}]", tokens);
+            for (val token : tokens) {
+                centralAuthenticationService.deleteTicket(token);
+                if (accessTokenLookupCache != null) {
+                    accessTokenLookupCache.invalidate(token);
+                }
+            }
+            tokenLineageIndex.remove(tokens);
         }
     }
 
@@ -20,6 +20,7 @@ import org.apereo.cas.ticket.device.OAuth20DeviceUserCode;
 import org.apereo.cas.ticket.device.OAuth20DeviceUserCodeFactory;
 import org.apereo.cas.ticket.refreshtoken.OAuth20RefreshToken;
 import org.apereo.cas.ticket.refreshtoken.OAuth20RefreshTokenFactory;
+import org.apereo.cas.ticket.registry.TicketRegistryUnitOfWork;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 
@@ -177,6 +178,7 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
         val authentication = authnBuilder.build();
 
         LOGGER.debug("Creating access token for [{}]", holder);
+        val unitOfWork = new TicketRegistryUnitOfWork();
         val ticketGrantingTicket = holder.getTicketGrantingTicket();
         val accessToken = this.accessTokenFactory.create(holder.getService(),
             authentication, ticketGrantingTicket, holder.getScopes(),
@@ -185,18 +187,23 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
             holder.getResponseType(), holder.getGrantType());
 
         LOGGER.debug("Created access token [{}]", accessToken);
-        addTicketToRegistry(accessToken, ticketGrantingTicket);
-        LOGGER.debug("Added access token [{}] to registry", accessToken);
+        addTicketToRegistry(accessToken, ticketGrantingTicket, unitOfWork);
 
-        updateOAuthCode(holder, accessToken);
+        updateOAuthCode(holder, accessToken, unitOfWork);
 
         val refreshToken = FunctionUtils.doIf(holder.isGenerateRefreshToken(),
-            Unchecked.supplier(() -> generateRefreshToken(holder, accessToken)),
+            Unchecked.supplier(() -> generateRefreshToken(holder, accessToken, unitOfWork)),
             () -> {
                 LOGGER.debug("Service [{}] is not able/allowed to receive refresh tokens", holder.getService());
                 return null;
             }).get();
 
+        LOGGER.debug("Saving tickets [{}] to registry", unitOfWork);
+        centralAuthenticationService.saveTickets(unitOfWork);
+        LOGGER.debug("Added access token [{}] to registry", accessToken);
+        if (refreshToken != null && holder.isExpireOldRefreshToken()) {
+            expireOldRefreshToken(holder);
+        }
         return Pair.of(accessToken, refreshToken);
     }
 
@@ -205,13 +212,15 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
      *
      * @param holder      the holder
      * @param accessToken the accessToken
+     * @param unitOfWork  the unit of work that collects ticket changes
      * @throws Exception the exception
      */
-    protected void updateOAuthCode(final AccessTokenRequestContext holder, final OAuth20AccessToken accessToken) throws Exception {
+    protected void updateOAuthCode(final AccessTokenRequestContext holder, final OAuth20AccessToken accessToken,
+                                   final TicketRegistryUnitOfWork unitOfWork) throws Exception {
         if (holder.isRefreshToken()) {
             val refreshToken = (OAuth20RefreshToken) holder.getToken();
             refreshToken.getAccessTokens().add(accessToken.getId());
-            this.centralAuthenticationService.updateTicket(refreshToken);
+            unitOfWork.updateTicket(refreshToken);
         } else if (holder.isCodeToken()) {
             val codeState = Ticket.class.cast(holder.getToken());
             codeState.update();
@@ -219,48 +228,42 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
             if (holder.getToken().isExpired()) {
                 this.centralAuthenticationService.deleteTicket(holder.getToken().getId());
             } else {
-                this.centralAuthenticationService.updateTicket(holder.getToken());
+                unitOfWork.updateTicket(holder.getToken());
             }
-            this.centralAuthenticationService.updateTicket(holder.getTicketGrantingTicket());
+            unitOfWork.updateTicket(holder.getTicketGrantingTicket());
         }
     }
 
     /**
-     * Add ticket to registry.
+     * Add ticket to registry. The ticket and its parent ticket-granting ticket
+     * are recorded in the unit of work and saved once the unit of work is saved.
      *
      * @param ticket               the ticket
      * @param ticketGrantingTicket the ticket granting ticket
-     * @throws Exception the exception
+     * @param unitOfWork           the unit of work that collects ticket changes
      */
-    protected void addTicketToRegistry(final Ticket ticket, final TicketGrantingTicket ticketGrantingTicket) throws Exception {
+    protected void addTicketToRegistry(final Ticket ticket, final TicketGrantingTicket ticketGrantingTicket,
+                                       final TicketRegistryUnitOfWork unitOfWork) {
         LOGGER.debug("Adding ticket [{}] to registry", ticket);
-        this.centralAuthenticationService.addTicket(ticket);
+        unitOfWork.addTicket(ticket);
         if (ticketGrantingTicket != null) {
             LOGGER.debug("Updating parent ticket-granting ticket [{}]", ticketGrantingTicket);
-            this.centralAuthenticationService.updateTicket(ticketGrantingTicket);
+            unitOfWork.updateTicket(ticketGrantingTicket);
         }
     }
 
-    /**
-     * Add ticket to registry.
-     *
-     * @param ticket the ticket
-     * @throws Exception the exception
-     */
-    protected void addTicketToRegistry(final Ticket ticket) throws Exception {
-        addTicketToRegistry(ticket, null);
-    }
-
     /**
      * Generate refresh token.
      *
      * @param responseHolder the response holder
      * @param accessToken    the related Access token
+     * @param unitOfWork     the unit of work that collects ticket changes
      * @return the refresh token
      * @throws Exception the exception
      */
     protected OAuth20RefreshToken generateRefreshToken(final AccessTokenRequestContext responseHolder,
-                                                       final OAuth20AccessToken accessToken) throws Exception {
+                                                       final OAuth20AccessToken accessToken,
+                                                       final TicketRegistryUnitOfWork unitOfWork) throws Exception {
         LOGGER.debug("Creating refresh token for [{}]", responseHolder.getService());
         val refreshToken = this.refreshTokenFactory.create(responseHolder.getService(),
             responseHolder.getAuthentication(),
@@ -272,10 +275,7 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
             responseHolder.getResponseType(),
             responseHolder.getGrantType());
         LOGGER.debug("Adding refresh token [{}] to the registry", refreshToken);
-        addTicketToRegistry(refreshToken, responseHolder.getTicketGrantingTicket());
-        if (responseHolder.isExpireOldRefreshToken()) {
-            expireOldRefreshToken(responseHolder);
-        }
+        addTicketToRegistry(refreshToken, responseHolder.getTicketGrantingTicket(), unitOfWork);
         return refreshToken;
     }
 
@@ -308,11 +308,11 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
         val deviceUserCode = deviceUserCodeFactory.createDeviceUserCode(deviceToken);
         LOGGER.debug("Created device user code token [{}]", deviceUserCode.getId());
 
-        addTicketToRegistry(deviceToken);
-        LOGGER.debug("Added device token [{}] to registry", deviceToken);
-
-        addTicketToRegistry(deviceUserCode);
-        LOGGER.debug("Added device user token [{}] to registry", deviceUserCode);
+        val unitOfWork = new TicketRegistryUnitOfWork();
+        addTicketToRegistry(deviceToken, null, unitOfWork);
+        addTicketToRegistry(deviceUserCode, null, unitOfWork);
+        centralAuthenticationService.saveTickets(unitOfWork);
+        LOGGER.debug("Added device token [{}] and device user token [{}] to registry", deviceToken, deviceUserCode);
 
         return Pair.of(deviceToken, deviceUserCode);
     }
@@ -9,6 +9,7 @@ import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
 import org.apereo.cas.token.JwtBuilder;
 import org.apereo.cas.util.DateTimeUtils;
 
+import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.JWTParser;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
@@ -64,11 +65,21 @@ public class OAuth20JwtAccessTokenEncoder {
      * @return the string
      */
     public String decode(final String tokenId) {
+        if (StringUtils.isBlank(tokenId)) {
+            LOGGER.warn("No access token is provided to decode");
+            return null;
+        }
+        return decodeClaims(tokenId).map(JWTClaimsSet::getJWTID).orElse(tokenId);
+    }
+
+    /**
+     * Decode access token as JWT and validate it.
+     *
+     * @param tokenId the token id
+     * @return the claims of the token, or empty if the token is not a JWT
+     */
+    public Optional<JWTClaimsSet> decodeClaims(final String tokenId) {
         try {
-            if (StringUtils.isBlank(tokenId)) {
-                LOGGER.warn("No access token is provided to decode");
-                return null;
-            }
             val header = JWTParser.parse(tokenId).getHeader();
             var oAuthRegisteredService = (OAuthRegisteredService) this.registeredService;
             if (oAuthRegisteredService == null) {
@@ -79,12 +90,11 @@ public class OAuth20JwtAccessTokenEncoder {
                         .findServiceBy(serviceIdentifier, OAuthRegisteredService.class);
                 }
             }
-            val claims = accessTokenJwtBuilder.unpack(Optional.ofNullable(oAuthRegisteredService), tokenId);
-            return claims.getJWTID();
+            return Optional.of(accessTokenJwtBuilder.unpack(Optional.ofNullable(oAuthRegisteredService), tokenId));
         } catch (final ParseException e) {
             LOGGER.trace(e.getMessage(), e);
         }
-        return tokenId;
+        return Optional.empty();
     }
 
     /**
@@ -0,0 +1,96 @@
+package org.apereo.cas.ticket;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link DefaultOAuth20TokenLineageIndex}, which keeps the token lineage in memory.
+ * The index is bounded in size; links of tokens that expire without being revoked
+ * are eventually evicted, in which case the links carried by the tickets themselves still apply.
+ * Tokens issued on another node are not tracked by this index.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class DefaultOAuth20TokenLineageIndex implements OAuth20TokenLineageIndex {
+    private static final long MAX_CACHE_SIZE = 100_000;
+
+    private final Cache<String, Set<String>> children;
+
+    private final Cache<String, Set<String>> parents;
+
+    public DefaultOAuth20TokenLineageIndex() {
+        this(MAX_CACHE_SIZE);
+    }
+
+    public DefaultOAuth20TokenLineageIndex(final long maximumSize) {
+        this.children = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.parents = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    @Override
+    public void link(final String parentId, final String childId) {
+        if (StringUtils.isBlank(parentId) || StringUtils.isBlank(childId) || parentId.equals(childId)) {
+            return;
+        }
+        LOGGER.trace("Linking token [{}] to parent [{}]", childId, parentId);
+        children.get(parentId, key -> ConcurrentHashMap.newKeySet()).add(childId);
+        parents.get(childId, key -> ConcurrentHashMap.newKeySet()).add(parentId);
+    }
+
+    @Override
+    public Set<String> getDescendants(final String ticketId) {
+        val descendants = new LinkedHashSet<String>();
+        if (StringUtils.isBlank(ticketId)) {
+            return descendants;
+        }
+        val pending = new ArrayDeque<String>();
+        pending.add(ticketId);
+        while (!pending.isEmpty()) {
+            val current = children.getIfPresent(pending.poll());
+            if (current != null) {
+                current.stream()
+                    .filter(id -> !id.equals(ticketId))
+                    .filter(descendants::add)
+                    .forEach(pending::add);
+            }
+        }
+        return descendants;
+    }
+
+    @Override
+    public void remove(final Collection<String> ticketIds) {
+        ticketIds.forEach(ticketId -> {
+            val ticketParents = parents.getIfPresent(ticketId);
+            if (ticketParents != null) {
+                ticketParents.forEach(parentId -> {
+                    val siblings = children.getIfPresent(parentId);
+                    if (siblings != null) {
+                        siblings.remove(ticketId);
+                    }
+                });
+            }
+            val ticketChildren = children.getIfPresent(ticketId);
+            if (ticketChildren != null) {
+                ticketChildren.forEach(childId -> {
+                    val childParents = parents.getIfPresent(childId);
+                    if (childParents != null) {
+                        childParents.remove(ticketId);
+                    }
+                });
+            }
+            parents.invalidate(ticketId);
+            children.invalidate(ticketId);
+        });
+    }
+}
@@ -0,0 +1,118 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenEncoder;
+import org.apereo.cas.ticket.OAuth20Token;
+import org.apereo.cas.token.JwtBuilder;
+import org.apereo.cas.util.DigestUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nimbusds.jwt.JWTClaimsSet;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.function.Function;
+
+/**
+ * This is {@link OAuth20AccessTokenLookupCache}, which resolves access tokens presented
+ * to endpoints such as introspection or user profile. Tokens issued as JWTs are validated
+ * locally first, so tokens with an invalid signature or an expired {@code exp} claim are rejected
+ * without a trip to the ticket registry. Tokens found in the ticket registry are kept for a short
+ * period, keyed by the hash of the token as it was presented, and are removed once revoked, deleted
+ * or once the ticket-granting ticket they were issued for is destroyed.
+ * Tokens revoked on another node remain in this cache until their entry expires.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class OAuth20AccessTokenLookupCache {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "oauthAccessTokenLookupCache";
+
+    private static final long MAX_CACHE_SIZE = 10_000;
+
+    private final JwtBuilder accessTokenJwtBuilder;
+
+    private final boolean enabled;
+
+    private final Cache<String, OAuth20Token> tokens;
+
+    public OAuth20AccessTokenLookupCache(final JwtBuilder accessTokenJwtBuilder, final Duration expiration) {
+        this.accessTokenJwtBuilder = accessTokenJwtBuilder;
+        this.enabled = !expiration.isZero() && !expiration.isNegative();
+        this.tokens = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHE_SIZE)
+            .expireAfterWrite(enabled ? expiration : Duration.ZERO)
+            .build();
+    }
+
+    /**
+     * Resolve the token.
+     *
+     * @param <T>    the token type
+     * @param token  the token as presented in the request
+     * @param clazz  the expected token type
+     * @param loader the loader that fetches the token by its id when it's not found in the cache
+     * @return the token, or null if the token is unknown, invalid or expired.
+     */
+    public <T extends OAuth20Token> T get(final String token, final Class<T> clazz, final Function<String, T> loader) {
+        if (StringUtils.isBlank(token)) {
+            return null;
+        }
+        val key = DigestUtils.sha256(token);
+        val cached = tokens.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpired() && clazz.isInstance(cached)) {
+                LOGGER.trace("Located token [{}] in cache", cached.getId());
+                return clazz.cast(cached);
+            }
+            tokens.invalidate(key);
+        }
+
+        val encoder = OAuth20JwtAccessTokenEncoder.builder().accessTokenJwtBuilder(accessTokenJwtBuilder).build();
+        val claims = encoder.decodeClaims(token);
+        if (claims.isPresent() && claims.get().getExpirationTime() != null
+            && claims.get().getExpirationTime().before(new Date())) {
+            LOGGER.debug("Token [{}] has expired as of [{}]", claims.get().getJWTID(), claims.get().getExpirationTime());
+            return null;
+        }
+        val tokenId = claims.map(JWTClaimsSet::getJWTID).orElse(token);
+        val result = loader.apply(tokenId);
+        if (enabled && result != null && !result.isExpired()) {
+            tokens.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Remove the token from the cache.
+     *
+     * @param tokenId the token id
+     */
+    public void invalidate(final String tokenId) {
+        tokens.asMap().values().removeIf(token -> token.getId().equals(tokenId));
+    }
+
+    /**
+     * Remove all tokens issued on behalf of the ticket-granting ticket from the cache.
+     *
+     * @param ticketGrantingTicketId the ticket-granting ticket id
+     */
+    public void invalidateDescendantsOf(final String ticketGrantingTicketId) {
+        tokens.asMap().values().removeIf(token -> token.getTicketGrantingTicket() != null
+            && token.getTicketGrantingTicket().getId().equals(ticketGrantingTicketId));
+    }
+
+    /**
+     * Remove all tokens from the cache.
+     */
+    public void invalidateAll() {
+        tokens.invalidateAll();
+    }
+}
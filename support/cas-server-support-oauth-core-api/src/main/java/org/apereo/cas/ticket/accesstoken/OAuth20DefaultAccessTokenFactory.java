@@ -10,6 +10,7 @@ import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.ticket.ExpirationPolicy;
 import org.apereo.cas.ticket.ExpirationPolicyBuilder;
+import org.apereo.cas.ticket.OAuth20TokenLineageIndex;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
@@ -18,6 +19,7 @@ import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
@@ -54,6 +56,12 @@ public class OAuth20DefaultAccessTokenFactory implements OAuth20AccessTokenFacto
      */
     protected final ServicesManager servicesManager;
 
+    /**
+     * Token lineage index that records the tokens issued by this factory.
+     */
+    @Setter
+    protected OAuth20TokenLineageIndex tokenLineageIndex = OAuth20TokenLineageIndex.noOp();
+
     public OAuth20DefaultAccessTokenFactory(final ExpirationPolicyBuilder<OAuth20AccessToken> expirationPolicy,
                                             final JwtBuilder jwtBuilder,
                                             final ServicesManager servicesManager) {
@@ -79,7 +87,9 @@ public class OAuth20DefaultAccessTokenFactory implements OAuth20AccessTokenFacto
             clientId, requestClaims, responseType, grantType);
         if (ticketGrantingTicket != null) {
             ticketGrantingTicket.getDescendantTickets().add(at.getId());
+            tokenLineageIndex.link(ticketGrantingTicket.getId(), at.getId());
         }
+        tokenLineageIndex.link(token, at.getId());
         return at;
     }
 
@@ -9,6 +9,7 @@ import org.apereo.cas.support.oauth.OAuth20ResponseTypes;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.ticket.ExpirationPolicy;
 import org.apereo.cas.ticket.ExpirationPolicyBuilder;
+import org.apereo.cas.ticket.OAuth20TokenLineageIndex;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
@@ -16,6 +17,7 @@ import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -53,6 +55,12 @@ public class OAuth20DefaultOAuthCodeFactory implements OAuth20CodeFactory {
      */
     protected final CipherExecutor<String, String> cipherExecutor;
 
+    /**
+     * Token lineage index that records the tokens issued by this factory.
+     */
+    @Setter
+    protected OAuth20TokenLineageIndex tokenLineageIndex = OAuth20TokenLineageIndex.noOp();
+
     @Override
     public OAuth20Code create(final Service service,
                               final Authentication authentication,
@@ -81,6 +89,7 @@ public class OAuth20DefaultOAuthCodeFactory implements OAuth20CodeFactory {
             requestClaims, responseType, grantType);
         if (ticketGrantingTicket != null) {
             ticketGrantingTicket.getDescendantTickets().add(oauthCode.getId());
+            tokenLineageIndex.link(ticketGrantingTicket.getId(), oauthCode.getId());
         }
         return oauthCode;
     }
@@ -2,11 +2,13 @@ package org.apereo.cas.ticket.device;
 
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.ExpirationPolicyBuilder;
+import org.apereo.cas.ticket.OAuth20TokenLineageIndex;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
 import org.apereo.cas.util.RandomUtils;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.val;
 
 /**
@@ -37,6 +39,12 @@ public class OAuth20DefaultDeviceUserCodeFactory implements OAuth20DeviceUserCod
      */
     protected final ServicesManager servicesManager;
 
+    /**
+     * Token lineage index that records the tokens issued by this factory.
+     */
+    @Setter
+    protected OAuth20TokenLineageIndex tokenLineageIndex = OAuth20TokenLineageIndex.noOp();
+
     @Override
     public OAuth20DeviceUserCode createDeviceUserCode(final OAuth20DeviceToken deviceToken) {
         val userCode = generateDeviceUserCode(RandomUtils.randomAlphanumeric(userCodeLength));
@@ -44,6 +52,7 @@ public class OAuth20DefaultDeviceUserCodeFactory implements OAuth20DeviceUserCod
             expirationPolicy, deviceToken.getService());
         val deviceUserCode = new OAuth20DefaultDeviceUserCode(userCode, deviceToken.getId(), expirationPolicyToUse);
         deviceToken.assignUserCode(deviceUserCode);
+        tokenLineageIndex.link(deviceToken.getId(), deviceUserCode.getId());
         return deviceUserCode;
     }
 
@@ -13,6 +13,7 @@ import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.logout.LogoutExecutionPlanConfigurer;
 import org.apereo.cas.pac4j.DistributedJEESessionStore;
@@ -90,13 +91,16 @@ import org.apereo.cas.support.oauth.web.views.OAuth20CallbackAuthorizeViewResolv
 import org.apereo.cas.support.oauth.web.views.OAuth20ConsentApprovalViewResolver;
 import org.apereo.cas.support.oauth.web.views.OAuth20DefaultUserProfileViewRenderer;
 import org.apereo.cas.support.oauth.web.views.OAuth20UserProfileViewRenderer;
+import org.apereo.cas.ticket.DefaultOAuth20TokenLineageIndex;
 import org.apereo.cas.ticket.ExpirationPolicyBuilder;
+import org.apereo.cas.ticket.OAuth20TokenLineageIndex;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketFactoryExecutionPlanConfigurer;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenExpirationPolicyBuilder;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenFactory;
 import org.apereo.cas.ticket.accesstoken.OAuth20DefaultAccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenLookupCache;
 import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilder;
 import org.apereo.cas.ticket.code.OAuth20CodeExpirationPolicyBuilder;
 import org.apereo.cas.ticket.code.OAuth20CodeFactory;
@@ -128,6 +132,7 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.audit.spi.support.DefaultAuditActionResolver;
+import org.jooq.lambda.Unchecked;
 import org.pac4j.cas.client.CasClient;
 import org.pac4j.cas.config.CasConfiguration;
 import org.pac4j.core.client.Client;
@@ -157,6 +162,7 @@ import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -285,7 +291,11 @@ public class CasOAuth20Configuration {
             final ObjectProvider<List<OAuth20AuthorizationResponseBuilder>> oauthAuthorizationResponseBuilders,
             final ObjectProvider<List<OAuth20AuthorizationRequestValidator>> oauthAuthorizationRequestValidators,
             @Qualifier("oauthTokenGenerator")
-            final OAuth20TokenGenerator oauthTokenGenerator) {
+            final OAuth20TokenGenerator oauthTokenGenerator,
+            @Qualifier(OAuth20AccessTokenLookupCache.BEAN_NAME)
+            final OAuth20AccessTokenLookupCache oauthAccessTokenLookupCache,
+            @Qualifier(OAuth20TokenLineageIndex.BEAN_NAME)
+            final OAuth20TokenLineageIndex oauthTokenLineageIndex) {
             return OAuth20ConfigurationContext.builder()
                 .requestParameterResolver(oauthRequestParameterResolver)
                 .applicationContext(applicationContext)
@@ -317,6 +327,8 @@ public class CasOAuth20Configuration {
                 .oauthAuthorizationResponseBuilders(oauthAuthorizationResponseBuilders)
                 .oauthRequestValidators(oauthAuthorizationRequestValidators)
                 .clientSecretValidator(oauth20ClientSecretValidator)
+                .accessTokenLookupCache(oauthAccessTokenLookupCache)
+                .tokenLineageIndex(oauthTokenLineageIndex)
                 .build();
         }
     }
@@ -667,8 +679,29 @@ public class CasOAuth20Configuration {
         public LogoutExecutionPlanConfigurer oauthLogoutExecutionPlanConfigurer(
             final CasConfigurationProperties casProperties,
             @Qualifier("oauthDistributedSessionStore")
-            final SessionStore oauthDistributedSessionStore) {
+            final SessionStore oauthDistributedSessionStore,
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final TicketRegistry ticketRegistry,
+            @Qualifier(OAuth20AccessTokenLookupCache.BEAN_NAME)
+            final OAuth20AccessTokenLookupCache oauthAccessTokenLookupCache,
+            @Qualifier(OAuth20TokenLineageIndex.BEAN_NAME)
+            final OAuth20TokenLineageIndex oauthTokenLineageIndex) {
             return plan -> {
+                plan.registerLogoutPostProcessor(ticketGrantingTicket -> {
+                    oauthAccessTokenLookupCache.invalidateDescendantsOf(ticketGrantingTicket.getId());
+                    val tokens = new LinkedHashSet<String>();
+                    tokens.add(ticketGrantingTicket.getId());
+                    if (casProperties.getLogout().isRemoveDescendantTickets()) {
+                        val descendants = oauthTokenLineageIndex.getDescendants(ticketGrantingTicket.getId());
+                        LOGGER.debug("Deleting tokens [{}] issued on behalf of [{}]", descendants, ticketGrantingTicket.getId());
+                        descendants.forEach(Unchecked.consumer(tokenId -> {
+                            ticketRegistry.deleteTicket(tokenId);
+                            oauthAccessTokenLookupCache.invalidate(tokenId);
+                        }));
+                        tokens.addAll(descendants);
+                    }
+                    oauthTokenLineageIndex.remove(tokens);
+                });
                 val replicate = casProperties.getAuthn().getOauth().isReplicateSessions();
                 if (replicate) {
                     plan.registerLogoutPostProcessor(ticketGrantingTicket -> {
@@ -697,6 +730,24 @@ public class CasOAuth20Configuration {
             return new DefaultOAuth20RequestParameterResolver(accessTokenJwtBuilder);
         }
 
+        @ConditionalOnMissingBean(name = OAuth20AccessTokenLookupCache.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public OAuth20AccessTokenLookupCache oauthAccessTokenLookupCache(
+            @Qualifier("accessTokenJwtBuilder")
+            final JwtBuilder accessTokenJwtBuilder,
+            final CasConfigurationProperties casProperties) {
+            val expiration = Beans.newDuration(casProperties.getAuthn().getOauth().getAccessToken().getLookupCacheExpiration());
+            return new OAuth20AccessTokenLookupCache(accessTokenJwtBuilder, expiration);
+        }
+
+        @ConditionalOnMissingBean(name = OAuth20TokenLineageIndex.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public OAuth20TokenLineageIndex oauthTokenLineageIndex() {
+            return new DefaultOAuth20TokenLineageIndex();
+        }
+
         @ConditionalOnMissingBean(name = "oauthPrincipalFactory")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -1147,9 +1198,13 @@ public class CasOAuth20Configuration {
             @Qualifier("refreshTokenExpirationPolicy")
             final ExpirationPolicyBuilder refreshTokenExpirationPolicy,
             @Qualifier(ServicesManager.BEAN_NAME)
-            final ServicesManager servicesManager) {
-            return new OAuth20DefaultRefreshTokenFactory(refreshTokenIdGenerator,
+            final ServicesManager servicesManager,
+            @Qualifier(OAuth20TokenLineageIndex.BEAN_NAME)
+            final OAuth20TokenLineageIndex oauthTokenLineageIndex) {
+            val factory = new OAuth20DefaultRefreshTokenFactory(refreshTokenIdGenerator,
                 refreshTokenExpirationPolicy, servicesManager);
+            factory.setTokenLineageIndex(oauthTokenLineageIndex);
+            return factory;
         }
 
         @Bean
@@ -1163,9 +1218,13 @@ public class CasOAuth20Configuration {
             @Qualifier(ServicesManager.BEAN_NAME)
             final ServicesManager servicesManager,
             @Qualifier("accessTokenJwtBuilder")
-            final JwtBuilder accessTokenJwtBuilder) {
-            return new OAuth20DefaultAccessTokenFactory(accessTokenIdGenerator,
+            final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier(OAuth20TokenLineageIndex.BEAN_NAME)
+            final OAuth20TokenLineageIndex oauthTokenLineageIndex) {
+            val factory = new OAuth20DefaultAccessTokenFactory(accessTokenIdGenerator,
                 accessTokenExpirationPolicy, accessTokenJwtBuilder, servicesManager);
+            factory.setTokenLineageIndex(oauthTokenLineageIndex);
+            return factory;
         }
 
         @Bean
@@ -1193,9 +1252,13 @@ public class CasOAuth20Configuration {
             final UniqueTicketIdGenerator deviceTokenIdGenerator,
             @Qualifier(ServicesManager.BEAN_NAME)
             final ServicesManager servicesManager,
+            @Qualifier(OAuth20TokenLineageIndex.BEAN_NAME)
+            final OAuth20TokenLineageIndex oauthTokenLineageIndex,
             final CasConfigurationProperties casProperties) {
-            return new OAuth20DefaultDeviceUserCodeFactory(deviceTokenIdGenerator, deviceTokenExpirationPolicy,
+            val factory = new OAuth20DefaultDeviceUserCodeFactory(deviceTokenIdGenerator, deviceTokenExpirationPolicy,
                 casProperties.getAuthn().getOauth().getDeviceUserCode().getUserCodeLength(), servicesManager);
+            factory.setTokenLineageIndex(oauthTokenLineageIndex);
+            return factory;
         }
 
         @Bean
@@ -1209,9 +1272,13 @@ public class CasOAuth20Configuration {
             @Qualifier("oAuthCodeExpirationPolicy")
             final ExpirationPolicyBuilder oAuthCodeExpirationPolicy,
             @Qualifier(ServicesManager.BEAN_NAME)
-            final ServicesManager servicesManager) {
-            return new OAuth20DefaultOAuthCodeFactory(oAuthCodeIdGenerator,
+            final ServicesManager servicesManager,
+            @Qualifier(OAuth20TokenLineageIndex.BEAN_NAME)
+            final OAuth20TokenLineageIndex oauthTokenLineageIndex) {
+            val factory = new OAuth20DefaultOAuthCodeFactory(oAuthCodeIdGenerator,
                 oAuthCodeExpirationPolicy, servicesManager, protocolTicketCipherExecutor);
+            factory.setTokenLineageIndex(oauthTokenLineageIndex);
+            return factory;
         }
     }
 
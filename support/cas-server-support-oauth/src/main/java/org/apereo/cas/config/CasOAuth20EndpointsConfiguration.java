@@ -14,6 +14,8 @@ import org.apereo.cas.support.oauth.web.endpoints.OAuth20IntrospectionEndpointCo
 import org.apereo.cas.support.oauth.web.endpoints.OAuth20RevocationEndpointController;
 import org.apereo.cas.support.oauth.web.endpoints.OAuth20UserProfileEndpointController;
 import org.apereo.cas.support.oauth.web.mgmt.OAuth20TokenManagementEndpoint;
+import org.apereo.cas.ticket.OAuth20TokenLineageIndex;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenLookupCache;
 import org.apereo.cas.token.JwtBuilder;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 import org.apereo.cas.web.ProtocolEndpointWebSecurityConfigurer;
@@ -118,9 +120,13 @@ public class CasOAuth20EndpointsConfiguration {
             final JwtBuilder accessTokenJwtBuilder,
             @Qualifier(CentralAuthenticationService.BEAN_NAME)
             final CentralAuthenticationService centralAuthenticationService,
+            @Qualifier(OAuth20TokenLineageIndex.BEAN_NAME)
+            final OAuth20TokenLineageIndex oauthTokenLineageIndex,
+            @Qualifier(OAuth20AccessTokenLookupCache.BEAN_NAME)
+            final OAuth20AccessTokenLookupCache oauthAccessTokenLookupCache,
             final CasConfigurationProperties casProperties) {
             return new OAuth20TokenManagementEndpoint(casProperties,
-                centralAuthenticationService, accessTokenJwtBuilder);
+                centralAuthenticationService, accessTokenJwtBuilder, oauthTokenLineageIndex, oauthAccessTokenLookupCache);
         }
     }
 
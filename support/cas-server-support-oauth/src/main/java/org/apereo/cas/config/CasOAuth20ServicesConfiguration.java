@@ -5,8 +5,11 @@ import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.services.CasRegisteredService;
 import org.apereo.cas.services.DenyAllAttributeReleasePolicy;
 import org.apereo.cas.services.ServiceRegistryExecutionPlanConfigurer;
+import org.apereo.cas.services.ServicesManagerRegisteredServiceIndex;
 import org.apereo.cas.services.ServicesManagerRegisteredServiceLocator;
 import org.apereo.cas.support.oauth.OAuth20Constants;
+import org.apereo.cas.support.oauth.services.OAuth20ClientIdRegisteredServiceIndex;
+import org.apereo.cas.support.oauth.services.OAuth20RedirectUriRegisteredServiceIndex;
 import org.apereo.cas.support.oauth.services.OAuth20ServiceRegistry;
 import org.apereo.cas.support.oauth.services.OAuth20ServicesManagerRegisteredServiceLocator;
 import org.apereo.cas.util.RandomUtils;
@@ -65,5 +68,17 @@ public class CasOAuth20ServicesConfiguration {
         public ServicesManagerRegisteredServiceLocator oauthServicesManagerRegisteredServiceLocator(final CasConfigurationProperties casProperties) {
             return new OAuth20ServicesManagerRegisteredServiceLocator(casProperties);
         }
+
+        @Bean
+        @ConditionalOnMissingBean(name = "oauthClientIdRegisteredServiceIndex")
+        public ServicesManagerRegisteredServiceIndex oauthClientIdRegisteredServiceIndex() {
+            return new OAuth20ClientIdRegisteredServiceIndex();
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = "oauthRedirectUriRegisteredServiceIndex")
+        public ServicesManagerRegisteredServiceIndex oauthRedirectUriRegisteredServiceIndex() {
+            return new OAuth20RedirectUriRegisteredServiceIndex();
+        }
     }
 }
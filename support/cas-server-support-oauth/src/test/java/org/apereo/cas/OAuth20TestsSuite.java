@@ -13,6 +13,7 @@ import org.apereo.cas.support.oauth.profile.DefaultOAuth20UserProfileDataCreator
 import org.apereo.cas.support.oauth.profile.OAuth20ClientIdAwareProfileManagerTests;
 import org.apereo.cas.support.oauth.services.OAuth20AuthenticationServiceSelectionStrategyTests;
 import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceCipherExecutorTests;
+import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceIndexTests;
 import org.apereo.cas.support.oauth.services.OAuth20ServicesManagerRegisteredServiceLocatorTests;
 import org.apereo.cas.support.oauth.services.OAuth20WebApplicationServiceTests;
 import org.apereo.cas.support.oauth.util.OAuth20UtilsTests;
@@ -69,9 +70,11 @@ import org.apereo.cas.support.oauth.web.response.callback.OAuth20ResourceOwnerCr
 import org.apereo.cas.support.oauth.web.response.callback.OAuth20TokenAuthorizationResponseBuilderTests;
 import org.apereo.cas.support.oauth.web.views.OAuth20DefaultUserProfileViewRendererFlatTests;
 import org.apereo.cas.support.oauth.web.views.OAuth20DefaultUserProfileViewRendererNestedTests;
+import org.apereo.cas.ticket.DefaultOAuth20TokenLineageIndexTests;
 import org.apereo.cas.ticket.OAuth20TokenSigningAndEncryptionServiceTests;
 import org.apereo.cas.ticket.TokenSigningAndEncryptionServiceTests;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenExpirationPolicyTests;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenLookupCacheTests;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenSovereignExpirationPolicyTests;
 import org.apereo.cas.ticket.accesstoken.OAuth20DefaultAccessTokenFactoryTests;
 import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilderTests;
@@ -98,6 +101,7 @@ import org.junit.platform.suite.api.Suite;
     OAuth20AccessTokenEndpointControllerTests.class,
     OAuth20AuthorizeEndpointControllerTests.class,
     OAuth20AccessTokenExpirationPolicyTests.class,
+    OAuth20AccessTokenLookupCacheTests.class,
     OAuth20AccessTokenSovereignExpirationPolicyTests.class,
     OAuth20RefreshTokenExpirationPolicyTests.class,
     OAuth20DefaultTokenGeneratorTests.class,
@@ -154,6 +158,7 @@ import org.junit.platform.suite.api.Suite;
     OAuth20DefaultDeviceUserCodeTests.class,
     OAuth20DefaultCasAuthenticationBuilderTests.class,
     OAuth20TokenSigningAndEncryptionServiceTests.class,
+    DefaultOAuth20TokenLineageIndexTests.class,
     UnapprovedOAuth20DeviceUserCodeExceptionTests.class,
     InvalidOAuth20DeviceTokenExceptionTests.class,
     DefaultOAuth20UserProfileDataCreatorTests.class,
@@ -164,6 +169,7 @@ import org.junit.platform.suite.api.Suite;
     DefaultOAuth20ProfileScopeToAttributesFilterTests.class,
     OAuth20AuthenticationServiceSelectionStrategyTests.class,
     OAuth20ServicesManagerRegisteredServiceLocatorTests.class,
+    OAuth20RegisteredServiceIndexTests.class,
     OAuth20AccessTokenResponseAuditResourceResolverTests.class,
     OAuth20CodeResponseAuditResourceResolverTests.class,
     OAuth20AuthorizationCodeAuthorizationResponseBuilderTests.class,
@@ -0,0 +1,89 @@
+package org.apereo.cas.support.oauth.services;
+
+import org.apereo.cas.AbstractOAuth20Tests;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.support.oauth.util.OAuth20Utils;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link OAuth20RegisteredServiceIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("OAuth")
+public class OAuth20RegisteredServiceIndexTests extends AbstractOAuth20Tests {
+    @BeforeEach
+    public void setup() {
+        super.setup();
+        servicesManager.deleteAll();
+    }
+
+    @Test
+    public void verifyLiteralPrefix() {
+        assertEquals("https://app.example.org/", OAuth20RedirectUriRegisteredServiceIndex.getLiteralPrefix("^https://app\\.example\\.org/.*"));
+        assertEquals("http", OAuth20RedirectUriRegisteredServiceIndex.getLiteralPrefix("https?://app.example.org"));
+        assertEquals("https://app", OAuth20RedirectUriRegisteredServiceIndex.getLiteralPrefix("HTTPS://APP+.example.org"));
+        assertEquals("https://", OAuth20RedirectUriRegisteredServiceIndex.getLiteralPrefix("https://\\w+.example.org"));
+        assertEquals(StringUtils.EMPTY, OAuth20RedirectUriRegisteredServiceIndex.getLiteralPrefix("https://a.org|https://b.org"));
+        assertEquals(StringUtils.EMPTY, OAuth20RedirectUriRegisteredServiceIndex.getLiteralPrefix("(?i)https://app.example.org"));
+        assertEquals(StringUtils.EMPTY, OAuth20RedirectUriRegisteredServiceIndex.getLiteralPrefix(".+"));
+    }
+
+    @Test
+    public void verifyIndexKeys() {
+        val index = new OAuth20RedirectUriRegisteredServiceIndex();
+        val service = getRegisteredService("https://app.example.org/cb", "client", "secret");
+        assertTrue(index.supports(service));
+        assertTrue(index.getIndexKeys(service).contains("https://app"));
+        service.setMatchingStrategy(new LiteralRegisteredServiceMatchingStrategy());
+        assertTrue(index.getIndexKeys(service).contains("https://app.example.org/cb"));
+        service.setMatchingStrategy(new PartialRegexRegisteredServiceMatchingStrategy());
+        assertTrue(index.getIndexKeys(service).contains(StringUtils.EMPTY));
+        assertEquals("https://app.example.org/cb".length() + 1, index.getLookupKeys("HTTPS://app.example.org/cb").size());
+
+        val clientIdIndex = new OAuth20ClientIdRegisteredServiceIndex();
+        assertTrue(clientIdIndex.supports(service));
+        assertEquals(clientIdIndex.getIndexKeys(service), clientIdIndex.getLookupKeys("CLIENT"));
+    }
+
+    @Test
+    public void verifyLookupAfterLoad() {
+        val service1 = getRegisteredService("https://app1\\.example\\.org/.*", "ClientOne", "secret1");
+        service1.setId(1001);
+        service1.setEvaluationOrder(10);
+        val service2 = getRegisteredService("https://app2\\.example\\.org/.*", "clientTwo", "secret2");
+        service2.setId(1002);
+        service2.setEvaluationOrder(20);
+        val service3 = getRegisteredService(".+", "clientThree", "secret3");
+        service3.setId(1003);
+        service3.setEvaluationOrder(30);
+        servicesManager.save(service1, service2, service3);
+        servicesManager.load();
+
+        assertTrue(servicesManager.findServicesByIndex(OAuth20ClientIdRegisteredServiceIndex.NAME, "clientone").isPresent());
+        assertEquals(service1, OAuth20Utils.getRegisteredOAuthServiceByClientId(servicesManager, "CLIENTONE"));
+        assertEquals(service2, OAuth20Utils.getRegisteredOAuthServiceByClientId(servicesManager, "clientTwo"));
+        assertNull(OAuth20Utils.getRegisteredOAuthServiceByClientId(servicesManager, "unknown"));
+
+        assertEquals(service2, OAuth20Utils.getRegisteredOAuthServiceByRedirectUri(servicesManager, "https://app2.example.org/callback"));
+        assertEquals(service3, OAuth20Utils.getRegisteredOAuthServiceByRedirectUri(servicesManager, "https://other.example.org/callback"));
+
+        service2.setClientId("clientUpdated");
+        servicesManager.save(service2);
+        assertNull(OAuth20Utils.getRegisteredOAuthServiceByClientId(servicesManager, "clientTwo"));
+        assertEquals(service2, OAuth20Utils.getRegisteredOAuthServiceByClientId(servicesManager, "clientupdated"));
+
+        servicesManager.delete(service1);
+        assertNull(OAuth20Utils.getRegisteredOAuthServiceByClientId(servicesManager, "clientOne"));
+        assertEquals(service3, OAuth20Utils.getRegisteredOAuthServiceByRedirectUri(servicesManager, "https://app1.example.org/callback"));
+    }
+}
@@ -2,6 +2,9 @@ package org.apereo.cas.support.oauth.web.endpoints;
 
 import org.apereo.cas.AbstractOAuth20Tests;
 import org.apereo.cas.support.oauth.OAuth20Constants;
+import org.apereo.cas.ticket.OAuth20TokenLineageIndex;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenLookupCache;
 
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -16,6 +19,7 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
 import java.util.HashSet;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -34,6 +38,14 @@ public class OAuth20RevocationEndpointControllerTests extends AbstractOAuth20Tes
     @Qualifier("oauthRevocationController")
     private OAuth20RevocationEndpointController oAuth20RevocationController;
 
+    @Autowired
+    @Qualifier(OAuth20TokenLineageIndex.BEAN_NAME)
+    private OAuth20TokenLineageIndex oauthTokenLineageIndex;
+
+    @Autowired
+    @Qualifier(OAuth20AccessTokenLookupCache.BEAN_NAME)
+    private OAuth20AccessTokenLookupCache accessTokenLookupCache;
+
     @BeforeEach
     public void initialize() {
         clearAllServices();
@@ -229,4 +241,37 @@ public class OAuth20RevocationEndpointControllerTests extends AbstractOAuth20Tes
         assertEquals(HttpStatus.BAD_REQUEST.value(), mockResponse.getStatus());
         assertEquals(OAuth20Constants.INVALID_REQUEST, mv.getModel().get("error"));
     }
+
+    @Test
+    public void verifyRefreshTokenDescendantsRevoked() throws Exception {
+        val principal = createPrincipal();
+        val service = getRegisteredService(REDIRECT_URI, CLIENT_SECRET, new HashSet<>());
+        this.servicesManager.save(service);
+
+        val accessToken = addAccessToken(principal, service);
+        val refreshToken = addRefreshToken(principal, service, accessToken);
+        val linkedAccessToken = addAccessToken(principal, service);
+        oauthTokenLineageIndex.link(refreshToken.getId(), linkedAccessToken.getId());
+        assertTrue(oauthTokenLineageIndex.getDescendants(refreshToken.getId()).contains(linkedAccessToken.getId()));
+        val loader = (Function<String, OAuth20AccessToken>) id -> ticketRegistry.getTicket(id, OAuth20AccessToken.class);
+        assertNotNull(accessTokenLookupCache.get(accessToken.getId(), OAuth20AccessToken.class, loader));
+        assertNotNull(accessTokenLookupCache.get(linkedAccessToken.getId(), OAuth20AccessToken.class, loader));
+
+        val mockRequest = new MockHttpServletRequest(HttpMethod.POST.name(),
+            CONTEXT + OAuth20Constants.REVOCATION_URL);
+        val mockResponse = new MockHttpServletResponse();
+        mockRequest.setParameter(OAuth20Constants.CLIENT_ID, CLIENT_ID);
+        mockRequest.setParameter(OAuth20Constants.CLIENT_SECRET, CLIENT_SECRET);
+        mockRequest.setParameter(OAuth20Constants.TOKEN, refreshToken.getId());
+
+        requiresAuthenticationInterceptor.preHandle(mockRequest, mockResponse, null);
+        oAuth20RevocationController.handleRequest(mockRequest, mockResponse);
+        assertEquals(HttpStatus.OK.value(), mockResponse.getStatus());
+        assertNull(this.ticketRegistry.getTicket(refreshToken.getId()));
+        assertNull(this.ticketRegistry.getTicket(accessToken.getId()));
+        assertNull(this.ticketRegistry.getTicket(linkedAccessToken.getId()));
+        assertTrue(oauthTokenLineageIndex.getDescendants(refreshToken.getId()).isEmpty());
+        assertNull(accessTokenLookupCache.get(accessToken.getId(), OAuth20AccessToken.class, id -> null));
+        assertNull(accessTokenLookupCache.get(linkedAccessToken.getId(), OAuth20AccessToken.class, id -> null));
+    }
 }
@@ -15,7 +15,9 @@ import org.apereo.cas.support.oauth.OAuth20GrantTypes;
 import org.apereo.cas.support.oauth.OAuth20ResponseTypes;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenCipherExecutor;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20RegisteredServiceJwtAccessTokenCipherExecutor;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenLookupCache;
 import org.apereo.cas.ticket.accesstoken.OAuth20DefaultAccessTokenFactory;
 import org.apereo.cas.token.JwtBuilder;
 import org.apereo.cas.web.ProtocolEndpointWebSecurityConfigurer;
@@ -61,6 +63,10 @@ public class OAuth20UserProfileEndpointControllerTests extends AbstractOAuth20Te
     @Qualifier("oauthProfileController")
     private OAuth20UserProfileEndpointController oAuth20ProfileController;
 
+    @Autowired
+    @Qualifier(OAuth20AccessTokenLookupCache.BEAN_NAME)
+    private OAuth20AccessTokenLookupCache accessTokenLookupCache;
+
     protected static Authentication getAuthentication(final Principal principal) {
         val metadata = new BasicCredentialMetaData(new BasicIdentifiableCredential(principal.getId()));
         val handlerResult = new DefaultAuthenticationHandlerExecutionResult(principal.getClass().getCanonicalName(),
@@ -128,6 +134,29 @@ public class OAuth20UserProfileEndpointControllerTests extends AbstractOAuth20Te
         assertTrue(entity.getBody().toString().contains(OAuth20Constants.EXPIRED_ACCESS_TOKEN));
     }
 
+    @Test
+    public void verifyCachedAccessTokenRemovedFromRegistry() throws Exception {
+        val principal = CoreAuthenticationTestUtils.getPrincipal(ID, new HashMap<>());
+        val code = addCode(principal, addRegisteredService());
+        val accessToken = accessTokenFactory.create(RegisteredServiceTestUtils.getService(), getAuthentication(principal),
+            new MockTicketGrantingTicket("casuser"), new ArrayList<>(), code.getId(), code.getClientId(), new HashMap<>(),
+            OAuth20ResponseTypes.CODE, OAuth20GrantTypes.AUTHORIZATION_CODE);
+        this.ticketRegistry.addTicket(accessToken);
+        val uses = this.ticketRegistry.getTicket(accessToken.getId(), OAuth20AccessToken.class).getCountOfUses();
+
+        val mockRequest = new MockHttpServletRequest(HttpMethod.GET.name(), CONTEXT + OAuth20Constants.PROFILE_URL);
+        mockRequest.setParameter(OAuth20Constants.ACCESS_TOKEN, accessToken.getId());
+        assertEquals(HttpStatus.OK, oAuth20ProfileController.handleGetRequest(mockRequest, new MockHttpServletResponse()).getStatusCode());
+        assertEquals(HttpStatus.OK, oAuth20ProfileController.handleGetRequest(mockRequest, new MockHttpServletResponse()).getStatusCode());
+        assertEquals(uses + 2, this.ticketRegistry.getTicket(accessToken.getId(), OAuth20AccessToken.class).getCountOfUses());
+
+        this.ticketRegistry.deleteTicket(accessToken.getId());
+        val entity = oAuth20ProfileController.handleGetRequest(mockRequest, new MockHttpServletResponse());
+        assertEquals(HttpStatus.UNAUTHORIZED, entity.getStatusCode());
+        assertNull(this.ticketRegistry.getTicket(accessToken.getId()));
+        assertNull(accessTokenLookupCache.get(accessToken.getId(), OAuth20AccessToken.class, id -> null));
+    }
+
     @Test
     public void verifyEndpoints() {
         assertFalse(oauth20ProtocolEndpointConfigurer.getIgnoredEndpoints().isEmpty());
@@ -0,0 +1,69 @@
+package org.apereo.cas.ticket;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultOAuth20TokenLineageIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("OAuth")
+public class DefaultOAuth20TokenLineageIndexTests {
+
+    @Test
+    public void verifyDescendants() {
+        val index = new DefaultOAuth20TokenLineageIndex();
+        index.link("TGT-1", "RT-1");
+        index.link("TGT-1", "AT-1");
+        index.link("RT-1", "AT-2");
+        index.link("RT-1", "AT-3");
+        index.link("TGT-2", "AT-4");
+        index.link(null, "AT-5");
+        index.link("TGT-1", "TGT-1");
+
+        assertEquals(Set.of("RT-1", "AT-1", "AT-2", "AT-3"), index.getDescendants("TGT-1"));
+        assertEquals(Set.of("AT-2", "AT-3"), index.getDescendants("RT-1"));
+        assertTrue(index.getDescendants("AT-1").isEmpty());
+        assertTrue(index.getDescendants(null).isEmpty());
+    }
+
+    @Test
+    public void verifyCyclesAreIgnored() {
+        val index = new DefaultOAuth20TokenLineageIndex();
+        index.link("RT-1", "AT-1");
+        index.link("AT-1", "RT-1");
+        assertEquals(Set.of("AT-1"), index.getDescendants("RT-1"));
+    }
+
+    @Test
+    public void verifyRemove() {
+        val index = new DefaultOAuth20TokenLineageIndex();
+        index.link("TGT-1", "RT-1");
+        index.link("TGT-1", "AT-1");
+        index.link("RT-1", "AT-2");
+
+        index.remove(List.of("RT-1"));
+        assertEquals(Set.of("AT-1"), index.getDescendants("TGT-1"));
+        assertTrue(index.getDescendants("RT-1").isEmpty());
+
+        index.remove(List.of("TGT-1"));
+        assertTrue(index.getDescendants("TGT-1").isEmpty());
+    }
+
+    @Test
+    public void verifyNoOp() {
+        val index = OAuth20TokenLineageIndex.noOp();
+        index.link("TGT-1", "AT-1");
+        assertFalse(index.isEnabled());
+        assertTrue(index.getDescendants("TGT-1").isEmpty());
+        assertDoesNotThrow(() -> index.remove(List.of("TGT-1")));
+    }
+}
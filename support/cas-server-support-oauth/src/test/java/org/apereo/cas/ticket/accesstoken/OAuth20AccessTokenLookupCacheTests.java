@@ -0,0 +1,118 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.AbstractOAuth20Tests;
+import org.apereo.cas.token.JwtBuilder;
+import org.apereo.cas.util.DateTimeUtils;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link OAuth20AccessTokenLookupCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("OAuth")
+public class OAuth20AccessTokenLookupCacheTests extends AbstractOAuth20Tests {
+
+    private Function<String, OAuth20AccessToken> getLoader(final AtomicInteger count) {
+        return id -> {
+            count.incrementAndGet();
+            return ticketRegistry.getTicket(id, OAuth20AccessToken.class);
+        };
+    }
+
+    @Test
+    public void verifyTokenIsCachedUntilRevoked() throws Exception {
+        val accessToken = addAccessToken(createPrincipal(), addRegisteredService());
+        val cache = new OAuth20AccessTokenLookupCache(accessTokenJwtBuilder, Duration.ofMinutes(1));
+        val count = new AtomicInteger();
+
+        assertEquals(accessToken.getId(), cache.get(accessToken.getId(), OAuth20AccessToken.class, getLoader(count)).getId());
+        assertEquals(accessToken.getId(), cache.get(accessToken.getId(), OAuth20AccessToken.class, getLoader(count)).getId());
+        assertEquals(1, count.get());
+
+        ticketRegistry.deleteTicket(accessToken.getId());
+        cache.invalidate(accessToken.getId());
+        assertNull(cache.get(accessToken.getId(), OAuth20AccessToken.class, getLoader(count)));
+        assertEquals(2, count.get());
+        assertNull(cache.get(null, OAuth20AccessToken.class, getLoader(count)));
+    }
+
+    @Test
+    public void verifyTokensOfDestroyedTicketGrantingTicketAreRemoved() throws Exception {
+        val accessToken = addAccessToken(createPrincipal(), addRegisteredService());
+        val cache = new OAuth20AccessTokenLookupCache(accessTokenJwtBuilder, Duration.ofMinutes(1));
+        val count = new AtomicInteger();
+        assertNotNull(cache.get(accessToken.getId(), OAuth20AccessToken.class, getLoader(count)));
+
+        cache.invalidateDescendantsOf("unknown-ticket-granting-ticket");
+        assertNotNull(cache.get(accessToken.getId(), OAuth20AccessToken.class, getLoader(count)));
+        assertEquals(1, count.get());
+
+        ticketRegistry.deleteTicket(accessToken.getId());
+        cache.invalidateDescendantsOf(accessToken.getTicketGrantingTicket().getId());
+        assertNull(cache.get(accessToken.getId(), OAuth20AccessToken.class, getLoader(count)));
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    public void verifyCacheDisabled() throws Exception {
+        val accessToken = addAccessToken(createPrincipal(), addRegisteredService());
+        val cache = new OAuth20AccessTokenLookupCache(accessTokenJwtBuilder, Duration.ZERO);
+        val count = new AtomicInteger();
+        assertNotNull(cache.get(accessToken.getId(), OAuth20AccessToken.class, getLoader(count)));
+        assertNotNull(cache.get(accessToken.getId(), OAuth20AccessToken.class, getLoader(count)));
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    public void verifyExpiredJwtIsRejectedLocally() throws Exception {
+        val accessToken = addAccessToken(createPrincipal(), addRegisteredService());
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val jwt = accessTokenJwtBuilder.build(JwtBuilder.JwtRequest.builder()
+            .jwtId(accessToken.getId())
+            .serviceAudience(accessToken.getService().getId())
+            .subject(accessToken.getAuthentication().getPrincipal().getId())
+            .issueDate(DateTimeUtils.dateOf(now.minusHours(2)))
+            .validUntilDate(DateTimeUtils.dateOf(now.minusHours(1)))
+            .issuer(casProperties.getServer().getPrefix())
+            .build());
+        val cache = new OAuth20AccessTokenLookupCache(accessTokenJwtBuilder, Duration.ofMinutes(1));
+        val count = new AtomicInteger();
+        assertNull(cache.get(jwt, OAuth20AccessToken.class, getLoader(count)));
+        assertEquals(0, count.get());
+    }
+
+    @Test
+    public void verifyJwtIsResolvedByTokenId() throws Exception {
+        val accessToken = addAccessToken(createPrincipal(), addRegisteredService());
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val jwt = accessTokenJwtBuilder.build(JwtBuilder.JwtRequest.builder()
+            .jwtId(accessToken.getId())
+            .serviceAudience(accessToken.getService().getId())
+            .subject(accessToken.getAuthentication().getPrincipal().getId())
+            .issueDate(DateTimeUtils.dateOf(now))
+            .validUntilDate(DateTimeUtils.dateOf(now.plusHours(1)))
+            .issuer(casProperties.getServer().getPrefix())
+            .build());
+        val cache = new OAuth20AccessTokenLookupCache(accessTokenJwtBuilder, Duration.ofMinutes(1));
+        val count = new AtomicInteger();
+        assertEquals(accessToken.getId(), cache.get(jwt, OAuth20AccessToken.class, getLoader(count)).getId());
+        assertEquals(accessToken.getId(), cache.get(jwt, OAuth20AccessToken.class, getLoader(count)).getId());
+        assertEquals(1, count.get());
+        cache.invalidateAll();
+        assertNotNull(cache.get(jwt, OAuth20AccessToken.class, getLoader(count)));
+        assertEquals(2, count.get());
+    }
+}
@@ -5,6 +5,7 @@ import org.apereo.cas.oidc.claims.mapping.OidcAttributeToScopeClaimMapper;
 import org.apereo.cas.oidc.discovery.OidcServerDiscoverySettings;
 import org.apereo.cas.oidc.issuer.OidcIssuerService;
 import org.apereo.cas.oidc.util.OidcRequestSupport;
+import org.apereo.cas.oidc.web.OidcDocumentResponseCache;
 import org.apereo.cas.support.oauth.web.endpoints.OAuth20ConfigurationContext;
 import org.apereo.cas.ticket.ExpirationPolicyBuilder;
 import org.apereo.cas.ticket.IdTokenGeneratorService;
@@ -39,4 +40,6 @@ public class OidcConfigurationContext extends OAuth20ConfigurationContext {
     private final IdTokenGeneratorService idTokenGeneratorService;
     
     private final ExpirationPolicyBuilder idTokenExpirationPolicy;
+
+    private final OidcDocumentResponseCache documentResponseCache;
 }
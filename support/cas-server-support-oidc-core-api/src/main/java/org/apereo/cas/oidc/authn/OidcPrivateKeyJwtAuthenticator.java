@@ -5,16 +5,22 @@ import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.oidc.issuer.OidcIssuerService;
+import org.apereo.cas.oidc.jwks.OidcJsonWebKeyCacheKey;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeyStoreUtils;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeyUsage;
+import org.apereo.cas.services.OidcRegisteredService;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.function.FunctionUtils;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.nimbusds.jose.Algorithm;
 import com.nimbusds.jose.JWSAlgorithm;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
+import org.jose4j.jwk.JsonWebKeySet;
+import org.jose4j.jwx.JsonWebStructure;
 import org.jose4j.jwt.consumer.JwtConsumer;
 import org.jose4j.jwt.consumer.JwtConsumerBuilder;
 import org.pac4j.core.context.WebContext;
@@ -34,6 +40,7 @@ import java.util.Optional;
  */
 @Slf4j
 public class OidcPrivateKeyJwtAuthenticator extends BaseOidcJwtAuthenticator {
+    private final LoadingCache<OidcJsonWebKeyCacheKey, Optional<JsonWebKeySet>> oidcServiceJsonWebKeystoreCache;
 
     public OidcPrivateKeyJwtAuthenticator(
         final OidcIssuerService oidcIssuerService,
@@ -42,9 +49,11 @@ public class OidcPrivateKeyJwtAuthenticator extends BaseOidcJwtAuthenticator {
         final TicketRegistry ticketRegistry,
         final ServiceFactory<WebApplicationService> webApplicationServiceServiceFactory,
         final CasConfigurationProperties casProperties,
-        final ApplicationContext applicationContext) {
+        final ApplicationContext applicationContext,
+        final LoadingCache<OidcJsonWebKeyCacheKey, Optional<JsonWebKeySet>> oidcServiceJsonWebKeystoreCache) {
         super(oidcIssuerService, servicesManager, registeredServiceAccessStrategyEnforcer,
             ticketRegistry, webApplicationServiceServiceFactory, casProperties, applicationContext);
+        this.oidcServiceJsonWebKeystoreCache = oidcServiceJsonWebKeystoreCache;
     }
 
     private static void determineUserProfile(final UsernamePasswordCredentials credentials,
@@ -68,8 +77,7 @@ public class OidcPrivateKeyJwtAuthenticator extends BaseOidcJwtAuthenticator {
             return;
         }
 
-        val keys = OidcJsonWebKeyStoreUtils.getJsonWebKeySet(registeredService,
-            applicationContext, Optional.of(OidcJsonWebKeyUsage.SIGNING));
+        val keys = getJsonWebKeySet(registeredService, credentials);
         keys.ifPresent(Unchecked.consumer(jwks ->
             jwks.getJsonWebKeys()
                 .forEach(Unchecked.consumer(jsonWebKey -> {
@@ -85,6 +93,37 @@ public class OidcPrivateKeyJwtAuthenticator extends BaseOidcJwtAuthenticator {
                 }))));
     }
 
+    /**
+     * Locate the signing keys for the client. The key identified by the {@code kid}
+     * header of the assertion is looked up in the service keystore cache first,
+     * which is refreshed in the background, and the keystore is only fetched directly
+     * when the assertion carries no key identifier or the key is not cached.
+     *
+     * @param registeredService the registered service
+     * @param credentials       the credentials
+     * @return the json web key set
+     */
+    protected Optional<JsonWebKeySet> getJsonWebKeySet(final OidcRegisteredService registeredService,
+                                                       final UsernamePasswordCredentials credentials) {
+        val keyId = getKeyId(credentials);
+        if (keyId.isPresent()) {
+            val cachedKey = oidcServiceJsonWebKeystoreCache.get(new OidcJsonWebKeyCacheKey(registeredService, OidcJsonWebKeyUsage.SIGNING))
+                .map(jwks -> jwks.findJsonWebKey(keyId.get(), null, null, null));
+            if (cachedKey.isPresent()) {
+                LOGGER.trace("Located cached signing key [{}] for [{}]", keyId.get(), registeredService.getClientId());
+                return Optional.of(new JsonWebKeySet(cachedKey.get()));
+            }
+        }
+        return OidcJsonWebKeyStoreUtils.getJsonWebKeySet(registeredService,
+            applicationContext, Optional.of(OidcJsonWebKeyUsage.SIGNING));
+    }
+
+    private static Optional<String> getKeyId(final UsernamePasswordCredentials credentials) {
+        return FunctionUtils.doAndHandle(
+            () -> Optional.ofNullable(JsonWebStructure.fromCompactSerialization(credentials.getPassword()).getKeyIdHeaderValue()),
+            e -> Optional.<String>empty()).get();
+    }
+
     @Override
     protected boolean validateJwtAlgorithm(final Algorithm alg) {
         return JWSAlgorithm.Family.RSA.contains(alg) || JWSAlgorithm.Family.EC.contains(alg);
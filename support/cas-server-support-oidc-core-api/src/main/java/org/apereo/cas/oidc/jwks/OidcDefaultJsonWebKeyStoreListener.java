@@ -11,6 +11,8 @@ import java.util.Optional;
 
 /**
  * This is {@link OidcDefaultJsonWebKeyStoreListener}.
+ * Cached keys are reloaded in the background rather than invalidated,
+ * so that token issuance continues with the previous keys until the new keys are swapped in.
  *
  * @author Misagh Moayyed
  * @since 6.5.0
@@ -22,7 +24,7 @@ public class OidcDefaultJsonWebKeyStoreListener implements OidcJsonWebKeyStoreLi
 
     @Override
     public void handleOidcJsonWebKeystoreModifiedEvent(final OidcJsonWebKeystoreModifiedEvent event) {
-        LOGGER.debug("Detected change in [{}]. Will invalidate OIDC JWKS cache...", event.getFile());
-        oidcJsonWebKeystoreCache.invalidateAll();
+        LOGGER.debug("Detected change in [{}]. Will refresh OIDC JWKS cache...", event.getFile());
+        oidcJsonWebKeystoreCache.asMap().keySet().forEach(oidcJsonWebKeystoreCache::refresh);
     }
 }
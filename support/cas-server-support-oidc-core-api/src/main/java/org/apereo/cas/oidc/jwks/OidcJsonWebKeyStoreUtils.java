@@ -26,6 +26,7 @@ import org.springframework.core.io.ResourceLoader;
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.spec.ECParameterSpec;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -45,6 +46,10 @@ public class OidcJsonWebKeyStoreUtils {
 
     private static final int JWK_EC_P512_SIZE = 512;
 
+    private static final int JWKS_REFRESH_INTERVAL_FACTOR = 3;
+
+    private static final int JWKS_REFRESH_INTERVAL_DIVISOR = 4;
+
     /**
      * Gets json web key set.
      *
@@ -177,6 +182,19 @@ public class OidcJsonWebKeyStoreUtils {
         return FunctionUtils.doUnchecked(() -> new JsonWebKeySet(json));
     }
 
+    /**
+     * Determine how soon cached keys should be reloaded in the background,
+     * which is ahead of their expiration so that readers continue to see the
+     * previous keys until the reloaded set is swapped in.
+     *
+     * @param expiration the cache expiration
+     * @return the refresh interval
+     */
+    public static Duration getJsonWebKeySetRefreshInterval(final Duration expiration) {
+        val nanos = expiration.toNanos() / JWKS_REFRESH_INTERVAL_DIVISOR * JWKS_REFRESH_INTERVAL_FACTOR;
+        return Duration.ofNanos(Math.max(1, nanos));
+    }
+
     private static PublicJsonWebKey generateJsonWebKeyEC(final ECParameterSpec spec) {
         return FunctionUtils.doUnchecked(() -> EcJwkGenerator.generateJwk(spec));
     }
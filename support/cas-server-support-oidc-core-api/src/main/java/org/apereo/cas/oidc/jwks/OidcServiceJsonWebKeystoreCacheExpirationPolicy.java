@@ -11,6 +11,7 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.jose4j.jwk.JsonWebKeySet;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -48,6 +49,20 @@ public class OidcServiceJsonWebKeystoreCacheExpirationPolicy
         return getExpiration(service);
     }
 
+    /**
+     * Determine how soon the cached keys of the service should be reloaded in the background,
+     * which is ahead of the expiration that applies to the service.
+     *
+     * @param service the service
+     * @return the refresh interval, or zero if keys should always be reloaded
+     */
+    public Duration getRefreshInterval(final OidcJsonWebKeyCacheKey service) {
+        val expiration = getExpiration(service);
+        return expiration > 0
+            ? OidcJsonWebKeyStoreUtils.getJsonWebKeySetRefreshInterval(Duration.ofNanos(expiration))
+            : Duration.ZERO;
+    }
+
     private long getExpiration(final OidcJsonWebKeyCacheKey givenService) {
         LOGGER.trace("Attempting to determine JWKS cache expiration value for [{}]", givenService);
         if (givenService.getRegisteredService() instanceof OidcRegisteredService) {
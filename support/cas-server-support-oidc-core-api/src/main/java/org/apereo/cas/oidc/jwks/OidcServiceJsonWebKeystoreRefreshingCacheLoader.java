@@ -0,0 +1,63 @@
+package org.apereo.cas.oidc.jwks;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jose4j.jwk.JsonWebKeySet;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * This is {@link OidcServiceJsonWebKeystoreRefreshingCacheLoader}, which reloads
+ * the keys of each service once the refresh interval of that service has passed.
+ * The cache asks for a reload every {@link #REFRESH_CHECK_INTERVAL}, and reloads that
+ * are not yet due for the service hand back the keys that are already cached. Explicit refreshes
+ * are subject to the same interval; invalidate the cache entry to force the keys to be loaded again.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class OidcServiceJsonWebKeystoreRefreshingCacheLoader implements CacheLoader<OidcJsonWebKeyCacheKey, Optional<JsonWebKeySet>> {
+    /**
+     * How often the cache checks whether the keys of a service are due to be reloaded.
+     */
+    public static final Duration REFRESH_CHECK_INTERVAL = Duration.ofSeconds(10);
+
+    private static final long MAX_CACHE_SIZE = 1_000;
+
+    private final CacheLoader<OidcJsonWebKeyCacheKey, Optional<JsonWebKeySet>> loader;
+
+    private final OidcServiceJsonWebKeystoreCacheExpirationPolicy expirationPolicy;
+
+    private final Cache<OidcJsonWebKeyCacheKey, Long> loadTimes = Caffeine.newBuilder().maximumSize(MAX_CACHE_SIZE).build();
+
+    public OidcServiceJsonWebKeystoreRefreshingCacheLoader(final CacheLoader<OidcJsonWebKeyCacheKey, Optional<JsonWebKeySet>> loader,
+                                                           final OidcServiceJsonWebKeystoreCacheExpirationPolicy expirationPolicy) {
+        this.loader = loader;
+        this.expirationPolicy = expirationPolicy;
+    }
+
+    @Override
+    public Optional<JsonWebKeySet> load(final OidcJsonWebKeyCacheKey cacheKey) throws Exception {
+        val startTime = System.nanoTime();
+        val result = loader.load(cacheKey);
+        loadTimes.put(cacheKey, startTime);
+        return result;
+    }
+
+    @Override
+    public Optional<JsonWebKeySet> reload(final OidcJsonWebKeyCacheKey cacheKey,
+                                          final Optional<JsonWebKeySet> oldValue) throws Exception {
+        val loadedAt = loadTimes.getIfPresent(cacheKey);
+        val refreshInterval = expirationPolicy.getRefreshInterval(cacheKey);
+        if (loadedAt != null && System.nanoTime() - loadedAt < refreshInterval.toNanos()) {
+            return oldValue;
+        }
+        LOGGER.debug("Reloading JSON web keys for [{}] after [{}]", cacheKey, refreshInterval);
+        return load(cacheKey);
+    }
+}
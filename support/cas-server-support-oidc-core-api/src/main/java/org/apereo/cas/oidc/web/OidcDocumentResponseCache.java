@@ -0,0 +1,210 @@
+package org.apereo.cas.oidc.web;
+
+import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreGeneratedEvent;
+import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreModifiedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.spring.CasEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link OidcDocumentResponseCache}, which keeps documents that rarely change,
+ * such as the discovery document and the JWKS, rendered in memory along with a strong {@code ETag}.
+ * Requests that carry a matching {@code If-None-Match} header are answered with {@code 304} and no body.
+ * Rendered documents are discarded when the keystore is modified or generated anew, when registered
+ * services are saved or deleted, or when the CAS configuration is refreshed, and otherwise expire
+ * after the configured max age to pick up changes that are not signaled.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class OidcDocumentResponseCache implements CasEventListener {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "oidcDocumentResponseCache";
+
+    private static final long MAX_CACHE_SIZE = 100;
+
+    private final Duration maxAge;
+
+    private final Cache<String, RenderedDocument> documents;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicReference<String> keystoreDigest = new AtomicReference<>();
+
+    public OidcDocumentResponseCache(final Duration maxAge) {
+        this.maxAge = maxAge;
+        this.documents = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHE_SIZE)
+            .expireAfterWrite(isEnabled() ? maxAge : Duration.ZERO)
+            .build();
+    }
+
+    /**
+     * Build the response for the document, rendering the document if it's not found in the cache.
+     * The response is {@code 304} if the request carries a matching {@code If-None-Match} header.
+     *
+     * @param key      the key that identifies the document
+     * @param request  the request
+     * @param renderer the renderer that produces the document body
+     * @return the response
+     */
+    public ResponseEntity<byte[]> getResponse(final String key, final HttpServletRequest request,
+                                              final Supplier<byte[]> renderer) {
+        val document = getDocument(key, renderer);
+        val cacheControl = isEnabled()
+            ? CacheControl.maxAge(maxAge).cachePublic()
+            : CacheControl.noCache();
+        if (isNotModified(request, document.getEtag())) {
+            LOGGER.trace("Document [{}] is not modified since [{}]", key, document.getEtag());
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(document.getEtag())
+                .cacheControl(cacheControl)
+                .build();
+        }
+        return ResponseEntity.ok()
+            .eTag(document.getEtag())
+            .cacheControl(cacheControl)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(document.getBody());
+    }
+
+    /**
+     * Discard all rendered documents.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        documents.invalidateAll();
+    }
+
+    /**
+     * Handle keystore modified events.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleOidcJsonWebKeystoreModifiedEvent(final OidcJsonWebKeystoreModifiedEvent event) {
+        LOGGER.debug("Keystore [{}] is modified; rendered documents will be discarded", event.getFile());
+        keystoreDigest.set(null);
+        invalidateAll();
+    }
+
+    /**
+     * Handle keystore generated events. The keystore generator announces the keystore
+     * whenever it's asked for, so rendered documents are only discarded if the keystore contents have changed.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleOidcJsonWebKeystoreGeneratedEvent(final OidcJsonWebKeystoreGeneratedEvent event) {
+        try (val input = event.getFile().getInputStream()) {
+            val digest = DigestUtils.sha256Hex(input);
+            val previous = keystoreDigest.getAndSet(digest);
+            if (previous != null && !previous.equals(digest)) {
+                LOGGER.debug("Keystore [{}] is generated; rendered documents will be discarded", event.getFile());
+                invalidateAll();
+            }
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Handle registered service saved events.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServiceSavedEvent(final CasRegisteredServiceSavedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Handle registered service deleted events.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServiceDeletedEvent(final CasRegisteredServiceDeletedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Handle configuration refresh events.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleEnvironmentChangeEvent(final EnvironmentChangeEvent event) {
+        LOGGER.debug("Configuration is refreshed; rendered documents will be discarded");
+        invalidateAll();
+    }
+
+    private boolean isEnabled() {
+        return !maxAge.isZero() && !maxAge.isNegative();
+    }
+
+    private RenderedDocument getDocument(final String key, final Supplier<byte[]> renderer) {
+        val cached = documents.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        val currentGeneration = generation.get();
+        val body = renderer.get();
+        val document = new RenderedDocument(body, '"' + DigestUtils.sha256Hex(body) + '"');
+        if (isEnabled() && generation.get() == currentGeneration) {
+            documents.put(key, document);
+        }
+        return document;
+    }
+
+    private static boolean isNotModified(final HttpServletRequest request, final String etag) {
+        val headers = request.getHeaders(HttpHeaders.IF_NONE_MATCH);
+        if (headers == null) {
+            return false;
+        }
+        return Collections.list(headers)
+            .stream()
+            .filter(Objects::nonNull)
+            .flatMap(header -> Arrays.stream(header.split(",")))
+            .map(String::trim)
+            .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+            .anyMatch(tag -> "*".equals(tag) || etag.equals(tag));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class RenderedDocument {
+        private final byte[] body;
+
+        private final String etag;
+    }
+}
@@ -2,12 +2,14 @@ package org.apereo.cas.oidc.web.controllers.discovery;
 
 import org.apereo.cas.oidc.OidcConfigurationContext;
 import org.apereo.cas.oidc.OidcConstants;
-import org.apereo.cas.oidc.discovery.OidcServerDiscoverySettings;
 import org.apereo.cas.oidc.discovery.webfinger.OidcWebFingerDiscoveryService;
 import org.apereo.cas.oidc.web.controllers.BaseOidcController;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
-import lombok.val;
+import org.jooq.lambda.Unchecked;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +28,10 @@ import java.util.Map;
  */
 @Slf4j
 public class OidcWellKnownEndpointController extends BaseOidcController {
+    private static final String DISCOVERY_DOCUMENT = "discovery";
+
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .build().toObjectMapper().setSerializationInclusion(JsonInclude.Include.ALWAYS);
 
     private final OidcWebFingerDiscoveryService webFingerDiscoveryService;
 
@@ -46,8 +52,8 @@ public class OidcWellKnownEndpointController extends BaseOidcController {
         '/' + OidcConstants.BASE_OIDC_URL + '/' + OidcConstants.WELL_KNOWN_URL,
         "/**/" + OidcConstants.WELL_KNOWN_URL
     }, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<OidcServerDiscoverySettings> getWellKnownDiscoveryConfiguration(final HttpServletRequest request,
-                                                                                          final HttpServletResponse response) {
+    public ResponseEntity<byte[]> getWellKnownDiscoveryConfiguration(final HttpServletRequest request,
+                                                                     final HttpServletResponse response) {
         return getOidcServerDiscoveryResponse(request, response, OidcConstants.WELL_KNOWN_URL);
     }
 
@@ -61,8 +67,8 @@ public class OidcWellKnownEndpointController extends BaseOidcController {
     @GetMapping(value = {
         '/' + OidcConstants.BASE_OIDC_URL + '/' + OidcConstants.WELL_KNOWN_OPENID_CONFIGURATION_URL,
         "/**/" + OidcConstants.WELL_KNOWN_OPENID_CONFIGURATION_URL}, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<OidcServerDiscoverySettings> getWellKnownOpenIdDiscoveryConfiguration(final HttpServletRequest request,
-                                                                                                final HttpServletResponse response) {
+    public ResponseEntity<byte[]> getWellKnownOpenIdDiscoveryConfiguration(final HttpServletRequest request,
+                                                                           final HttpServletResponse response) {
         return getOidcServerDiscoveryResponse(request, response, OidcConstants.WELL_KNOWN_OPENID_CONFIGURATION_URL);
     }
 
@@ -80,12 +86,12 @@ public class OidcWellKnownEndpointController extends BaseOidcController {
         return webFingerDiscoveryService.handleWebFingerDiscoveryRequest(resource, rel);
     }
 
-    private ResponseEntity<OidcServerDiscoverySettings> getOidcServerDiscoveryResponse(final HttpServletRequest request,
-                                                                                       final HttpServletResponse response,
-                                                                                       final String endpoint) {
+    private ResponseEntity<byte[]> getOidcServerDiscoveryResponse(final HttpServletRequest request,
+                                                                  final HttpServletResponse response,
+                                                                  final String endpoint) {
         if (isIssuerValidForEndpoint(request, response, endpoint)) {
-            val discovery = this.webFingerDiscoveryService.getDiscovery();
-            return new ResponseEntity<>(discovery, HttpStatus.OK);
+            return getConfigurationContext().getDocumentResponseCache().getResponse(DISCOVERY_DOCUMENT, request,
+                Unchecked.supplier(() -> MAPPER.writeValueAsBytes(webFingerDiscoveryService.getDiscovery())));
         }
         LOGGER.warn("Unable to accept request; issuer for endpoint [{}] is invalid", endpoint);
         return new ResponseEntity<>(HttpStatus.NOT_FOUND);
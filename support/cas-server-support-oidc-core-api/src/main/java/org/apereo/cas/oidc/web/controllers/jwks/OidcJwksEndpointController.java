@@ -21,6 +21,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
 import org.jose4j.jwk.JsonWebKey;
 import org.jose4j.jwk.JsonWebKeySet;
+import org.jooq.lambda.Unchecked;
 import org.pac4j.jee.context.JEEContext;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -31,6 +32,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -55,7 +57,7 @@ public class OidcJwksEndpointController extends BaseOidcController {
      * @param request  the request
      * @param response the response
      * @param state    the state
-     * @return the jwk set
+     * @return the jwk set, or 304 if the client has the current jwk set
      */
     @GetMapping(value = {
         '/' + OidcConstants.BASE_OIDC_URL + '/' + OidcConstants.JWKS_URL,
@@ -63,46 +65,51 @@ public class OidcJwksEndpointController extends BaseOidcController {
     }, produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Produces the collection of keys from the keystore",
         parameters = {@Parameter(name = "state", description = "Filter keys by their state name", required = false)})
-    public ResponseEntity<String> handleRequestInternal(final HttpServletRequest request,
-                                                        final HttpServletResponse response,
-                                                        @RequestParam(value = "state", required = false)
-                                                        final String state) {
+    public ResponseEntity handleRequestInternal(final HttpServletRequest request,
+                                                final HttpServletResponse response,
+                                                @RequestParam(value = "state", required = false)
+                                                final String state) {
         val webContext = new JEEContext(request, response);
         if (!getConfigurationContext().getIssuerService().validateIssuer(webContext, OidcConstants.JWKS_URL)) {
             val body = OAuth20Utils.toJson(OAuth20Utils.getErrorResponseBody(OAuth20Constants.INVALID_REQUEST, "Invalid issuer"));
             return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
         }
         try {
-            val resource = oidcJsonWebKeystoreGeneratorService.generate();
-            val jsonJwks = IOUtils.toString(resource.getInputStream(), StandardCharsets.UTF_8);
-            val jsonWebKeySet = new JsonWebKeySet(jsonJwks);
-
-            val servicesManager = getConfigurationContext().getServicesManager();
-            servicesManager.getAllServicesOfType(OidcRegisteredService.class)
-                .stream()
-                .filter(s -> {
-                    val serviceJwks = SpringExpressionLanguageValueResolver.getInstance().resolve(s.getJwks());
-                    return StringUtils.isNotBlank(serviceJwks);
-                })
-                .forEach(service -> {
-                    val set = OidcJsonWebKeyStoreUtils.getJsonWebKeySet(service,
-                        getConfigurationContext().getApplicationContext(), Optional.empty());
-                    set.ifPresent(keys -> keys.getJsonWebKeys().forEach(jsonWebKeySet::addJsonWebKey));
-                });
-
-            if (StringUtils.isNotBlank(state)) {
-                jsonWebKeySet.getJsonWebKeys()
-                    .removeIf(key -> {
-                        val st = OidcJsonWebKeystoreRotationService.JsonWebKeyLifecycleStates.getJsonWebKeyState(key).name();
-                        return !state.equalsIgnoreCase(st);
-                    });
-            }
-            val body = jsonWebKeySet.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY);
             response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-            return new ResponseEntity<>(body, HttpStatus.OK);
+            val key = "jwks:" + StringUtils.defaultString(state).toLowerCase(Locale.ENGLISH);
+            return getConfigurationContext().getDocumentResponseCache().getResponse(key, request,
+                Unchecked.supplier(() -> buildJsonWebKeySet(state).getBytes(StandardCharsets.UTF_8)));
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
             return new ResponseEntity<>(StringEscapeUtils.escapeHtml4(e.getMessage()), HttpStatus.BAD_REQUEST);
         }
     }
+
+    private String buildJsonWebKeySet(final String state) throws Exception {
+        val resource = oidcJsonWebKeystoreGeneratorService.generate();
+        val jsonJwks = IOUtils.toString(resource.getInputStream(), StandardCharsets.UTF_8);
+        val jsonWebKeySet = new JsonWebKeySet(jsonJwks);
+
+        val servicesManager = getConfigurationContext().getServicesManager();
+        servicesManager.getAllServicesOfType(OidcRegisteredService.class)
+            .stream()
+            .filter(s -> {
+                val serviceJwks = SpringExpressionLanguageValueResolver.getInstance().resolve(s.getJwks());
+                return StringUtils.isNotBlank(serviceJwks);
+            })
+            .forEach(service -> {
+                val set = OidcJsonWebKeyStoreUtils.getJsonWebKeySet(service,
+                    getConfigurationContext().getApplicationContext(), Optional.empty());
+                set.ifPresent(keys -> keys.getJsonWebKeys().forEach(jsonWebKeySet::addJsonWebKey));
+            });
+
+        if (StringUtils.isNotBlank(state)) {
+            jsonWebKeySet.getJsonWebKeys()
+                .removeIf(key -> {
+                    val st = OidcJsonWebKeystoreRotationService.JsonWebKeyLifecycleStates.getJsonWebKeyState(key).name();
+                    return !state.equalsIgnoreCase(st);
+                });
+        }
+        return jsonWebKeySet.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY);
+    }
 }
@@ -1,12 +1,15 @@
 package org.apereo.cas.oidc.web.controllers.jwks;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.oidc.jwks.OidcJsonWebKeyCacheKey;
 import org.apereo.cas.oidc.jwks.rotation.OidcJsonWebKeystoreRotationService;
 import org.apereo.cas.web.BaseCasActuatorEndpoint;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.val;
 import org.jose4j.jwk.JsonWebKey;
+import org.jose4j.jwk.JsonWebKeySet;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.endpoint.web.annotation.RestControllerEndpoint;
 import org.springframework.http.HttpStatus;
@@ -14,6 +17,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 
+import java.util.Optional;
+
 /**
  * This is {@link OidcJwksRotationEndpoint}.
  *
@@ -24,10 +29,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 public class OidcJwksRotationEndpoint extends BaseCasActuatorEndpoint {
     private final ObjectProvider<OidcJsonWebKeystoreRotationService> rotationService;
 
+    private final ObjectProvider<LoadingCache<OidcJsonWebKeyCacheKey, Optional<JsonWebKeySet>>> jsonWebKeystoreCache;
+
     public OidcJwksRotationEndpoint(final CasConfigurationProperties casProperties,
-                                    final ObjectProvider<OidcJsonWebKeystoreRotationService> rotationService) {
+                                    final ObjectProvider<OidcJsonWebKeystoreRotationService> rotationService,
+                                    final ObjectProvider<LoadingCache<OidcJsonWebKeyCacheKey, Optional<JsonWebKeySet>>> jsonWebKeystoreCache) {
         super(casProperties);
         this.rotationService = rotationService;
+        this.jsonWebKeystoreCache = jsonWebKeystoreCache;
     }
 
     /**
@@ -40,6 +49,7 @@ public class OidcJwksRotationEndpoint extends BaseCasActuatorEndpoint {
     @Operation(summary = "Rotate keys in the keystore forcefully")
     public ResponseEntity<String> handleRotation() throws Exception {
         val rotation = rotationService.getObject().rotate();
+        refreshJsonWebKeystoreCache();
         return new ResponseEntity<>(
             rotation.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY), HttpStatus.OK);
     }
@@ -54,8 +64,12 @@ public class OidcJwksRotationEndpoint extends BaseCasActuatorEndpoint {
     @Operation(summary = "Revoke keys in the keystore forcefully")
     public ResponseEntity<String> handleRevocation() throws Exception {
         val rotation = rotationService.getObject().revoke();
+        refreshJsonWebKeystoreCache();
         return new ResponseEntity<>(
             rotation.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY), HttpStatus.OK);
     }
 
+    private void refreshJsonWebKeystoreCache() {
+        jsonWebKeystoreCache.ifAvailable(cache -> cache.asMap().keySet().forEach(cache::refresh));
+    }
 }
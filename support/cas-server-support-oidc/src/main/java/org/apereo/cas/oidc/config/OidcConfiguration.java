@@ -7,6 +7,7 @@ import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.oidc.OidcConfigurationContext;
@@ -33,6 +34,7 @@ import org.apereo.cas.oidc.issuer.OidcIssuerService;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeyCacheKey;
 import org.apereo.cas.oidc.jwks.OidcRegisteredServiceJsonWebKeystoreCacheLoader;
 import org.apereo.cas.oidc.jwks.OidcServiceJsonWebKeystoreCacheExpirationPolicy;
+import org.apereo.cas.oidc.jwks.OidcServiceJsonWebKeystoreRefreshingCacheLoader;
 import org.apereo.cas.oidc.profile.OidcProfileScopeToAttributesFilter;
 import org.apereo.cas.oidc.profile.OidcUserProfileDataCreator;
 import org.apereo.cas.oidc.profile.OidcUserProfileSigningAndEncryptionService;
@@ -54,6 +56,7 @@ import org.apereo.cas.oidc.web.OidcCallbackAuthorizeViewResolver;
 import org.apereo.cas.oidc.web.OidcCasClientRedirectActionBuilder;
 import org.apereo.cas.oidc.web.OidcClientSecretValidator;
 import org.apereo.cas.oidc.web.OidcConsentApprovalViewResolver;
+import org.apereo.cas.oidc.web.OidcDocumentResponseCache;
 import org.apereo.cas.services.RegisteredServiceCipherExecutor;
 import org.apereo.cas.services.ServiceRegistryListener;
 import org.apereo.cas.services.ServicesManager;
@@ -79,10 +82,12 @@ import org.apereo.cas.support.oauth.web.views.OAuth20CallbackAuthorizeViewResolv
 import org.apereo.cas.support.oauth.web.views.OAuth20UserProfileViewRenderer;
 import org.apereo.cas.ticket.ExpirationPolicyBuilder;
 import org.apereo.cas.ticket.IdTokenGeneratorService;
+import org.apereo.cas.ticket.OAuth20TokenLineageIndex;
 import org.apereo.cas.ticket.OAuth20TokenSigningAndEncryptionService;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketFactoryExecutionPlanConfigurer;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenLookupCache;
 import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilder;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
@@ -271,10 +276,12 @@ public class OidcConfiguration {
             @Qualifier("oidcServiceJsonWebKeystoreCacheLoader")
             final CacheLoader<OidcJsonWebKeyCacheKey, Optional<JsonWebKeySet>> oidcServiceJsonWebKeystoreCacheLoader,
             final CasConfigurationProperties casProperties) {
+            val expirationPolicy = new OidcServiceJsonWebKeystoreCacheExpirationPolicy(casProperties);
             return Caffeine.newBuilder()
                 .maximumSize(100)
-                .expireAfter(new OidcServiceJsonWebKeystoreCacheExpirationPolicy(casProperties))
-                .build(oidcServiceJsonWebKeystoreCacheLoader);
+                .expireAfter(expirationPolicy)
+                .refreshAfterWrite(OidcServiceJsonWebKeystoreRefreshingCacheLoader.REFRESH_CHECK_INTERVAL)
+                .build(new OidcServiceJsonWebKeystoreRefreshingCacheLoader(oidcServiceJsonWebKeystoreCacheLoader, expirationPolicy));
         }
 
         @Bean
@@ -285,6 +292,14 @@ public class OidcConfiguration {
             return new OidcRegisteredServiceJsonWebKeystoreCacheLoader(applicationContext);
         }
 
+        @Bean
+        @ConditionalOnMissingBean(name = OidcDocumentResponseCache.BEAN_NAME)
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public OidcDocumentResponseCache oidcDocumentResponseCache(final CasConfigurationProperties casProperties) {
+            val maxAge = Beans.newDuration(casProperties.getAuthn().getOidc().getDiscovery().getResponseCacheMaxAge());
+            return new OidcDocumentResponseCache(maxAge);
+        }
+
     }
 
     @Configuration(value = "OidcRedirectConfiguration", proxyBeanMethods = false)
@@ -462,7 +477,9 @@ public class OidcConfiguration {
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
             @Qualifier("registeredServiceAccessStrategyEnforcer")
-            final AuditableExecution registeredServiceAccessStrategyEnforcer) {
+            final AuditableExecution registeredServiceAccessStrategyEnforcer,
+            @Qualifier("oidcServiceJsonWebKeystoreCache")
+            final LoadingCache<OidcJsonWebKeyCacheKey, Optional<JsonWebKeySet>> oidcServiceJsonWebKeystoreCache) {
             return () -> {
                 val privateKeyJwtClient = new DirectFormClient(new OidcPrivateKeyJwtAuthenticator(
                     oidcIssuerService,
@@ -471,7 +488,8 @@ public class OidcConfiguration {
                     ticketRegistry,
                     webApplicationServiceFactory,
                     casProperties,
-                    applicationContext));
+                    applicationContext,
+                    oidcServiceJsonWebKeystoreCache));
                 privateKeyJwtClient.setName(OidcConstants.CAS_OAUTH_CLIENT_PRIVATE_KEY_JWT_AUTHN);
                 privateKeyJwtClient.setUsernameParameter(OAuth20Constants.CLIENT_ASSERTION_TYPE);
                 privateKeyJwtClient.setPasswordParameter(OAuth20Constants.CLIENT_ASSERTION);
@@ -626,7 +644,13 @@ public class OidcConfiguration {
             final OAuth20RequestParameterResolver oauthRequestParameterResolver,
             final ConfigurableApplicationContext applicationContext,
             @Qualifier("registeredServiceAccessStrategyEnforcer")
-            final AuditableExecution registeredServiceAccessStrategyEnforcer) throws Exception {
+            final AuditableExecution registeredServiceAccessStrategyEnforcer,
+            @Qualifier(OAuth20AccessTokenLookupCache.BEAN_NAME)
+            final OAuth20AccessTokenLookupCache oauthAccessTokenLookupCache,
+            @Qualifier(OAuth20TokenLineageIndex.BEAN_NAME)
+            final OAuth20TokenLineageIndex oauthTokenLineageIndex,
+            @Qualifier(OidcDocumentResponseCache.BEAN_NAME)
+            final OidcDocumentResponseCache oidcDocumentResponseCache) throws Exception {
             return (OidcConfigurationContext) OidcConfigurationContext.builder()
                 .discoverySettings(oidcServerDiscoverySettings)
                 .requestParameterResolver(oauthRequestParameterResolver)
@@ -670,6 +694,9 @@ public class OidcConfiguration {
                 .idTokenSigningAndEncryptionService(oidcTokenSigningAndEncryptionService)
                 .accessTokenJwtBuilder(accessTokenJwtBuilder)
                 .clientSecretValidator(oauth20ClientSecretValidator)
+                .accessTokenLookupCache(oauthAccessTokenLookupCache)
+                .tokenLineageIndex(oauthTokenLineageIndex)
+                .documentResponseCache(oidcDocumentResponseCache)
                 .build();
         }
     }
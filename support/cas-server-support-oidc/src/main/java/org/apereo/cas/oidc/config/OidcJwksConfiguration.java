@@ -7,6 +7,7 @@ import org.apereo.cas.oidc.jwks.OidcDefaultJsonWebKeyStoreListener;
 import org.apereo.cas.oidc.jwks.OidcDefaultJsonWebKeystoreCacheLoader;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeyCacheKey;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeyStoreListener;
+import org.apereo.cas.oidc.jwks.OidcJsonWebKeyStoreUtils;
 import org.apereo.cas.oidc.jwks.generator.OidcDefaultJsonWebKeystoreGeneratorService;
 import org.apereo.cas.oidc.jwks.generator.OidcGroovyJsonWebKeystoreGeneratorService;
 import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreGeneratorService;
@@ -161,6 +162,7 @@ public class OidcJwksConfiguration {
             return Caffeine.newBuilder()
                 .maximumSize(100)
                 .expireAfterWrite(expiration)
+                .refreshAfterWrite(OidcJsonWebKeyStoreUtils.getJsonWebKeySetRefreshInterval(expiration))
                 .build(oidcDefaultJsonWebKeystoreCacheLoader);
         }
 
@@ -25,6 +25,7 @@ import org.apereo.cas.oidc.jwks.OidcJsonWebKeyStoreJacksonDeserializerTests;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeyStoreUtilsTests;
 import org.apereo.cas.oidc.jwks.OidcRegisteredServiceJsonWebKeystoreCacheLoaderTests;
 import org.apereo.cas.oidc.jwks.OidcServiceJsonWebKeystoreCacheExpirationPolicyTests;
+import org.apereo.cas.oidc.jwks.OidcServiceJsonWebKeystoreRefreshingCacheLoaderTests;
 import org.apereo.cas.oidc.jwks.generator.OidcDefaultJsonWebKeystoreGeneratorServiceTests;
 import org.apereo.cas.oidc.jwks.generator.OidcGroovyJsonWebKeystoreGeneratorServiceTests;
 import org.apereo.cas.oidc.jwks.generator.OidcJpaJsonWebKeystoreGeneratorServiceTests;
@@ -66,6 +67,7 @@ import org.apereo.cas.oidc.web.OidcCasCallbackUrlResolverTests;
 import org.apereo.cas.oidc.web.OidcCasClientRedirectActionBuilderTests;
 import org.apereo.cas.oidc.web.OidcClientSecretValidatorTests;
 import org.apereo.cas.oidc.web.OidcConsentApprovalViewResolverTests;
+import org.apereo.cas.oidc.web.OidcDocumentResponseCacheTests;
 import org.apereo.cas.oidc.web.OidcHandlerInterceptorAdapterTests;
 import org.apereo.cas.oidc.web.OidcImplicitIdTokenAndTokenAuthorizationResponseBuilderTests;
 import org.apereo.cas.oidc.web.OidcImplicitIdTokenAuthorizationResponseBuilderTests;
@@ -148,6 +150,7 @@ import org.junit.platform.suite.api.Suite;
     OidcImplicitIdTokenAuthorizationResponseBuilderTests.class,
     OidcJwksEndpointControllerTests.class,
     OidcServiceJsonWebKeystoreCacheExpirationPolicyTests.class,
+    OidcServiceJsonWebKeystoreRefreshingCacheLoaderTests.class,
     OidcAuthorizeEndpointControllerTests.class,
     OidcUserProfileEndpointControllerTests.class,
     OidcJsonWebKeyStoreJacksonDeserializerTests.class,
@@ -179,6 +182,7 @@ import org.junit.platform.suite.api.Suite;
     DefaultOAuth20RequestParameterResolverTests.class,
     OidcCasCallbackUrlResolverTests.class,
     OidcClientSecretValidatorTests.class,
+    OidcDocumentResponseCacheTests.class,
     OidcMessageSanitizerTests.class,
     OidcClientRegistrationRequestTranslatorTests.class,
     OidcPushedAuthorizationRequestTests.class,
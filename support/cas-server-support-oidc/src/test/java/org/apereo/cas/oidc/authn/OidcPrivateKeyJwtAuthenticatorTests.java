@@ -118,7 +118,7 @@ public class OidcPrivateKeyJwtAuthenticatorTests extends AbstractOidcTests {
     private OidcPrivateKeyJwtAuthenticator getAuthenticator() {
         return new OidcPrivateKeyJwtAuthenticator(oidcIssuerService, servicesManager,
             registeredServiceAccessStrategyEnforcer, ticketRegistry,
-            webApplicationServiceFactory, casProperties, applicationContext);
+            webApplicationServiceFactory, casProperties, applicationContext, oidcServiceJsonWebKeystoreCache);
     }
 
     private UsernamePasswordCredentials getCredential(final MockHttpServletRequest request,
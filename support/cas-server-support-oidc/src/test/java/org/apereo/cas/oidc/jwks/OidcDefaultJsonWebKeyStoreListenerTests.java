@@ -41,6 +41,6 @@ public class OidcDefaultJsonWebKeyStoreListenerTests extends AbstractOidcTests {
             File.createTempFile("prefix", "postfix")));
         Thread.sleep(2000);
         val newKeys = oidcDefaultJsonWebKeystoreCache.getIfPresent(cacheKey);
-        assertNull(newKeys);
+        assertNotNull(newKeys);
     }
 }
@@ -9,6 +9,7 @@ import org.jose4j.jwk.JsonWebKeySet;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -56,4 +57,10 @@ public class OidcJsonWebKeyStoreUtilsTests extends AbstractOidcTests {
         assertNotNull(OidcJsonWebKeyStoreUtils.parseJsonWebKeySet(
             keyset.toJson(JsonWebKey.OutputControlLevel.INCLUDE_PRIVATE)));
     }
+
+    @Test
+    public void verifyRefreshInterval() {
+        assertEquals(Duration.ofMinutes(45), OidcJsonWebKeyStoreUtils.getJsonWebKeySetRefreshInterval(Duration.ofHours(1)));
+        assertFalse(OidcJsonWebKeyStoreUtils.getJsonWebKeySetRefreshInterval(Duration.ZERO).isZero());
+    }
 }
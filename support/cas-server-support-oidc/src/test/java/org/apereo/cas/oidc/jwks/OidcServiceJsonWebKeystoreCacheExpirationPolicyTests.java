@@ -6,6 +6,7 @@ import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,4 +30,14 @@ public class OidcServiceJsonWebKeystoreCacheExpirationPolicyTests extends Abstra
             Optional.empty(), 1000, 1000));
     }
 
+    @Test
+    public void verifyRefreshInterval() {
+        val service = getOidcRegisteredService();
+        service.setJwksCacheDuration(4);
+        service.setJwksCacheTimeUnit("seconds");
+        val policy = new OidcServiceJsonWebKeystoreCacheExpirationPolicy(casProperties);
+        assertEquals(Duration.ofSeconds(3), policy.getRefreshInterval(new OidcJsonWebKeyCacheKey(service, OidcJsonWebKeyUsage.SIGNING)));
+        assertEquals(Duration.ZERO, policy.getRefreshInterval(new OidcJsonWebKeyCacheKey(getOAuthRegisteredService("client", "https://example.org"), OidcJsonWebKeyUsage.SIGNING)));
+    }
+
 }
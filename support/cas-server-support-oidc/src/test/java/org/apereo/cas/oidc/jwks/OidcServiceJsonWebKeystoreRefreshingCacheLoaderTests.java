@@ -0,0 +1,52 @@
+package org.apereo.cas.oidc.jwks;
+
+import org.apereo.cas.oidc.AbstractOidcTests;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import lombok.val;
+import org.jose4j.jwk.JsonWebKeySet;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link OidcServiceJsonWebKeystoreRefreshingCacheLoaderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("OIDC")
+public class OidcServiceJsonWebKeystoreRefreshingCacheLoaderTests extends AbstractOidcTests {
+
+    @Test
+    public void verifyReloadHonorsServiceRefreshInterval() throws Exception {
+        val loads = new AtomicInteger();
+        val delegate = (CacheLoader<OidcJsonWebKeyCacheKey, Optional<JsonWebKeySet>>) key -> {
+            loads.incrementAndGet();
+            return Optional.of(new JsonWebKeySet());
+        };
+        val loader = new OidcServiceJsonWebKeystoreRefreshingCacheLoader(delegate,
+            new OidcServiceJsonWebKeystoreCacheExpirationPolicy(casProperties));
+
+        val cachedService = getOidcRegisteredService("cached-client");
+        cachedService.setJwksCacheDuration(1);
+        cachedService.setJwksCacheTimeUnit("hours");
+        val cachedKey = new OidcJsonWebKeyCacheKey(cachedService, OidcJsonWebKeyUsage.SIGNING);
+        val original = loader.load(cachedKey);
+        assertSame(original, loader.reload(cachedKey, original));
+        assertEquals(1, loads.get());
+
+        val expiringService = getOidcRegisteredService("expiring-client");
+        expiringService.setJwksCacheDuration(4);
+        expiringService.setJwksCacheTimeUnit("milliseconds");
+        val expiringKey = new OidcJsonWebKeyCacheKey(expiringService, OidcJsonWebKeyUsage.SIGNING);
+        val expiring = loader.load(expiringKey);
+        Thread.sleep(10);
+        assertNotSame(expiring, loader.reload(expiringKey, expiring));
+        assertEquals(3, loads.get());
+    }
+}
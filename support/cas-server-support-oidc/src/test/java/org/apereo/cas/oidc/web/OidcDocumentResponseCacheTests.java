@@ -0,0 +1,91 @@
+package org.apereo.cas.oidc.web;
+
+import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreGeneratedEvent;
+import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreModifiedEvent;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link OidcDocumentResponseCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("OIDC")
+public class OidcDocumentResponseCacheTests {
+    private static byte[] render(final AtomicInteger count) {
+        return ("{\"count\":" + count.incrementAndGet() + '}').getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void verifyDocumentIsRenderedOnce() {
+        val cache = new OidcDocumentResponseCache(Duration.ofMinutes(5));
+        val count = new AtomicInteger();
+        val request = new MockHttpServletRequest();
+
+        val first = cache.getResponse("discovery", request, () -> render(count));
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertNotNull(first.getHeaders().getETag());
+        assertEquals("max-age=300, public", first.getHeaders().getCacheControl());
+
+        val second = cache.getResponse("discovery", request, () -> render(count));
+        assertArrayEquals(first.getBody(), second.getBody());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+        assertEquals(1, count.get());
+
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeaders().getETag());
+        val notModified = cache.getResponse("discovery", request, () -> render(count));
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertNull(notModified.getBody());
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    public void verifyKeystoreEvents() {
+        val cache = new OidcDocumentResponseCache(Duration.ofMinutes(5));
+        val count = new AtomicInteger();
+        val request = new MockHttpServletRequest();
+
+        cache.handleOidcJsonWebKeystoreGeneratedEvent(new OidcJsonWebKeystoreGeneratedEvent(this,
+            new ByteArrayResource("keystore".getBytes(StandardCharsets.UTF_8))));
+        val first = cache.getResponse("jwks:", request, () -> render(count));
+        cache.handleOidcJsonWebKeystoreGeneratedEvent(new OidcJsonWebKeystoreGeneratedEvent(this,
+            new ByteArrayResource("keystore".getBytes(StandardCharsets.UTF_8))));
+        cache.getResponse("jwks:", request, () -> render(count));
+        assertEquals(1, count.get());
+
+        cache.handleOidcJsonWebKeystoreGeneratedEvent(new OidcJsonWebKeystoreGeneratedEvent(this,
+            new ByteArrayResource("rotated".getBytes(StandardCharsets.UTF_8))));
+        val second = cache.getResponse("jwks:", request, () -> render(count));
+        assertEquals(2, count.get());
+        assertNotEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+
+        cache.handleOidcJsonWebKeystoreModifiedEvent(new OidcJsonWebKeystoreModifiedEvent(this, new File("keystore.jwks")));
+        cache.getResponse("jwks:", request, () -> render(count));
+        assertEquals(3, count.get());
+    }
+
+    @Test
+    public void verifyCachingDisabled() {
+        val cache = new OidcDocumentResponseCache(Duration.ZERO);
+        val count = new AtomicInteger();
+        val request = new MockHttpServletRequest();
+        val response = cache.getResponse("discovery", request, () -> render(count));
+        cache.getResponse("discovery", request, () -> render(count));
+        assertEquals(2, count.get());
+        assertEquals("no-cache", response.getHeaders().getCacheControl());
+    }
+}
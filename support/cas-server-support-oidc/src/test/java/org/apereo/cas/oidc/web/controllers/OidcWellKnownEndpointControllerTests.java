@@ -11,9 +11,12 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockHttpServletResponse;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -50,4 +53,20 @@ public class OidcWellKnownEndpointControllerTests extends AbstractOidcTests {
         val res2 = MAPPER.writeValueAsString(entity);
         assertNotNull(res2);
     }
+
+    @Test
+    public void verifyConditionalRequest() {
+        var request = getHttpRequestForEndpoint(OidcConstants.WELL_KNOWN_OPENID_CONFIGURATION_URL);
+        val entity = oidcWellKnownController.getWellKnownOpenIdDiscoveryConfiguration(request, new MockHttpServletResponse());
+        assertEquals(HttpStatus.OK, entity.getStatusCode());
+        val etag = entity.getHeaders().getETag();
+        assertNotNull(etag);
+        assertTrue(new String(entity.getBody(), StandardCharsets.UTF_8).contains("\"issuer\""));
+
+        request = getHttpRequestForEndpoint(OidcConstants.WELL_KNOWN_OPENID_CONFIGURATION_URL);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        val notModified = oidcWellKnownController.getWellKnownOpenIdDiscoveryConfiguration(request, new MockHttpServletResponse());
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertEquals(etag, notModified.getHeaders().getETag());
+    }
 }
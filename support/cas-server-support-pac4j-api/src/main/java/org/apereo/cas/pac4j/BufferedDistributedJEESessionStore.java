@@ -0,0 +1,275 @@
+package org.apereo.cas.pac4j;
+
+import org.apereo.cas.CentralAuthenticationService;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TransientSessionTicket;
+import org.apereo.cas.ticket.TransientSessionTicketFactory;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.SerializationUtils;
+import org.apereo.cas.web.cookie.CasCookieBuilder;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.pac4j.core.context.WebContext;
+import org.pac4j.core.context.session.SessionStore;
+import org.pac4j.jee.context.JEEContext;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * This is {@link BufferedDistributedJEESessionStore}, which keeps changes to the session
+ * in the current request and saves them once via {@link #flush(WebContext)}, typically right before
+ * the response is committed. Session data is read once per request, and only keys that are changed
+ * in the request are applied to the session ticket, which is then added or updated in the ticket registry
+ * with a single call. Optionally, small sessions may be kept in an encrypted cookie instead of the ticket registry;
+ * sessions that grow beyond the allowed cookie size are moved to the ticket registry. Once a session is saved to the
+ * ticket registry, the session ticket takes precedence over any payload cookie. The payload cookie is bound to the session id,
+ * and is ignored when presented with a different session.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class BufferedDistributedJEESessionStore extends DistributedJEESessionStore {
+    private static final String PENDING_SESSION_IN_REQUEST_ATTRIBUTE = "pendingSessionInRequestAttribute";
+
+    private final CasCookieBuilder payloadCookieGenerator;
+
+    private final CipherExecutor payloadCipherExecutor;
+
+    private final long payloadCookieMaxSize;
+
+    public BufferedDistributedJEESessionStore(final CentralAuthenticationService centralAuthenticationService,
+                                              final TicketFactory ticketFactory,
+                                              final CasCookieBuilder cookieGenerator) {
+        this(centralAuthenticationService, ticketFactory, cookieGenerator, null, null, 0);
+    }
+
+    public BufferedDistributedJEESessionStore(final CentralAuthenticationService centralAuthenticationService,
+                                              final TicketFactory ticketFactory,
+                                              final CasCookieBuilder cookieGenerator,
+                                              final CasCookieBuilder payloadCookieGenerator,
+                                              final CipherExecutor payloadCipherExecutor,
+                                              final long payloadCookieMaxSize) {
+        super(centralAuthenticationService, ticketFactory, cookieGenerator);
+        this.payloadCookieGenerator = payloadCookieGenerator;
+        this.payloadCipherExecutor = payloadCipherExecutor;
+        this.payloadCookieMaxSize = payloadCookieMaxSize;
+    }
+
+    @Override
+    public Optional get(final WebContext context, final String key) {
+        LOGGER.trace("Getting key: [{}]", key);
+        return Optional.ofNullable(getPendingSession(context).getProperties().get(key));
+    }
+
+    @Override
+    public void set(final WebContext context, final String key, final Object value) {
+        LOGGER.trace("Setting key: [{}]", key);
+        val sessionId = getSessionId(context, true).get();
+        val session = getPendingSession(context);
+        if (value == null) {
+            session.remove(key);
+        } else if (value instanceof Serializable) {
+            session.put(key, value);
+        } else {
+            LOGGER.warn("Object value [{}] assigned to [{}] is not serializable and may not be part of the ticket [{}]", value, key, sessionId);
+        }
+    }
+
+    @Override
+    public boolean destroySession(final WebContext webContext) {
+        val result = super.destroySession(webContext);
+        if (isPayloadCookieEnabled()) {
+            payloadCookieGenerator.removeCookie(JEEContext.class.cast(webContext).getNativeResponse());
+        }
+        webContext.setRequestAttribute(PENDING_SESSION_IN_REQUEST_ATTRIBUTE, new PendingSession(new LinkedHashMap<>()));
+        return result;
+    }
+
+    @Override
+    public Optional<SessionStore> buildFromTrackableSession(final WebContext context, final Object trackableSession) {
+        flush(context);
+        context.setRequestAttribute(PENDING_SESSION_IN_REQUEST_ATTRIBUTE, null);
+        return super.buildFromTrackableSession(context, trackableSession);
+    }
+
+    /**
+     * Save the changes made to the session in the current request, if any.
+     * Changes are stored in the payload cookie if enabled and if the session is small enough,
+     * or are otherwise saved to the ticket registry with a single add or update operation.
+     *
+     * @param webContext the web context
+     */
+    public void flush(final WebContext webContext) {
+        val session = webContext.getRequestAttribute(PENDING_SESSION_IN_REQUEST_ATTRIBUTE)
+            .map(PendingSession.class::cast)
+            .filter(PendingSession::isModified)
+            .orElse(null);
+        val sessionId = fetchSessionIdFromContext(webContext);
+        if (session == null || StringUtils.isBlank(sessionId)) {
+            return;
+        }
+        val context = JEEContext.class.cast(webContext);
+        if (session.getTicket() == null && storeInPayloadCookie(context, sessionId, session)) {
+            session.getChangedKeys().clear();
+            return;
+        }
+        saveTicket(sessionId, session);
+        if (session.isStoredInCookie() && !context.getNativeResponse().isCommitted()) {
+            payloadCookieGenerator.removeCookie(context.getNativeResponse());
+            session.setStoredInCookie(false);
+        }
+        session.getChangedKeys().clear();
+    }
+
+    private void saveTicket(final String sessionId, final PendingSession session) {
+        val ticket = session.getTicket();
+        if (ticket == null) {
+            if (!session.getProperties().isEmpty()) {
+                val properties = new HashMap<String, Serializable>();
+                session.getProperties().forEach((key, value) -> properties.put(key, (Serializable) value));
+                val transientFactory = (TransientSessionTicketFactory) ticketFactory.get(TransientSessionTicket.class);
+                val created = transientFactory.create(sessionId, properties);
+                LOGGER.trace("Adding session ticket [{}] with [{}] properties", created.getId(), properties.size());
+                FunctionUtils.doUnchecked(s -> centralAuthenticationService.addTicket(created));
+                session.setTicket(created);
+            }
+        } else {
+            session.getChangedKeys().forEach(key -> {
+                val value = session.getProperties().get(key);
+                if (value == null) {
+                    ticket.getProperties().remove(key);
+                } else {
+                    ticket.getProperties().put(key, value);
+                }
+            });
+            LOGGER.trace("Updating session ticket [{}] with changed keys [{}]", ticket.getId(), session.getChangedKeys());
+            FunctionUtils.doUnchecked(s -> centralAuthenticationService.updateTicket(ticket));
+        }
+    }
+
+    private boolean storeInPayloadCookie(final JEEContext context, final String sessionId, final PendingSession session) {
+        if (!isPayloadCookieEnabled()) {
+            return false;
+        }
+        if (context.getNativeResponse().isCommitted()) {
+            LOGGER.debug("Response is already committed; session changes will be saved to the ticket registry");
+            return false;
+        }
+        val payload = new PayloadCookieSession(sessionId, new LinkedHashMap<>(session.getProperties()));
+        val encoded = SerializationUtils.serializeAndEncodeObject(payloadCipherExecutor, payload);
+        if (encoded.length > payloadCookieMaxSize) {
+            LOGGER.debug("Encoded session of [{}] bytes exceeds [{}] bytes and will be saved to the ticket registry",
+                encoded.length, payloadCookieMaxSize);
+            return false;
+        }
+        if (session.getProperties().isEmpty()) {
+            payloadCookieGenerator.removeCookie(context.getNativeResponse());
+        } else {
+            payloadCookieGenerator.addCookie(context.getNativeRequest(), context.getNativeResponse(),
+                new String(encoded, StandardCharsets.UTF_8));
+        }
+        session.setStoredInCookie(true);
+        return true;
+    }
+
+    private boolean isPayloadCookieEnabled() {
+        return payloadCookieGenerator != null && payloadCipherExecutor != null && payloadCookieMaxSize > 0;
+    }
+
+    private PendingSession getPendingSession(final WebContext context) {
+        val pending = context.getRequestAttribute(PENDING_SESSION_IN_REQUEST_ATTRIBUTE).map(PendingSession.class::cast);
+        if (pending.isPresent()) {
+            return pending.get();
+        }
+        val session = loadSession(context);
+        context.setRequestAttribute(PENDING_SESSION_IN_REQUEST_ATTRIBUTE, session);
+        return session;
+    }
+
+    private PendingSession loadSession(final WebContext context) {
+        val ticket = getTransientSessionTicketForSession(context);
+        val payloadCookie = isPayloadCookieEnabled()
+            ? payloadCookieGenerator.retrieveCookieValue(JEEContext.class.cast(context).getNativeRequest())
+            : null;
+        if (ticket == null && StringUtils.isNotBlank(payloadCookie)) {
+            val properties = readPayloadCookie(context, payloadCookie);
+            if (properties.isPresent()) {
+                val session = new PendingSession(new LinkedHashMap<>(properties.get()));
+                session.setStoredInCookie(true);
+                return session;
+            }
+        }
+        val session = new PendingSession(ticket == null ? new LinkedHashMap<>() : new LinkedHashMap<>(ticket.getProperties()));
+        session.setTicket(ticket);
+        session.setStoredInCookie(StringUtils.isNotBlank(payloadCookie));
+        return session;
+    }
+
+    private Optional<Map<String, Object>> readPayloadCookie(final WebContext context, final String payloadCookie) {
+        try {
+            val payload = SerializationUtils.decodeAndDeserializeObject(
+                payloadCookie.getBytes(StandardCharsets.UTF_8), payloadCipherExecutor, PayloadCookieSession.class);
+            val sessionId = fetchSessionIdFromContext(context);
+            if (StringUtils.isNotBlank(sessionId) && sessionId.equals(payload.getSessionId())) {
+                return Optional.of(payload.getProperties());
+            }
+            LOGGER.warn("Session payload cookie does not belong to session [{}] and will be ignored", sessionId);
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+        }
+        return Optional.empty();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PayloadCookieSession implements Serializable {
+        private static final long serialVersionUID = -2716184351278539652L;
+
+        private final String sessionId;
+
+        private final LinkedHashMap<String, Object> properties;
+    }
+
+    @Getter
+    @Setter
+    @RequiredArgsConstructor
+    private static class PendingSession {
+        private final Map<String, Object> properties;
+
+        private final Set<String> changedKeys = new LinkedHashSet<>();
+
+        private TransientSessionTicket ticket;
+
+        private boolean storedInCookie;
+
+        void put(final String key, final Object value) {
+            properties.put(key, value);
+            changedKeys.add(key);
+        }
+
+        void remove(final String key) {
+            if (properties.remove(key) != null || ticket != null && ticket.getProperties().containsKey(key)) {
+                changedKeys.add(key);
+            }
+        }
+
+        boolean isModified() {
+            return !changedKeys.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.apereo.cas.pac4j;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.pac4j.jee.context.JEEContext;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * This is {@link BufferedDistributedJEESessionStoreFilter} that flushes changes
+ * buffered by {@link BufferedDistributedJEESessionStore} right before the response is committed,
+ * which is when the response is redirected, an error is sent, or the response body is written,
+ * and once more when the request is completed to catch changes made afterwards.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@RequiredArgsConstructor
+public class BufferedDistributedJEESessionStoreFilter implements Filter {
+    private final BufferedDistributedJEESessionStore sessionStore;
+
+    @Override
+    public void doFilter(final ServletRequest servletRequest, final ServletResponse servletResponse,
+                         final FilterChain filterChain) throws IOException, ServletException {
+        if (servletRequest instanceof HttpServletRequest && servletResponse instanceof HttpServletResponse) {
+            val request = (HttpServletRequest) servletRequest;
+            val response = (HttpServletResponse) servletResponse;
+            val wrapper = new SessionStoreFlushingResponseWrapper(request, response);
+            try {
+                filterChain.doFilter(request, wrapper);
+            } finally {
+                wrapper.flushSessionStore();
+            }
+        } else {
+            filterChain.doFilter(servletRequest, servletResponse);
+        }
+    }
+
+    private class SessionStoreFlushingResponseWrapper extends HttpServletResponseWrapper {
+        private final HttpServletRequest request;
+
+        SessionStoreFlushingResponseWrapper(final HttpServletRequest request, final HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        void flushSessionStore() {
+            sessionStore.flush(new JEEContext(request, (HttpServletResponse) getResponse()));
+        }
+
+        @Override
+        public void sendRedirect(final String location) throws IOException {
+            flushSessionStore();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void sendError(final int sc) throws IOException {
+            flushSessionStore();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(final int sc, final String msg) throws IOException {
+            flushSessionStore();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            flushSessionStore();
+            super.flushBuffer();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            flushSessionStore();
+            return super.getWriter();
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            flushSessionStore();
+            return super.getOutputStream();
+        }
+    }
+}
@@ -39,9 +39,9 @@ public class DistributedJEESessionStore implements SessionStore {
 
     private static final String SESSION_ID_IN_REQUEST_ATTRIBUTE = "sessionIdInRequestAttribute";
 
-    private final CentralAuthenticationService centralAuthenticationService;
+    protected final CentralAuthenticationService centralAuthenticationService;
 
-    private final TicketFactory ticketFactory;
+    protected final TicketFactory ticketFactory;
 
     private final CasCookieBuilder cookieGenerator;
     
@@ -144,7 +144,13 @@ public class DistributedJEESessionStore implements SessionStore {
         return sessionId;
     }
 
-    private TransientSessionTicket getTransientSessionTicketForSession(final WebContext context) {
+    /**
+     * Gets transient session ticket for the session from the registry.
+     *
+     * @param context the context
+     * @return the ticket, or null
+     */
+    protected TransientSessionTicket getTransientSessionTicketForSession(final WebContext context) {
         try {
             val sessionId = fetchSessionIdFromContext(context);
             if (sessionId != null) {
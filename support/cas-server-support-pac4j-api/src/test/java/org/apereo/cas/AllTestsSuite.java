@@ -1,6 +1,7 @@
 package org.apereo.cas;
 
 import org.apereo.cas.integration.pac4j.BrowserWebStorageSessionStoreTests;
+import org.apereo.cas.integration.pac4j.BufferedDistributedJEESessionStoreTests;
 import org.apereo.cas.integration.pac4j.DistributedJEESessionStoreTests;
 import org.apereo.cas.pac4j.serialization.NimbusOAuthJacksonModuleTests;
 
@@ -15,6 +16,7 @@ import org.junit.platform.suite.api.Suite;
  */
 @SelectClasses({
     BrowserWebStorageSessionStoreTests.class,
+    BufferedDistributedJEESessionStoreTests.class,
     DistributedJEESessionStoreTests.class,
     NimbusOAuthJacksonModuleTests.class
 })
@@ -0,0 +1,197 @@
+package org.apereo.cas.integration.pac4j;
+
+import org.apereo.cas.CentralAuthenticationService;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.pac4j.BufferedDistributedJEESessionStore;
+import org.apereo.cas.pac4j.BufferedDistributedJEESessionStoreFilter;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TransientSessionTicket;
+import org.apereo.cas.ticket.TransientSessionTicketFactory;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.web.support.CookieUtils;
+import org.apereo.cas.web.support.gen.CookieRetrievingCookieGenerator;
+
+import lombok.val;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.pac4j.jee.context.JEEContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link BufferedDistributedJEESessionStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@SpringBootTest(classes = BaseSessionStoreTests.SharedTestConfiguration.class)
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+@Tag("Web")
+public class BufferedDistributedJEESessionStoreTests {
+
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
+    @Autowired
+    @Qualifier(CentralAuthenticationService.BEAN_NAME)
+    private CentralAuthenticationService centralAuthenticationService;
+
+    @Autowired
+    @Qualifier(TicketFactory.BEAN_NAME)
+    private TicketFactory ticketFactory;
+
+    @Autowired
+    @Qualifier(TicketRegistry.BEAN_NAME)
+    private TicketRegistry ticketRegistry;
+
+    @Autowired
+    @Qualifier("webflowCipherExecutor")
+    private CipherExecutor webflowCipherExecutor;
+
+    private BufferedDistributedJEESessionStore buildSessionStore(final long payloadCookieMaxSize) {
+        val cookie = casProperties.getSessionReplication().getCookie();
+        val payloadCookieContext = CookieUtils.buildCookieGenerationContext(cookie);
+        payloadCookieContext.setName(cookie.getName() + "DATA");
+        return new BufferedDistributedJEESessionStore(centralAuthenticationService, ticketFactory,
+            CookieUtils.buildCookieRetrievingGenerator(cookie), new CookieRetrievingCookieGenerator(payloadCookieContext),
+            webflowCipherExecutor, payloadCookieMaxSize);
+    }
+
+    private static String getTicketId(final String sessionId) {
+        return TransientSessionTicketFactory.normalizeTicketId(sessionId);
+    }
+
+    @Test
+    public void verifyChangesAreBuffered() {
+        val store = buildSessionStore(0);
+        val request = new MockHttpServletRequest();
+        val response = new MockHttpServletResponse();
+        val context = new JEEContext(request, response);
+
+        store.set(context, "state", "state-value");
+        store.set(context, "nonce", "nonce-value");
+        store.set(context, "not-serializable", new Object());
+        val sessionId = store.getSessionId(context, false).orElseThrow();
+        assertNull(ticketRegistry.getTicket(getTicketId(sessionId)));
+        assertEquals("state-value", store.get(context, "state").orElseThrow());
+
+        store.flush(context);
+        val ticket = ticketRegistry.getTicket(getTicketId(sessionId), TransientSessionTicket.class);
+        assertNotNull(ticket);
+        assertEquals(2, ticket.getProperties().size());
+
+        val nextRequest = new MockHttpServletRequest();
+        nextRequest.setCookies(response.getCookies());
+        val nextContext = new JEEContext(nextRequest, new MockHttpServletResponse());
+        assertEquals("nonce-value", store.get(nextContext, "nonce").orElseThrow());
+        store.set(nextContext, "state", null);
+        store.set(nextContext, "verifier", "verifier-value");
+        store.flush(nextContext);
+
+        val updated = ticketRegistry.getTicket(getTicketId(sessionId), TransientSessionTicket.class);
+        assertFalse(updated.getProperties().containsKey("state"));
+        assertEquals("nonce-value", updated.getProperties().get("nonce"));
+        assertEquals("verifier-value", updated.getProperties().get("verifier"));
+
+        store.destroySession(nextContext);
+        assertTrue(store.get(nextContext, "nonce").isEmpty());
+        assertNull(ticketRegistry.getTicket(getTicketId(sessionId)));
+    }
+
+    @Test
+    public void verifyPayloadInCookie() {
+        val store = buildSessionStore(4096);
+        val request = new MockHttpServletRequest();
+        val response = new MockHttpServletResponse();
+        val context = new JEEContext(request, response);
+        store.set(context, "state", "state-value");
+        store.flush(context);
+        val sessionId = store.getSessionId(context, false).orElseThrow();
+        assertNull(ticketRegistry.getTicket(getTicketId(sessionId)));
+
+        val nextRequest = new MockHttpServletRequest();
+        nextRequest.setCookies(response.getCookies());
+        val nextResponse = new MockHttpServletResponse();
+        val nextContext = new JEEContext(nextRequest, nextResponse);
+        assertEquals("state-value", store.get(nextContext, "state").orElseThrow());
+
+        store.set(nextContext, "large", RandomStringUtils.randomAlphanumeric(8192));
+        store.flush(nextContext);
+        val ticket = ticketRegistry.getTicket(getTicketId(sessionId), TransientSessionTicket.class);
+        assertNotNull(ticket);
+        assertEquals("state-value", ticket.getProperties().get("state"));
+    }
+
+    @Test
+    public void verifyTicketTakesPrecedenceOverPayloadCookie() {
+        val store = buildSessionStore(4096);
+        val request = new MockHttpServletRequest();
+        val response = new MockHttpServletResponse();
+        val context = new JEEContext(request, response);
+        store.set(context, "state", "state-value");
+        store.flush(context);
+
+        val nextRequest = new MockHttpServletRequest();
+        nextRequest.setCookies(response.getCookies());
+        val nextContext = new JEEContext(nextRequest, new MockHttpServletResponse());
+        store.set(nextContext, "large", RandomStringUtils.randomAlphanumeric(8192));
+        store.flush(nextContext);
+
+        val replayedRequest = new MockHttpServletRequest();
+        replayedRequest.setCookies(response.getCookies());
+        val replayedContext = new JEEContext(replayedRequest, new MockHttpServletResponse());
+        assertTrue(store.get(replayedContext, "large").isPresent());
+        assertEquals("state-value", store.get(replayedContext, "state").orElseThrow());
+    }
+
+    @Test
+    public void verifyPayloadCookieIsBoundToSession() {
+        val store = buildSessionStore(4096);
+        val cookieName = casProperties.getSessionReplication().getCookie().getName();
+
+        val response = new MockHttpServletResponse();
+        val context = new JEEContext(new MockHttpServletRequest(), response);
+        store.set(context, "state", "state-value");
+        store.flush(context);
+
+        val otherResponse = new MockHttpServletResponse();
+        val otherContext = new JEEContext(new MockHttpServletRequest(), otherResponse);
+        store.set(otherContext, "nonce", "nonce-value");
+        store.flush(otherContext);
+
+        val replayedRequest = new MockHttpServletRequest();
+        replayedRequest.setCookies(otherResponse.getCookie(cookieName), response.getCookie(cookieName + "DATA"));
+        val replayedContext = new JEEContext(replayedRequest, new MockHttpServletResponse());
+        assertTrue(store.get(replayedContext, "state").isEmpty());
+        assertTrue(store.get(replayedContext, "nonce").isEmpty());
+    }
+
+    @Test
+    public void verifyFilterFlushesOnRedirect() throws Exception {
+        val store = buildSessionStore(0);
+        val request = new MockHttpServletRequest();
+        val response = new MockHttpServletResponse();
+        val filter = new BufferedDistributedJEESessionStoreFilter(store);
+        val chain = (FilterChain) (servletRequest, servletResponse) -> {
+            val context = new JEEContext(request, (HttpServletResponse) servletResponse);
+            store.set(context, "state", "state-value");
+            val sessionId = store.getSessionId(context, false).orElseThrow();
+            assertNull(ticketRegistry.getTicket(getTicketId(sessionId)));
+            ((HttpServletResponse) servletResponse).sendRedirect("https://example.org");
+            assertNotNull(ticketRegistry.getTicket(getTicketId(sessionId)));
+        };
+        filter.doFilter(request, response, chain);
+        assertEquals("https://example.org", response.getRedirectedUrl());
+    }
+}
@@ -1,18 +1,39 @@
 package org.apereo.cas.support.pac4j;
 
+import org.apereo.cas.authentication.principal.ClientCustomPropertyConstants;
 import org.apereo.cas.support.pac4j.authentication.DelegatedClientFactory;
+import org.apereo.cas.util.LoggingUtils;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.pac4j.core.client.BaseClient;
 import org.pac4j.core.client.Client;
 import org.pac4j.core.client.Clients;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * This is {@link RefreshableDelegatedClients}.
+ * This is {@link RefreshableDelegatedClients}. Clients are built once by the {@link DelegatedClientFactory}
+ * into an immutable snapshot that is used to serve lookups without locking. The snapshot is rebuilt
+ * in the background once the refresh interval has passed or when the application context is refreshed.
+ * Rebuilt clients that carry the same name, type and configuration digest as a client
+ * in the current snapshot are replaced by that client, so they keep their initialized state.
  *
  * @author Misagh Moayyed
  * @since 6.4.0
@@ -21,24 +42,91 @@ import java.util.Optional;
 public class RefreshableDelegatedClients extends Clients {
     private final DelegatedClientFactory<Client> delegatedClientFactory;
 
+    private final Duration refreshInterval;
+
+    private final AtomicReference<DelegatedClientsSnapshot> snapshot = new AtomicReference<>();
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
     public RefreshableDelegatedClients(final String callbackUrl,
                                        final DelegatedClientFactory<Client> delegatedClientFactory) {
+        this(callbackUrl, delegatedClientFactory, Duration.ZERO);
+    }
+
+    public RefreshableDelegatedClients(final String callbackUrl,
+                                       final DelegatedClientFactory<Client> delegatedClientFactory,
+                                       final Duration refreshInterval) {
         setCallbackUrl(callbackUrl);
         this.delegatedClientFactory = delegatedClientFactory;
+        this.refreshInterval = refreshInterval;
+    }
+
+    private static String normalizeClientName(final String name) {
+        return StringUtils.trimToEmpty(name).toLowerCase(Locale.ENGLISH);
+    }
+
+    private static Object getConfigurationDigest(final Client client) {
+        return client instanceof BaseClient
+            ? ((BaseClient) client).getCustomProperties().get(ClientCustomPropertyConstants.CLIENT_CUSTOM_PROPERTY_CONFIGURATION_DIGEST)
+            : null;
+    }
+
+    private static Client reuseIfUnchanged(final DelegatedClientsSnapshot current, final Client client) {
+        if (current == null) {
+            return client;
+        }
+        val existing = current.getClientsByName().get(normalizeClientName(client.getName()));
+        if (existing == null || existing == client) {
+            return client;
+        }
+        val digest = getConfigurationDigest(client);
+        if (digest != null && existing.getClass().equals(client.getClass()) && digest.equals(getConfigurationDigest(existing))) {
+            LOGGER.trace("Client [{}] is unchanged and will continue to use its existing state", client.getName());
+            return existing;
+        }
+        return client;
     }
 
     @Override
     public Optional<Client> findClient(final String name) {
-        setClients(buildDelegatedClients());
-        init();
-        return super.findClient(name);
+        if (StringUtils.isBlank(name)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(getSnapshot().getClientsByName().get(normalizeClientName(name)));
     }
 
     @Override
     public List<Client> findAllClients() {
-        setClients(buildDelegatedClients());
+        return getSnapshot().getClients();
+    }
+
+    /**
+     * Rebuild the snapshot of delegated clients.
+     */
+    public synchronized void refresh() {
+        val current = snapshot.get();
+        val clients = new ArrayList<Client>();
+        buildDelegatedClients().forEach(client -> clients.add(reuseIfUnchanged(current, client)));
+        setClients(clients);
         init();
-        return super.findAllClients();
+
+        val clientsByName = new LinkedHashMap<String, Client>();
+        clients.forEach(client -> clientsByName.putIfAbsent(normalizeClientName(client.getName()), client));
+        snapshot.set(new DelegatedClientsSnapshot(Collections.unmodifiableList(clients),
+            Collections.unmodifiableMap(clientsByName), System.currentTimeMillis()));
+        LOGGER.debug("Refreshed delegated clients [{}]", clientsByName.keySet());
+    }
+
+    /**
+     * Refresh the snapshot of delegated clients once the application context is refreshed.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRefreshScopeRefreshedEvent(final RefreshScopeRefreshedEvent event) {
+        if (snapshot.get() != null) {
+            refreshInBackground();
+        }
     }
 
     /**
@@ -51,4 +139,44 @@ public class RefreshableDelegatedClients extends Clients {
         LOGGER.debug("The following clients are built: [{}]", clients);
         return new ArrayList<>(clients);
     }
+
+    private DelegatedClientsSnapshot getSnapshot() {
+        var current = snapshot.get();
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot.get() == null) {
+                    refresh();
+                }
+            }
+            current = Objects.requireNonNull(snapshot.get());
+        } else if (!refreshInterval.isZero() && !refreshInterval.isNegative()
+                   && System.currentTimeMillis() - current.getCreationTime() >= refreshInterval.toMillis()) {
+            refreshInBackground();
+        }
+        return current;
+    }
+
+    private void refreshInBackground() {
+        if (refreshing.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    refresh();
+                } catch (final Exception e) {
+                    LoggingUtils.warn(LOGGER, e);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class DelegatedClientsSnapshot {
+        private final List<Client> clients;
+
+        private final Map<String, Client> clientsByName;
+
+        private final long creationTime;
+    }
 }
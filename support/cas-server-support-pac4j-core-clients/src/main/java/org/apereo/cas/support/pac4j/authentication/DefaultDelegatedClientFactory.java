@@ -21,7 +21,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.Synchronized;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
 import org.pac4j.cas.client.CasClient;
@@ -641,6 +643,10 @@ public class DefaultDelegatedClientFactory implements DelegatedClientFactory<Ind
         }
         val callbackUrl = StringUtils.defaultString(props.getCallbackUrl(), casProperties.getServer().getLoginUrl());
         client.setCallbackUrl(callbackUrl);
+        FunctionUtils.doAndHandle(unused -> {
+            val digest = DigestUtils.sha256Hex(callbackUrl + DigestUtils.sha256Hex(SerializationUtils.serialize(props)));
+            customProperties.put(ClientCustomPropertyConstants.CLIENT_CUSTOM_PROPERTY_CONFIGURATION_DIGEST, digest);
+        });
 
         switch (props.getCallbackUrlType()) {
             case PATH_PARAMETER:
@@ -1,5 +1,6 @@
 package org.apereo.cas.support.pac4j.authentication;
 
+import org.apereo.cas.authentication.principal.ClientCustomPropertyConstants;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.HttpUtils;
@@ -12,10 +13,12 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.hjson.JsonValue;
 import org.pac4j.config.client.PropertiesConfigFactory;
+import org.pac4j.core.client.BaseClient;
 import org.pac4j.core.client.Client;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -80,6 +83,12 @@ public class RestfulDelegatedClientFactory implements DelegatedClientFactory<Cli
                             clients.getOrDefault("properties", new HashMap<String, String>(0));
                         val factory = new PropertiesConfigFactory(callbackUrl, properties);
                         val builtClients = factory.build().getClients().findAllClients();
+                        val digest = DigestUtils.sha256Hex(result);
+                        builtClients.stream()
+                            .filter(BaseClient.class::isInstance)
+                            .map(BaseClient.class::cast)
+                            .forEach(client -> client.getCustomProperties()
+                                .put(ClientCustomPropertyConstants.CLIENT_CUSTOM_PROPERTY_CONFIGURATION_DIGEST, digest));
                         clientsCache.put(casProperties.getServer().getName(), builtClients);
                         return builtClients;
                     } finally {
@@ -27,4 +27,10 @@ public interface ClientCustomPropertyConstants {
      * CSS class assigned to this client to be used in the UI.
      */
     String CLIENT_CUSTOM_PROPERTY_CSS_CLASS = "cssClass";
+
+    /**
+     * Digest of the configuration from which the client was built,
+     * used to determine whether a rebuilt client is different from the one in use.
+     */
+    String CLIENT_CUSTOM_PROPERTY_CONFIGURATION_DIGEST = "configurationDigest";
 }
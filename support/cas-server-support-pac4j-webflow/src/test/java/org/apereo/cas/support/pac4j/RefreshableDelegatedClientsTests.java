@@ -1,5 +1,6 @@
 package org.apereo.cas.support.pac4j;
 
+import org.apereo.cas.authentication.principal.ClientCustomPropertyConstants;
 import org.apereo.cas.support.pac4j.authentication.DelegatedClientFactory;
 
 import lombok.val;
@@ -7,8 +8,10 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.pac4j.cas.client.CasClient;
 
+import java.time.Duration;
 import java.util.List;
 
+import static org.awaitility.Awaitility.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -20,6 +23,13 @@ import static org.mockito.Mockito.*;
  */
 @Tag("Delegation")
 public class RefreshableDelegatedClientsTests {
+    private static CasClient getClient(final String digest) {
+        val client = new CasClient();
+        client.setName("CasClient");
+        client.getCustomProperties().put(ClientCustomPropertyConstants.CLIENT_CUSTOM_PROPERTY_CONFIGURATION_DIGEST, digest);
+        return client;
+    }
+
     @Test
     public void verifyOperation() {
         val delegatedFactory = mock(DelegatedClientFactory.class);
@@ -28,8 +38,42 @@ public class RefreshableDelegatedClientsTests {
         assertTrue(refreshableClients.findAllClients().isEmpty());
         val client = new CasClient();
         when(delegatedFactory.build()).thenReturn(List.of(client));
+        assertTrue(refreshableClients.findAllClients().isEmpty());
+        refreshableClients.refresh();
         assertFalse(refreshableClients.findAllClients().isEmpty());
         assertTrue(refreshableClients.findClient(client.getName()).isPresent());
+        assertTrue(refreshableClients.findClient(client.getName().toUpperCase()).isPresent());
+        assertTrue(refreshableClients.findClient(null).isEmpty());
+        verify(delegatedFactory, times(2)).build();
+    }
+
+    @Test
+    public void verifyUnchangedClientsAreReused() {
+        val delegatedFactory = mock(DelegatedClientFactory.class);
+        val client = getClient("digest1");
+        when(delegatedFactory.build()).thenReturn(List.of(client));
+        val refreshableClients = new RefreshableDelegatedClients("http://localhost:8080/cas", delegatedFactory);
+        assertSame(client, refreshableClients.findClient(client.getName()).orElseThrow());
+
+        when(delegatedFactory.build()).thenReturn(List.of(getClient("digest1")));
+        refreshableClients.refresh();
+        assertSame(client, refreshableClients.findClient(client.getName()).orElseThrow());
 
+        val changedClient = getClient("digest2");
+        when(delegatedFactory.build()).thenReturn(List.of(changedClient));
+        refreshableClients.refresh();
+        assertSame(changedClient, refreshableClients.findClient(client.getName()).orElseThrow());
+    }
+
+    @Test
+    public void verifyBackgroundRefresh() {
+        val delegatedFactory = mock(DelegatedClientFactory.class);
+        when(delegatedFactory.build()).thenReturn(List.of());
+        val refreshableClients = new RefreshableDelegatedClients("http://localhost:8080/cas",
+            delegatedFactory, Duration.ofMillis(1));
+        assertTrue(refreshableClients.findAllClients().isEmpty());
+        val client = getClient("digest");
+        when(delegatedFactory.build()).thenReturn(List.of(client));
+        await().atMost(Duration.ofSeconds(5)).until(() -> refreshableClients.findClient(client.getName()).isPresent());
     }
 }
@@ -17,9 +17,11 @@ import org.apereo.cas.authentication.principal.provision.DelegatedClientUserProf
 import org.apereo.cas.authentication.principal.provision.GroovyDelegatedClientUserProfileProvisioner;
 import org.apereo.cas.authentication.principal.provision.RestfulDelegatedClientUserProfileProvisioner;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.logout.LogoutExecutionPlanConfigurer;
-import org.apereo.cas.pac4j.DistributedJEESessionStore;
+import org.apereo.cas.pac4j.BufferedDistributedJEESessionStore;
+import org.apereo.cas.pac4j.BufferedDistributedJEESessionStoreFilter;
 import org.apereo.cas.pac4j.client.DelegatedClientNameExtractor;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.pac4j.RefreshableDelegatedClients;
@@ -32,11 +34,13 @@ import org.apereo.cas.support.pac4j.authentication.handler.support.DelegatedClie
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.HttpRequestUtils;
+import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 import org.apereo.cas.web.cookie.CasCookieBuilder;
 import org.apereo.cas.web.support.CookieUtils;
+import org.apereo.cas.web.support.gen.CookieRetrievingCookieGenerator;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -52,13 +56,17 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.util.unit.DataSize;
 
+import javax.servlet.Filter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -91,14 +99,41 @@ public class Pac4jAuthenticationEventExecutionPlanConfiguration {
             @Qualifier(TicketFactory.BEAN_NAME)
             final TicketFactory ticketFactory,
             @Qualifier(CentralAuthenticationService.BEAN_NAME)
-            final CentralAuthenticationService centralAuthenticationService) {
-            val replicate = casProperties.getAuthn().getPac4j().getCore().isReplicateSessions();
-            if (replicate) {
-                return new DistributedJEESessionStore(centralAuthenticationService,
-                    ticketFactory, delegatedClientDistributedSessionCookieGenerator);
+            final CentralAuthenticationService centralAuthenticationService,
+            @Qualifier("webflowCipherExecutor")
+            final ObjectProvider<CipherExecutor> webflowCipherExecutor) {
+            val core = casProperties.getAuthn().getPac4j().getCore();
+            if (core.isReplicateSessions()) {
+                val maxPayloadSize = StringUtils.isNotBlank(core.getSessionCookiePayloadMaxSize())
+                    ? DataSize.parse(core.getSessionCookiePayloadMaxSize()).toBytes()
+                    : 0;
+                val cookie = casProperties.getSessionReplication().getCookie();
+                val payloadCookieContext = CookieUtils.buildCookieGenerationContext(cookie);
+                payloadCookieContext.setName(cookie.getName() + "DATA");
+                return new BufferedDistributedJEESessionStore(centralAuthenticationService,
+                    ticketFactory, delegatedClientDistributedSessionCookieGenerator,
+                    new CookieRetrievingCookieGenerator(payloadCookieContext),
+                    webflowCipherExecutor.getIfAvailable(), maxPayloadSize);
             }
             return JEESessionStore.INSTANCE;
         }
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @ConditionalOnMissingBean(name = "delegatedClientDistributedSessionStoreFilter")
+        public FilterRegistrationBean<Filter> delegatedClientDistributedSessionStoreFilter(
+            @Qualifier("delegatedClientDistributedSessionStore")
+            final SessionStore delegatedClientDistributedSessionStore) {
+            val bean = new FilterRegistrationBean<Filter>();
+            bean.setFilter(delegatedClientDistributedSessionStore instanceof BufferedDistributedJEESessionStore
+                ? new BufferedDistributedJEESessionStoreFilter((BufferedDistributedJEESessionStore) delegatedClientDistributedSessionStore)
+                : (request, response, chain) -> chain.doFilter(request, response));
+            bean.setUrlPatterns(CollectionUtils.wrap("/*"));
+            bean.setName("Delegated Client Distributed Session Store Filter");
+            bean.setAsyncSupported(true);
+            bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+            return bean;
+        }
     }
 
     @Configuration(value = "Pac4jAuthenticationEventExecutionPlanCoreConfiguration", proxyBeanMethods = false)
@@ -252,13 +287,13 @@ public class Pac4jAuthenticationEventExecutionPlanConfiguration {
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class Pac4jAuthenticationEventExecutionPlanClientConfiguration {
 
-        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @Bean
         @ConditionalOnMissingBean(name = "builtClients")
         public Clients builtClients(final CasConfigurationProperties casProperties,
                                     @Qualifier("pac4jDelegatedClientFactory")
                                     final DelegatedClientFactory pac4jDelegatedClientFactory) {
-            return new RefreshableDelegatedClients(casProperties.getServer().getLoginUrl(), pac4jDelegatedClientFactory);
+            return new RefreshableDelegatedClients(casProperties.getServer().getLoginUrl(), pac4jDelegatedClientFactory,
+                Beans.newDuration(casProperties.getAuthn().getPac4j().getCore().getRefreshInterval()));
         }
     }
 
@@ -8,7 +8,9 @@ import org.apereo.cas.redis.core.RedisObjectFactory;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
 import org.apereo.cas.ticket.registry.RedisTicketRegistry;
+import org.apereo.cas.ticket.registry.RedisTicketRegistrySessionCatalog;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistrySessionCatalog;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.lock.DefaultLockRepository;
 import org.apereo.cas.util.lock.LockRepository;
@@ -30,6 +32,8 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.integration.redis.util.RedisLockRegistry;
 import org.springframework.integration.support.locks.LockRegistry;
 
+import java.time.Duration;
+
 /**
  * This is {@link RedisTicketRegistryConfiguration}.
  *
@@ -42,6 +46,9 @@ import org.springframework.integration.support.locks.LockRegistry;
 public class RedisTicketRegistryConfiguration {
     private static final BeanCondition CONDITION = BeanCondition.on("cas.ticket.registry.redis.enabled").isTrue().evenIfMissing();
 
+    private static final BeanCondition CONDITION_SESSION_CATALOG = BeanCondition.on("cas.ticket.registry.redis.enabled").isTrue().evenIfMissing()
+        .and("cas.ticket.registry.core.enable-session-catalog").isTrue();
+
     @Configuration(value = "RedisTicketRegistryCoreConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class RedisTicketRegistryCoreConfiguration {
@@ -77,19 +84,55 @@ public class RedisTicketRegistryConfiguration {
                 .get();
         }
 
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @ConditionalOnMissingBean(name = "ticketRegistrySessionCatalogRedisTemplate")
+        public CasRedisTemplate<String, String> ticketRegistrySessionCatalogRedisTemplate(
+            final ConfigurableApplicationContext applicationContext,
+            @Qualifier("redisTicketConnectionFactory")
+            final RedisConnectionFactory redisTicketConnectionFactory) {
+            return BeanSupplier.of(CasRedisTemplate.class)
+                .when(CONDITION_SESSION_CATALOG.given(applicationContext.getEnvironment()))
+                .supply(() -> RedisObjectFactory.newRedisTemplate(redisTicketConnectionFactory))
+                .otherwiseProxy()
+                .get();
+        }
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @ConditionalOnMissingBean(name = TicketRegistrySessionCatalog.BEAN_NAME)
+        public TicketRegistrySessionCatalog ticketRegistrySessionCatalog(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier("ticketRegistrySessionCatalogRedisTemplate")
+            final CasRedisTemplate<String, String> ticketRegistrySessionCatalogRedisTemplate) {
+            return BeanSupplier.of(TicketRegistrySessionCatalog.class)
+                .when(CONDITION_SESSION_CATALOG.given(applicationContext.getEnvironment()))
+                .supply(() -> {
+                    val redis = casProperties.getTicket().getRegistry().getRedis();
+                    val timeout = Duration.ofSeconds(casProperties.getTicket().getTgt().getPrimary().getMaxTimeToLiveInSeconds());
+                    return new RedisTicketRegistrySessionCatalog(ticketRegistrySessionCatalogRedisTemplate, redis.getScanCount(), timeout);
+                })
+                .otherwise(TicketRegistrySessionCatalog::noOp)
+                .get();
+        }
+
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public TicketRegistry ticketRegistry(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
             @Qualifier("ticketRedisTemplate")
-            final CasRedisTemplate<String, Ticket> ticketRedisTemplate) {
+            final CasRedisTemplate<String, Ticket> ticketRedisTemplate,
+            @Qualifier(TicketRegistrySessionCatalog.BEAN_NAME)
+            final TicketRegistrySessionCatalog ticketRegistrySessionCatalog) {
             return BeanSupplier.of(TicketRegistry.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
                 .supply(() -> {
                     val redis = casProperties.getTicket().getRegistry().getRedis();
                     val r = new RedisTicketRegistry(ticketRedisTemplate, redis.getScanCount());
                     r.setCipherExecutor(CoreTicketUtils.newTicketRegistryCipherExecutor(redis.getCrypto(), "redis"));
+                    r.setSessionCatalog(ticketRegistrySessionCatalog);
                     return r;
                 })
                 .otherwise(DefaultTicketRegistry::new)
@@ -8,8 +8,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
@@ -64,6 +68,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         val redisKeys = getKeysStream().collect(Collectors.toSet());
         val size = Objects.requireNonNull(redisKeys).size();
         this.client.delete(redisKeys);
+        sessionCatalog.removeAll();
         return size;
     }
 
@@ -142,6 +147,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
             val timeout = getTimeout(ticket);
             client.boundValueOps(redisKey).set(encodeTicket, timeout, TimeUnit.SECONDS);
+            addTicketToSessionCatalog(ticket);
             return encodeTicket;
         } catch (final Exception e) {
             LOGGER.error("Failed to update [{}]", ticket);
@@ -150,8 +156,51 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    /**
+     * Saves all tickets of the unit of work in a single pipeline,
+     * so that the batch costs one round-trip to redis.
+     *
+     * @param unitOfWork the unit of work
+     */
+    @Override
+    public void saveTickets(final TicketRegistryUnitOfWork unitOfWork) {
+        val tickets = new ArrayList<Ticket>();
+        unitOfWork.getAddedTickets().stream().filter(ticket -> !ticket.isExpired()).forEach(tickets::add);
+        tickets.addAll(unitOfWork.getUpdatedTickets());
+        if (tickets.isEmpty()) {
+            return;
+        }
+        try {
+            val entries = new LinkedHashMap<String, Ticket>();
+            val timeouts = new LinkedHashMap<String, Long>();
+            for (val ticket : tickets) {
+                val redisKey = getTicketRedisKey(encodeTicketId(ticket.getId()), encodeTicketId(getPrincipalIdFrom(ticket)));
+                entries.put(redisKey, encodeTicket(ticket));
+                timeouts.put(redisKey, getTimeout(ticket));
+            }
+            LOGGER.debug("Saving [{}] tickets in a single pipeline", entries.size());
+            client.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(final RedisOperations<K, V> operations) {
+                    val ops = (RedisOperations<String, Ticket>) operations;
+                    entries.forEach((redisKey, encodedTicket) ->
+                        ops.opsForValue().set(redisKey, encodedTicket, timeouts.get(redisKey), TimeUnit.SECONDS));
+                    return null;
+                }
+            });
+            tickets.forEach(this::addTicketToSessionCatalog);
+        } catch (final Exception e) {
+            LOGGER.error("Failed to save tickets [{}]", tickets);
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
     @Override
     public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        if (isSessionCatalogEnabled()) {
+            return super.getSessionsFor(principalId);
+        }
         val redisKey = getTicketRedisKey(StringUtils.EMPTY, encodeTicketId(principalId));
         return getKeysStream(redisKey)
             .map(key -> client.boundValueOps(key).get())
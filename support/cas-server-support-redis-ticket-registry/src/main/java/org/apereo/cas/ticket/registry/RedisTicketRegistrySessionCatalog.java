@@ -0,0 +1,66 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.redis.core.CasRedisTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link RedisTicketRegistrySessionCatalog} that keeps
+ * ticket-granting ticket ids for each principal inside a redis set.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisTicketRegistrySessionCatalog implements TicketRegistrySessionCatalog {
+    private static final String CAS_SESSION_PREFIX = "CAS_SESSION:";
+
+    private final CasRedisTemplate<String, String> client;
+
+    private final long scanCount;
+
+    private final Duration timeout;
+
+    private static String getSessionRedisKey(final String principalId) {
+        return CAS_SESSION_PREFIX + principalId.trim();
+    }
+
+    @Override
+    public void add(final String principalId, final String ticketGrantingTicketId) {
+        val redisKey = getSessionRedisKey(principalId);
+        LOGGER.trace("Adding [{}] to session catalog entry [{}]", ticketGrantingTicketId, redisKey);
+        val ops = client.boundSetOps(redisKey);
+        ops.add(ticketGrantingTicketId);
+        if (!timeout.isZero() && !timeout.isNegative()) {
+            ops.expire(timeout);
+        }
+    }
+
+    @Override
+    public void remove(final String principalId, final String ticketGrantingTicketId) {
+        val redisKey = getSessionRedisKey(principalId);
+        LOGGER.trace("Removing [{}] from session catalog entry [{}]", ticketGrantingTicketId, redisKey);
+        client.boundSetOps(redisKey).remove(ticketGrantingTicketId);
+    }
+
+    @Override
+    public Set<String> getSessionsFor(final String principalId) {
+        val members = client.boundSetOps(getSessionRedisKey(principalId)).members();
+        return Objects.requireNonNullElse(members, Set.of());
+    }
+
+    @Override
+    public long removeAll() {
+        val redisKeys = client.keys(CAS_SESSION_PREFIX + '*', scanCount).collect(Collectors.toSet());
+        client.delete(redisKeys);
+        return redisKeys.size();
+    }
+}
@@ -6,6 +6,8 @@ import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
 
+import java.util.Map;
+
 /**
  * This is {@link SamlRegisteredServiceCachingMetadataResolver}
  * that defines how metadata is to be resolved and cached for a given saml
@@ -55,4 +57,14 @@ public interface SamlRegisteredServiceCachingMetadataResolver {
      * @return the OpenSAML config bean
      */
     OpenSamlConfigBean getOpenSamlConfigBean();
+
+    /**
+     * Gets statistics that describe the state of the cache,
+     * such as load times and requests that had to wait for a load in progress.
+     *
+     * @return the statistics
+     */
+    default Map<String, Object> getStatistics() {
+        return Map.of();
+    }
 }
@@ -2,6 +2,8 @@ package org.apereo.cas.support.saml.services.idp.metadata;
 
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceCachingMetadataResolver;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceMetadataResolverStatistics;
 import org.apereo.cas.support.saml.services.idp.metadata.plan.SamlRegisteredServiceMetadataResolutionPlan;
 
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 /**
  * This is {@link SamlRegisteredServiceMetadataHealthIndicator}.
  * Only need 1 valid resolver for metadata to be 'available'.
+ * Statistics of the metadata resolver cache, such as load times and
+ * requests that waited on a load in progress, are reported as well,
+ * along with the failures, timeouts and latency of each metadata source.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
@@ -29,6 +34,10 @@ public class SamlRegisteredServiceMetadataHealthIndicator extends AbstractHealth
 
     private final ServicesManager servicesManager;
 
+    private final SamlRegisteredServiceCachingMetadataResolver cachingMetadataResolver;
+
+    private final SamlRegisteredServiceMetadataResolverStatistics metadataResolverStatistics;
+
     @Override
     protected void doHealthCheck(final Health.Builder builder) {
         val samlServices = servicesManager.findServiceBy(registeredService -> registeredService instanceof SamlRegisteredService);
@@ -37,6 +46,8 @@ public class SamlRegisteredServiceMetadataHealthIndicator extends AbstractHealth
 
         builder.up();
         builder.withDetail("name", getClass().getSimpleName());
+        builder.withDetail("metadataCache", cachingMetadataResolver.getStatistics());
+        builder.withDetail("metadataSources", metadataResolverStatistics.getStatistics());
         var count = new AtomicInteger();
         samlServices
             .stream()
@@ -18,13 +18,15 @@ import java.util.Objects;
 
 /**
  * This is {@link SamlRegisteredServiceCacheKey}.
+ * Keys are compared using the calculated cache key of the service,
+ * and the hashed identifier of the key is only calculated once it is asked for.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
  */
 @Slf4j
 @ToString
-@EqualsAndHashCode(of = "id")
+@EqualsAndHashCode(of = "cacheKey")
 @Getter
 public class SamlRegisteredServiceCacheKey implements Serializable {
     /**
@@ -34,7 +36,8 @@ public class SamlRegisteredServiceCacheKey implements Serializable {
 
     private static final long serialVersionUID = -7238573226470492601L;
     
-    private final String id;
+    @Getter(lazy = true)
+    private final String id = buildRegisteredServiceCacheKey(getCacheKey());
 
     private final SamlRegisteredService registeredService;
 
@@ -47,7 +50,6 @@ public class SamlRegisteredServiceCacheKey implements Serializable {
                                          final CriteriaSet criteriaSet) {
         this.cacheKey = getCacheKeyForRegisteredService(registeredService, criteriaSet);
         LOGGER.trace("Calculated service cache key [{}]", cacheKey);
-        this.id = buildRegisteredServiceCacheKey(this.cacheKey);
         this.registeredService = registeredService;
         this.criteriaSet = criteriaSet;
     }
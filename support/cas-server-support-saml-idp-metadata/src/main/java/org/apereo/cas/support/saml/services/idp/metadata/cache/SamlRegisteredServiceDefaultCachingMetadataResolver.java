@@ -5,13 +5,12 @@ import org.apereo.cas.support.saml.SamlException;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.apereo.cas.util.function.FunctionUtils;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.collect.Iterables;
 import lombok.Getter;
-import lombok.Synchronized;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -23,13 +22,29 @@ import org.opensaml.saml.saml2.metadata.EntityDescriptor;
 import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * An adaptation of metadata resolver which handles the resolution of metadata resources
  * inside a cache. It basically is a fancy wrapper around a cache, and constructs the cache
  * semantics before processing the resolution of metadata for a SAML service.
+ * Metadata resolvers are loaded asynchronously and only once for each cache key; requests for
+ * a key whose resolver is still loading wait for that load while requests for other keys proceed.
+ * Resolvers that are about to expire are refreshed in the background,
+ * and the existing resolver continues to serve requests until the refresh has completed.
+ * Loads and refreshes run on the given executor.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -41,7 +56,21 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
 
     private final CacheLoader<SamlRegisteredServiceCacheKey, MetadataResolver> chainingMetadataResolverCacheLoader;
 
-    private final LoadingCache<SamlRegisteredServiceCacheKey, MetadataResolver> cache;
+    private final AsyncLoadingCache<SamlRegisteredServiceCacheKey, MetadataResolver> cache;
+
+    private final Duration refreshWindow;
+
+    private final Executor executor;
+
+    private final Set<SamlRegisteredServiceCacheKey> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder contendedRequests = new LongAdder();
+
+    private final LongAdder contendedWaitTime = new LongAdder();
+
+    private final LongAdder refreshCount = new LongAdder();
+
+    private final LongAdder refreshFailureCount = new LongAdder();
 
     @Getter
     private final OpenSamlConfigBean openSamlConfigBean;
@@ -50,13 +79,33 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         final Duration metadataCacheExpiration,
         final CacheLoader<SamlRegisteredServiceCacheKey, MetadataResolver> loader,
         final OpenSamlConfigBean openSamlConfigBean) {
+        this(metadataCacheExpiration, Duration.ZERO, loader, openSamlConfigBean);
+    }
+
+    public SamlRegisteredServiceDefaultCachingMetadataResolver(
+        final Duration metadataCacheExpiration,
+        final Duration refreshWindow,
+        final CacheLoader<SamlRegisteredServiceCacheKey, MetadataResolver> loader,
+        final OpenSamlConfigBean openSamlConfigBean) {
+        this(metadataCacheExpiration, refreshWindow, loader, openSamlConfigBean, ForkJoinPool.commonPool());
+    }
+
+    public SamlRegisteredServiceDefaultCachingMetadataResolver(
+        final Duration metadataCacheExpiration,
+        final Duration refreshWindow,
+        final CacheLoader<SamlRegisteredServiceCacheKey, MetadataResolver> loader,
+        final OpenSamlConfigBean openSamlConfigBean,
+        final Executor executor) {
         this.openSamlConfigBean = openSamlConfigBean;
         this.chainingMetadataResolverCacheLoader = loader;
+        this.refreshWindow = refreshWindow;
+        this.executor = executor;
         this.cache = Caffeine.newBuilder()
             .maximumSize(MAX_CACHE_SIZE)
             .recordStats()
+            .executor(executor)
             .expireAfter(new SamlRegisteredServiceMetadataExpirationPolicy(metadataCacheExpiration))
-            .build(this.chainingMetadataResolverCacheLoader);
+            .buildAsync(this.chainingMetadataResolverCacheLoader);
     }
 
     private static long countResolvableEntityDescriptors(final MetadataResolver resolver) {
@@ -66,12 +115,22 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         });
     }
 
+    private static MetadataResolver getMetadataResolver(final CompletableFuture<MetadataResolver> future) {
+        try {
+            return Objects.requireNonNull(future.join());
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     @Override
-    @Synchronized
     public MetadataResolver resolve(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
         LOGGER.debug("Resolving metadata for [{}] at [{}]", service.getName(), service.getMetadataLocation());
         val cacheKey = new SamlRegisteredServiceCacheKey(service, criteriaSet);
-        LOGGER.trace("Locating cached metadata resolver using key [{}] for service [{}]", cacheKey.getId(), service.getName());
+        LOGGER.trace("Locating cached metadata resolver using key [{}] for service [{}]", cacheKey.getCacheKey(), service.getName());
         return FunctionUtils.doAndRetry(retryContext -> {
             val resolver = locateAndCacheMetadataResolver(service, cacheKey);
 
@@ -84,7 +143,7 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
                 LOGGER.warn("SAML metadata resolver [{}] obtained from the cache is "
                             + "unable to produce/resolve valid metadata for [{}]. Metadata resolver cache entry with key [{}] "
                             + "has been invalidated. Retry attempt: [{}]",
-                    resolver.getId(), service.getMetadataLocation(), cacheKey.getId(), retryContext.getRetryCount());
+                    resolver.getId(), service.getMetadataLocation(), cacheKey.getCacheKey(), retryContext.getRetryCount());
                 throw new SamlException("Unable to locate a valid SAML metadata resolver for "
                                         + service.getMetadataLocation() + " to locate " + criteriaSet);
             }
@@ -95,14 +154,14 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
     @Override
     public void invalidate() {
         LOGGER.trace("Invalidating cache, removing all metadata resolvers");
-        this.cache.invalidateAll();
+        this.cache.synchronous().invalidateAll();
     }
 
     @Override
     public void invalidate(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
         LOGGER.trace("Invalidating cache for [{}].", service.getName());
         val k = new SamlRegisteredServiceCacheKey(service, criteriaSet);
-        this.cache.invalidate(k);
+        this.cache.synchronous().invalidate(k);
     }
 
     /**
@@ -137,12 +196,82 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
     protected MetadataResolver locateAndCacheMetadataResolver(final SamlRegisteredService service,
                                                               final SamlRegisteredServiceCacheKey cacheKey) {
         LOGGER.debug("Loading metadata resolver from the cache using [{}]", cacheKey.getCacheKey());
-        val resolver = Objects.requireNonNull(cache.get(cacheKey));
+        val pending = cache.asMap().get(cacheKey);
+        val contended = pending != null && !pending.isDone();
+        val startTime = System.nanoTime();
+        val resolver = getMetadataResolver(cache.get(cacheKey));
+        if (contended) {
+            contendedRequests.increment();
+            contendedWaitTime.add(System.nanoTime() - startTime);
+            LOGGER.trace("Waited for metadata resolver of [{}] to finish loading", cacheKey.getCacheKey());
+        }
+        refreshIfExpiring(cacheKey);
         LOGGER.debug("Loaded and cached SAML metadata [{}] from [{}]",
             resolver.getId(), service.getMetadataLocation());
         return resolver;
     }
 
+    /**
+     * Refresh the metadata resolver in the background if the cache entry
+     * is due to expire within the refresh window. Only one refresh runs at a time
+     * for a given key, and a failed refresh leaves the existing resolver in place.
+     *
+     * @param cacheKey the cache key
+     */
+    protected void refreshIfExpiring(final SamlRegisteredServiceCacheKey cacheKey) {
+        if (refreshWindow.isZero() || refreshWindow.isNegative()) {
+            return;
+        }
+        cache.synchronous().policy().expireVariably().ifPresent(policy -> {
+            val remaining = policy.getExpiresAfter(cacheKey, TimeUnit.NANOSECONDS);
+            if (remaining.isPresent() && remaining.getAsLong() <= refreshWindow.toNanos() && refreshingKeys.add(cacheKey)) {
+                LOGGER.debug("Metadata resolver for [{}] expires in [{}] nanoseconds and will be refreshed",
+                    cacheKey.getCacheKey(), remaining.getAsLong());
+                refreshCount.increment();
+                try {
+                    CompletableFuture
+                        .supplyAsync(() -> FunctionUtils.doUnchecked(() -> chainingMetadataResolverCacheLoader.load(cacheKey)), executor)
+                        .whenComplete((resolver, error) -> {
+                            try {
+                                if (error == null && resolver != null) {
+                                    cache.put(cacheKey, CompletableFuture.completedFuture(resolver));
+                                } else {
+                                    refreshFailureCount.increment();
+                                    LOGGER.warn("Unable to refresh metadata resolver for [{}]: [{}]", cacheKey.getCacheKey(),
+                                        error == null ? null : error.getMessage());
+                                }
+                            } finally {
+                                refreshingKeys.remove(cacheKey);
+                            }
+                        });
+                } catch (final RejectedExecutionException e) {
+                    refreshFailureCount.increment();
+                    refreshingKeys.remove(cacheKey);
+                    LOGGER.warn("Unable to schedule refresh of metadata resolver for [{}]: [{}]", cacheKey.getCacheKey(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        val stats = getCacheStatistics();
+        val results = new LinkedHashMap<String, Object>();
+        results.put("size", cache.synchronous().estimatedSize());
+        results.put("hitCount", stats.hitCount());
+        results.put("missCount", stats.missCount());
+        results.put("loadSuccessCount", stats.loadSuccessCount());
+        results.put("loadFailureCount", stats.loadFailureCount());
+        results.put("averageLoadTime", TimeUnit.NANOSECONDS.toMillis((long) stats.averageLoadPenalty()));
+        results.put("totalLoadTime", TimeUnit.NANOSECONDS.toMillis(stats.totalLoadTime()));
+        results.put("evictionCount", stats.evictionCount());
+        results.put("contendedRequests", contendedRequests.sum());
+        results.put("contendedWaitTime", TimeUnit.NANOSECONDS.toMillis(contendedWaitTime.sum()));
+        results.put("refreshCount", refreshCount.sum());
+        results.put("refreshFailureCount", refreshFailureCount.sum());
+        return results;
+    }
+
     @SuperBuilder
     @Getter
     @SuppressWarnings("UnusedMethod")
@@ -162,7 +291,7 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
     Optional<MetadataResolver> resolveIfPresent(final SamlRegisteredService service,
                                                 final CriteriaSet criteriaSet) {
         val cacheKey = new SamlRegisteredServiceCacheKey(service, criteriaSet);
-        return Optional.ofNullable(this.cache.getIfPresent(cacheKey));
+        return Optional.ofNullable(this.cache.synchronous().getIfPresent(cacheKey));
     }
 
     /**
@@ -171,6 +300,6 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
      * @return the statistics
      */
     CacheStats getCacheStatistics() {
-        return this.cache.stats();
+        return this.cache.synchronous().stats();
     }
 }
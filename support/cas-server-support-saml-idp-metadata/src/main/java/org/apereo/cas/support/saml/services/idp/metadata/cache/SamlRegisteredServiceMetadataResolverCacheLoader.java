@@ -1,35 +1,55 @@
 package org.apereo.cas.support.saml.services.idp.metadata.cache;
 
+import org.apereo.cas.configuration.model.support.saml.idp.metadata.CoreSamlMetadataProperties;
 import org.apereo.cas.support.saml.OpenSamlConfigBean;
 import org.apereo.cas.support.saml.SamlException;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.SamlRegisteredServiceMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.plan.SamlRegisteredServiceMetadataResolutionPlan;
+import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.http.HttpClient;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
 
 import com.github.benmanes.caffeine.cache.CacheLoader;
-import lombok.RequiredArgsConstructor;
-import lombok.Synchronized;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import net.shibboleth.utilities.java.support.component.DestructableComponent;
 import org.jooq.lambda.Unchecked;
 import org.opensaml.saml.metadata.resolver.ChainingMetadataResolver;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link SamlRegisteredServiceMetadataResolverCacheLoader} that uses Guava's cache loading strategy
  * to keep track of metadata resources and resolvers. The cache loader here supports loading
  * metadata resources from SAML services, supports dynamic metadata queries and is able
  * to run various validation filters on the metadata before finally caching the resolver.
+ * The cache only runs a single load at a time for the same key, so loads for different keys
+ * are allowed to run concurrently.
+ * <p>
+ * Metadata sources that support the service are queried one after another by default. Sources may also
+ * be queried concurrently with a deadline, in which case the loader either uses the first source that produces
+ * metadata, or the metadata produced by all sources that respond in time, ordered by the priority of each source.
+ * The outcome and latency of each source is recorded for the health indicator. Sources that have not responded
+ * by the time the result is chosen are cancelled, and metadata resolvers that are not part of the result,
+ * whether they lost to another source or arrived too late, are destroyed.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
  */
 @Slf4j
-@RequiredArgsConstructor
 public class SamlRegisteredServiceMetadataResolverCacheLoader implements CacheLoader<SamlRegisteredServiceCacheKey, MetadataResolver> {
 
     /**
@@ -44,28 +64,57 @@ public class SamlRegisteredServiceMetadataResolverCacheLoader implements CacheLo
 
     private final SamlRegisteredServiceMetadataResolutionPlan metadataResolutionPlan;
 
+    private final CoreSamlMetadataProperties.MetadataResolutionModes resolutionMode;
+
+    private final Duration resolutionTimeout;
+
+    private final Executor executor;
+
+    @Getter
+    private final SamlRegisteredServiceMetadataResolverStatistics statistics;
+
+    public SamlRegisteredServiceMetadataResolverCacheLoader(final OpenSamlConfigBean configBean,
+                                                            final HttpClient httpClient,
+                                                            final SamlRegisteredServiceMetadataResolutionPlan metadataResolutionPlan) {
+        this(configBean, httpClient, metadataResolutionPlan, CoreSamlMetadataProperties.MetadataResolutionModes.SEQUENTIAL,
+            Duration.ZERO, Runnable::run, new SamlRegisteredServiceMetadataResolverStatistics());
+    }
+
+    public SamlRegisteredServiceMetadataResolverCacheLoader(final OpenSamlConfigBean configBean,
+                                                            final HttpClient httpClient,
+                                                            final SamlRegisteredServiceMetadataResolutionPlan metadataResolutionPlan,
+                                                            final CoreSamlMetadataProperties.MetadataResolutionModes resolutionMode,
+                                                            final Duration resolutionTimeout,
+                                                            final Executor executor,
+                                                            final SamlRegisteredServiceMetadataResolverStatistics statistics) {
+        this.configBean = configBean;
+        this.httpClient = httpClient;
+        this.metadataResolutionPlan = metadataResolutionPlan;
+        this.resolutionMode = resolutionMode;
+        this.resolutionTimeout = resolutionTimeout;
+        this.executor = executor;
+        this.statistics = statistics;
+    }
+
     @Override
-    @Synchronized
     public ChainingMetadataResolver load(final SamlRegisteredServiceCacheKey cacheKey) {
         val metadataResolver = new ChainingMetadataResolver();
 
         val service = cacheKey.getRegisteredService();
         val availableResolvers = metadataResolutionPlan.getRegisteredMetadataResolvers();
-        val size = availableResolvers.size();
-        val metadataResolvers = new ArrayList<MetadataResolver>(size);
-        LOGGER.debug("There are [{}] metadata resolver(s) available in the chain", size);
-        availableResolvers
+        LOGGER.debug("There are [{}] metadata resolver(s) available in the chain", availableResolvers.size());
+        val supportingResolvers = availableResolvers
             .stream()
             .filter(Objects::nonNull)
             .filter(r -> {
                 LOGGER.trace("Evaluating whether metadata resolver [{}] can support service [{}]", r.getName(), service.getName());
                 return r.supports(service);
             })
-            .map(Unchecked.function(r -> {
-                LOGGER.trace("Metadata resolver [{}] has started to process metadata for [{}]", r.getName(), service.getName());
-                return r.resolve(service, cacheKey.getCriteriaSet());
-            }))
-            .forEach(metadataResolvers::addAll);
+            .collect(Collectors.toList());
+
+        val metadataResolvers = resolutionMode == CoreSamlMetadataProperties.MetadataResolutionModes.SEQUENTIAL || supportingResolvers.size() <= 1
+            ? resolveSequentially(cacheKey, supportingResolvers)
+            : resolveConcurrently(cacheKey, supportingResolvers);
 
         if (metadataResolvers.isEmpty()) {
             val metadataLocation = SpringExpressionLanguageValueResolver.getInstance().resolve(service.getMetadataLocation());
@@ -83,6 +132,142 @@ public class SamlRegisteredServiceMetadataResolverCacheLoader implements CacheLo
         return metadataResolver;
 
     }
-}
 
+    private List<MetadataResolver> resolveSequentially(final SamlRegisteredServiceCacheKey cacheKey,
+                                                       final List<SamlRegisteredServiceMetadataResolver> resolvers) {
+        val metadataResolvers = new ArrayList<MetadataResolver>(resolvers.size());
+        resolvers.forEach(Unchecked.consumer(r -> metadataResolvers.addAll(resolve(r, cacheKey))));
+        return metadataResolvers;
+    }
+
+    private List<MetadataResolver> resolveConcurrently(final SamlRegisteredServiceCacheKey cacheKey,
+                                                       final List<SamlRegisteredServiceMetadataResolver> resolvers) {
+        val service = cacheKey.getRegisteredService();
+        LOGGER.debug("Querying [{}] metadata resolver(s) concurrently for [{}] in [{}] mode",
+            resolvers.size(), service.getName(), resolutionMode);
+        val futures = resolvers
+            .stream()
+            .map(r -> resolveAsync(r, cacheKey))
+            .collect(Collectors.toList());
+        val allResolved = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+        val deadline = resolutionTimeout.isZero() || resolutionTimeout.isNegative() ? Long.MAX_VALUE : resolutionTimeout.toMillis();
+
+        var selected = List.<MetadataResolver>of();
+        try {
+            if (resolutionMode == CoreSamlMetadataProperties.MetadataResolutionModes.FIRST_AVAILABLE) {
+                val firstAvailable = new CompletableFuture<List<MetadataResolver>>();
+                futures.forEach(future -> future.thenAccept(result -> {
+                    if (!result.isEmpty()) {
+                        firstAvailable.complete(result);
+                    }
+                }));
+                allResolved.whenComplete((result, error) -> firstAvailable.complete(List.of()));
+                try {
+                    selected = firstAvailable.get(deadline, TimeUnit.MILLISECONDS);
+                } catch (final TimeoutException e) {
+                    LOGGER.warn("No metadata resolver produced metadata for [{}] within [{}]", service.getName(), resolutionTimeout);
+                }
+                return selected;
+            }
 
+            try {
+                allResolved.get(deadline, TimeUnit.MILLISECONDS);
+            } catch (final TimeoutException e) {
+                LOGGER.warn("Not all metadata resolvers produced metadata for [{}] within [{}]", service.getName(), resolutionTimeout);
+            } catch (final ExecutionException e) {
+                LOGGER.debug("Some metadata resolvers failed to produce metadata for [{}]", service.getName());
+            }
+            selected = futures
+                .stream()
+                .filter(future -> future.isDone() && !future.isCompletedExceptionally())
+                .map(future -> future.getNow(List.of()))
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+            return selected;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SamlException(e.getMessage(), e);
+        } catch (final ExecutionException e) {
+            throw new SamlException(e.getMessage(), e);
+        } finally {
+            releaseUnselected(resolvers, futures, selected);
+        }
+    }
+
+    /**
+     * Resolve metadata on the executor. If the returned future is cancelled before the work starts,
+     * the source is not queried at all; if it is cancelled while the work is running, the metadata
+     * resolvers that are produced later on are destroyed as they can no longer be used.
+     */
+    private CompletableFuture<List<MetadataResolver>> resolveAsync(final SamlRegisteredServiceMetadataResolver resolver,
+                                                                   final SamlRegisteredServiceCacheKey cacheKey) {
+        val future = new CompletableFuture<List<MetadataResolver>>();
+        try {
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    LOGGER.trace("Metadata resolver [{}] is no longer needed and will not be queried", resolver.getName());
+                    return;
+                }
+                try {
+                    val result = resolve(resolver, cacheKey);
+                    if (!future.complete(result)) {
+                        LOGGER.debug("Metadata resolver [{}] produced metadata too late; destroying [{}] resolver(s)",
+                            resolver.getName(), result.size());
+                        destroy(result);
+                    }
+                } catch (final Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            statistics.recordFailure(resolver.getName(), 0, e);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void releaseUnselected(final List<SamlRegisteredServiceMetadataResolver> resolvers,
+                                   final List<CompletableFuture<List<MetadataResolver>>> futures,
+                                   final List<MetadataResolver> selected) {
+        for (var i = 0; i < futures.size(); i++) {
+            val future = futures.get(i);
+            if (future.cancel(true)) {
+                statistics.recordTimeout(resolvers.get(i).getName());
+            } else if (future.isDone() && !future.isCompletedExceptionally()) {
+                destroy(future.getNow(List.of())
+                    .stream()
+                    .filter(result -> selected.stream().noneMatch(r -> r == result))
+                    .collect(Collectors.toList()));
+            }
+        }
+    }
+
+    private static void destroy(final List<MetadataResolver> metadataResolvers) {
+        metadataResolvers
+            .stream()
+            .filter(DestructableComponent.class::isInstance)
+            .map(DestructableComponent.class::cast)
+            .forEach(resolver -> {
+                try {
+                    resolver.destroy();
+                } catch (final Exception e) {
+                    LoggingUtils.warn(LOGGER, e);
+                }
+            });
+    }
+
+    private List<MetadataResolver> resolve(final SamlRegisteredServiceMetadataResolver resolver,
+                                           final SamlRegisteredServiceCacheKey cacheKey) throws Exception {
+        val service = cacheKey.getRegisteredService();
+        LOGGER.trace("Metadata resolver [{}] has started to process metadata for [{}]", resolver.getName(), service.getName());
+        val startTime = System.nanoTime();
+        try {
+            val result = new ArrayList<MetadataResolver>(resolver.resolve(service, cacheKey.getCriteriaSet()));
+            statistics.recordSuccess(resolver.getName(), System.nanoTime() - startTime);
+            return result;
+        } catch (final Exception e) {
+            statistics.recordFailure(resolver.getName(), System.nanoTime() - startTime, e);
+            throw e;
+        }
+    }
+}
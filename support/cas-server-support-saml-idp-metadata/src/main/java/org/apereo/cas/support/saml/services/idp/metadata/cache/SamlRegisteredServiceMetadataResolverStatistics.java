@@ -0,0 +1,99 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache;
+
+import lombok.val;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link SamlRegisteredServiceMetadataResolverStatistics}, which keeps track
+ * of how each metadata source performs when asked to resolve metadata for a service.
+ * Successes, failures and timeouts are counted per source along with the time spent
+ * resolving metadata, so that slow or failing sources can be reported by the health indicator.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+public class SamlRegisteredServiceMetadataResolverStatistics {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "samlRegisteredServiceMetadataResolverStatistics";
+
+    private final Map<String, SourceStatistics> sources = new ConcurrentHashMap<>();
+
+    /**
+     * Record a successful resolution.
+     *
+     * @param source         the source
+     * @param latencyInNanos the time spent resolving metadata
+     */
+    public void recordSuccess(final String source, final long latencyInNanos) {
+        val stats = getSource(source);
+        stats.successCount.increment();
+        stats.totalLatency.add(latencyInNanos);
+    }
+
+    /**
+     * Record a failed resolution.
+     *
+     * @param source         the source
+     * @param latencyInNanos the time spent resolving metadata
+     * @param error          the error
+     */
+    public void recordFailure(final String source, final long latencyInNanos, final Throwable error) {
+        val stats = getSource(source);
+        stats.failureCount.increment();
+        stats.totalLatency.add(latencyInNanos);
+        stats.lastFailure.set(error == null ? null : error.getMessage());
+    }
+
+    /**
+     * Record a resolution that did not complete before the deadline.
+     *
+     * @param source the source
+     */
+    public void recordTimeout(final String source) {
+        getSource(source).timeoutCount.increment();
+    }
+
+    /**
+     * Gets statistics, keyed by source.
+     *
+     * @return the statistics
+     */
+    public Map<String, Object> getStatistics() {
+        val results = new LinkedHashMap<String, Object>();
+        sources.forEach((name, stats) -> {
+            val completed = stats.successCount.sum() + stats.failureCount.sum();
+            val details = new LinkedHashMap<String, Object>();
+            details.put("successCount", stats.successCount.sum());
+            details.put("failureCount", stats.failureCount.sum());
+            details.put("timeoutCount", stats.timeoutCount.sum());
+            details.put("averageLatency", completed == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(stats.totalLatency.sum() / completed));
+            details.put("lastFailure", stats.lastFailure.get());
+            results.put(name, details);
+        });
+        return results;
+    }
+
+    private SourceStatistics getSource(final String source) {
+        return sources.computeIfAbsent(source, key -> new SourceStatistics());
+    }
+
+    private static class SourceStatistics {
+        private final LongAdder successCount = new LongAdder();
+
+        private final LongAdder failureCount = new LongAdder();
+
+        private final LongAdder timeoutCount = new LongAdder();
+
+        private final LongAdder totalLatency = new LongAdder();
+
+        private final AtomicReference<String> lastFailure = new AtomicReference<>();
+    }
+}
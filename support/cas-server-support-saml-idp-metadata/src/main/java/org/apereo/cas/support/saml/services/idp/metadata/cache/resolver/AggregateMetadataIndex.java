@@ -0,0 +1,336 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache.resolver;
+
+import org.apereo.cas.support.saml.SamlException;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.codec.binary.Hex;
+import net.shibboleth.utilities.java.support.xml.DOMTypeSupport;
+import org.apache.commons.lang3.StringUtils;
+import org.opensaml.saml.common.xml.SAMLConstants;
+import org.opensaml.saml.saml2.common.CacheableSAMLObject;
+import org.opensaml.saml.saml2.common.TimeBoundSAMLObject;
+import org.opensaml.saml.saml2.metadata.EntitiesDescriptor;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.Namespace;
+import javax.xml.stream.events.StartElement;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * This is {@link AggregateMetadataIndex}, an immutable index of the entity descriptors
+ * found in a metadata aggregate, keyed by entity id. The aggregate is read once as a stream,
+ * and each entity descriptor is kept as compressed XML that carries the namespace declarations
+ * it inherits from the aggregate, so it can be parsed on its own when it is asked for.
+ * The {@code validUntil} and {@code cacheDuration} of enclosing entity groups are carried over
+ * to each entity descriptor, so that the validity of the aggregate still applies to entities parsed on their own.
+ * When an index is built with a previous index for the same source, entities whose content
+ * has not changed are carried over from the previous index.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class AggregateMetadataIndex {
+    private static final QName ENTITY_DESCRIPTOR = new QName(SAMLConstants.SAML20MD_NS, EntityDescriptor.DEFAULT_ELEMENT_LOCAL_NAME);
+
+    private static final QName ENTITIES_DESCRIPTOR = new QName(SAMLConstants.SAML20MD_NS, EntitiesDescriptor.DEFAULT_ELEMENT_LOCAL_NAME);
+
+    private static final QName VALID_UNTIL = new QName(TimeBoundSAMLObject.VALID_UNTIL_ATTRIB_NAME);
+
+    private static final QName CACHE_DURATION = new QName(CacheableSAMLObject.CACHE_DURATION_ATTRIB_NAME);
+
+    private static final XMLInputFactory INPUT_FACTORY = getInputFactory();
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private static final XMLEventFactory EVENT_FACTORY = XMLEventFactory.newInstance();
+
+    /**
+     * Digest of the aggregate this index was built from.
+     */
+    private final String digest;
+
+    /**
+     * Whether the signature of the aggregate was verified before it was indexed.
+     */
+    private final boolean verified;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, IndexedEntity> entities;
+
+    /**
+     * Build the index from the given aggregate.
+     *
+     * @param input    the aggregate
+     * @param digest   the digest of the aggregate
+     * @param verified whether the signature of the aggregate is verified
+     * @param previous the index previously built for the same source, if any
+     * @return the index
+     * @throws Exception the exception
+     */
+    public static AggregateMetadataIndex build(final InputStream input, final String digest, final boolean verified,
+                                               final AggregateMetadataIndex previous) throws Exception {
+        return build(input, digest, verified, previous, entityId -> true);
+    }
+
+    /**
+     * Build the index from the given aggregate, only keeping the entities that are accepted.
+     *
+     * @param input    the aggregate
+     * @param digest   the digest of the aggregate
+     * @param verified whether the signature of the aggregate is verified
+     * @param previous the index previously built for the same source, if any
+     * @param accepted the entity ids to keep in the index
+     * @return the index
+     * @throws Exception the exception
+     */
+    public static AggregateMetadataIndex build(final InputStream input, final String digest, final boolean verified,
+                                               final AggregateMetadataIndex previous,
+                                               final Predicate<String> accepted) throws Exception {
+        val entities = new LinkedHashMap<String, IndexedEntity>();
+        val namespaces = new ArrayDeque<List<Namespace>>();
+        val validity = new ArrayDeque<InheritedValidity>();
+        val reader = INPUT_FACTORY.createXMLEventReader(input);
+        try {
+            while (reader.hasNext()) {
+                val event = reader.nextEvent();
+                if (event.isStartElement()) {
+                    val element = event.asStartElement();
+                    val inherited = validity.isEmpty() ? InheritedValidity.NONE : validity.peek();
+                    if (ENTITY_DESCRIPTOR.equals(element.getName())) {
+                        val entityId = getEntityId(element);
+                        if (accepted.test(entityId)) {
+                            val entity = copyEntityDescriptor(reader, element, namespaces, inherited);
+                            val existing = previous == null ? null : previous.entities.get(entityId);
+                            entities.put(entityId, existing != null && existing.getDigest().equals(entity.getDigest()) ? existing : entity);
+                        } else {
+                            LOGGER.warn("Entity descriptor [{}] is removed from metadata aggregate by signature validation", entityId);
+                            skipElement(reader);
+                        }
+                    } else {
+                        val declared = new ArrayList<Namespace>();
+                        element.getNamespaces().forEachRemaining(declared::add);
+                        namespaces.push(declared);
+                        validity.push(ENTITIES_DESCRIPTOR.equals(element.getName()) ? inherited.merge(element) : inherited);
+                    }
+                } else if (event.isEndElement() && !namespaces.isEmpty()) {
+                    namespaces.pop();
+                    validity.pop();
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        val index = new AggregateMetadataIndex(digest, verified, Collections.unmodifiableMap(entities));
+        if (previous != null) {
+            LOGGER.info("Indexed [{}] entities from metadata aggregate; [{}] entities are new or changed and [{}] are removed",
+                entities.size(), index.getChangedEntityIds(previous).size(),
+                previous.getEntityIds().stream().filter(id -> !entities.containsKey(id)).count());
+        } else {
+            LOGGER.info("Indexed [{}] entities from metadata aggregate", entities.size());
+        }
+        return index;
+    }
+
+    private static String getEntityId(final StartElement element) {
+        val attribute = element.getAttributeByName(new QName(EntityDescriptor.ENTITY_ID_ATTRIB_NAME));
+        if (attribute == null || StringUtils.isBlank(attribute.getValue())) {
+            throw new SamlException("Metadata aggregate contains an entity descriptor without an entity id");
+        }
+        return attribute.getValue();
+    }
+
+    private static void skipElement(final XMLEventReader reader) throws Exception {
+        var depth = 1;
+        while (depth > 0) {
+            val event = reader.nextEvent();
+            if (event.isStartElement()) {
+                depth++;
+            } else if (event.isEndElement()) {
+                depth--;
+            }
+        }
+    }
+
+    private static Instant parseDateTime(final Attribute attribute) {
+        if (attribute == null || StringUtils.isBlank(attribute.getValue())) {
+            return null;
+        }
+        try {
+            return DOMTypeSupport.dateTimeToInstant(attribute.getValue().trim());
+        } catch (final IllegalArgumentException e) {
+            LOGGER.warn("Unable to parse [{}] value [{}] in metadata aggregate", attribute.getName().getLocalPart(), attribute.getValue());
+            return null;
+        }
+    }
+
+    private static IndexedEntity copyEntityDescriptor(final XMLEventReader reader, final StartElement element,
+                                                      final Deque<List<Namespace>> namespaces,
+                                                      final InheritedValidity inherited) throws Exception {
+        val inScope = new LinkedHashMap<String, Namespace>();
+        namespaces.descendingIterator().forEachRemaining(declared -> declared.forEach(ns -> inScope.put(ns.getPrefix(), ns)));
+        element.getNamespaces().forEachRemaining(ns -> inScope.put(ns.getPrefix(), ns));
+
+        val output = new ByteArrayOutputStream();
+        val messageDigest = MessageDigest.getInstance("SHA-256");
+        try (val stream = new DigestOutputStream(new DeflaterOutputStream(output), messageDigest)) {
+            val writer = OUTPUT_FACTORY.createXMLEventWriter(stream, StandardCharsets.UTF_8.name());
+            val name = element.getName();
+            writer.add(EVENT_FACTORY.createStartElement(name.getPrefix(), name.getNamespaceURI(),
+                name.getLocalPart(), inherited.apply(element).iterator(), inScope.values().iterator()));
+            var depth = 1;
+            while (depth > 0) {
+                val event = reader.nextEvent();
+                if (event.isStartElement()) {
+                    depth++;
+                } else if (event.isEndElement()) {
+                    depth--;
+                }
+                writer.add(event);
+            }
+            writer.flush();
+            writer.close();
+        }
+        return new IndexedEntity(output.toByteArray(), Hex.encodeHexString(messageDigest.digest()));
+    }
+
+    private static XMLInputFactory getInputFactory() {
+        val factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+        return factory;
+    }
+
+    /**
+     * Gets entity ids.
+     *
+     * @return the entity ids
+     */
+    public Set<String> getEntityIds() {
+        return entities.keySet();
+    }
+
+    /**
+     * Gets the XML of the entity descriptor for the given entity id.
+     *
+     * @param entityId the entity id
+     * @return the entity descriptor as a stream
+     */
+    public Optional<InputStream> getEntityDescriptor(final String entityId) {
+        return Optional.ofNullable(entities.get(entityId))
+            .map(entity -> new InflaterInputStream(new ByteArrayInputStream(entity.getContent())));
+    }
+
+    /**
+     * Gets the ids of entities that are new or have changed compared to the given index.
+     *
+     * @param previous the previous index
+     * @return the entity ids
+     */
+    public Set<String> getChangedEntityIds(final AggregateMetadataIndex previous) {
+        val changed = new LinkedHashMap<String, Boolean>();
+        entities.forEach((entityId, entity) -> {
+            val existing = previous.entities.get(entityId);
+            if (existing == null || !existing.getDigest().equals(entity.getDigest())) {
+                changed.put(entityId, Boolean.TRUE);
+            }
+        });
+        return changed.keySet();
+    }
+
+    /**
+     * Gets the size of the index in bytes, which is the total size of all compressed entities.
+     *
+     * @return the size
+     */
+    public long getSize() {
+        return entities.values().stream().mapToLong(entity -> entity.getContent().length).sum();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class IndexedEntity {
+        private final byte[] content;
+
+        private final String digest;
+    }
+
+    /**
+     * The earliest {@code validUntil} and the nearest {@code cacheDuration}
+     * declared by the entity groups enclosing an entity descriptor.
+     */
+    @RequiredArgsConstructor
+    private static final class InheritedValidity {
+        private static final InheritedValidity NONE = new InheritedValidity(null, null);
+
+        private final Instant validUntil;
+
+        private final String cacheDuration;
+
+        private static Instant earliest(final Instant first, final Instant second) {
+            if (first == null) {
+                return second;
+            }
+            return second == null || first.isBefore(second) ? first : second;
+        }
+
+        InheritedValidity merge(final StartElement group) {
+            val duration = group.getAttributeByName(CACHE_DURATION);
+            return new InheritedValidity(earliest(validUntil, parseDateTime(group.getAttributeByName(VALID_UNTIL))),
+                duration == null ? cacheDuration : duration.getValue());
+        }
+
+        List<Attribute> apply(final StartElement entity) {
+            val attributes = new ArrayList<Attribute>();
+            entity.getAttributes().forEachRemaining(attr -> {
+                val attribute = (Attribute) attr;
+                if (!VALID_UNTIL.equals(attribute.getName())) {
+                    attributes.add(attribute);
+                }
+            });
+            val declared = entity.getAttributeByName(VALID_UNTIL);
+            val declaredValidUntil = parseDateTime(declared);
+            val effective = earliest(declaredValidUntil, validUntil);
+            if (effective != null && !effective.equals(declaredValidUntil)) {
+                attributes.add(EVENT_FACTORY.createAttribute(VALID_UNTIL, DOMTypeSupport.instantToString(effective)));
+            } else if (declared != null) {
+                attributes.add(declared);
+            }
+            if (cacheDuration != null && entity.getAttributeByName(CACHE_DURATION) == null) {
+                attributes.add(EVENT_FACTORY.createAttribute(CACHE_DURATION, cacheDuration));
+            }
+            return attributes;
+        }
+    }
+}
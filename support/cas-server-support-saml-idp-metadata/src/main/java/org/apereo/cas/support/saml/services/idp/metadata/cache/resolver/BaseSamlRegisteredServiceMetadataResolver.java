@@ -26,11 +26,16 @@ import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
 import org.opensaml.saml.saml2.metadata.IDPSSODescriptor;
 import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
 import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
 
 import javax.xml.namespace.QName;
+import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is {@link BaseSamlRegisteredServiceMetadataResolver}.
@@ -51,6 +56,8 @@ public abstract class BaseSamlRegisteredServiceMetadataResolver implements SamlR
      */
     protected final OpenSamlConfigBean configBean;
 
+    private final Map<String, AggregateMetadataIndex> aggregateIndexes = new ConcurrentHashMap<>();
+
     private static void buildEntityRoleFilterIfNeeded(final SamlRegisteredService service, final List<MetadataFilter> metadataFilterList) {
         if (StringUtils.isNotBlank(service.getMetadataCriteriaRoles())) {
             val roles = new ArrayList<QName>();
@@ -205,6 +212,45 @@ public abstract class BaseSamlRegisteredServiceMetadataResolver implements SamlR
         LOGGER.debug("Initializing metadata resolver from [{}]", service.getMetadataLocation());
         metadataProvider.initialize();
         LOGGER.info("Initialized metadata resolver from [{}]", service.getMetadataLocation());
+        if (metadataProvider instanceof IndexedAggregateMetadataResolver) {
+            val aggregate = (IndexedAggregateMetadataResolver) metadataProvider;
+            aggregateIndexes.put(aggregate.getMetadataResource().getDescription(), aggregate.getIndex());
+        }
+    }
+
+    /**
+     * Is the metadata resource large enough to be treated and indexed as an aggregate?
+     *
+     * @param metadataResource the metadata resource
+     * @return true/false
+     * @throws IOException the io exception
+     */
+    protected boolean isMetadataAggregate(final Resource metadataResource) throws IOException {
+        val threshold = samlIdPProperties.getMetadata().getCore().getAggregateIndexThreshold();
+        return StringUtils.isNotBlank(threshold) && metadataResource.contentLength() >= DataSize.parse(threshold).toBytes();
+    }
+
+    /**
+     * Build metadata resolver that indexes the metadata aggregate, and reuses the index
+     * previously built for the same resource where possible.
+     *
+     * @param metadataResource the metadata resource
+     * @return the metadata resolver
+     */
+    protected AbstractMetadataResolver buildAggregateMetadataResolver(final Resource metadataResource) {
+        LOGGER.debug("Metadata resource [{}] will be indexed as an aggregate", metadataResource);
+        return new IndexedAggregateMetadataResolver(metadataResource,
+            getAggregateMetadataIndex(metadataResource).orElse(null), configBean);
+    }
+
+    /**
+     * Gets the index last built for the metadata aggregate.
+     *
+     * @param metadataResource the metadata resource
+     * @return the index
+     */
+    protected Optional<AggregateMetadataIndex> getAggregateMetadataIndex(final Resource metadataResource) {
+        return Optional.ofNullable(aggregateIndexes.get(metadataResource.getDescription()));
     }
 
     /**
@@ -69,6 +69,9 @@ public class FileSystemResourceMetadataResolver extends BaseSamlRegisteredServic
         if (metadataFile.isDirectory()) {
             return new LocalDynamicMetadataResolver(new FilesystemLoadSaveManager<>(metadataFile, configBean.getParserPool()));
         }
+        if (isMetadataAggregate(metadataResource)) {
+            return buildAggregateMetadataResolver(metadataResource);
+        }
         return new InMemoryResourceMetadataResolver(metadataResource, configBean);
     }
 }
@@ -0,0 +1,198 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache.resolver;
+
+import org.apereo.cas.support.saml.OpenSamlConfigBean;
+import org.apereo.cas.support.saml.SamlException;
+import org.apereo.cas.util.LoggingUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import net.shibboleth.utilities.java.support.component.ComponentInitializationException;
+import net.shibboleth.utilities.java.support.component.InitializableComponent;
+import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.opensaml.core.criterion.EntityIdCriterion;
+import org.opensaml.core.xml.XMLObject;
+import org.opensaml.core.xml.util.XMLObjectSupport;
+import org.opensaml.saml.metadata.criteria.entity.EvaluableEntityDescriptorCriterion;
+import org.opensaml.saml.metadata.resolver.filter.MetadataFilter;
+import org.opensaml.saml.metadata.resolver.filter.MetadataFilterChain;
+import org.opensaml.saml.metadata.resolver.filter.MetadataFilterContext;
+import org.opensaml.saml.metadata.resolver.filter.impl.SignatureValidationFilter;
+import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
+import org.opensaml.saml.saml2.common.SAML2Support;
+import org.opensaml.saml.saml2.metadata.EntitiesDescriptor;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+import org.springframework.core.io.Resource;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link IndexedAggregateMetadataResolver} that resolves entity descriptors
+ * from an {@link AggregateMetadataIndex} built off of a metadata aggregate. Entity descriptors are only
+ * parsed and passed through the configured metadata filters when they are asked for, and a limited number
+ * of them are kept for later requests. Signature validation filters are applied once to the aggregate as a whole
+ * when it is indexed rather than to individual entities, and only the entities that survive signature validation
+ * are indexed. The aggregate is read once, so the content that is validated is the content that is indexed.
+ * If the aggregate has not changed since the previous index was built, that index is used as is
+ * and the aggregate is neither validated nor indexed again.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class IndexedAggregateMetadataResolver extends AbstractMetadataResolver {
+    private static final int MAX_CACHE_SIZE = 1_000;
+
+    @Getter
+    private final Resource metadataResource;
+
+    private final AggregateMetadataIndex previousIndex;
+
+    @Getter
+    private AggregateMetadataIndex index;
+
+    private final Cache<String, Optional<EntityDescriptor>> entityDescriptors = Caffeine.newBuilder()
+        .maximumSize(MAX_CACHE_SIZE)
+        .build();
+
+    private final List<MetadataFilter> entityFilters = new ArrayList<>();
+
+    public IndexedAggregateMetadataResolver(final Resource metadataResource,
+                                            final AggregateMetadataIndex previousIndex,
+                                            final OpenSamlConfigBean configBean) {
+        this.metadataResource = metadataResource;
+        this.previousIndex = previousIndex;
+        setParserPool(configBean.getParserPool());
+    }
+
+    private static void collectEntityIds(final XMLObject metadata, final Set<String> entityIds) {
+        if (metadata instanceof EntityDescriptor) {
+            entityIds.add(((EntityDescriptor) metadata).getEntityID());
+        } else if (metadata instanceof EntitiesDescriptor) {
+            val group = (EntitiesDescriptor) metadata;
+            group.getEntityDescriptors().forEach(entity -> entityIds.add(entity.getEntityID()));
+            group.getEntitiesDescriptors().forEach(child -> collectEntityIds(child, entityIds));
+        }
+    }
+
+    private static boolean matches(final EntityDescriptor entity, final CriteriaSet criteria) {
+        return criteria.stream()
+            .filter(EvaluableEntityDescriptorCriterion.class::isInstance)
+            .map(EvaluableEntityDescriptorCriterion.class::cast)
+            .allMatch(criterion -> criterion.test(entity));
+    }
+
+    @Override
+    public Iterable<EntityDescriptor> resolve(final CriteriaSet criteria) {
+        val entityIdCriterion = criteria == null ? null : criteria.get(EntityIdCriterion.class);
+        val candidates = entityIdCriterion != null
+            ? getEntityDescriptor(entityIdCriterion.getEntityId()).stream()
+            : index.getEntityIds().stream().map(this::getEntityDescriptor).flatMap(Optional::stream);
+        return filterCandidates(candidates, criteria);
+    }
+
+    @Override
+    protected void doInitialize() throws ComponentInitializationException {
+        super.doInitialize();
+        val filter = getMetadataFilter();
+        val filters = filter instanceof MetadataFilterChain
+            ? ((MetadataFilterChain) filter).getFilters()
+            : Stream.ofNullable(filter).collect(Collectors.toList());
+        val signatureFilters = new ArrayList<MetadataFilter>();
+        for (val metadataFilter : filters) {
+            if (metadataFilter instanceof InitializableComponent && !((InitializableComponent) metadataFilter).isInitialized()) {
+                ((InitializableComponent) metadataFilter).initialize();
+            }
+            if (metadataFilter instanceof SignatureValidationFilter) {
+                signatureFilters.add(metadataFilter);
+            } else {
+                entityFilters.add(metadataFilter);
+            }
+        }
+        try {
+            this.index = buildIndex(signatureFilters);
+        } catch (final Exception e) {
+            throw new ComponentInitializationException("Unable to index metadata aggregate " + metadataResource, e);
+        }
+        LOGGER.debug("Resolving [{}] entities from indexed metadata aggregate [{}] with [{}] filter(s)",
+            index.getEntityIds().size(), metadataResource, entityFilters.size());
+    }
+
+    private AggregateMetadataIndex buildIndex(final List<MetadataFilter> signatureFilters) throws Exception {
+        val content = readMetadataAggregate();
+        val digest = DigestUtils.sha256Hex(content);
+        if (previousIndex != null && previousIndex.getDigest().equals(digest)
+            && (signatureFilters.isEmpty() || previousIndex.isVerified())) {
+            LOGGER.debug("Metadata aggregate [{}] is unchanged since it was last indexed", metadataResource);
+            return previousIndex;
+        }
+        if (signatureFilters.isEmpty()) {
+            return AggregateMetadataIndex.build(new ByteArrayInputStream(content), digest, false, previousIndex);
+        }
+        val entityIds = verifyMetadataAggregate(content, signatureFilters);
+        return AggregateMetadataIndex.build(new ByteArrayInputStream(content), digest, true, previousIndex, entityIds::contains);
+    }
+
+    private Set<String> verifyMetadataAggregate(final byte[] content, final List<MetadataFilter> signatureFilters) throws Exception {
+        LOGGER.debug("Validating signature of metadata aggregate [{}]", metadataResource);
+        var metadata = XMLObjectSupport.unmarshallFromInputStream(getParserPool(), new ByteArrayInputStream(content));
+        for (val filter : signatureFilters) {
+            metadata = filter.filter(metadata, new MetadataFilterContext());
+            if (metadata == null) {
+                throw new SamlException("Metadata aggregate " + metadataResource + " is rejected by signature validation");
+            }
+        }
+        val entityIds = new HashSet<String>();
+        collectEntityIds(metadata, entityIds);
+        return entityIds;
+    }
+
+    private byte[] readMetadataAggregate() throws Exception {
+        try (val input = metadataResource.getInputStream()) {
+            return input.readAllBytes();
+        }
+    }
+
+    private List<EntityDescriptor> filterCandidates(final Stream<EntityDescriptor> candidates, final CriteriaSet criteria) {
+        return candidates
+            .filter(entity -> criteria == null || matches(entity, criteria))
+            .collect(Collectors.toList());
+    }
+
+    private Optional<EntityDescriptor> getEntityDescriptor(final String entityId) {
+        return entityDescriptors.get(entityId, this::loadEntityDescriptor)
+            .filter(entity -> !isRequireValidMetadata() || SAML2Support.isValid(entity));
+    }
+
+    private Optional<EntityDescriptor> loadEntityDescriptor(final String entityId) {
+        return index.getEntityDescriptor(entityId).flatMap(input -> {
+            try (input) {
+                LOGGER.trace("Parsing entity descriptor [{}] from indexed metadata aggregate", entityId);
+                var result = XMLObjectSupport.unmarshallFromInputStream(getParserPool(), input);
+                for (val filter : entityFilters) {
+                    if (result == null) {
+                        break;
+                    }
+                    result = filter.filter(result, new MetadataFilterContext());
+                }
+                if (result instanceof EntityDescriptor) {
+                    return Optional.of((EntityDescriptor) result);
+                }
+                LOGGER.debug("Entity descriptor [{}] is removed by metadata filters", entityId);
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, e);
+            }
+            return Optional.empty();
+        });
+    }
+}
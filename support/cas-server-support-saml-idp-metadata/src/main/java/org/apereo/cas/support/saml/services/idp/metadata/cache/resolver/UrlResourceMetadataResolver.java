@@ -17,12 +17,13 @@ import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOCase;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.filefilter.AndFileFilter;
 import org.apache.commons.io.filefilter.CanReadFileFilter;
 import org.apache.commons.io.filefilter.CanWriteFileFilter;
@@ -36,19 +37,28 @@ import org.jooq.lambda.Unchecked;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
 import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
 import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is {@link UrlResourceMetadataResolver}.
+ * Metadata that is large enough to be treated as an aggregate is indexed rather than parsed as a whole,
+ * and is fetched again using conditional requests so that an aggregate the server reports as not modified
+ * can continue to use its existing index.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -61,6 +71,8 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
 
     private final File metadataBackupDirectory;
 
+    private final Map<String, HttpCacheValidators> aggregateCacheValidators = new ConcurrentHashMap<>();
+
     public UrlResourceMetadataResolver(final SamlIdPProperties samlIdPProperties,
                                        final OpenSamlConfigBean configBean) {
         super(samlIdPProperties, configBean);
@@ -91,7 +103,9 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
             val metadataResource = new UrlResource(metadataLocation);
 
             val backupFile = getMetadataBackupFile(metadataResource, service);
-            if (backupFile.exists() && samlIdPProperties.getMetadata().getHttp().isForceMetadataRefresh()) {
+            val backupResource = new FileSystemResource(backupFile);
+            val aggregateIndexed = backupFile.exists() && getAggregateMetadataIndex(backupResource).isPresent();
+            if (backupFile.exists() && samlIdPProperties.getMetadata().getHttp().isForceMetadataRefresh() && !aggregateIndexed) {
                 cleanUpExpiredBackupMetadataFilesFor(metadataResource, service);
             }
             val canonicalPath = backupFile.getCanonicalPath();
@@ -100,9 +114,19 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
 
             response = fetchMetadata(service, metadataLocation, criteriaSet, backupFile);
             val status = HttpStatus.valueOf(response.getStatusLine().getStatusCode());
+            if (status == HttpStatus.NOT_MODIFIED && aggregateIndexed) {
+                LOGGER.debug("Metadata aggregate at [{}] is not modified and will continue to use its index", metadataLocation);
+                val metadataProvider = buildAggregateMetadataResolver(backupResource);
+                configureAndInitializeSingleMetadataResolver(metadataProvider, service);
+                return CollectionUtils.wrap(metadataProvider);
+            }
             if (shouldHttpResponseStatusBeProcessed(status)) {
                 val metadataProvider = getMetadataResolverFromResponse(response, backupFile);
                 configureAndInitializeSingleMetadataResolver(metadataProvider, service);
+                if (metadataProvider instanceof IndexedAggregateMetadataResolver) {
+                    aggregateCacheValidators.put(canonicalPath, new HttpCacheValidators(
+                        getResponseHeader(response, HttpHeaders.ETAG), getResponseHeader(response, HttpHeaders.LAST_MODIFIED)));
+                }
                 return CollectionUtils.wrap(metadataProvider);
             }
         } catch (final UnauthorizedServiceException e) {
@@ -160,14 +184,16 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
     protected AbstractMetadataResolver getMetadataResolverFromResponse(final HttpResponse response,
                                                                        final File backupFile) throws Exception {
         val entity = response.getEntity();
-        val result = IOUtils.toString(entity.getContent(), StandardCharsets.UTF_8);
         val path = backupFile.toPath();
         LOGGER.trace("Writing metadata to file at [{}]", path);
-        try (val output = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            IOUtils.write(result, output);
-            output.flush();
+        try (val input = entity.getContent()) {
+            Files.copy(input, path, StandardCopyOption.REPLACE_EXISTING);
         }
         EntityUtils.consume(entity);
+        val backupResource = new FileSystemResource(backupFile);
+        if (isMetadataAggregate(backupResource)) {
+            return buildAggregateMetadataResolver(backupResource);
+        }
         return new InMemoryResourceMetadataResolver(backupFile, configBean);
     }
 
@@ -185,9 +211,18 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
                                          final CriteriaSet criteriaSet,
                                          final File backupFile) {
         LOGGER.debug("Fetching metadata from [{}]", metadataLocation);
+        val headers = new LinkedHashMap<String, String>();
+        if (backupFile.exists() && getAggregateMetadataIndex(new FileSystemResource(backupFile)).isPresent()) {
+            val validators = aggregateCacheValidators.get(FunctionUtils.doUnchecked(backupFile::getCanonicalPath));
+            if (validators != null) {
+                Optional.ofNullable(validators.getEtag()).ifPresent(etag -> headers.put(HttpHeaders.IF_NONE_MATCH, etag));
+                Optional.ofNullable(validators.getLastModified()).ifPresent(date -> headers.put(HttpHeaders.IF_MODIFIED_SINCE, date));
+            }
+        }
         val exec = HttpUtils.HttpExecutionRequest.builder()
             .method(HttpMethod.GET)
             .url(metadataLocation)
+            .headers(headers)
             .proxyUrl(service.getMetadataProxyLocation())
             .build();
         return HttpUtils.execute(exec);
@@ -248,6 +283,11 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
         return sha;
     }
 
+    private static String getResponseHeader(final HttpResponse response, final String name) {
+        val header = response.getFirstHeader(name);
+        return header == null ? null : header.getValue();
+    }
+
     private void cleanUpExpiredBackupMetadataFilesFor(final AbstractResource metadataResource,
                                                       final SamlRegisteredService service) {
         val prefix = getBackupMetadataFilenamePrefix(metadataResource, service);
@@ -257,4 +297,12 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
                 CanWriteFileFilter.CAN_WRITE, CanReadFileFilter.CAN_READ)), TrueFileFilter.INSTANCE);
         backups.forEach(Unchecked.consumer(FileUtils::forceDelete));
     }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class HttpCacheValidators {
+        private final String etag;
+
+        private final String lastModified;
+    }
 }
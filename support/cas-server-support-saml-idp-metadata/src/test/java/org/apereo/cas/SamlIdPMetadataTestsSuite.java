@@ -7,6 +7,7 @@ import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredSer
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.ClasspathResourceMetadataResolverTests;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.FileSystemResourceMetadataResolverTests;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.GroovyResourceMetadataResolverTests;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.IndexedAggregateMetadataResolverTests;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.JsonResourceMetadataResolverTests;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.MetadataQueryProtocolMetadataResolverTests;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.SamlRegisteredServiceMetadataExpirationPolicyTests;
@@ -32,6 +33,7 @@ import org.junit.platform.suite.api.Suite;
     SamlRegisteredServiceDefaultCachingMetadataResolverTests.class,
     SamlRegisteredServiceMetadataResolverCacheLoaderTests.class,
     FileSystemResourceMetadataResolverTests.class,
+    IndexedAggregateMetadataResolverTests.class,
     JsonResourceMetadataResolverTests.class
 })
 @Suite
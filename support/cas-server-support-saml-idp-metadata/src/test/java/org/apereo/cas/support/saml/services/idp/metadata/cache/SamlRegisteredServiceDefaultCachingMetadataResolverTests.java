@@ -9,20 +9,33 @@ import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.UrlResou
 import org.apereo.cas.support.saml.services.idp.metadata.plan.DefaultSamlRegisteredServiceMetadataResolutionPlan;
 import org.apereo.cas.util.MockWebServer;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import lombok.val;
 import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.opensaml.core.criterion.EntityIdCriterion;
+import org.opensaml.core.criterion.SatisfyAnyCriterion;
 import org.opensaml.saml.criterion.EntityRoleCriterion;
+import org.opensaml.saml.metadata.resolver.MetadataResolver;
 import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 
 import java.time.Duration;
-
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 /**
  * This is {@link SamlRegisteredServiceDefaultCachingMetadataResolverTests}.
@@ -40,6 +53,86 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends Ba
         return criteriaSet1;
     }
 
+    private static SamlRegisteredService getSatisfyAnyService() {
+        val service = new SamlRegisteredService();
+        service.setName("Example");
+        service.setId(1000);
+        service.setServiceId("https://example.org/saml");
+        service.setMetadataLocation("https://example.org/metadata");
+        service.setMetadataExpirationDuration(StringUtils.EMPTY);
+        return service;
+    }
+
+    @Test
+    public void verifyConcurrentLoadsAreSingleFlight() throws Exception {
+        val loads = new AtomicInteger();
+        val latch = new CountDownLatch(1);
+        val metadataResolver = mock(MetadataResolver.class);
+        val cacheLoader = (CacheLoader<SamlRegisteredServiceCacheKey, MetadataResolver>) key -> {
+            loads.incrementAndGet();
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            return metadataResolver;
+        };
+        val resolver = new SamlRegisteredServiceDefaultCachingMetadataResolver(Duration.ofMinutes(1), cacheLoader, openSamlConfigBean);
+        val service = getSatisfyAnyService();
+        val criteriaSet = new CriteriaSet(new SatisfyAnyCriterion());
+
+        val executor = Executors.newFixedThreadPool(2);
+        val first = CompletableFuture.supplyAsync(() -> resolver.resolve(service, criteriaSet), executor);
+        await().atMost(Duration.ofSeconds(5)).until(() -> loads.get() == 1);
+        val second = CompletableFuture.supplyAsync(() -> resolver.resolve(service, criteriaSet), executor);
+        await().atMost(Duration.ofSeconds(5)).until(() -> (long) resolver.getStatistics().get("missCount")
+            + (long) resolver.getStatistics().get("hitCount") == 2);
+        latch.countDown();
+        assertSame(metadataResolver, first.get(10, TimeUnit.SECONDS));
+        assertSame(metadataResolver, second.get(10, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertEquals(1L, resolver.getStatistics().get("contendedRequests"));
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void verifyExpiringResolverIsRefreshedInBackground() {
+        val loads = new AtomicInteger();
+        val cacheLoader = (CacheLoader<SamlRegisteredServiceCacheKey, MetadataResolver>) key -> {
+            loads.incrementAndGet();
+            return mock(MetadataResolver.class);
+        };
+        val resolver = new SamlRegisteredServiceDefaultCachingMetadataResolver(Duration.ofSeconds(30),
+            Duration.ofMinutes(1), cacheLoader, openSamlConfigBean);
+        val service = getSatisfyAnyService();
+        val criteriaSet = new CriteriaSet(new SatisfyAnyCriterion());
+
+        val original = resolver.resolve(service, criteriaSet);
+        assertNotNull(original);
+        await().atMost(Duration.ofSeconds(5)).until(() -> {
+            assertNotNull(resolver.resolve(service, criteriaSet));
+            return loads.get() >= 2;
+        });
+        await().atMost(Duration.ofSeconds(5)).until(() -> resolver.resolveIfPresent(service, criteriaSet)
+            .filter(result -> result != original).isPresent());
+        assertTrue((long) resolver.getStatistics().get("refreshCount") >= 1);
+    }
+
+    @Test
+    public void verifyLoadsAndRefreshesRunOnExecutor() {
+        val threads = ConcurrentHashMap.<String>newKeySet();
+        val cacheLoader = (CacheLoader<SamlRegisteredServiceCacheKey, MetadataResolver>) key -> {
+            threads.add(Thread.currentThread().getName());
+            return mock(MetadataResolver.class);
+        };
+        val executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "MetadataCacheThread"));
+        val resolver = new SamlRegisteredServiceDefaultCachingMetadataResolver(Duration.ofSeconds(30),
+            Duration.ofMinutes(1), cacheLoader, openSamlConfigBean, executor);
+        val service = getSatisfyAnyService();
+        val criteriaSet = new CriteriaSet(new SatisfyAnyCriterion());
+
+        assertNotNull(resolver.resolve(service, criteriaSet));
+        await().atMost(Duration.ofSeconds(5)).until(() -> (long) resolver.getStatistics().get("refreshCount") >= 1);
+        assertEquals(Set.of("MetadataCacheThread"), threads);
+        executor.shutdownNow();
+    }
+
     @Test
     public void verifyAggregateCacheOverUrlResource() {
         val aggregateRegisteredService = new SamlRegisteredService();
@@ -183,10 +276,12 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends Ba
         val resolver = new SamlRegisteredServiceDefaultCachingMetadataResolver(Duration.ofSeconds(5), cacheLoader, openSamlConfigBean);
 
         assertNotNull(resolver.resolve(service, criteriaSet1));
-        val stats1 = resolver.getCacheStatistics();
-        assertEquals(1, stats1.missCount());
-        assertEquals(1, stats1.loadSuccessCount());
-        assertEquals(0, stats1.hitCount());
+        await().untilAsserted(() -> {
+            val stats1 = resolver.getCacheStatistics();
+            assertEquals(1, stats1.missCount());
+            assertEquals(1, stats1.loadSuccessCount());
+            assertEquals(0, stats1.hitCount());
+        });
 
         assertNotNull(resolver.resolve(service, criteriaSet1));
         val stats2 = resolver.getCacheStatistics();
@@ -197,9 +292,11 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends Ba
         val criteriaSet2 = getCriteriaFor("https://vbushib.einsteinmed.org/idp/");
 
         assertNotNull(resolver.resolve(service, criteriaSet2));
-        val stats3 = resolver.getCacheStatistics();
-        assertEquals(2, stats3.missCount());
-        assertEquals(2, stats3.loadSuccessCount());
-        assertEquals(1, stats3.hitCount());
+        await().untilAsserted(() -> {
+            val stats3 = resolver.getCacheStatistics();
+            assertEquals(2, stats3.missCount());
+            assertEquals(2, stats3.loadSuccessCount());
+            assertEquals(1, stats3.hitCount());
+        });
     }
 }
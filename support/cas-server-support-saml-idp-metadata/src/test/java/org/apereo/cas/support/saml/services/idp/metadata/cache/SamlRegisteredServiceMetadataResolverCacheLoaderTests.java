@@ -1,24 +1,37 @@
 package org.apereo.cas.support.saml.services.idp.metadata.cache;
 
 import org.apereo.cas.configuration.model.support.saml.idp.SamlIdPProperties;
+import org.apereo.cas.configuration.model.support.saml.idp.metadata.CoreSamlMetadataProperties;
 import org.apereo.cas.support.saml.SamlException;
 import org.apereo.cas.support.saml.services.BaseSamlIdPServicesTests;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.ClasspathResourceMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.FileSystemResourceMetadataResolver;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.SamlRegisteredServiceMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.plan.DefaultSamlRegisteredServiceMetadataResolutionPlan;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.val;
+import net.shibboleth.utilities.java.support.component.DestructableComponent;
 import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.opensaml.saml.metadata.resolver.MetadataResolver;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.FileSystemResource;
 
 import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -85,4 +98,145 @@ public class SamlRegisteredServiceMetadataResolverCacheLoaderTests extends BaseS
         val key = new SamlRegisteredServiceCacheKey(service, new CriteriaSet());
         assertThrows(SamlException.class, () -> loader.load(key));
     }
+
+    @Test
+    public void verifyFirstAvailableSource() throws Exception {
+        val classpath = getClasspathResolver();
+        val plan = new DefaultSamlRegisteredServiceMetadataResolutionPlan();
+        plan.registerMetadataResolver(new DelayedMetadataResolver("Slow", classpath, 3000));
+        plan.registerMetadataResolver(new DelayedMetadataResolver("Fast", classpath, 0));
+        val statistics = new SamlRegisteredServiceMetadataResolverStatistics();
+        val loader = new SamlRegisteredServiceMetadataResolverCacheLoader(openSamlConfigBean, httpClient, plan,
+            CoreSamlMetadataProperties.MetadataResolutionModes.FIRST_AVAILABLE, Duration.ofSeconds(10),
+            Executors.newCachedThreadPool(), statistics);
+
+        val resolver = loader.load(new SamlRegisteredServiceCacheKey(getService(), new CriteriaSet()));
+        assertEquals(1, resolver.getResolvers().size());
+        assertEquals(1L, getSourceStatistics(statistics, "Fast").get("successCount"));
+        assertEquals(1L, getSourceStatistics(statistics, "Slow").get("timeoutCount"));
+    }
+
+    @Test
+    public void verifyPriorityMergeWithDeadline() throws Exception {
+        val classpath = getClasspathResolver();
+        val plan = new DefaultSamlRegisteredServiceMetadataResolutionPlan();
+        plan.registerMetadataResolver(new DelayedMetadataResolver("Failing", null, 0));
+        plan.registerMetadataResolver(new DelayedMetadataResolver("Slow", classpath, 5000));
+        plan.registerMetadataResolver(new DelayedMetadataResolver("First", classpath, 0));
+        plan.registerMetadataResolver(new DelayedMetadataResolver("Second", classpath, 0));
+        val statistics = new SamlRegisteredServiceMetadataResolverStatistics();
+        val loader = new SamlRegisteredServiceMetadataResolverCacheLoader(openSamlConfigBean, httpClient, plan,
+            CoreSamlMetadataProperties.MetadataResolutionModes.PRIORITY_MERGE, Duration.ofSeconds(2),
+            Executors.newCachedThreadPool(), statistics);
+
+        val resolver = loader.load(new SamlRegisteredServiceCacheKey(getService(), new CriteriaSet()));
+        assertEquals(2, resolver.getResolvers().size());
+        assertEquals(1L, getSourceStatistics(statistics, "Failing").get("failureCount"));
+        assertNotNull(getSourceStatistics(statistics, "Failing").get("lastFailure"));
+        assertEquals(1L, getSourceStatistics(statistics, "Slow").get("timeoutCount"));
+        assertEquals(1L, getSourceStatistics(statistics, "First").get("successCount"));
+        assertEquals(1L, getSourceStatistics(statistics, "Second").get("successCount"));
+    }
+
+    @Test
+    public void verifyNoSourceAvailable() {
+        val plan = new DefaultSamlRegisteredServiceMetadataResolutionPlan();
+        plan.registerMetadataResolver(new DelayedMetadataResolver("Failing", null, 0));
+        plan.registerMetadataResolver(new DelayedMetadataResolver("AlsoFailing", null, 0));
+        val loader = new SamlRegisteredServiceMetadataResolverCacheLoader(openSamlConfigBean, httpClient, plan,
+            CoreSamlMetadataProperties.MetadataResolutionModes.FIRST_AVAILABLE, Duration.ofSeconds(2),
+            Executors.newCachedThreadPool(), new SamlRegisteredServiceMetadataResolverStatistics());
+        assertThrows(SamlException.class, () -> loader.load(new SamlRegisteredServiceCacheKey(getService(), new CriteriaSet())));
+    }
+
+    @Test
+    public void verifyUnusedResolversAreDestroyed() throws Exception {
+        val classpath = getClasspathResolver();
+        val slow = new DelayedMetadataResolver("Slow", classpath, 1000);
+        val first = new DelayedMetadataResolver("First", classpath, 0);
+        val second = new DelayedMetadataResolver("Second", classpath, 0);
+        val plan = new DefaultSamlRegisteredServiceMetadataResolutionPlan();
+        plan.registerMetadataResolver(slow);
+        plan.registerMetadataResolver(first);
+        plan.registerMetadataResolver(second);
+        val loader = new SamlRegisteredServiceMetadataResolverCacheLoader(openSamlConfigBean, httpClient, plan,
+            CoreSamlMetadataProperties.MetadataResolutionModes.FIRST_AVAILABLE, Duration.ofSeconds(10),
+            Executors.newFixedThreadPool(3), new SamlRegisteredServiceMetadataResolverStatistics());
+
+        val selected = loader.load(new SamlRegisteredServiceCacheKey(getService(), new CriteriaSet())).getResolvers();
+        assertEquals(1, selected.size());
+        val produced = new ArrayList<MetadataResolver>();
+        val unused = new ArrayList<MetadataResolver>();
+        val deadline = System.currentTimeMillis() + 10_000;
+        do {
+            Thread.sleep(100);
+            produced.clear();
+            produced.addAll(slow.getProduced());
+            produced.addAll(first.getProduced());
+            produced.addAll(second.getProduced());
+            unused.clear();
+            produced.stream().filter(resolver -> selected.stream().noneMatch(r -> r == resolver)).forEach(unused::add);
+        } while ((produced.size() < 3 || unused.stream().anyMatch(r -> !((DestructableComponent) r).isDestroyed()))
+                 && System.currentTimeMillis() < deadline);
+
+        assertEquals(3, produced.size());
+        assertEquals(2, unused.size());
+        assertTrue(unused.stream().allMatch(r -> ((DestructableComponent) r).isDestroyed()));
+        assertTrue(selected.stream().noneMatch(r -> ((DestructableComponent) r).isDestroyed()));
+    }
+
+    private ClasspathResourceMetadataResolver getClasspathResolver() throws Exception {
+        val props = new SamlIdPProperties();
+        props.getMetadata().getFileSystem().setLocation(new FileSystemResource(FileUtils.getTempDirectory()).getFile().getCanonicalPath());
+        return new ClasspathResourceMetadataResolver(props, openSamlConfigBean);
+    }
+
+    private static SamlRegisteredService getService() {
+        val service = new SamlRegisteredService();
+        service.setName("Example");
+        service.setId(1000);
+        service.setServiceId("https://example.org/saml");
+        service.setMetadataLocation("classpath:sample-sp.xml");
+        return service;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> getSourceStatistics(final SamlRegisteredServiceMetadataResolverStatistics statistics,
+                                                           final String name) {
+        return (Map<String, Object>) statistics.getStatistics().get(name);
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    private static class DelayedMetadataResolver implements SamlRegisteredServiceMetadataResolver {
+        private final String name;
+
+        private final SamlRegisteredServiceMetadataResolver delegate;
+
+        private final long delay;
+
+        private final List<MetadataResolver> produced = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Collection<? extends MetadataResolver> resolve(final SamlRegisteredService service,
+                                                              final CriteriaSet criteriaSet) throws Exception {
+            Thread.sleep(delay);
+            if (delegate == null) {
+                throw new IllegalArgumentException("Metadata source " + name + " is unavailable");
+            }
+            val results = delegate.resolve(service, criteriaSet);
+            produced.addAll(results);
+            return results;
+        }
+
+        @Override
+        public boolean supports(final SamlRegisteredService service) {
+            return true;
+        }
+
+        @Override
+        public boolean isAvailable(final SamlRegisteredService service) {
+            return delegate != null;
+        }
+    }
 }
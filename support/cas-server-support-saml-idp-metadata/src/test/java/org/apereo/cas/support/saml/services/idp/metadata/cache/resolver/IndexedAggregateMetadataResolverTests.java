@@ -0,0 +1,250 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache.resolver;
+
+import org.apereo.cas.configuration.model.support.saml.idp.SamlIdPProperties;
+import org.apereo.cas.support.saml.services.BaseSamlIdPServicesTests;
+import org.apereo.cas.support.saml.services.SamlRegisteredService;
+
+import lombok.val;
+import net.shibboleth.utilities.java.support.component.ComponentInitializationException;
+import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
+import net.shibboleth.utilities.java.support.xml.SerializeSupport;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opensaml.core.criterion.EntityIdCriterion;
+import org.opensaml.core.criterion.SatisfyAnyCriterion;
+import org.opensaml.core.xml.util.XMLObjectSupport;
+import org.opensaml.saml.common.SAMLObjectContentReference;
+import org.opensaml.saml.common.xml.SAMLConstants;
+import org.opensaml.saml.metadata.resolver.filter.impl.SignatureValidationFilter;
+import org.opensaml.saml.saml2.metadata.AssertionConsumerService;
+import org.opensaml.saml.saml2.metadata.EntitiesDescriptor;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
+import org.opensaml.security.credential.BasicCredential;
+import org.opensaml.security.credential.impl.StaticCredentialResolver;
+import org.opensaml.xmlsec.keyinfo.impl.BasicProviderKeyInfoCredentialResolver;
+import org.opensaml.xmlsec.keyinfo.impl.provider.RSAKeyValueProvider;
+import org.opensaml.xmlsec.signature.Signature;
+import org.opensaml.xmlsec.signature.support.SignatureConstants;
+import org.opensaml.xmlsec.signature.support.Signer;
+import org.opensaml.xmlsec.signature.support.impl.ExplicitKeySignatureTrustEngine;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link IndexedAggregateMetadataResolverTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("SAMLMetadata")
+public class IndexedAggregateMetadataResolverTests extends BaseSamlIdPServicesTests {
+    private static final String ENTITY_ID = "https://issues.shibboleth.net/shibboleth";
+
+    private static File METADATA_FILE;
+
+    private static SamlIdPProperties PROPERTIES;
+
+    @BeforeAll
+    public static void setup() throws Exception {
+        METADATA_FILE = File.createTempFile("aggregate-saml-metadata", ".xml");
+        val content = IOUtils.toString(new ClassPathResource("aggregate-md.xml").getInputStream(), StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(METADATA_FILE, content, StandardCharsets.UTF_8);
+
+        PROPERTIES = new SamlIdPProperties();
+        val path = new FileSystemResource(FileUtils.getTempDirectory()).getFile().getCanonicalPath();
+        PROPERTIES.getMetadata().getFileSystem().setLocation(path);
+        PROPERTIES.getMetadata().getCore().setAggregateIndexThreshold("1B");
+    }
+
+    private static BasicCredential getCredential() throws Exception {
+        val generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        val keyPair = generator.generateKeyPair();
+        return new BasicCredential(keyPair.getPublic(), keyPair.getPrivate());
+    }
+
+    private static Signature buildSignature(final BasicCredential credential, final EntityDescriptor entity) {
+        val signature = (Signature) XMLObjectSupport.buildXMLObject(Signature.DEFAULT_ELEMENT_NAME);
+        signature.setSigningCredential(credential);
+        signature.setSignatureAlgorithm(SignatureConstants.ALGO_ID_SIGNATURE_RSA_SHA256);
+        signature.setCanonicalizationAlgorithm(SignatureConstants.ALGO_ID_C14N_EXCL_OMIT_COMMENTS);
+        signature.getContentReferences().add(new SAMLObjectContentReference(entity));
+        return signature;
+    }
+
+    private static String buildSignedAggregate(final BasicCredential credential, final String... entityIds) throws Exception {
+        val aggregate = (EntitiesDescriptor) XMLObjectSupport.buildXMLObject(EntitiesDescriptor.DEFAULT_ELEMENT_NAME);
+        val signatures = new ArrayList<Signature>();
+        for (val entityId : entityIds) {
+            val entity = (EntityDescriptor) XMLObjectSupport.buildXMLObject(EntityDescriptor.DEFAULT_ELEMENT_NAME);
+            entity.setEntityID(entityId);
+            entity.setID("_" + DigestUtils.sha1Hex(entityId));
+
+            val acs = (AssertionConsumerService) XMLObjectSupport.buildXMLObject(AssertionConsumerService.DEFAULT_ELEMENT_NAME);
+            acs.setBinding(SAMLConstants.SAML2_POST_BINDING_URI);
+            acs.setLocation(entityId + "/acs");
+            acs.setIndex(0);
+            val sp = (SPSSODescriptor) XMLObjectSupport.buildXMLObject(SPSSODescriptor.DEFAULT_ELEMENT_NAME);
+            sp.addSupportedProtocol(SAMLConstants.SAML20P_NS);
+            sp.getAssertionConsumerServices().add(acs);
+            entity.getRoleDescriptors().add(sp);
+
+            val signature = buildSignature(credential, entity);
+            entity.setSignature(signature);
+            signatures.add(signature);
+            aggregate.getEntityDescriptors().add(entity);
+        }
+        XMLObjectSupport.marshall(aggregate);
+        for (val signature : signatures) {
+            Signer.signObject(signature);
+        }
+        return SerializeSupport.nodeToString(aggregate.getDOM());
+    }
+
+    private static SignatureValidationFilter getSignatureValidationFilter(final BasicCredential credential) {
+        val keyInfoResolver = new BasicProviderKeyInfoCredentialResolver(List.of(new RSAKeyValueProvider()));
+        val filter = new SignatureValidationFilter(new ExplicitKeySignatureTrustEngine(new StaticCredentialResolver(credential), keyInfoResolver));
+        filter.setRequireSignedRoot(false);
+        return filter;
+    }
+
+    private IndexedAggregateMetadataResolver getMetadataResolver(final String metadata) throws Exception {
+        val file = File.createTempFile("aggregate-saml-metadata", ".xml");
+        file.deleteOnExit();
+        FileUtils.writeStringToFile(file, metadata, StandardCharsets.UTF_8);
+        val resolver = new IndexedAggregateMetadataResolver(new FileSystemResource(file), null, openSamlConfigBean);
+        resolver.setId(file.getName());
+        return resolver;
+    }
+
+    private static SamlRegisteredService getService() throws Exception {
+        val service = new SamlRegisteredService();
+        service.setName("Aggregate");
+        service.setServiceId("https://.+");
+        service.setMetadataLocation(METADATA_FILE.getCanonicalPath());
+        return service;
+    }
+
+    @Test
+    public void verifyEntitiesResolvedFromIndex() throws Exception {
+        val resolver = new FileSystemResourceMetadataResolver(PROPERTIES, openSamlConfigBean);
+        val results = resolver.resolve(getService());
+        assertEquals(1, results.size());
+        val metadataResolver = results.iterator().next();
+        assertTrue(metadataResolver instanceof IndexedAggregateMetadataResolver);
+
+        val entity = metadataResolver.resolveSingle(new CriteriaSet(new EntityIdCriterion(ENTITY_ID)));
+        assertNotNull(entity);
+        assertEquals(ENTITY_ID, entity.getEntityID());
+        assertNotNull(entity.getSPSSODescriptor("urn:oasis:names:tc:SAML:2.0:protocol"));
+        assertNull(metadataResolver.resolveSingle(new CriteriaSet(new EntityIdCriterion("unknown-entity"))));
+        assertTrue(metadataResolver.resolve(new CriteriaSet(new SatisfyAnyCriterion())).iterator().hasNext());
+    }
+
+    @Test
+    public void verifyUnchangedAggregateIsNotIndexedAgain() throws Exception {
+        val resolver = new FileSystemResourceMetadataResolver(PROPERTIES, openSamlConfigBean);
+        val first = (IndexedAggregateMetadataResolver) resolver.resolve(getService()).iterator().next();
+        val second = (IndexedAggregateMetadataResolver) resolver.resolve(getService()).iterator().next();
+        assertNotSame(first, second);
+        assertSame(first.getIndex(), second.getIndex());
+    }
+
+    @Test
+    public void verifyChangedEntities() throws Exception {
+        val resource = new ClassPathResource("aggregate-md.xml");
+        val digest = DigestUtils.sha256Hex(resource.getInputStream());
+        val previous = AggregateMetadataIndex.build(resource.getInputStream(), digest, false, null);
+        assertFalse(previous.getEntityIds().isEmpty());
+        assertTrue(previous.getEntityIds().contains(ENTITY_ID));
+        assertTrue(previous.getSize() > 0);
+
+        val current = AggregateMetadataIndex.build(resource.getInputStream(), "new-digest", false, previous);
+        assertEquals(previous.getEntityIds(), current.getEntityIds());
+        assertTrue(current.getChangedEntityIds(previous).isEmpty());
+        try (val input = current.getEntityDescriptor(ENTITY_ID).orElseThrow()) {
+            assertTrue(IOUtils.toString(input, StandardCharsets.UTF_8).contains(ENTITY_ID));
+        }
+        assertTrue(current.getEntityDescriptor("unknown-entity").isEmpty());
+    }
+
+    @Test
+    public void verifyTamperedEntityIsNotIndexed() throws Exception {
+        val credential = getCredential();
+        val metadata = buildSignedAggregate(credential, "https://sp1.example.org", "https://sp2.example.org", "https://sp3.example.org");
+        val tampered = metadata.replace("https://sp2.example.org/acs", "https://attacker.example.org/acs");
+        assertNotEquals(metadata, tampered);
+
+        val resolver = getMetadataResolver(tampered);
+        resolver.setRequireValidMetadata(false);
+        resolver.setMetadataFilter(getSignatureValidationFilter(credential));
+        resolver.initialize();
+
+        assertTrue(resolver.getIndex().isVerified());
+        assertEquals(2, resolver.getIndex().getEntityIds().size());
+        assertNotNull(resolver.resolveSingle(new CriteriaSet(new EntityIdCriterion("https://sp1.example.org"))));
+        assertNotNull(resolver.resolveSingle(new CriteriaSet(new EntityIdCriterion("https://sp3.example.org"))));
+        assertNull(resolver.resolveSingle(new CriteriaSet(new EntityIdCriterion("https://sp2.example.org"))));
+        resolver.resolve(new CriteriaSet(new SatisfyAnyCriterion()))
+            .forEach(entity -> assertFalse(entity.getEntityID().contains("sp2")));
+    }
+
+    @Test
+    public void verifyUntamperedEntitiesAreIndexed() throws Exception {
+        val credential = getCredential();
+        val resolver = getMetadataResolver(buildSignedAggregate(credential, "https://sp1.example.org", "https://sp2.example.org"));
+        resolver.setRequireValidMetadata(false);
+        resolver.setMetadataFilter(getSignatureValidationFilter(credential));
+        resolver.initialize();
+        assertEquals(2, resolver.getIndex().getEntityIds().size());
+        assertNotNull(resolver.resolveSingle(new CriteriaSet(new EntityIdCriterion("https://sp2.example.org"))));
+    }
+
+    @Test
+    public void verifyUnsignedAggregateIsRejected() throws Exception {
+        val metadata = buildSignedAggregate(getCredential(), "https://sp1.example.org");
+        val resolver = getMetadataResolver(metadata);
+        val filter = getSignatureValidationFilter(getCredential());
+        filter.setRequireSignedRoot(true);
+        resolver.setMetadataFilter(filter);
+        assertThrows(ComponentInitializationException.class, resolver::initialize);
+    }
+
+    @Test
+    public void verifyAggregateValidityAppliesToEntities() throws Exception {
+        val template = "<md:EntitiesDescriptor xmlns:md=\"urn:oasis:names:tc:SAML:2.0:metadata\" validUntil=\"%s\" cacheDuration=\"PT6H\">"
+            + "<md:EntityDescriptor entityID=\"https://sp1.example.org\"/>"
+            + "</md:EntitiesDescriptor>";
+
+        val expired = getMetadataResolver(String.format(template, Instant.now(Clock.systemUTC()).minus(1, ChronoUnit.DAYS)));
+        expired.setRequireValidMetadata(true);
+        expired.initialize();
+        assertTrue(expired.getIndex().getEntityIds().contains("https://sp1.example.org"));
+        assertNull(expired.resolveSingle(new CriteriaSet(new EntityIdCriterion("https://sp1.example.org"))));
+
+        val validUntil = Instant.now(Clock.systemUTC()).plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+        val valid = getMetadataResolver(String.format(template, validUntil));
+        valid.setRequireValidMetadata(true);
+        valid.initialize();
+        val entity = valid.resolveSingle(new CriteriaSet(new EntityIdCriterion("https://sp1.example.org")));
+        assertNotNull(entity);
+        assertEquals(validUntil, entity.getValidUntil());
+        assertNotNull(entity.getCacheDuration());
+    }
+}
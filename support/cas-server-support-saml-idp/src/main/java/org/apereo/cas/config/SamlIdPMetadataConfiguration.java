@@ -26,6 +26,7 @@ import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredSer
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceCachingMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceDefaultCachingMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceMetadataResolverCacheLoader;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceMetadataResolverStatistics;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.ClasspathResourceMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.FileSystemResourceMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.GroovyResourceMetadataResolver;
@@ -76,6 +77,11 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This is {@link SamlIdPMetadataConfiguration}.
@@ -122,8 +128,14 @@ public class SamlIdPMetadataConfiguration {
             @Qualifier("samlRegisteredServiceMetadataResolvers")
             final SamlRegisteredServiceMetadataResolutionPlan samlRegisteredServiceMetadataResolvers,
             @Qualifier(ServicesManager.BEAN_NAME)
-            final ServicesManager servicesManager) {
-            return new SamlRegisteredServiceMetadataHealthIndicator(samlRegisteredServiceMetadataResolvers, servicesManager);
+            final ServicesManager servicesManager,
+            @Qualifier(SamlRegisteredServiceCachingMetadataResolver.DEFAULT_BEAN_NAME)
+            final SamlRegisteredServiceCachingMetadataResolver defaultSamlRegisteredServiceCachingMetadataResolver,
+            @Qualifier(SamlRegisteredServiceMetadataResolverStatistics.BEAN_NAME)
+            final SamlRegisteredServiceMetadataResolverStatistics samlRegisteredServiceMetadataResolverStatistics) {
+            return new SamlRegisteredServiceMetadataHealthIndicator(samlRegisteredServiceMetadataResolvers,
+                servicesManager, defaultSamlRegisteredServiceCachingMetadataResolver,
+                samlRegisteredServiceMetadataResolverStatistics);
         }
 
         @Bean
@@ -283,18 +295,46 @@ public class SamlIdPMetadataConfiguration {
                 .maximumSize(100).expireAfterAccess(Beans.newDuration(idp.getMetadata().getCore().getCacheExpiration())).build();
         }
 
+        @ConditionalOnMissingBean(name = SamlRegisteredServiceMetadataResolverStatistics.BEAN_NAME)
+        @Bean
+        public SamlRegisteredServiceMetadataResolverStatistics samlRegisteredServiceMetadataResolverStatistics() {
+            return new SamlRegisteredServiceMetadataResolverStatistics();
+        }
+
+        @ConditionalOnMissingBean(name = "samlRegisteredServiceMetadataResolverExecutorService")
+        @Bean(destroyMethod = "shutdownNow")
+        public ExecutorService samlRegisteredServiceMetadataResolverExecutorService(final CasConfigurationProperties casProperties) {
+            val poolSize = Math.max(1, casProperties.getAuthn().getSamlIdp().getMetadata().getCore().getResolutionPoolSize());
+            val threadCount = new AtomicInteger();
+            val executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                val thread = new Thread(runnable, "SamlRegisteredServiceMetadataResolverThread-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+
         @ConditionalOnMissingBean(name = "chainingMetadataResolverCacheLoader")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public CacheLoader<SamlRegisteredServiceCacheKey, MetadataResolver> chainingMetadataResolverCacheLoader(
+            final CasConfigurationProperties casProperties,
             @Qualifier("samlRegisteredServiceMetadataResolvers")
             final SamlRegisteredServiceMetadataResolutionPlan samlRegisteredServiceMetadataResolvers,
             @Qualifier("httpClient")
             final HttpClient httpClient,
             @Qualifier(OpenSamlConfigBean.DEFAULT_BEAN_NAME)
-            final OpenSamlConfigBean openSamlConfigBean) {
+            final OpenSamlConfigBean openSamlConfigBean,
+            @Qualifier("samlRegisteredServiceMetadataResolverExecutorService")
+            final ExecutorService samlRegisteredServiceMetadataResolverExecutorService,
+            @Qualifier(SamlRegisteredServiceMetadataResolverStatistics.BEAN_NAME)
+            final SamlRegisteredServiceMetadataResolverStatistics samlRegisteredServiceMetadataResolverStatistics) {
+            val core = casProperties.getAuthn().getSamlIdp().getMetadata().getCore();
             return new SamlRegisteredServiceMetadataResolverCacheLoader(openSamlConfigBean,
-                httpClient, samlRegisteredServiceMetadataResolvers);
+                httpClient, samlRegisteredServiceMetadataResolvers, core.getResolutionMode(),
+                Beans.newDuration(core.getResolutionTimeout()), samlRegisteredServiceMetadataResolverExecutorService,
+                samlRegisteredServiceMetadataResolverStatistics);
         }
     }
 
@@ -302,6 +342,20 @@ public class SamlIdPMetadataConfiguration {
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class SamlIdPMetadataResolverConfiguration {
 
+        @ConditionalOnMissingBean(name = "samlRegisteredServiceCachingMetadataResolverExecutorService")
+        @Bean(destroyMethod = "shutdownNow")
+        public ExecutorService samlRegisteredServiceCachingMetadataResolverExecutorService(final CasConfigurationProperties casProperties) {
+            val poolSize = Math.max(1, casProperties.getAuthn().getSamlIdp().getMetadata().getCore().getCachePoolSize());
+            val threadCount = new AtomicInteger();
+            val executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                val thread = new Thread(runnable, "SamlRegisteredServiceCachingMetadataResolverThread-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+
         @ConditionalOnMissingBean(name = SamlRegisteredServiceCachingMetadataResolver.DEFAULT_BEAN_NAME)
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -310,10 +364,15 @@ public class SamlIdPMetadataConfiguration {
             @Qualifier("chainingMetadataResolverCacheLoader")
             final CacheLoader<SamlRegisteredServiceCacheKey, MetadataResolver> chainingMetadataResolverCacheLoader,
             @Qualifier(OpenSamlConfigBean.DEFAULT_BEAN_NAME)
-            final OpenSamlConfigBean openSamlConfigBean) {
+            final OpenSamlConfigBean openSamlConfigBean,
+            @Qualifier("samlRegisteredServiceCachingMetadataResolverExecutorService")
+            final ExecutorService samlRegisteredServiceCachingMetadataResolverExecutorService) {
+            val core = casProperties.getAuthn().getSamlIdp().getMetadata().getCore();
             return new SamlRegisteredServiceDefaultCachingMetadataResolver(
-                Beans.newDuration(casProperties.getAuthn().getSamlIdp().getMetadata().getCore().getCacheExpiration()),
-                chainingMetadataResolverCacheLoader, openSamlConfigBean);
+                Beans.newDuration(core.getCacheExpiration()),
+                Beans.newDuration(core.getCacheRefreshWindow()),
+                chainingMetadataResolverCacheLoader, openSamlConfigBean,
+                samlRegisteredServiceCachingMetadataResolverExecutorService);
         }
     }
 
@@ -39,6 +39,7 @@ public class SamlRegisteredServiceMetadataHealthIndicatorTests extends BaseSamlI
         servicesManager.save(SamlIdPTestUtils.getSamlRegisteredService());
         val health = samlRegisteredServiceMetadataHealthIndicator.health();
         assertEquals(Status.UP, health.getStatus());
+        assertTrue(health.getDetails().containsKey("metadataCache"));
     }
 
     @Test
@@ -3,11 +3,13 @@ package org.apereo.cas.web.security.authentication;
 import org.apereo.cas.authorization.LdapUserAttributesToRolesAuthorizationGenerator;
 import org.apereo.cas.authorization.LdapUserGroupsToRolesAuthorizationGenerator;
 import org.apereo.cas.configuration.model.core.monitor.LdapSecurityActuatorEndpointsMonitorProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.HttpRequestUtils;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.LoggingUtils;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -55,6 +57,9 @@ public class EndpointLdapAuthenticationProvider implements AuthenticationProvide
 
     private final Authenticator authenticator;
 
+    @Getter(lazy = true)
+    private final AuthorizationGenerator authorizationGenerator = buildAuthorizationGenerator();
+
     private static Authentication generateAuthenticationToken(final Authentication authentication,
                                                               final List<SimpleGrantedAuthority> authorities) {
         val username = authentication.getPrincipal().toString();
@@ -103,7 +108,7 @@ public class EndpointLdapAuthenticationProvider implements AuthenticationProvide
 
                 val context = new JEEContext(HttpRequestUtils.getHttpServletRequestFromRequestAttributes(),
                     HttpRequestUtils.getHttpServletResponseFromRequestAttributes());
-                val authZGen = buildAuthorizationGenerator();
+                val authZGen = getAuthorizationGenerator();
                 authZGen.generate(context, JEESessionStore.INSTANCE, profile);
                 LOGGER.debug("Assembled user profile with roles after generating authorization claims [{}]", profile);
 
@@ -147,7 +152,8 @@ public class EndpointLdapAuthenticationProvider implements AuthenticationProvide
                 ldapAuthz.isAllowMultipleResults(),
                 ldapAuthz.getGroupAttribute(),
                 ldapAuthz.getGroupPrefix(),
-                ldapAuthorizationGeneratorGroupSearchOperation(connectionFactory));
+                ldapAuthorizationGeneratorGroupSearchOperation(connectionFactory))
+                .withGroupMembershipCache(Beans.newDuration(ldapAuthz.getGroupCacheExpiration()), ldapAuthz.getGroupCacheSize());
         }
         if (isUserBasedAuthorization()) {
             LOGGER.debug("Handling LDAP authorization based on attributes and roles");
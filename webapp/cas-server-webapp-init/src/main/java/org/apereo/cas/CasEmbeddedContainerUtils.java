@@ -9,6 +9,7 @@ import org.apereo.cas.util.spring.boot.DefaultCasBanner;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.reflections.Reflections;
 import org.reflections.util.ClasspathHelper;
@@ -94,4 +95,25 @@ public class CasEmbeddedContainerUtils {
         return ApplicationStartup.DEFAULT;
     }
 
+    /**
+     * Determine whether beans should be created lazily on first use,
+     * controlled via the {@code CAS_APP_LAZY_INIT} system property.
+     *
+     * @return true if lazy initialization is requested
+     */
+    public static boolean isLazyInitialization() {
+        return BooleanUtils.toBoolean(System.getProperty("CAS_APP_LAZY_INIT"));
+    }
+
+    /**
+     * Determine whether the application should exit as soon as it's ready,
+     * controlled via the {@code CAS_APP_TRAINING_RUN} system property.
+     * This is typically used to record class data sharing archives.
+     *
+     * @return true if this is a training run
+     */
+    public static boolean isTrainingRun() {
+        return BooleanUtils.toBoolean(System.getProperty("CAS_APP_TRAINING_RUN"));
+    }
+
 }
@@ -3,9 +3,11 @@ package org.apereo.cas.config;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
+import org.apereo.cas.web.CasLazyInitializationExcludeFilter;
 import org.apereo.cas.web.CasWebApplicationReady;
 import org.apereo.cas.web.CasWebApplicationReadyListener;
 
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -33,4 +35,10 @@ public class CasWebApplicationConfiguration {
         return new CasWebApplicationReady();
     }
 
+    @ConditionalOnMissingBean(name = "casLazyInitializationExcludeFilter")
+    @Bean
+    public static LazyInitializationExcludeFilter casLazyInitializationExcludeFilter() {
+        return new CasLazyInitializationExcludeFilter();
+    }
+
 }
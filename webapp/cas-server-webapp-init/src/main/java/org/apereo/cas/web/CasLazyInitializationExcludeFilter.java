@@ -0,0 +1,60 @@
+package org.apereo.cas.web;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ClassUtils;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+
+import java.util.Set;
+
+/**
+ * This is {@link CasLazyInitializationExcludeFilter} that narrows down lazy initialization,
+ * when turned on, to optional subsystems that are expensive to prepare and can safely
+ * wait until they are first used, such as SAML2 metadata resolution,
+ * OpenID Connect keystore generation and actuator endpoints. All other beans continue
+ * to be created eagerly at startup, so that webflow definitions, schedulers and listeners
+ * are registered as before. SAML2 identity provider metadata is not deferred, since it is
+ * generated by a listener once the application is ready.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class CasLazyInitializationExcludeFilter implements LazyInitializationExcludeFilter {
+    private static final Set<String> DEFERRABLE_TYPES = Set.of(
+        "org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreGeneratorService",
+        "org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceCachingMetadataResolver",
+        "org.opensaml.saml.metadata.resolver.MetadataResolver",
+        "org.apereo.cas.web.BaseCasActuatorEndpoint"
+    );
+
+    /**
+     * Whether the given type may be initialized lazily.
+     *
+     * @param beanType the bean type
+     * @return true if the type is deferrable
+     */
+    public static boolean isDeferrable(final Class<?> beanType) {
+        if (beanType == null) {
+            return false;
+        }
+        for (val type : ClassUtils.hierarchy(beanType, ClassUtils.Interfaces.INCLUDE)) {
+            if (DEFERRABLE_TYPES.contains(type.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isExcluded(final ConfigurableListableBeanFactory beanFactory, final String beanName,
+                              final BeanDefinition beanDefinition, final Class<?> beanType) {
+        val deferrable = isDeferrable(beanType);
+        if (deferrable) {
+            LOGGER.trace("Bean [{}] will be initialized on first use", beanName);
+        }
+        return !deferrable;
+    }
+}
@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 
 import lombok.NoArgsConstructor;
 import lombok.val;
+import org.springframework.boot.SpringApplication;
 import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
@@ -44,12 +45,16 @@ public class CasWebApplication {
     public static void main(final String[] args) {
         CasEmbeddedContainerUtils.getLoggingInitialization().ifPresent(init -> init.setMainArguments(args));
         val banner = CasEmbeddedContainerUtils.getCasBannerInstance();
-        new SpringApplicationBuilder(CasWebApplication.class)
+        val applicationContext = new SpringApplicationBuilder(CasWebApplication.class)
             .banner(banner)
             .web(WebApplicationType.SERVLET)
             .logStartupInfo(true)
+            .lazyInitialization(CasEmbeddedContainerUtils.isLazyInitialization())
             .applicationStartup(CasEmbeddedContainerUtils.getApplicationStartup())
             .run(args);
+        if (CasEmbeddedContainerUtils.isTrainingRun()) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
     }
 
 }
@@ -4,10 +4,17 @@ import org.apereo.cas.util.AsciiArtUtils;
 import org.apereo.cas.util.DateTimeUtils;
 
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 /**
  * @author Hal Deadman
@@ -15,10 +22,39 @@ import java.time.Instant;
  */
 @Slf4j
 public class CasWebApplicationReady implements CasWebApplicationReadyListener {
+    private static final int STARTUP_REPORT_SIZE = 20;
+
+    private static String describe(final StartupTimeline.TimelineEvent event) {
+        val step = event.getStartupStep();
+        val tags = StreamSupport.stream(step.getTags().spliterator(), false)
+            .map(tag -> tag.getKey() + '=' + tag.getValue())
+            .collect(Collectors.joining(",", "[", "]"));
+        return step.getName() + tags;
+    }
+
+    private static void reportStartupTimeline(final ApplicationReadyEvent event) {
+        val applicationStartup = event.getApplicationContext().getApplicationStartup();
+        if (applicationStartup instanceof BufferingApplicationStartup) {
+            val timeline = ((BufferingApplicationStartup) applicationStartup).getBufferedTimeline();
+            val totalTime = timeline.getEvents()
+                .stream()
+                .filter(timelineEvent -> timelineEvent.getStartupStep().getParentId() == null)
+                .map(StartupTimeline.TimelineEvent::getDuration)
+                .reduce(Duration.ZERO, Duration::plus);
+            LOGGER.info("Recorded [{}] startup steps, taking [{}] in total. The slowest steps are:",
+                timeline.getEvents().size(), totalTime);
+            timeline.getEvents()
+                .stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(STARTUP_REPORT_SIZE)
+                .forEach(timelineEvent -> LOGGER.info("[{}] {}", timelineEvent.getDuration(), describe(timelineEvent)));
+        }
+    }
 
     @Override
     public void handleApplicationReadyEvent(final ApplicationReadyEvent event) {
         AsciiArtUtils.printAsciiArtReady(LOGGER, StringUtils.EMPTY);
         LOGGER.info("Ready to process requests @ [{}]", DateTimeUtils.zonedDateTimeOf(Instant.ofEpochMilli(event.getTimestamp())));
+        reportStartupTimeline(event);
     }
 }
@@ -2,6 +2,7 @@ package org.apereo.cas;
 
 import org.apereo.cas.config.CasWebApplicationConfigurationTests;
 import org.apereo.cas.context.CasApplicationContextInitializerTests;
+import org.apereo.cas.web.CasLazyInitializationExcludeFilterTests;
 
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
@@ -15,7 +16,8 @@ import org.junit.platform.suite.api.Suite;
 @SelectClasses({
     CasApplicationContextInitializerTests.class,
     CasEmbeddedContainerUtilsTests.class,
-    CasWebApplicationConfigurationTests.class
+    CasWebApplicationConfigurationTests.class,
+    CasLazyInitializationExcludeFilterTests.class
 })
 @Suite
 public class AllCasWebApplicationTestsSuite {
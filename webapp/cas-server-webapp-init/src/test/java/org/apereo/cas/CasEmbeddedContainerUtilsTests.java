@@ -46,6 +46,15 @@ public class CasEmbeddedContainerUtilsTests {
         assertNotNull(CasEmbeddedContainerUtils.getApplicationStartup());
     }
 
+    @Test
+    public void verifyLazyInitialization() {
+        System.setProperty("CAS_APP_LAZY_INIT", "true");
+        assertTrue(CasEmbeddedContainerUtils.isLazyInitialization());
+        System.clearProperty("CAS_APP_LAZY_INIT");
+        assertFalse(CasEmbeddedContainerUtils.isLazyInitialization());
+        assertFalse(CasEmbeddedContainerUtils.isTrainingRun());
+    }
+
     @Test
     public void verifyCustomBanner() {
         val banner = CasEmbeddedContainerUtils.getCasBannerInstance();
@@ -1,12 +1,16 @@
 package org.apereo.cas.config;
 
+import org.apereo.cas.web.CasWebApplicationReady;
+
 import lombok.val;
 import org.apache.commons.lang3.ArrayUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ConfigurableApplicationContext;
 
@@ -34,4 +38,17 @@ public class CasWebApplicationConfigurationTests {
             applicationContext, Duration.ofSeconds(1));
         assertDoesNotThrow(() -> applicationContext.publishEvent(event));
     }
+
+    @Test
+    public void verifyStartupReport() {
+        val startup = new BufferingApplicationStartup(100);
+        startup.start("cas.test").tag("name", "value").end();
+        val context = mock(ConfigurableApplicationContext.class);
+        when(context.getApplicationStartup()).thenReturn(startup);
+        val event = new ApplicationReadyEvent(
+            mock(SpringApplication.class), ArrayUtils.EMPTY_STRING_ARRAY,
+            context, Duration.ofSeconds(1));
+        assertDoesNotThrow(() -> new CasWebApplicationReady().handleApplicationReadyEvent(event));
+        assertNotNull(applicationContext.getBean("casLazyInitializationExcludeFilter", LazyInitializationExcludeFilter.class));
+    }
 }
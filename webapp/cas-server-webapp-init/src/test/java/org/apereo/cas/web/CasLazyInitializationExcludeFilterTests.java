@@ -0,0 +1,38 @@
+package org.apereo.cas.web;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CasLazyInitializationExcludeFilterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Simple")
+public class CasLazyInitializationExcludeFilterTests {
+    @Test
+    public void verifyOperation() {
+        val filter = new CasLazyInitializationExcludeFilter();
+        val beanFactory = mock(ConfigurableListableBeanFactory.class);
+        assertFalse(filter.isExcluded(beanFactory, "sampleEndpoint",
+            new RootBeanDefinition(SampleEndpoint.class), SampleEndpoint.class));
+        assertTrue(filter.isExcluded(beanFactory, "casWebApplicationReadyListener",
+            new RootBeanDefinition(CasWebApplicationReady.class), CasWebApplicationReady.class));
+        assertTrue(filter.isExcluded(beanFactory, "unknown", new RootBeanDefinition(), null));
+    }
+
+    public static class SampleEndpoint extends BaseCasActuatorEndpoint {
+        public SampleEndpoint(final CasConfigurationProperties casProperties) {
+            super(casProperties);
+        }
+    }
+}